@@ -0,0 +1,221 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.query;
+
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.commons.internal.reflection._Reflect;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.val;
+
+/**
+ * Type-safe reference to a property of an entity type, to build {@link Criterion}s
+ * and {@link CriteriaQuery.Ordering}s from, in the spirit of a (hand-written) JPA static metamodel:
+ *
+ * <pre>
+ * public static final CriteriaProperty&lt;Customer, String&gt; NAME =
+ *         CriteriaProperty.of(Customer.class, "name", String.class);
+ *
+ * repositoryService.allMatches(Customer.class, NAME.like("Smi%"));
+ * </pre>
+ *
+ * @param <T> type of the entity declaring the property
+ * @param <V> type of the property's value
+ *
+ * @since 2.0 {@index}
+ */
+@EqualsAndHashCode(of = {"ownerType", "name"})
+public final class CriteriaProperty<T, V> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Type of the entity declaring the property.
+     */
+    @Getter private final @NonNull Class<T> ownerType;
+
+    /**
+     * Name of the property, as known to the persistence layer (the field name).
+     */
+    @Getter private final @NonNull String name;
+
+    /**
+     * Type of the property's value.
+     */
+    @Getter private final @NonNull Class<V> valueType;
+
+    private transient volatile Method getter;
+
+    private CriteriaProperty(
+            final @NonNull Class<T> ownerType,
+            final @NonNull String name,
+            final @NonNull Class<V> valueType) {
+        this.ownerType = ownerType;
+        this.name = name;
+        this.valueType = valueType;
+    }
+
+    public static <T, V> CriteriaProperty<T, V> of(
+            final @NonNull Class<T> ownerType,
+            final @NonNull String name,
+            final @NonNull Class<V> valueType) {
+        return new CriteriaProperty<>(ownerType, name, valueType);
+    }
+
+    // -- CRITERIA
+
+    public Criterion<T> eq(final @Nullable V value) {
+        return value == null
+                ? isNull()
+                : new Criterion.Comparison<>(this, Criterion.Operator.EQ, value);
+    }
+
+    public Criterion<T> ne(final @Nullable V value) {
+        return value == null
+                ? isNotNull()
+                : new Criterion.Comparison<>(this, Criterion.Operator.NE, value);
+    }
+
+    /**
+     * @apiNote requires the property's values to be {@link Comparable}
+     */
+    public Criterion<T> lt(final @NonNull V value) {
+        return new Criterion.Comparison<>(this, Criterion.Operator.LT, value);
+    }
+
+    /**
+     * @apiNote requires the property's values to be {@link Comparable}
+     */
+    public Criterion<T> le(final @NonNull V value) {
+        return new Criterion.Comparison<>(this, Criterion.Operator.LE, value);
+    }
+
+    /**
+     * @apiNote requires the property's values to be {@link Comparable}
+     */
+    public Criterion<T> gt(final @NonNull V value) {
+        return new Criterion.Comparison<>(this, Criterion.Operator.GT, value);
+    }
+
+    /**
+     * @apiNote requires the property's values to be {@link Comparable}
+     */
+    public Criterion<T> ge(final @NonNull V value) {
+        return new Criterion.Comparison<>(this, Criterion.Operator.GE, value);
+    }
+
+    /**
+     * Inclusive range {@code [lower, upper]}.
+     * @apiNote requires the property's values to be {@link Comparable}
+     */
+    public Criterion<T> between(final @NonNull V lower, final @NonNull V upper) {
+        return Criterion.allOf(ge(lower), le(upper));
+    }
+
+    public Criterion<T> in(final @NonNull Collection<? extends V> values) {
+        return new Criterion.In<>(this, values);
+    }
+
+    @SafeVarargs
+    public final Criterion<T> in(final V... values) {
+        return in(Arrays.asList(values));
+    }
+
+    /**
+     * SQL style pattern matching, where {@code %} matches any sequence of characters
+     * and {@code _} matches any single character.
+     * @apiNote requires the property to be of type {@link String}
+     */
+    public Criterion<T> like(final @NonNull String pattern) {
+        return new Criterion.Like<>(this, pattern, false);
+    }
+
+    /**
+     * As {@link #like(String)}, ignoring case.
+     */
+    public Criterion<T> likeIgnoreCase(final @NonNull String pattern) {
+        return new Criterion.Like<>(this, pattern, true);
+    }
+
+    public Criterion<T> isNull() {
+        return new Criterion.IsNull<>(this, false);
+    }
+
+    public Criterion<T> isNotNull() {
+        return new Criterion.IsNull<>(this, true);
+    }
+
+    // -- ORDERING
+
+    public CriteriaQuery.Ordering<T> asc() {
+        return CriteriaQuery.Ordering.of(this, true);
+    }
+
+    public CriteriaQuery.Ordering<T> desc() {
+        return CriteriaQuery.Ordering.of(this, false);
+    }
+
+    // -- IN-MEMORY EVALUATION
+
+    /**
+     * Reads the property's value from given pojo via its getter,
+     * as used for in-memory evaluation of {@link Criterion}s,
+     * when these cannot be translated for the persistence layer.
+     */
+    public @Nullable V read(final @Nullable T pojo) {
+        if(pojo == null) {
+            return null;
+        }
+        return _Casts.uncheckedCast(
+                _Reflect.readFromGetterOn(getter(pojo.getClass()), pojo));
+    }
+
+    @Override
+    public String toString() {
+        return ownerType.getSimpleName() + "." + name;
+    }
+
+    // -- HELPER
+
+    @SneakyThrows
+    private Method getter(final Class<?> pojoClass) {
+        val cached = getter;
+        if(cached != null
+                && cached.getDeclaringClass().isAssignableFrom(pojoClass)) {
+            return cached;
+        }
+        val resolved = _Reflect.getGetter(pojoClass, name);
+        if(resolved == null) {
+            throw new IllegalArgumentException(String.format(
+                    "no getter found for property '%s' on %s", name, pojoClass.getName()));
+        }
+        return this.getter = resolved;
+    }
+
+}
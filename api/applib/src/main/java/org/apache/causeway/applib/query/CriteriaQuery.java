@@ -0,0 +1,116 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.query;
+
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.internal.base._Casts;
+
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * A {@link Query} restricted by a {@link Criterion} and sorted by {@link Ordering}s,
+ * to be translated into a query of the underlying persistence layer
+ * (JPA Criteria or JDOQL).
+ * <p>
+ * Persistence layers not capable of translating a particular {@link CriteriaQuery}
+ * (eg. because it refers to non-persistent properties) fall back to filtering and sorting
+ * all instances in memory.
+ *
+ * @see Query#criteria(Class)
+ * @since 2.0 {@index}
+ */
+public interface CriteriaQuery<T> extends Query<T> {
+
+    Optional<Criterion<? super T>> getCriterion();
+
+    List<Ordering<? super T>> getOrderings();
+
+    /**
+     * All the properties this query refers to, either for restriction or for ordering.
+     */
+    default Stream<CriteriaProperty<?, ?>> streamProperties() {
+        return Stream.concat(
+                getCriterion().stream().flatMap(Criterion::streamProperties),
+                getOrderings().stream().map(Ordering::getProperty));
+    }
+
+    // -- WITHERS
+
+    /**
+     * Adds given {@link Criterion}, combined with any previously given ones using <i>AND</i>.
+     */
+    CriteriaQuery<T> where(@NonNull Criterion<? super T> criterion);
+
+    /**
+     * Appends given {@link Ordering} to any previously given ones.
+     */
+    CriteriaQuery<T> orderBy(@NonNull Ordering<? super T> ordering);
+
+    @Override
+    CriteriaQuery<T> withRange(@NonNull QueryRange range);
+
+    @Override
+    default CriteriaQuery<T> withRange(final long ...range) {
+        return withRange(QueryRange.of(range));
+    }
+
+    @Override
+    default CriteriaQuery<T> withStart(final long start) {
+        return withRange(start);
+    }
+
+    @Override
+    default CriteriaQuery<T> withLimit(final long limit) {
+        return withRange(0L, limit);
+    }
+
+    // -- ORDERING
+
+    @Value(staticConstructor = "of")
+    class Ordering<T> implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final @NonNull CriteriaProperty<T, ?> property;
+        private final boolean ascending;
+
+        /**
+         * For in-memory sorting, with {@code null}s first when ascending (last when descending).
+         */
+        public Comparator<T> toComparator() {
+            final Comparator<Object> natural = _Casts.uncheckedCast(Comparator.nullsFirst(Comparator.naturalOrder()));
+            final Comparator<T> comparator = (a, b) -> natural.compare(read(a), read(b));
+            return ascending
+                    ? comparator
+                    : comparator.reversed();
+        }
+
+        private @Nullable Object read(final T pojo) {
+            return property.read(pojo);
+        }
+    }
+
+}
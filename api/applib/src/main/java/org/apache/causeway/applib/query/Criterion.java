@@ -0,0 +1,312 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.query;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.commons.internal.base._Casts;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.val;
+
+/**
+ * A type-safe, serializable restriction on entities of type {@code T},
+ * built from {@link CriteriaProperty}s.
+ * <p>
+ * Being a {@link Predicate}, a {@link Criterion} can be passed to
+ * {@link RepositoryService#allMatches(Class, Predicate)} and its siblings,
+ * which then translate it into a query of the underlying persistence layer
+ * (JPA Criteria or JDOQL), rather than filtering all instances in memory.
+ * Where translation is not possible, {@link #test(Object)} is used as a fallback.
+ * <p>
+ * Evaluation in memory follows SQL's three-valued logic (see {@link #evaluate(Object)}),
+ * so that both agree on how {@code null} property values are treated, also when negated.
+ *
+ * @param <T> type of the entities to restrict
+ *
+ * @see CriteriaQuery
+ * @since 2.0 {@index}
+ */
+public interface Criterion<T> extends Predicate<T>, Serializable {
+
+    /**
+     * Double dispatch, as used by persistence layers to translate this {@link Criterion}.
+     */
+    <R> R accept(@NonNull Visitor<R> visitor);
+
+    /**
+     * Evaluates this {@link Criterion} against given pojo, as the database would:
+     * comparing a {@code null} property value yields {@link Truth#UNKNOWN}.
+     */
+    Truth evaluate(T pojo);
+
+    /**
+     * Whether given pojo would be selected by the translated query,
+     * that is, whether this {@link Criterion} {@link #evaluate(Object) evaluates} to {@link Truth#TRUE}.
+     */
+    @Override
+    default boolean test(final T pojo) {
+        return evaluate(pojo) == Truth.TRUE;
+    }
+
+    /**
+     * All the properties this {@link Criterion} refers to.
+     */
+    Stream<CriteriaProperty<?, ?>> streamProperties();
+
+    // -- COMPOSITION
+
+    @SafeVarargs
+    static <T> Criterion<T> allOf(final @NonNull Criterion<T>... criteria) {
+        return new Junction<>(Junction.Kind.AND, List.of(criteria));
+    }
+
+    @SafeVarargs
+    static <T> Criterion<T> anyOf(final @NonNull Criterion<T>... criteria) {
+        return new Junction<>(Junction.Kind.OR, List.of(criteria));
+    }
+
+    static <T> Criterion<T> not(final @NonNull Criterion<T> criterion) {
+        return new Not<>(criterion);
+    }
+
+    // -- VISITOR
+
+    interface Visitor<R> {
+        R visit(Comparison<?> comparison);
+        R visit(In<?> in);
+        R visit(Like<?> like);
+        R visit(IsNull<?> isNull);
+        R visit(Junction<?> junction);
+        R visit(Not<?> not);
+    }
+
+    // -- THREE-VALUED LOGIC
+
+    /**
+     * SQL's three-valued logic, where {@link #UNKNOWN} results from comparing {@code null}s.
+     */
+    enum Truth {
+        TRUE, FALSE, UNKNOWN;
+
+        public static Truth of(final boolean value) {
+            return value ? TRUE : FALSE;
+        }
+        public Truth not() {
+            return this == TRUE ? FALSE
+                    : this == FALSE ? TRUE
+                    : UNKNOWN;
+        }
+    }
+
+    // -- IMPLEMENTATIONS
+
+    enum Operator {
+        EQ, NE, LT, LE, GT, GE;
+        public boolean isEquality() {
+            return this == EQ || this == NE;
+        }
+    }
+
+    @Getter @ToString
+    @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+    final class Comparison<T> implements Criterion<T> {
+        private static final long serialVersionUID = 1L;
+        private final @NonNull CriteriaProperty<T, ?> property;
+        private final @NonNull Operator operator;
+        private final @NonNull Object value;
+
+        @Override
+        public Truth evaluate(final T pojo) {
+            val propertyValue = property.read(pojo);
+            if(propertyValue == null) {
+                return Truth.UNKNOWN;
+            }
+            switch (operator) {
+            case EQ:
+                return Truth.of(Objects.equals(propertyValue, value));
+            case NE:
+                return Truth.of(!Objects.equals(propertyValue, value));
+            default:
+                final Comparable<Object> comparable = _Casts.uncheckedCast(propertyValue);
+                val cmp = comparable.compareTo(value);
+                return Truth.of(operator == Operator.LT ? cmp < 0
+                        : operator == Operator.LE ? cmp <= 0
+                        : operator == Operator.GT ? cmp > 0
+                        : cmp >= 0);
+            }
+        }
+        @Override public <R> R accept(final @NonNull Visitor<R> visitor) { return visitor.visit(this); }
+        @Override public Stream<CriteriaProperty<?, ?>> streamProperties() { return Stream.of(property); }
+    }
+
+    @Getter @ToString
+    final class In<T> implements Criterion<T> {
+        private static final long serialVersionUID = 1L;
+        private final @NonNull CriteriaProperty<T, ?> property;
+        private final @NonNull List<Object> values;
+
+        In(final @NonNull CriteriaProperty<T, ?> property, final @NonNull Collection<?> values) {
+            this.property = property;
+            this.values = Collections.unmodifiableList(new ArrayList<>(values));
+        }
+
+        /**
+         * An empty {@link In} never matches (not even {@code null}s), as translated.
+         */
+        @Override
+        public Truth evaluate(final T pojo) {
+            if(values.isEmpty()) {
+                return Truth.FALSE;
+            }
+            val propertyValue = property.read(pojo);
+            return propertyValue != null
+                    ? Truth.of(values.contains(propertyValue))
+                    : Truth.UNKNOWN;
+        }
+        @Override public <R> R accept(final @NonNull Visitor<R> visitor) { return visitor.visit(this); }
+        @Override public Stream<CriteriaProperty<?, ?>> streamProperties() { return Stream.of(property); }
+    }
+
+    @Getter @ToString
+    final class Like<T> implements Criterion<T> {
+        private static final long serialVersionUID = 1L;
+        private static final String REGEX_SPECIAL_CHARS = "\\.[]{}()<>*+-=!?^$|";
+        private final @NonNull CriteriaProperty<T, ?> property;
+        /** SQL style, with wildcards {@code %} and {@code _} */
+        private final @NonNull String pattern;
+        private final boolean ignoreCase;
+        /** compiled once, rather than per tested pojo */
+        @Getter(AccessLevel.NONE) @ToString.Exclude
+        private final Pattern regex;
+
+        Like(final @NonNull CriteriaProperty<T, ?> property, final @NonNull String pattern, final boolean ignoreCase) {
+            this.property = property;
+            this.pattern = pattern;
+            this.ignoreCase = ignoreCase;
+            this.regex = Pattern.compile(toRegex(), ignoreCase
+                    ? Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE | Pattern.DOTALL
+                    : Pattern.DOTALL);
+        }
+
+        /**
+         * The {@link #getPattern() pattern} converted to a regular expression
+         * (as used by JDOQL's {@code matches}).
+         */
+        public String toRegex() {
+            val sb = new StringBuilder();
+            for(val c : pattern.toCharArray()) {
+                if(c == '%') {
+                    sb.append(".*");
+                } else if(c == '_') {
+                    sb.append('.');
+                } else {
+                    if(REGEX_SPECIAL_CHARS.indexOf(c) >= 0) {
+                        sb.append('\\');
+                    }
+                    sb.append(c);
+                }
+            }
+            return sb.toString();
+        }
+
+        @Override
+        public Truth evaluate(final T pojo) {
+            val propertyValue = property.read(pojo);
+            return propertyValue != null
+                    ? Truth.of(regex.matcher(propertyValue.toString()).matches())
+                    : Truth.UNKNOWN;
+        }
+        @Override public <R> R accept(final @NonNull Visitor<R> visitor) { return visitor.visit(this); }
+        @Override public Stream<CriteriaProperty<?, ?>> streamProperties() { return Stream.of(property); }
+    }
+
+    @Getter @ToString
+    @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+    final class IsNull<T> implements Criterion<T> {
+        private static final long serialVersionUID = 1L;
+        private final @NonNull CriteriaProperty<T, ?> property;
+        private final boolean negated;
+
+        @Override
+        public Truth evaluate(final T pojo) {
+            return Truth.of((property.read(pojo) == null) != negated);
+        }
+        @Override public <R> R accept(final @NonNull Visitor<R> visitor) { return visitor.visit(this); }
+        @Override public Stream<CriteriaProperty<?, ?>> streamProperties() { return Stream.of(property); }
+    }
+
+    @Getter @ToString
+    @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+    final class Junction<T> implements Criterion<T> {
+        public enum Kind { AND, OR }
+        private static final long serialVersionUID = 1L;
+        private final @NonNull Kind kind;
+        private final @NonNull List<Criterion<T>> criteria;
+
+        @Override
+        public Truth evaluate(final T pojo) {
+            // AND is decided by any FALSE, OR by any TRUE; otherwise any UNKNOWN makes the result UNKNOWN
+            val decisive = kind == Kind.AND ? Truth.FALSE : Truth.TRUE;
+            Truth result = decisive.not();
+            for(val criterion : criteria) {
+                val truth = criterion.evaluate(pojo);
+                if(truth == decisive) {
+                    return decisive;
+                }
+                if(truth == Truth.UNKNOWN) {
+                    result = Truth.UNKNOWN;
+                }
+            }
+            return result;
+        }
+        @Override public <R> R accept(final @NonNull Visitor<R> visitor) { return visitor.visit(this); }
+        @Override public Stream<CriteriaProperty<?, ?>> streamProperties() {
+            return criteria.stream().flatMap(Criterion::streamProperties);
+        }
+    }
+
+    @Getter @ToString
+    @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+    final class Not<T> implements Criterion<T> {
+        private static final long serialVersionUID = 1L;
+        private final @NonNull Criterion<T> criterion;
+
+        @Override
+        public Truth evaluate(final T pojo) {
+            return criterion.evaluate(pojo).not();
+        }
+        @Override public <R> R accept(final @NonNull Visitor<R> visitor) { return visitor.visit(this); }
+        @Override public Stream<CriteriaProperty<?, ?>> streamProperties() { return criterion.streamProperties(); }
+    }
+
+}
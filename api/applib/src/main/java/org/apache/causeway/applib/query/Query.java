@@ -19,6 +19,7 @@
 package org.apache.causeway.applib.query;
 
 import java.io.Serializable;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.apache.causeway.applib.services.repository.RepositoryService;
@@ -94,4 +95,13 @@ static <T> NamedQuery<T> named(
         return new _NamedQueryDefault<>(resultType, queryName, QueryRange.unconstrained(), null);
     }
 
+    /**
+     * Unrestricted and unsorted, to be refined using {@link CriteriaQuery#where(Criterion)}
+     * and {@link CriteriaQuery#orderBy(CriteriaQuery.Ordering)}.
+     */
+    static <T> CriteriaQuery<T> criteria(
+            final @NonNull Class<T> resultType) {
+        return new _CriteriaQueryDefault<>(resultType, QueryRange.unconstrained(), null, List.of());
+    }
+
 }
@@ -0,0 +1,90 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.internal.base._Casts;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.val;
+
+final class _CriteriaQueryDefault<T>
+extends _QueryAbstract<T>
+implements CriteriaQuery<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final @Nullable Criterion<? super T> criterion;
+    @Getter(onMethod_ = {@Override}) private final @NonNull List<Ordering<? super T>> orderings;
+
+    protected _CriteriaQueryDefault(
+            final @NonNull Class<T> resultType,
+            final @NonNull QueryRange range,
+            final @Nullable Criterion<? super T> criterion,
+            final @NonNull List<Ordering<? super T>> orderings) {
+        super(resultType, range);
+        this.criterion = criterion;
+        this.orderings = Collections.unmodifiableList(orderings);
+    }
+
+    @Override
+    public Optional<Criterion<? super T>> getCriterion() {
+        return Optional.ofNullable(criterion);
+    }
+
+    @Override
+    public String getDescription() {
+        return getResultType().getName()
+                + " (criteria: " + (criterion != null ? criterion : "none")
+                + (orderings.isEmpty() ? "" : "; order by: " + orderings)
+                + ")";
+    }
+
+    // -- WITHERS
+
+    @Override
+    public _CriteriaQueryDefault<T> where(final @NonNull Criterion<? super T> criterion) {
+        final Criterion<? super T> combined = this.criterion == null
+                ? criterion
+                : Criterion.allOf(
+                        _Casts.<Criterion<T>>uncheckedCast(this.criterion),
+                        _Casts.<Criterion<T>>uncheckedCast(criterion));
+        return new _CriteriaQueryDefault<>(getResultType(), getRange(), combined, orderings);
+    }
+
+    @Override
+    public _CriteriaQueryDefault<T> orderBy(final @NonNull Ordering<? super T> ordering) {
+        val newOrderings = new ArrayList<Ordering<? super T>>(this.orderings);
+        newOrderings.add(ordering);
+        return new _CriteriaQueryDefault<>(getResultType(), getRange(), criterion, newOrderings);
+    }
+
+    @Override
+    public _CriteriaQueryDefault<T> withRange(final @NonNull QueryRange range) {
+        return new _CriteriaQueryDefault<>(getResultType(), range, criterion, orderings);
+    }
+
+}
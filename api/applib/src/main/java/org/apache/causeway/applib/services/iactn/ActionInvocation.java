@@ -18,6 +18,8 @@
  */
 package org.apache.causeway.applib.services.iactn;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.apache.causeway.applib.Identifier;
@@ -44,5 +46,13 @@ public ActionInvocation(
         super(interaction, InteractionType.ACTION_INVOCATION, memberId, target);
         this.args = args;
     }
+
+    @Override
+    protected ActionInvocation newSnapshot() {
+        return new ActionInvocation(getInteraction(), getLogicalMemberIdentifier(), getTarget(),
+                args != null
+                    ? Collections.unmodifiableList(new ArrayList<>(args))
+                    : null);
+    }
     // ...
 }
@@ -30,6 +30,7 @@
 import org.apache.causeway.applib.services.metrics.MetricsService;
 import org.apache.causeway.applib.services.wrapper.WrapperFactory;
 import org.apache.causeway.applib.util.schema.MemberExecutionDtoUtils;
+import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.commons.internal.collections._Lists;
 import org.apache.causeway.schema.common.v2.DifferenceDto;
 import org.apache.causeway.schema.common.v2.InteractionType;
@@ -108,6 +109,12 @@ protected Execution(
     }
 
 
+    /**
+     * Whether this is a {@link #snapshot()}, hence can no longer be changed.
+     */
+    @Getter
+    private boolean snapshot;
+
     // -- parent, children
 
     private final List<Execution<?, ?>> children = _Lists.newArrayList();
@@ -122,6 +129,7 @@ protected Execution(
      * <b>NOT API</b>: intended to be called only by the framework.
      */
     public void setParent(final Execution<?, ?> parent) {
+        assertNotSnapshot();
         this.parent = parent;
         if (parent != null) {
             parent.children.add(this);
@@ -156,6 +164,7 @@ public void setParent(final Execution<?, ?> parent) {
      * <b>NOT API</b>: intended to be called only by the framework.
      */
     public void setEvent(final E event) {
+        assertNotSnapshot();
         this.event = event;
     }
 
@@ -216,6 +225,7 @@ public void setCompletedAt(
      * <b>NOT API</b>: intended to be called only by the framework.
      */
     public void setReturned(final Object returned) {
+        assertNotSnapshot();
         this.returned = returned;
     }
 
@@ -230,6 +240,7 @@ public void setReturned(final Object returned) {
      * <b>NOT API</b>: intended to be called only by the framework.
      */
     public void setThrew(final Exception threw) {
+        assertNotSnapshot();
         this.threw = threw;
     }
 
@@ -253,10 +264,64 @@ public void setThrew(final Exception threw) {
      * {@link org.apache.causeway.core.metamodel.execution.InternalInteraction.MemberExecutor})
      */
     public void setDto(final T executionDto) {
+        assertNotSnapshot();
         this.dto = executionDto;
     }
 
 
+    // -- snapshot
+
+    /**
+     * An immutable copy of this execution (and of its {@link #getChildren() children}),
+     * that may be handed over to another thread, while this execution's {@link Interaction} carries on.
+     *
+     * <p>
+     *     The {@link #getDto() dto} is copied, any attempt to change the snapshot fails with an
+     *     {@link IllegalStateException}. The snapshot has no {@link #getParent() parent}.
+     *     The {@link #getInteraction() interaction}, {@link #getTarget() target}, {@link #getEvent() event}
+     *     and {@link #getReturned() returned} object are the same as this execution's, hence are not
+     *     to be relied upon, other than for the {@link Interaction#getInteractionId() interaction id}.
+     * </p>
+     *
+     * <p>
+     *     <b>NOT API</b>: intended to be called only by the framework.
+     * </p>
+     */
+    public Execution<T, E> snapshot() {
+        return snapshot
+                ? this
+                : snapshot(null);
+    }
+
+    /**
+     * A new instance, that is a copy of this execution's own state, as held by the subclass.
+     */
+    protected abstract Execution<T, E> newSnapshot();
+
+    private Execution<T, E> snapshot(final Execution<?, ?> parentSnapshot) {
+        val copy = newSnapshot();
+        copy.parent = parentSnapshot;
+        copy.event = event;
+        copy.startedAt = startedAt;
+        copy.completedAt = completedAt;
+        copy.returned = returned;
+        copy.threw = threw;
+        copy.numberObjectsLoadedBefore = numberObjectsLoadedBefore;
+        copy.numberObjectsDirtiedBefore = numberObjectsDirtiedBefore;
+        copy.dto = dto != null
+                ? _Casts.uncheckedCast(MemberExecutionDtoUtils.dtoMapper(dto.getClass()).clone(dto))
+                : null;
+        children.forEach(child->copy.children.add(child.snapshot(copy)));
+        copy.snapshot = true;
+        return copy;
+    }
+
+    private void assertNotSnapshot() {
+        if(snapshot) {
+            throw new IllegalStateException("execution is a snapshot, hence cannot be changed");
+        }
+    }
+
     // -- helpers (syncMetrics)
 
     enum When {
@@ -339,6 +404,7 @@ private void syncMetrics(
             final Timestamp timestamp,
             final MetricsService metricsService) {
 
+        assertNotSnapshot();
         final int numberObjectsLoaded = metricsService.numberEntitiesLoaded();
         final int numberObjectsDirtied = metricsService.numberEntitiesDirtied();
 
@@ -43,5 +43,10 @@ public PropertyEdit(
         this.newValue = newValue;
     }
 
+    @Override
+    protected PropertyEdit newSnapshot() {
+        return new PropertyEdit(getInteraction(), getLogicalMemberIdentifier(), getTarget(), newValue);
+    }
+
     // ...
 }
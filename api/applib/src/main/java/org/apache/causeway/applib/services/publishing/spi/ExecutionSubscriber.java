@@ -22,6 +22,7 @@
 import org.apache.causeway.applib.annotation.Property;
 import org.apache.causeway.applib.services.iactn.Execution;
 import org.apache.causeway.applib.util.schema.InteractionDtoUtils;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.having.HasEnabling;
 
 /**
@@ -68,4 +69,51 @@ public interface ExecutionSubscriber extends HasEnabling {
      */
     void onExecution(Execution<?, ?> execution);
 
+    /**
+     * Callback to notify of a batch of completed interactions, in the order they were published.
+     *
+     * <p>
+     *     Only called if asynchronous publishing is enabled (and this subscriber is not
+     *     {@link #isSynchronous() synchronous}), on a background thread, some time after the
+     *     interactions that published the executions have completed.
+     * </p>
+     *
+     * <p>
+     *     Each batch is delivered within an interaction of its own, using the same
+     *     {@link org.apache.causeway.applib.services.iactnlayer.InteractionContext interaction context}
+     *     (user, clock, locale, ...) as the interaction that published the executions, and within a transaction
+     *     of its own, that is committed once this callback returns (or rolled back, if it throws).
+     *     Executions published with different interaction contexts are never part of the same batch.
+     *     Domain objects referenced by the executions are detached, as they belong to the publishing interaction.
+     * </p>
+     *
+     * <p>
+     *     The executions are {@link Execution#snapshot() snapshots}, taken when published, hence are immutable
+     *     and not shared with the publishing interaction, that may have moved on in the meantime.
+     * </p>
+     *
+     * <p>
+     *     The default implementation simply calls {@link #onExecution(Execution)}
+     *     for each; implementations that can process executions in bulk can override.
+     * </p>
+     *
+     * @see #isSynchronous()
+     */
+    default void onExecutions(final Can<Execution<?, ?>> executions) {
+        executions.forEach(this::onExecution);
+    }
+
+    /**
+     * Whether this subscriber must always be notified synchronously, that is on the thread that performed
+     * the interaction, even if asynchronous publishing is enabled.
+     *
+     * <p>
+     *     Subscribers that participate in the current transaction (for example to persist the execution)
+     *     or that otherwise rely on the current interaction should return <code>true</code>.
+     * </p>
+     */
+    default boolean isSynchronous() {
+        return false;
+    }
+
 }
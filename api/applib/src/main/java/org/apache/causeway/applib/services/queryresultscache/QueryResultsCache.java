@@ -18,10 +18,14 @@
  */
 package org.apache.causeway.applib.services.queryresultscache;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.stream.Stream;
 
 import javax.annotation.Priority;
 import javax.inject.Named;
@@ -29,11 +33,13 @@
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
 import org.apache.causeway.applib.CausewayModuleApplib;
 import org.apache.causeway.applib.annotation.InteractionScope;
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.commons.internal.collections._Maps;
@@ -61,6 +67,12 @@
  * algorithm of the business logic can remain easy to understand.
  * </p>
  *
+ * <p>
+ * Call sites may opt into an application-scoped second tier, the {@link SharedQueryResultsCache},
+ * such that results outlive the interaction; either by annotating the calling method
+ * with {@link SharedQueryResults}, or by calling one of the <code>executeShared(...)</code> methods.
+ * </p>
+ *
  * @since 1.x {@index}
  */
 @Component
@@ -101,6 +113,51 @@ public <T> T execute(
         return executeWithCaching(callable, cacheKey);
     }
 
+    /**
+     * Executes the callable if not already cached for the supplied calling
+     * class, method and keys, in this interaction or (if enabled) in the application-scoped
+     * {@link SharedQueryResultsCache shared tier}.
+     *
+     * @param callable
+     * @param callingClass
+     * @param methodName
+     * @param invalidatedBy - entity types, any change of which invalidates the shared result
+     * @param keys
+     * @param <T>
+     * @see SharedQueryResults
+     */
+    public <T> T executeShared(
+            final Callable<T> callable,
+            final Class<?> callingClass,
+            final String methodName,
+            final Can<Class<?>> invalidatedBy,
+            final Object... keys) {
+        return executeShared(callable, callingClass, methodName, invalidatedBy, null, keys);
+    }
+
+    /**
+     * As {@link #executeShared(Callable, Class, String, Can, Object...)},
+     * with a time-to-live overriding the configured one.
+     */
+    public <T> T executeShared(
+            final Callable<T> callable,
+            final Class<?> callingClass,
+            final String methodName,
+            final Can<Class<?>> invalidatedBy,
+            final @Nullable Duration timeToLive,
+            final Object... keys) {
+        if(isIgnoreCache()) {
+            try {
+                return callable.call();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+        final Key cacheKey = new Key(callingClass, methodName, keys);
+        return executeWithCaching(callable, cacheKey,
+                Optional.of(new SharedPolicy(invalidatedBy, Optional.ofNullable(timeToLive))));
+    }
+
     public <R> R execute(final MethodReferences.Call0<? extends R> action, final Class<?> callingClass, final String methodName) {
         if(isIgnoreCache()) {
             return action.call();
@@ -180,6 +237,13 @@ public String toString() {
     }
 
     private <T> T executeWithCaching(final Callable<T> callable, final Key cacheKey) {
+        return executeWithCaching(callable, cacheKey, sharedPolicyFor(cacheKey));
+    }
+
+    private <T> T executeWithCaching(
+            final Callable<T> callable,
+            final Key cacheKey,
+            final Optional<SharedPolicy> sharedPolicy) {
         try {
             final Value<?> cacheValue = cache.get(cacheKey);
             logHitOrMiss(cacheKey, cacheValue);
@@ -187,8 +251,12 @@ private <T> T executeWithCaching(final Callable<T> callable, final Key cacheKey)
                 return _Casts.uncheckedCast(cacheValue.getResult());
             }
 
-            // cache miss, so get the result...
-            T result = callable.call();
+            // cache miss, so get the result (from the shared tier if opted in) ...
+            T result = sharedPolicy.isPresent()
+                    && sharedCache != null
+                    ? sharedCache.execute(callable, cacheKey,
+                            sharedPolicy.get().getInvalidatedBy(), sharedPolicy.get().getTimeToLive())
+                    : callable.call();
 
             // ... and cache
             //
@@ -240,9 +308,60 @@ public void destroy() throws Exception {
     @Autowired(required = false)
     protected List<QueryResultsCacheControl> cacheControl;
 
+    @Autowired(required = false)
+    protected SharedQueryResultsCache sharedCache;
+
     private boolean isIgnoreCache() {
         return _NullSafe.stream(cacheControl)
                 .anyMatch(c->c.isIgnoreCache());
     }
 
+    @lombok.Value
+    private static class SharedPolicy {
+        private final Can<Class<?>> invalidatedBy;
+        private final Optional<Duration> timeToLive;
+    }
+
+    /**
+     * {@link SharedQueryResults} annotations (if any) by method name, per calling class.
+     */
+    private static final ClassValue<Map<String, Optional<SharedPolicy>>> sharedPoliciesByMethodName =
+            new ClassValue<Map<String, Optional<SharedPolicy>>>() {
+        @Override
+        protected Map<String, Optional<SharedPolicy>> computeValue(final Class<?> callingClass) {
+            return _Maps.newConcurrentHashMap();
+        }
+    };
+
+    private static Optional<SharedPolicy> sharedPolicyFor(final Key cacheKey) {
+        return sharedPoliciesByMethodName.get(cacheKey.getCallingClass())
+                .computeIfAbsent(cacheKey.getMethodName(), methodName->
+                    lookupSharedQueryResultsAnnotation(cacheKey.getCallingClass(), methodName)
+                    .map(annot->new SharedPolicy(
+                            Can.ofArray(annot.invalidatedBy()),
+                            annot.timeToLiveSeconds() > 0
+                                ? Optional.of(Duration.ofSeconds(annot.timeToLiveSeconds()))
+                                : Optional.empty())));
+    }
+
+    /**
+     * Searches the calling class and its super classes for a method of given name,
+     * that is annotated with {@link SharedQueryResults}.
+     */
+    private static Optional<SharedQueryResults> lookupSharedQueryResultsAnnotation(
+            final Class<?> callingClass,
+            final String methodName) {
+        for(Class<?> cls = callingClass; cls != null && cls != Object.class; cls = cls.getSuperclass()) {
+            final Optional<SharedQueryResults> annot = Stream.of(cls.getDeclaredMethods())
+                    .filter(method->method.getName().equals(methodName))
+                    .map(method->method.getAnnotation(SharedQueryResults.class))
+                    .filter(Objects::nonNull)
+                    .findFirst();
+            if(annot.isPresent()) {
+                return annot;
+            }
+        }
+        return Optional.empty();
+    }
+
 }
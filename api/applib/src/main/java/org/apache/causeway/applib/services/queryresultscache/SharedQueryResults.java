@@ -0,0 +1,62 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.services.queryresultscache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Opts the results cached by {@link QueryResultsCache} for the annotated method into the
+ * application-scoped {@link SharedQueryResultsCache shared tier}, such that they outlive the current interaction.
+ *
+ * <p>
+ * Applies to the method, whose (calling) class and name are passed to any of the
+ * {@link QueryResultsCache}'s <code>execute(...)</code> methods. Suitable for reference data,
+ * that is read often but rarely changes.
+ * </p>
+ *
+ * <p>
+ * Cached results are shared across interactions and threads, hence should be immutable and not tied to
+ * any persistence context; that is, values or view models rather than entities.
+ * </p>
+ *
+ * @see SharedQueryResultsCache
+ * @since 2.0 {@index}
+ */
+@Documented
+@Target({ ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SharedQueryResults {
+
+    /**
+     * Entity types, such that persisting, updating or deleting an entity of any of these types
+     * (or their subtypes) invalidates the cached results.
+     */
+    Class<?>[] invalidatedBy() default {};
+
+    /**
+     * How long (in seconds) cached results are served at most;
+     * if not positive, as configured for the shared tier.
+     */
+    long timeToLiveSeconds() default 0;
+
+}
@@ -0,0 +1,97 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.services.queryresultscache;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+import org.apache.causeway.commons.collections.Can;
+
+import lombok.Value;
+
+/**
+ * The application-scoped (second) tier of the {@link QueryResultsCache}, bounded in size,
+ * with least recently used results evicted first, and each result served for a limited time only.
+ *
+ * <p>
+ * Only consulted for those call sites that opt in, either by annotating the calling method
+ * with {@link SharedQueryResults}, or by calling one of the {@link QueryResultsCache}'s
+ * <code>executeShared(...)</code> methods.
+ * </p>
+ *
+ * <p>
+ * Results are invalidated, when an entity of any of the types the call site declares to depend upon,
+ * is persisted, updated or deleted. Invalidation is local to the JVM; on other nodes of a cluster results
+ * are served until they expire.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+public interface SharedQueryResultsCache {
+
+    /**
+     * Returns the cached result for given key, if any and not expired,
+     * otherwise calls given callable and caches its result.
+     *
+     * @param callable - computes the result on a cache miss
+     * @param cacheKey - identifies the call site and its arguments
+     * @param invalidatedBy - entity types, any change of which invalidates the result
+     * @param timeToLive - if empty, as configured
+     */
+    <T> T execute(
+            Callable<T> callable,
+            QueryResultsCache.Key cacheKey,
+            Can<Class<?>> invalidatedBy,
+            Optional<Duration> timeToLive) throws Exception;
+
+    /**
+     * Invalidates all cached results, that depend on given entity type,
+     * and again when the current transaction (if any) completes.
+     */
+    void invalidate(Class<?> changedEntityType);
+
+    void invalidateAll();
+
+    Stats getStats();
+
+    @Value
+    class Stats {
+        private final long hitCount;
+        private final long missCount;
+        /**
+         * Results evicted to make room, because the maximum size was reached.
+         */
+        private final long evictionCount;
+        private final long expirationCount;
+        private final long invalidationCount;
+        private final int size;
+
+        /**
+         * Ratio of hits to requests, or <code>0</code> if there were no requests yet.
+         */
+        public double getHitRatio() {
+            final long requestCount = hitCount + missCount;
+            return requestCount == 0
+                    ? 0.
+                    : (double) hitCount / requestCount;
+        }
+    }
+
+}
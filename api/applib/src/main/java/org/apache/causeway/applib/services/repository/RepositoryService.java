@@ -21,9 +21,14 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.lang.Nullable;
 
+import org.apache.causeway.applib.query.CriteriaProperty;
+import org.apache.causeway.applib.query.CriteriaQuery;
+import org.apache.causeway.applib.query.Criterion;
 import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.query.QueryRange;
 
@@ -231,6 +236,13 @@ <T> List<T> allInstances(
      * instances.  Use {@link #allMatches(Query)} for production code.
      * </p>
      *
+     * <p>
+     * The exception is a {@link Criterion} passed in as predicate, which is
+     * translated into a server-side query (as per {@link Query#criteria(Class)})
+     * where the ORM supports it. Any other predicate is evaluated client-side,
+     * which is logged as a warning once per kind of predicate.
+     * </p>
+     *
      * @apiNote This method creates a new {@link List} object each time it is
      *          called so the caller is free to use or modify the returned
      *          {@link List}. Changes will <i>not</i> be reflected back to the
@@ -247,6 +259,8 @@ <T> List<T> allMatches(
      * <p>
      * If the optional range parameters are used, the dataset considered (before filtering) starts
      * from (0 based) index, runs through up to count items.
+     * For a {@link Criterion} (which is filtered server-side), the range applies to
+     * the matching instances instead.
      * </p>
      *
      * @param ofType
@@ -292,6 +306,72 @@ <T> List<T> allMatches(
      */
     <T> List<T> allMatches(Query<T> query);
 
+    /**
+     * Returns the values of given property, for all the instances that match the given {@link CriteriaQuery},
+     * in the query's order.
+     *
+     * <p>
+     *     Where supported by the ORM, only the property's column is selected, rather than the entities.
+     * </p>
+     *
+     * @apiNote The default implementation reads the property from the entities
+     *          as returned by {@link #allMatches(Query)}.
+     */
+    default <T, V> List<V> projectMatches(
+            final CriteriaQuery<T> query,
+            final CriteriaProperty<? super T, V> property) {
+        return allMatches(query).stream()
+                .map(property::read)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * As {@link #projectMatches(CriteriaQuery, CriteriaProperty)}, selecting multiple properties,
+     * where each row's values are in the order of given properties.
+     */
+    default <T> List<Object[]> projectMatches(
+            final CriteriaQuery<T> query,
+            final List<CriteriaProperty<? super T, ?>> properties) {
+        return allMatches(query).stream()
+                .map(pojo->properties.stream()
+                        .map(property->property.read(pojo))
+                        .toArray())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Streams all the instances that match the given {@link Query}, without materializing them
+     * into a {@link List} first.
+     *
+     * <p>
+     *     Intended for batch jobs over large result sets: where supported by the ORM, rows are read
+     *     from a database cursor and adapted one at a time, as the stream is consumed.
+     *     With given {@link StreamOptions}, the persistence context can be flushed and cleared
+     *     (or the consumed entities detached) every so many rows, to keep memory consumption flat.
+     * </p>
+     *
+     * <p>
+     *     The stream must be consumed within the current transaction. It holds on to database
+     *     resources, that are released once it is exhausted or {@link Stream#close() closed}, or
+     *     otherwise when the transaction completes. Use of <i>try-with-resources</i> is recommended.
+     * </p>
+     *
+     * @apiNote The default implementation falls back to {@link #allMatches(Query)}.
+     *
+     * @see #allMatches(Query)
+     * @see StreamOptions
+     */
+    default <T> Stream<T> streamMatches(final Query<T> query, final StreamOptions options) {
+        return allMatches(query).stream();
+    }
+
+    /**
+     * As {@link #streamMatches(Query, StreamOptions)}, using {@link StreamOptions#defaults()}.
+     */
+    default <T> Stream<T> streamMatches(final Query<T> query) {
+        return streamMatches(query, StreamOptions.defaults());
+    }
+
     /**
      * Finds the only instance of the specified type (including subtypes) that
      * satifies the (client-side) predicate.
@@ -0,0 +1,128 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.services.repository;
+
+import org.apache.causeway.applib.query.Query;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Options for {@link RepositoryService#streamMatches(Query, StreamOptions)}.
+ *
+ * <p>
+ *     Intended for batch processing of large result sets, where the persistence context
+ *     would otherwise grow with every row read.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@Value
+@Builder(toBuilder = true)
+public class StreamOptions {
+
+    /**
+     * What to do with the persistence context, after every {@link StreamOptions#getBatchSize() batch}
+     * of rows that was consumed.
+     */
+    public static enum BatchPolicy {
+
+        /**
+         * Keep all entities read so far managed by the persistence context.
+         */
+        NONE,
+
+        /**
+         * Flush pending changes, then clear the persistence context entirely.
+         * <p>
+         * Entities read before are no longer managed, including any that were not obtained via this stream.
+         */
+        FLUSH_AND_CLEAR,
+
+        /**
+         * Detach (JPA) or evict (JDO) the entities of the batch just consumed,
+         * leaving any other managed entities untouched.
+         * <p>
+         * Pending changes to those entities are not flushed.
+         */
+        DETACH;
+
+        public boolean isNone() { return this == NONE; }
+    }
+
+    /**
+     * Hint for the number of rows fetched per database round-trip;
+     * zero or negative to use the persistence provider's default.
+     */
+    @Builder.Default
+    int fetchSize = 0;
+
+    /**
+     * Number of rows after which the {@link #getBatchPolicy() batch policy} is applied;
+     * zero or negative to never apply it.
+     */
+    @Builder.Default
+    int batchSize = 0;
+
+    @Builder.Default
+    @NonNull BatchPolicy batchPolicy = BatchPolicy.NONE;
+
+    /**
+     * Whether a {@link #getBatchPolicy() batch policy} other than {@link BatchPolicy#NONE} applies.
+     */
+    public boolean isBatching() {
+        return batchSize > 0
+                && !batchPolicy.isNone();
+    }
+
+    // -- FACTORIES
+
+    /**
+     * Uses the persistence provider's defaults and never touches the persistence context.
+     */
+    public static StreamOptions defaults() {
+        return StreamOptions.builder().build();
+    }
+
+    /**
+     * Flushes and clears the persistence context every {@code batchSize} rows,
+     * also using {@code batchSize} as the fetch size.
+     */
+    public static StreamOptions flushAndClearEvery(final int batchSize) {
+        return StreamOptions.builder()
+                .fetchSize(batchSize)
+                .batchSize(batchSize)
+                .batchPolicy(BatchPolicy.FLUSH_AND_CLEAR)
+                .build();
+    }
+
+    /**
+     * Detaches the entities of each batch of {@code batchSize} rows, once consumed,
+     * also using {@code batchSize} as the fetch size.
+     */
+    public static StreamOptions detachEvery(final int batchSize) {
+        return StreamOptions.builder()
+                .fetchSize(batchSize)
+                .batchSize(batchSize)
+                .batchPolicy(BatchPolicy.DETACH)
+                .build();
+    }
+
+}
@@ -111,22 +111,41 @@ public AsyncControl<R> with(final ExceptionHandler exceptionHandler) {
         return super.with(exceptionHandler);
     }
 
-    @Getter @NonNull
-    private ExecutorService executorService =
-                            ForkJoinPool.commonPool();
+    private ExecutorService executorService;
+
+    /**
+     * The {@link ExecutorService} as {@link #with(ExecutorService) specified}, otherwise the common pool.
+     */
+    public @NonNull ExecutorService getExecutorService() {
+        return executorService != null
+                ? executorService
+                : ForkJoinPool.commonPool();
+    }
+
+    /**
+     * For framework use only.
+     *
+     * <p>
+     * Whether no {@link ExecutorService} was {@link #with(ExecutorService) specified}, in which case the framework
+     * uses the one configured for asynchronous execution (which defaults to the common pool).
+     * </p>
+     */
+    public boolean isDefaultExecutorService() {
+        return executorService == null;
+    }
 
     /**
      * Specifies the {@link ExecutorService} to use to obtain the thread
      * to invoke the action.
      *
      * <p>
-     * The default executor service is the common pool.
+     * The default executor service is as configured, which in turn defaults to the common pool.
      * </p>
      *
      *
      * @param executorService
      */
-    public AsyncControl<R> with(final ExecutorService executorService) {
+    public AsyncControl<R> with(final @NonNull ExecutorService executorService) {
         this.executorService = executorService;
         return this;
         // ...
@@ -0,0 +1,50 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.util.schema;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Encodes DTOs of a specific type (such as <code>CommandDto</code> or <code>InteractionDto</code>)
+ * to text using a specific {@link DtoEncoding}, and decodes them back.
+ * <p>
+ * Decoding is not bound to the codec's own {@link DtoEncoding}; any codec can decode DTOs encoded by any other,
+ * in particular DTOs that were persisted as {@link DtoEncoding#XML XML} before any other encoding was introduced.
+ *
+ * @see DtoCodecs#codecFor(Class, DtoEncoding)
+ * @since 2.0 {@index}
+ */
+public interface DtoCodec<T> {
+
+    Class<T> getDtoClass();
+
+    DtoEncoding getEncoding();
+
+    @Nullable
+    String encode(@Nullable T dto);
+
+    /**
+     * Decodes given text, regardless of which {@link DtoEncoding} it was encoded with.
+     */
+    @Nullable
+    default T decode(final @Nullable String encoded) {
+        return DtoCodecs.decode(getDtoClass(), encoded);
+    }
+
+}
@@ -0,0 +1,53 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.util.schema;
+
+/**
+ * How DTOs (such as <code>CommandDto</code> or <code>InteractionDto</code>) are encoded,
+ * when persisted as text.
+ *
+ * @see DtoCodec
+ * @see DtoCodecs
+ * @since 2.0 {@index}
+ */
+public enum DtoEncoding {
+
+    /**
+     * JAXB XML, human readable, but verbose and comparatively expensive to marshal and unmarshal.
+     * <p>
+     * This is the default, and also the format of DTOs that were persisted before any other encoding
+     * was introduced.
+     */
+    XML,
+
+    /**
+     * A binary format (written without JAXB), zlib compressed and Base64 encoded,
+     * prefixed by a marker to tell it apart from {@link #XML}.
+     * <p>
+     * Typically a fraction of the size of {@link #XML}, hence cheaper to write to and read from the database,
+     * and cheaper to encode and decode, but not human readable.
+     * <p>
+     * Text written by the initial version of this encoding (compressed JAXB XML) is still decoded.
+     */
+    COMPACT;
+
+    public boolean isXml() { return this == XML; }
+    public boolean isCompact() { return this == COMPACT; }
+
+}
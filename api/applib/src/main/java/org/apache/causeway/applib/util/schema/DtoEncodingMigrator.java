@@ -0,0 +1,230 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.util.schema;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.sql.DataSource;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Singular;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Re-encodes the DTOs persisted in a table column using some other {@link DtoEncoding},
+ * for example to convert the legacy {@link DtoEncoding#XML XML} of existing command log entries
+ * into the {@link DtoEncoding#COMPACT compact} encoding (or back again).
+ * <p>
+ * Works directly on the JDBC level (hence independent of the persistence stack),
+ * paging through the table ordered by its primary key (seeking past the last key of the previous page,
+ * rather than using an offset), and updating each page with a JDBC batch in its own transaction.
+ * No cursor is held open across transactions.
+ * Rows already using the target encoding are left untouched, so that a migration that was interrupted
+ * can simply be run again.
+ * <p>
+ * For example:
+ * <pre>
+ * DtoEncodingMigrator.builder()
+ *     .dataSource(dataSource)
+ *     .table("causewayExtCommandLog.CommandLogEntry")
+ *     .primaryKeyColumn("interactionId")
+ *     .column("commandDto")
+ *     .dtoClass(CommandDto.class)
+ *     .targetEncoding(DtoEncoding.COMPACT)
+ *     .build()
+ *     .migrate();
+ * </pre>
+ *
+ * @since 2.0 {@index}
+ */
+@Builder
+@Log4j2
+public class DtoEncodingMigrator {
+
+    private final @NonNull DataSource dataSource;
+
+    /**
+     * The (optionally schema qualified) name of the table to migrate.
+     */
+    private final @NonNull String table;
+
+    /**
+     * The column(s) of the table's primary key, used to page through the table.
+     * <p>
+     * For a composite key (eg. that of the execution log: <code>interactionId</code>, <code>sequence</code>)
+     * add each of its columns, in order.
+     */
+    @Singular
+    private final @NonNull List<String> primaryKeyColumns;
+
+    /**
+     * The name of the (textual) column holding the encoded DTOs.
+     */
+    private final @NonNull String column;
+
+    private final @NonNull Class<?> dtoClass;
+
+    private final @NonNull DtoEncoding targetEncoding;
+
+    /**
+     * Number of rows to fetch and to update per transaction.
+     */
+    @Builder.Default
+    private final int batchSize = 500;
+
+    /**
+     * @return the number of rows that were re-encoded
+     */
+    public long migrate() throws SQLException {
+        if(primaryKeyColumns.isEmpty()) {
+            throw _Exceptions.illegalArgument("no primary key column(s) specified to page through %s", table);
+        }
+        long migrated = 0;
+        long visited = 0;
+        try(val connection = dataSource.getConnection()) {
+            final boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try(val firstPage = prepareSelect(connection, false);
+                val nextPage = prepareSelect(connection, true);
+                val update = connection.prepareStatement(updateSql())) {
+
+                Object[] lastKey = null;
+                while(true) {
+                    val select = lastKey != null
+                            ? bindKeyset(nextPage, lastKey)
+                            : firstPage;
+                    int fetched = 0;
+                    int batched = 0;
+                    try(val resultSet = select.executeQuery()) {
+                        while(resultSet.next()) {
+                            ++fetched;
+                            lastKey = readKey(resultSet);
+                            val reencoded = reencode(resultSet.getString(column));
+                            if(reencoded != null) {
+                                update.setString(1, reencoded);
+                                for(int i = 0; i < lastKey.length; i++) {
+                                    update.setObject(i + 2, lastKey[i]);
+                                }
+                                update.addBatch();
+                                ++batched;
+                            }
+                        }
+                    }
+                    if(batched > 0) {
+                        update.executeBatch();
+                        migrated += batched;
+                    }
+                    visited += fetched;
+                    commit(connection, migrated, visited);
+                    if(fetched < batchSize) {
+                        break; // last page
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+        return migrated;
+    }
+
+    // -- HELPER
+
+    private PreparedStatement prepareSelect(final Connection connection, final boolean afterKey) throws SQLException {
+        val keyColumns = String.join(", ", primaryKeyColumns);
+        val sql = "SELECT " + keyColumns + ", " + column
+                + " FROM " + table
+                + (afterKey ? " WHERE " + keysetPredicate() : "")
+                + " ORDER BY " + keyColumns;
+        val statement = connection.prepareStatement(sql);
+        statement.setMaxRows(batchSize);
+        statement.setFetchSize(batchSize);
+        return statement;
+    }
+
+    /**
+     * Row value comparison <code>(k1, k2, ...) &gt; (?, ?, ...)</code>, spelled out,
+     * as not all databases support it: <code>k1 &gt; ? OR (k1 = ? AND k2 &gt; ?) OR ...</code>
+     */
+    private String keysetPredicate() {
+        return IntStream.range(0, primaryKeyColumns.size())
+                .mapToObj(i->IntStream.rangeClosed(0, i)
+                        .mapToObj(j->primaryKeyColumns.get(j) + (j < i ? " = ?" : " > ?"))
+                        .collect(Collectors.joining(" AND ", "(", ")")))
+                .collect(Collectors.joining(" OR "));
+    }
+
+    private PreparedStatement bindKeyset(final PreparedStatement statement, final Object[] lastKey) throws SQLException {
+        int parameterIndex = 0;
+        for(int i = 0; i < lastKey.length; i++) {
+            for(int j = 0; j <= i; j++) {
+                statement.setObject(++parameterIndex, lastKey[j]);
+            }
+        }
+        return statement;
+    }
+
+    private String updateSql() {
+        return "UPDATE " + table + " SET " + column + " = ?"
+                + primaryKeyColumns.stream()
+                    .map(keyColumn->keyColumn + " = ?")
+                    .collect(Collectors.joining(" AND ", " WHERE ", ""));
+    }
+
+    private Object[] readKey(final ResultSet resultSet) throws SQLException {
+        val key = new Object[primaryKeyColumns.size()];
+        for(int i = 0; i < key.length; i++) {
+            key[i] = resultSet.getObject(i + 1);
+        }
+        return key;
+    }
+
+    /**
+     * @return the re-encoded DTO, or <code>null</code> if there is nothing to re-encode
+     */
+    @Nullable
+    private String reencode(final @Nullable String encoded) {
+        if(_Strings.isNullOrEmpty(encoded)) {
+            return null;
+        }
+        return DtoCodecs.reencode(dtoClass, encoded, targetEncoding)
+                .orElse(null);
+    }
+
+    private void commit(final Connection connection, final long migrated, final long visited) throws SQLException {
+        connection.commit();
+        log.info("{}.{}: re-encoded {} of {} rows visited so far to {}", table, column, migrated, visited, targetEncoding);
+    }
+
+}
@@ -0,0 +1,448 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.util.schema;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.datatype.DatatypeConfigurationException;
+import javax.xml.datatype.DatatypeFactory;
+import javax.xml.datatype.Duration;
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.commons.internal.base._Lazy;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.val;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Binary format of {@link DtoEncoding#COMPACT} encoded DTOs, that is, of the JAXB generated
+ * classes of the <code>org.apache.causeway.schema</code> packages, without involving JAXB.
+ * <p>
+ * The fields of the DTO graph are written by name (using reflection), so DTOs written by an earlier version of
+ * the schema can still be read: fields no longer present are skipped, fields not written are left unset.
+ * Class, field and enum constant names are written once per DTO, and referred to by index thereafter.
+ * Only values of the (few) types that JAXB generates fields for are supported, and only classes of the schema
+ * packages are instantiated when reading.
+ */
+@UtilityClass
+class _DtoBinaryFormat {
+
+    private static final int VERSION = 1;
+    private static final String SCHEMA_PACKAGE_PREFIX = "org.apache.causeway.schema.";
+
+    private static final int NULL = 0;
+    private static final int STRING = 1;
+    private static final int TRUE = 2;
+    private static final int FALSE = 3;
+    private static final int BYTE = 4;
+    private static final int SHORT = 5;
+    private static final int INT = 6;
+    private static final int LONG = 7;
+    private static final int FLOAT = 8;
+    private static final int DOUBLE = 9;
+    private static final int CHAR = 10;
+    private static final int BIG_DECIMAL = 11;
+    private static final int BIG_INTEGER = 12;
+    private static final int CALENDAR = 13;
+    private static final int DURATION = 14;
+    private static final int BYTES = 15;
+    private static final int ENUM = 16;
+    private static final int LIST = 17;
+    private static final int BEAN = 18;
+    private static final int BEAN_REF = 19;
+
+    private final _Lazy<DatatypeFactory> datatypeFactory = _Lazy.threadSafe(_DtoBinaryFormat::newDatatypeFactory);
+
+    /**
+     * Per class, its (and its super classes') instance fields, by name.
+     */
+    private final ClassValue<Map<String, Field>> fieldsByClass = new ClassValue<Map<String, Field>>() {
+        @Override
+        protected Map<String, Field> computeValue(final Class<?> type) {
+            val fields = new LinkedHashMap<String, Field>();
+            for(Class<?> cls = type; cls != null && cls != Object.class; cls = cls.getSuperclass()) {
+                for (Field field : cls.getDeclaredFields()) {
+                    if(Modifier.isStatic(field.getModifiers())
+                            || Modifier.isTransient(field.getModifiers())) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    fields.putIfAbsent(field.getName(), field);
+                }
+            }
+            return Collections.unmodifiableMap(fields);
+        }
+    };
+
+    @SneakyThrows
+    byte[] write(final @NonNull Object dto) {
+        val bytes = new ByteArrayOutputStream(1024);
+        try(val out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            new Writer(out).writeValue(dto);
+        }
+        return bytes.toByteArray();
+    }
+
+    @SneakyThrows
+    <T> T read(final @NonNull Class<T> dtoClass, final @NonNull byte[] bytes) {
+        try(val in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            val version = in.readUnsignedByte();
+            if(version != VERSION) {
+                throw _Exceptions.illegalArgument("unsupported binary DTO format version %d", version);
+            }
+            val dto = new Reader(in, dtoClass.getClassLoader()).readValue();
+            if(!dtoClass.isInstance(dto)) {
+                throw _Exceptions.illegalArgument("binary DTO is not a %s", dtoClass.getName());
+            }
+            return dtoClass.cast(dto);
+        }
+    }
+
+    // -- WRITER
+
+    private static final class Writer {
+
+        private final DataOutputStream out;
+        private final Map<String, Integer> tokens = new HashMap<>();
+        private final Map<Object, Integer> beans = new IdentityHashMap<>();
+
+        Writer(final DataOutputStream out) {
+            this.out = out;
+        }
+
+        void writeValue(final Object value) throws IOException {
+            if(value == null) {
+                out.writeByte(NULL);
+            } else if(value instanceof String) {
+                out.writeByte(STRING);
+                writeString((String) value);
+            } else if(value instanceof Boolean) {
+                out.writeByte((Boolean) value ? TRUE : FALSE);
+            } else if(value instanceof Integer) {
+                out.writeByte(INT);
+                writeVarLong(zigZag((Integer) value));
+            } else if(value instanceof Long) {
+                out.writeByte(LONG);
+                writeVarLong(zigZag((Long) value));
+            } else if(value instanceof Enum) {
+                out.writeByte(ENUM);
+                writeToken(((Enum<?>) value).getDeclaringClass().getName());
+                writeToken(((Enum<?>) value).name());
+            } else if(value instanceof List) {
+                val list = (List<?>) value;
+                out.writeByte(LIST);
+                writeVarLong(list.size());
+                for (Object element : list) {
+                    writeValue(element);
+                }
+            } else if(value instanceof XMLGregorianCalendar) {
+                out.writeByte(CALENDAR);
+                writeString(((XMLGregorianCalendar) value).toXMLFormat());
+            } else if(value instanceof Duration) {
+                out.writeByte(DURATION);
+                writeString(value.toString());
+            } else if(value instanceof byte[]) {
+                out.writeByte(BYTES);
+                writeVarLong(((byte[]) value).length);
+                out.write((byte[]) value);
+            } else if(value instanceof Byte) {
+                out.writeByte(BYTE);
+                out.writeByte((Byte) value);
+            } else if(value instanceof Short) {
+                out.writeByte(SHORT);
+                out.writeShort((Short) value);
+            } else if(value instanceof Float) {
+                out.writeByte(FLOAT);
+                out.writeFloat((Float) value);
+            } else if(value instanceof Double) {
+                out.writeByte(DOUBLE);
+                out.writeDouble((Double) value);
+            } else if(value instanceof Character) {
+                out.writeByte(CHAR);
+                out.writeChar((Character) value);
+            } else if(value instanceof BigDecimal) {
+                out.writeByte(BIG_DECIMAL);
+                writeString(((BigDecimal) value).toString());
+            } else if(value instanceof BigInteger) {
+                out.writeByte(BIG_INTEGER);
+                writeString(value.toString());
+            } else if(isSchemaClass(value.getClass().getName())) {
+                writeBean(value);
+            } else {
+                throw _Exceptions.illegalArgument("unsupported DTO field type %s", value.getClass().getName());
+            }
+        }
+
+        private void writeBean(final Object bean) throws IOException {
+            val ref = beans.get(bean);
+            if(ref != null) {
+                out.writeByte(BEAN_REF);
+                writeVarLong(ref);
+                return;
+            }
+            beans.put(bean, beans.size());
+            out.writeByte(BEAN);
+            writeToken(bean.getClass().getName());
+
+            val fields = new ArrayList<Field>();
+            val values = new ArrayList<Object>();
+            for (Field field : fieldsByClass.get(bean.getClass()).values()) {
+                val value = get(field, bean);
+                if(value != null) {
+                    fields.add(field);
+                    values.add(value);
+                }
+            }
+            writeVarLong(fields.size());
+            for (int i = 0; i < fields.size(); i++) {
+                writeToken(fields.get(i).getName());
+                writeValue(values.get(i));
+            }
+        }
+
+        /**
+         * Writes given token in full the first time, otherwise its index.
+         */
+        private void writeToken(final String token) throws IOException {
+            val index = tokens.get(token);
+            if(index != null) {
+                writeVarLong(index + 1);
+                return;
+            }
+            tokens.put(token, tokens.size());
+            writeVarLong(0);
+            writeString(token);
+        }
+
+        private void writeString(final String string) throws IOException {
+            val bytes = string.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length);
+            out.write(bytes);
+        }
+
+        private void writeVarLong(final long value) throws IOException {
+            long remaining = value;
+            while((remaining & ~0x7FL) != 0) {
+                out.writeByte((int) ((remaining & 0x7F) | 0x80));
+                remaining >>>= 7;
+            }
+            out.writeByte((int) remaining);
+        }
+
+        private static long zigZag(final long value) {
+            return (value << 1) ^ (value >> 63);
+        }
+
+        @SneakyThrows
+        private static Object get(final Field field, final Object bean) {
+            return field.get(bean);
+        }
+    }
+
+    // -- READER
+
+    private static final class Reader {
+
+        private final DataInputStream in;
+        private final ClassLoader classLoader;
+        private final List<String> tokens = new ArrayList<>();
+        private final List<Object> beans = new ArrayList<>();
+
+        Reader(final DataInputStream in, final ClassLoader classLoader) {
+            this.in = in;
+            this.classLoader = classLoader;
+        }
+
+        Object readValue() throws IOException {
+            val tag = in.readUnsignedByte();
+            switch (tag) {
+            case NULL:
+                return null;
+            case STRING:
+                return readString();
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            case BYTE:
+                return in.readByte();
+            case SHORT:
+                return in.readShort();
+            case INT:
+                return (int) unZigZag(readVarLong());
+            case LONG:
+                return unZigZag(readVarLong());
+            case FLOAT:
+                return in.readFloat();
+            case DOUBLE:
+                return in.readDouble();
+            case CHAR:
+                return in.readChar();
+            case BIG_DECIMAL:
+                return new BigDecimal(readString());
+            case BIG_INTEGER:
+                return new BigInteger(readString());
+            case CALENDAR:
+                return datatypeFactory.get().newXMLGregorianCalendar(readString());
+            case DURATION:
+                return datatypeFactory.get().newDuration(readString());
+            case BYTES: {
+                val bytes = new byte[readLength()];
+                in.readFully(bytes);
+                return bytes;
+            }
+            case ENUM: {
+                final Class<Enum> enumClass = _Casts.uncheckedCast(schemaClass(readToken()));
+                return Enum.valueOf(enumClass, readToken());
+            }
+            case LIST: {
+                val size = readLength();
+                val list = new ArrayList<Object>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue());
+                }
+                return list;
+            }
+            case BEAN:
+                return readBean();
+            case BEAN_REF:
+                return beans.get(readLength());
+            default:
+                throw _Exceptions.illegalArgument("corrupt binary DTO, unknown tag %d", tag);
+            }
+        }
+
+        private Object readBean() throws IOException {
+            val bean = newInstance(schemaClass(readToken()));
+            beans.add(bean);
+            val fields = fieldsByClass.get(bean.getClass());
+            val fieldCount = readLength();
+            for (int i = 0; i < fieldCount; i++) {
+                val field = fields.get(readToken());
+                val value = readValue();
+                if(field != null) { // otherwise no longer part of the schema
+                    set(field, bean, value);
+                }
+            }
+            return bean;
+        }
+
+        private String readToken() throws IOException {
+            val index = readLength();
+            if(index > 0) {
+                return tokens.get(index - 1);
+            }
+            val token = readString();
+            tokens.add(token);
+            return token;
+        }
+
+        private String readString() throws IOException {
+            val bytes = new byte[readLength()];
+            in.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private int readLength() throws IOException {
+            val length = readVarLong();
+            if(length < 0
+                    || length > Integer.MAX_VALUE) {
+                throw _Exceptions.illegalArgument("corrupt binary DTO, invalid length %d", length);
+            }
+            return (int) length;
+        }
+
+        private long readVarLong() throws IOException {
+            long value = 0;
+            for(int shift = 0; shift < 64; shift += 7) {
+                val b = in.readUnsignedByte();
+                value |= (long) (b & 0x7F) << shift;
+                if((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw _Exceptions.illegalArgument("corrupt binary DTO, malformed number");
+        }
+
+        private static long unZigZag(final long value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        /**
+         * Only classes of the schema packages are ever loaded, regardless of what the binary claims.
+         */
+        private Class<?> schemaClass(final String className) {
+            if(!isSchemaClass(className)) {
+                throw _Exceptions.illegalArgument("binary DTO refers to class %s, not part of the schema",
+                        className);
+            }
+            try {
+                return Class.forName(className, false, classLoader);
+            } catch (ClassNotFoundException e) {
+                throw _Exceptions.illegalArgument("binary DTO refers to unknown class %s", className);
+            }
+        }
+
+        @SneakyThrows
+        private static Object newInstance(final Class<?> beanClass) {
+            return beanClass.getDeclaredConstructor().newInstance();
+        }
+
+        @SneakyThrows
+        private static void set(final Field field, final Object bean, final Object value) {
+            field.set(bean, value);
+        }
+    }
+
+    // -- HELPER
+
+    private boolean isSchemaClass(final String className) {
+        return className.startsWith(SCHEMA_PACKAGE_PREFIX);
+    }
+
+    private DatatypeFactory newDatatypeFactory() {
+        try {
+            return DatatypeFactory.newInstance();
+        } catch (DatatypeConfigurationException e) {
+            throw _Exceptions.unrecoverable(e);
+        }
+    }
+
+}
@@ -0,0 +1,135 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.query;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.val;
+
+class CriteriaQueryTest {
+
+    @AllArgsConstructor
+    public static class Customer {
+        public static final CriteriaProperty<Customer, String> NAME = CriteriaProperty.of(Customer.class, "name", String.class);
+        public static final CriteriaProperty<Customer, Integer> AGE = CriteriaProperty.of(Customer.class, "age", Integer.class);
+        @Getter private final String name;
+        @Getter private final Integer age;
+    }
+
+    private final Customer smith = new Customer("Smith", 42);
+    private final Customer smythe = new Customer("smythe", 17);
+    private final Customer anonymous = new Customer(null, null);
+
+    @Test
+    void comparisons() {
+        assertTrue(Customer.NAME.eq("Smith").test(smith));
+        assertFalse(Customer.NAME.eq("Smith").test(smythe));
+        assertTrue(Customer.NAME.ne("Smith").test(smythe));
+        assertTrue(Customer.AGE.between(18, 42).test(smith));
+        assertFalse(Customer.AGE.between(18, 42).test(smythe));
+        assertTrue(Customer.AGE.lt(18).test(smythe));
+    }
+
+    @Test
+    void nulls_areExcluded_fromComparisons() {
+        assertFalse(Customer.AGE.ge(0).test(anonymous));
+        assertFalse(Customer.NAME.ne("Smith").test(anonymous));
+        assertTrue(Customer.NAME.eq(null).test(anonymous));
+        assertTrue(Customer.NAME.isNull().test(anonymous));
+        assertTrue(Customer.NAME.isNotNull().test(smith));
+    }
+
+    @Test
+    void in_and_like() {
+        assertTrue(Customer.AGE.in(17, 18).test(smythe));
+        assertFalse(Customer.AGE.in(List.of()).test(smythe));
+        assertTrue(Customer.NAME.like("Sm_th").test(smith));
+        assertFalse(Customer.NAME.like("Sm%").test(smythe));
+        assertTrue(Customer.NAME.likeIgnoreCase("SM%").test(smythe));
+        assertEquals("a\\.b.*", Customer.NAME.like("a.b%").toRegex());
+    }
+
+    @Test
+    void junctions() {
+        assertTrue(Criterion.anyOf(Customer.NAME.eq("Smith"), Customer.AGE.lt(18)).test(smythe));
+        assertFalse(Criterion.allOf(Customer.NAME.eq("Smith"), Customer.AGE.lt(18)).test(smythe));
+        assertTrue(Criterion.not(Customer.NAME.eq("Smith")).test(smythe));
+    }
+
+    @Test
+    void negation_followsThreeValuedLogic() {
+        val unknown = Customer.AGE.ge(0);
+        assertEquals(Criterion.Truth.UNKNOWN, unknown.evaluate(anonymous));
+        assertFalse(Criterion.not(unknown).test(anonymous));
+        assertFalse(Criterion.not(Customer.NAME.like("Sm%")).test(anonymous));
+        assertFalse(Criterion.not(Customer.AGE.in(17, 18)).test(anonymous));
+        assertTrue(Criterion.not(Customer.AGE.in(List.of())).test(anonymous));
+        assertTrue(Criterion.not(Customer.NAME.isNull()).test(smith));
+
+        // UNKNOWN AND FALSE is FALSE, UNKNOWN OR TRUE is TRUE, otherwise stays UNKNOWN
+        assertTrue(Criterion.not(Criterion.allOf(unknown, Customer.NAME.isNotNull())).test(anonymous));
+        assertTrue(Criterion.anyOf(unknown, Customer.NAME.isNull()).test(anonymous));
+        assertEquals(Criterion.Truth.UNKNOWN,
+                Criterion.anyOf(unknown, Customer.NAME.isNotNull()).evaluate(anonymous));
+        assertFalse(Criterion.not(Criterion.anyOf(unknown, Customer.NAME.isNotNull())).test(anonymous));
+    }
+
+    @Test
+    void where_combinesWithAnd() {
+        val query = Query.criteria(Customer.class)
+                .where(Customer.NAME.likeIgnoreCase("sm%"))
+                .where(Customer.AGE.ge(18))
+                .orderBy(Customer.AGE.desc());
+
+        val criterion = query.getCriterion().orElseThrow();
+        assertTrue(criterion.test(smith));
+        assertFalse(criterion.test(smythe));
+        assertEquals(
+                List.of("name", "age", "age"),
+                query.streamProperties().map(CriteriaProperty::getName).collect(Collectors.toList()));
+    }
+
+    @Test
+    void ordering_toComparator() {
+        val sorted = Stream.of(smith, anonymous, smythe)
+                .sorted(Customer.AGE.asc().toComparator())
+                .collect(Collectors.toList());
+        assertEquals(List.of(anonymous, smythe, smith), sorted);
+    }
+
+    @Test
+    void withRange_keepsCriteria() {
+        val query = Query.criteria(Customer.class)
+                .where(Customer.AGE.ge(18))
+                .withLimit(5);
+        assertTrue(query.getCriterion().isPresent());
+        assertEquals(5L, query.getRange().getLimit());
+    }
+
+}
@@ -0,0 +1,114 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.services.iactn;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.Identifier;
+import org.apache.causeway.applib.id.LogicalType;
+import org.apache.causeway.schema.ixn.v2.ActionInvocationDto;
+import org.apache.causeway.schema.ixn.v2.PropertyEditDto;
+
+import lombok.val;
+
+class Execution_snapshot_Test {
+
+    static class Customer {}
+
+    private final Interaction interaction = Mockito.mock(Interaction.class);
+    private final Customer customer = new Customer();
+
+    @Test
+    void snapshot_copiesState_andDto() {
+        val args = new ArrayList<Object>(List.of("a"));
+        val invocation = new ActionInvocation(interaction, actionId("placeOrder"), customer, args);
+        val dto = new ActionInvocationDto();
+        dto.setLogicalMemberIdentifier("customer#placeOrder");
+        invocation.setDto(dto);
+        invocation.setReturned("ok");
+
+        val snapshot = invocation.snapshot();
+        args.add("b");
+        dto.setLogicalMemberIdentifier("changed");
+
+        assertTrue(snapshot.isSnapshot());
+        assertFalse(invocation.isSnapshot());
+        assertSame(interaction, snapshot.getInteraction());
+        assertSame(customer, snapshot.getTarget());
+        assertEquals("ok", snapshot.getReturned());
+        assertEquals(List.of("a"), ((ActionInvocation) snapshot).getArgs());
+        assertNotSame(dto, snapshot.getDto());
+        assertEquals("customer#placeOrder", snapshot.getDto().getLogicalMemberIdentifier());
+        assertSame(snapshot, snapshot.snapshot());
+    }
+
+    @Test
+    void snapshot_includesSnapshotsOfChildren_butNoParent() {
+        val parent = new ActionInvocation(interaction, actionId("placeOrder"), customer, List.of());
+        val invocation = new ActionInvocation(interaction, actionId("addItem"), customer, List.of());
+        val edit = new PropertyEdit(interaction, Identifier.propertyIdentifier(logicalType(), "name"), customer, "Joe");
+        edit.setDto(new PropertyEditDto());
+        invocation.setParent(parent);
+        edit.setParent(invocation);
+
+        val snapshot = invocation.snapshot();
+
+        assertNull(snapshot.getParent());
+        assertEquals(1, snapshot.getChildren().size());
+        val childSnapshot = snapshot.getChildren().get(0);
+        assertTrue(childSnapshot.isSnapshot());
+        assertSame(snapshot, childSnapshot.getParent());
+        assertEquals("Joe", ((PropertyEdit) childSnapshot).getNewValue());
+        assertNotSame(edit.getDto(), childSnapshot.getDto());
+    }
+
+    @Test
+    void snapshot_cannotBeChanged() {
+        val snapshot = new ActionInvocation(interaction, actionId("placeOrder"), customer, List.of())
+                .snapshot();
+
+        assertThrows(IllegalStateException.class, ()->snapshot.setReturned("other"));
+        assertThrows(IllegalStateException.class, ()->snapshot.setThrew(new RuntimeException()));
+        assertThrows(IllegalStateException.class, ()->snapshot.setParent(null));
+        assertThrows(UnsupportedOperationException.class, ()->((ActionInvocation) snapshot).getArgs().add("x"));
+    }
+
+    // -- HELPER
+
+    private static LogicalType logicalType() {
+        return LogicalType.fqcn(Customer.class);
+    }
+
+    private static Identifier actionId(final String actionName) {
+        return Identifier.actionIdentifier(logicalType(), actionName);
+    }
+
+}
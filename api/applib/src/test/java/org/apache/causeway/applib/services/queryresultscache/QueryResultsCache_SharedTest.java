@@ -0,0 +1,104 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.services.queryresultscache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.commons.collections.Can;
+
+import lombok.val;
+
+class QueryResultsCache_SharedTest {
+
+    static class Country {}
+
+    static class CountryRepository {
+        @SharedQueryResults(invalidatedBy = Country.class, timeToLiveSeconds = 60)
+        String findByCode(final String code) { return code; }
+        String findByName(final String name) { return name; }
+    }
+
+    static class RecordingSharedCache implements SharedQueryResultsCache {
+        final List<QueryResultsCache.Key> keys = new ArrayList<>();
+        final List<Can<Class<?>>> invalidatedBys = new ArrayList<>();
+        final List<Optional<Duration>> timeToLives = new ArrayList<>();
+        @Override
+        public <T> T execute(
+                final Callable<T> callable,
+                final QueryResultsCache.Key cacheKey,
+                final Can<Class<?>> invalidatedBy,
+                final Optional<Duration> timeToLive) throws Exception {
+            keys.add(cacheKey);
+            invalidatedBys.add(invalidatedBy);
+            timeToLives.add(timeToLive);
+            return callable.call();
+        }
+        @Override public void invalidate(final Class<?> changedEntityType) {}
+        @Override public void invalidateAll() {}
+        @Override public Stats getStats() { return null; }
+    }
+
+    private QueryResultsCache queryResultsCache;
+    private RecordingSharedCache sharedCache;
+
+    @BeforeEach
+    void setUp() {
+        sharedCache = new RecordingSharedCache();
+        queryResultsCache = new QueryResultsCache();
+        queryResultsCache.sharedCache = sharedCache;
+    }
+
+    @Test
+    void annotatedMethod_usesSharedTier_onFirstTierMissOnly() {
+        val repo = new CountryRepository();
+        queryResultsCache.execute(repo::findByCode, CountryRepository.class, "findByCode", "NL");
+        queryResultsCache.execute(repo::findByCode, CountryRepository.class, "findByCode", "NL");
+
+        assertEquals(1, sharedCache.keys.size());
+        assertEquals(Can.<Class<?>>of(Country.class), sharedCache.invalidatedBys.get(0));
+        assertEquals(Optional.of(Duration.ofSeconds(60)), sharedCache.timeToLives.get(0));
+    }
+
+    @Test
+    void notAnnotatedMethod_usesFirstTierOnly() {
+        val repo = new CountryRepository();
+        queryResultsCache.execute(repo::findByName, CountryRepository.class, "findByName", "Netherlands");
+
+        assertTrue(sharedCache.keys.isEmpty());
+    }
+
+    @Test
+    void executeShared_optsInPerCallSite() {
+        queryResultsCache.executeShared(()->"NL", CountryRepository.class, "findByName", Can.of(Country.class), "NL");
+
+        assertEquals(1, sharedCache.keys.size());
+        assertEquals(Optional.empty(), sharedCache.timeToLives.get(0));
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.util.schema;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import org.apache.causeway.schema.cmd.v2.CommandDto;
+
+/**
+ * Compares encode/decode throughput of {@link DtoEncoding#XML} with {@link DtoEncoding#COMPACT},
+ * and reports the encoded size of either.
+ * <p>
+ * Not run as part of the build, run {@link #main(String[])} from the IDE instead.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoCodecsBenchmark {
+
+    @Param({"XML", "COMPACT"})
+    public DtoEncoding encoding;
+
+    private DtoCodec<CommandDto> codec;
+    private CommandDto dto;
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        codec = DtoCodecs.codecFor(CommandDto.class, encoding);
+        dto = DtoCodecs_Test.sampleCommandDto();
+        encoded = codec.encode(dto);
+        System.out.printf("%n%s encoded size: %d chars%n", encoding, encoded.length());
+    }
+
+    @Benchmark
+    public String encode() {
+        return codec.encode(dto);
+    }
+
+    @Benchmark
+    public CommandDto decode() {
+        return codec.decode(encoded);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(DtoCodecsBenchmark.class.getSimpleName())
+                .build())
+        .run();
+    }
+
+}
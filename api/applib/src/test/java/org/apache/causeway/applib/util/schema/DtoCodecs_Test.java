@@ -0,0 +1,239 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.util.schema;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.GregorianCalendar;
+
+import javax.xml.datatype.DatatypeFactory;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.commons.internal.base._Bytes;
+import org.apache.causeway.commons.io.JaxbUtils;
+import org.apache.causeway.schema.cmd.v2.ActionDto;
+import org.apache.causeway.schema.cmd.v2.CommandDto;
+import org.apache.causeway.schema.cmd.v2.ParamDto;
+import org.apache.causeway.schema.cmd.v2.ParamsDto;
+import org.apache.causeway.schema.common.v2.InteractionType;
+import org.apache.causeway.schema.common.v2.OidDto;
+import org.apache.causeway.schema.common.v2.OidsDto;
+import org.apache.causeway.schema.common.v2.ValueType;
+import org.apache.causeway.schema.ixn.v2.ActionInvocationDto;
+import org.apache.causeway.schema.ixn.v2.InteractionDto;
+
+import lombok.SneakyThrows;
+import lombok.val;
+
+class DtoCodecs_Test {
+
+    @Test
+    void commandDto_roundtrips_usingEitherEncoding() {
+        for (val encoding : DtoEncoding.values()) {
+            val codec = DtoCodecs.codecFor(CommandDto.class, encoding);
+            val encoded = codec.encode(sampleCommandDto());
+
+            assertThat(DtoCodecs.detectEncoding(encoded), is(encoding));
+            assertThat(codec.decode(encoded).getInteractionId(), is(sampleCommandDto().getInteractionId()));
+            assertThat(codec.decode(encoded).getTimestamp(), is(sampleCommandDto().getTimestamp()));
+            assertThat(CommandDtoUtils.dtoMapper().toString(codec.decode(encoded)),
+                    is(CommandDtoUtils.dtoMapper().toString(sampleCommandDto())));
+        }
+    }
+
+    @Test
+    void interactionDto_roundtrips_usingEitherEncoding() {
+        for (val encoding : DtoEncoding.values()) {
+            val codec = DtoCodecs.codecFor(InteractionDto.class, encoding);
+            val encoded = codec.encode(sampleInteractionDto());
+
+            assertThat(InteractionDtoUtils.dtoMapper().toString(codec.decode(encoded)),
+                    is(InteractionDtoUtils.dtoMapper().toString(sampleInteractionDto())));
+        }
+    }
+
+    @Test
+    void legacyXml_isDecoded_byCompactCodec() {
+        val legacyXml = CommandDtoUtils.dtoMapper().toString(sampleCommandDto());
+        val codec = DtoCodecs.codecFor(CommandDto.class, DtoEncoding.COMPACT);
+
+        assertThat(codec.decode(legacyXml).getUsername(), is("sven"));
+        assertThat(codec.decode("\uFEFF " + legacyXml).getUsername(), is("sven"));
+    }
+
+    @Test
+    void compactXml_ofInitialVersion_isStillDecoded_andReencoded() {
+        val unformattedXml = JaxbUtils.mapperFor(CommandDto.class, opts->opts.formattedOutput(false))
+                .toString(sampleCommandDto());
+        val compactXml = DtoCodecs.COMPACT_XML_PREFIX
+                + Base64.getEncoder().encodeToString(
+                        _Bytes.compressZlib(unformattedXml.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(DtoCodecs.detectEncoding(compactXml), is(DtoEncoding.COMPACT));
+        assertThat(CommandDtoUtils.dtoMapper().toString(DtoCodecs.decode(CommandDto.class, compactXml)),
+                is(CommandDtoUtils.dtoMapper().toString(sampleCommandDto())));
+
+        val reencoded = DtoCodecs.reencode(CommandDto.class, compactXml, DtoEncoding.COMPACT).orElseThrow();
+        assertThat(reencoded, startsWith(DtoCodecs.COMPACT_PREFIX));
+    }
+
+    @Test
+    void compact_roundtripsValuesOfAnyType() {
+        val dto = sampleCommandDto();
+        val param = ((ActionDto) dto.getMember()).getParameters().getParameter().get(0);
+        param.setType(ValueType.BIG_DECIMAL);
+        param.setString(null);
+        param.setBigDecimal(new BigDecimal("-12345678901234567890.123"));
+        val other = ((ActionDto) dto.getMember()).getParameters().getParameter().get(1);
+        other.setType(ValueType.LONG);
+        other.setString(null);
+        other.setLong(Long.MIN_VALUE);
+        val flag = ((ActionDto) dto.getMember()).getParameters().getParameter().get(2);
+        flag.setType(ValueType.BOOLEAN);
+        flag.setString(null);
+        flag.setBoolean(false);
+
+        val codec = DtoCodecs.codecFor(CommandDto.class, DtoEncoding.COMPACT);
+
+        assertThat(CommandDtoUtils.dtoMapper().toString(codec.decode(codec.encode(dto))),
+                is(CommandDtoUtils.dtoMapper().toString(dto)));
+    }
+
+    @Test
+    void compact_refusesToInstantiateClassesOutsideOfTheSchema() {
+        // version, BEAN tag, new token "java.util.HashMap"
+        val className = "java.util.HashMap".getBytes(StandardCharsets.UTF_8);
+        val binary = new byte[4 + className.length];
+        binary[0] = 1;
+        binary[1] = 18;
+        binary[2] = 0;
+        binary[3] = (byte) className.length;
+        System.arraycopy(className, 0, binary, 4, className.length);
+        val encoded = DtoCodecs.COMPACT_PREFIX
+                + Base64.getEncoder().encodeToString(_Bytes.compressZlib(binary));
+
+        assertThrows(IllegalArgumentException.class, ()->DtoCodecs.decode(CommandDto.class, encoded));
+    }
+
+    @Test
+    void compact_isSmallerThanXml() {
+        val xml = DtoCodecs.codecFor(CommandDto.class, DtoEncoding.XML).encode(sampleCommandDto());
+        val compact = DtoCodecs.codecFor(CommandDto.class, DtoEncoding.COMPACT).encode(sampleCommandDto());
+
+        assertThat(compact, startsWith(DtoCodecs.COMPACT_PREFIX));
+        assertThat(compact.length(), lessThan(xml.length()));
+    }
+
+    @Test
+    void nullAndEmpty_areDecodedAsNull() {
+        assertThat(DtoCodecs.decode(CommandDto.class, null), is(nullValue()));
+        assertThat(DtoCodecs.decode(CommandDto.class, ""), is(nullValue()));
+        assertThat(DtoCodecs.codecFor(CommandDto.class, DtoEncoding.COMPACT).encode(null), is(nullValue()));
+    }
+
+    @Test
+    void unrecognizedEncoding_isRejected() {
+        assertThrows(IllegalArgumentException.class, ()->DtoCodecs.detectEncoding("{\"json\": true}"));
+        assertThrows(IllegalArgumentException.class, ()->DtoCodecs.detectEncoding("   "));
+    }
+
+    @Test
+    void reencode_onlyWhenEncodedDifferently() {
+        val xml = DtoCodecs.codecFor(CommandDto.class, DtoEncoding.XML).encode(sampleCommandDto());
+
+        assertTrue(DtoCodecs.reencode(CommandDto.class, xml, DtoEncoding.XML).isEmpty());
+
+        val compact = DtoCodecs.reencode(CommandDto.class, xml, DtoEncoding.COMPACT).orElseThrow();
+        assertThat(DtoCodecs.detectEncoding(compact), is(DtoEncoding.COMPACT));
+        assertTrue(DtoCodecs.reencode(CommandDto.class, compact, DtoEncoding.COMPACT).isEmpty());
+    }
+
+    @Test
+    void codecs_areSharedPerDtoClassAndEncoding() {
+        for (val encoding : DtoEncoding.values()) {
+            val codec = DtoCodecs.codecFor(CommandDto.class, encoding);
+            assertThat(codec.getEncoding(), is(encoding));
+            assertThat(DtoCodecs.codecFor(CommandDto.class, encoding), sameInstance(codec));
+        }
+    }
+
+    // -- FIXTURES
+
+    @SneakyThrows
+    static CommandDto sampleCommandDto() {
+        val dto = new CommandDto();
+        dto.setMajorVersion("2");
+        dto.setMinorVersion("0");
+        dto.setInteractionId("d2b8f1a4-7c3e-4f0b-9a51-0c6b1e2f3a4d");
+        dto.setUsername("sven");
+        dto.setTimestamp(DatatypeFactory.newInstance()
+                .newXMLGregorianCalendar(new GregorianCalendar(2023, 0, 31, 12, 30, 15)));
+
+        val target = new OidDto();
+        target.setType("simple.SimpleObject");
+        target.setId("123");
+        dto.setTargets(new OidsDto());
+        dto.getTargets().getOid().add(target);
+
+        val action = new ActionDto();
+        action.setLogicalMemberIdentifier("simple.SimpleObject#updateName");
+        action.setInteractionType(InteractionType.ACTION_INVOCATION);
+        action.setParameters(new ParamsDto());
+        for (int i = 0; i < 5; i++) {
+            val param = new ParamDto();
+            param.setName("param" + i);
+            param.setType(ValueType.STRING);
+            param.setString("some value #" + i);
+            action.getParameters().getParameter().add(param);
+        }
+        dto.setMember(action);
+        return dto;
+    }
+
+    static InteractionDto sampleInteractionDto() {
+        val dto = new InteractionDto();
+        dto.setMajorVersion("2");
+        dto.setMinorVersion("0");
+        dto.setInteractionId("d2b8f1a4-7c3e-4f0b-9a51-0c6b1e2f3a4d");
+
+        val execution = new ActionInvocationDto();
+        execution.setSequence(0);
+        execution.setLogicalMemberIdentifier("simple.SimpleObject#updateName");
+        execution.setUsername("sven");
+        execution.setInteractionType(InteractionType.ACTION_INVOCATION);
+        val target = new OidDto();
+        target.setType("simple.SimpleObject");
+        target.setId("123");
+        execution.setTarget(target);
+        dto.setExecution(execution);
+        return dto;
+    }
+
+}
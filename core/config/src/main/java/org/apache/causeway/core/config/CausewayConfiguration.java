@@ -74,6 +74,7 @@
 import org.apache.causeway.applib.services.userreg.EmailNotificationService;
 import org.apache.causeway.applib.services.userreg.UserRegistrationService;
 import org.apache.causeway.applib.services.userui.UserMenu;
+import org.apache.causeway.applib.util.schema.DtoEncoding;
 import org.apache.causeway.applib.value.semantics.TemporalValueSemantics.TemporalEditingPattern;
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.commons.internal.context._Context;
@@ -1388,6 +1389,17 @@ public static class MetaModel {
              */
             private boolean filterVisibility = true;
 
+            /**
+             * Whether to skip the creation and publication of action, property and collection domain events,
+             * for which there are no subscribers.
+             *
+             * <p>
+             *     Subscribers are detected when the application context is refreshed; listeners that are
+             *     registered later on are therefore not taken into account.  Disable if that is the case.
+             * </p>
+             */
+            private boolean skipDomainEventsWithoutSubscribers = true;
+
             private final ProgrammingModel programmingModel = new ProgrammingModel();
             @Data
             public static class ProgrammingModel {
@@ -1472,6 +1484,24 @@ public IntrospectionPolicy getPolicy() {
 
             }
 
+            private final Layout layout = new Layout();
+            @Data
+            public static class Layout {
+
+                /**
+                 * Whether to eagerly load (and cache) the layouts of all entities and view models,
+                 * once the metamodel has been loaded.
+                 *
+                 * <p>
+                 *     Only applies in production mode, where layouts are not reloaded and hence
+                 *     are cached for the lifetime of the application. This moves the cost of parsing
+                 *     the <code>.layout.xml</code> files from the first request to bootstrapping.
+                 * </p>
+                 */
+                private boolean warmUp = true;
+
+            }
+
             private final Validator validator = new Validator();
             @Data
             public static class Validator {
@@ -1722,6 +1752,167 @@ public static class RepositoryService {
 
             }
 
+            private final ExecutionPublisher executionPublisher = new ExecutionPublisher();
+            @Data
+            public static class ExecutionPublisher {
+
+                private final Async async = new Async();
+                @Data
+                public static class Async {
+                    /**
+                     * Whether {@link org.apache.causeway.applib.services.publishing.spi.ExecutionSubscriber}s are
+                     * notified asynchronously, on a background thread per subscriber, rather than on the thread that
+                     * performed the action invocation or property edit.
+                     *
+                     * <p>
+                     *     Subscribers that declare themselves as
+                     *     {@link org.apache.causeway.applib.services.publishing.spi.ExecutionSubscriber#isSynchronous() synchronous}
+                     *     (for example because they need to participate in the current transaction) are always
+                     *     notified synchronously.
+                     * </p>
+                     */
+                    private boolean enabled = false;
+
+                    /**
+                     * The maximum number of executions buffered per subscriber, before the
+                     * {@link #getBackPressure() back-pressure policy} applies.
+                     */
+                    @Min(value = 1)
+                    private int queueCapacity = 1024;
+
+                    /**
+                     * The maximum number of executions handed to a subscriber in a single batch.
+                     */
+                    @Min(value = 1)
+                    private int batchSize = 32;
+
+                    /**
+                     * The maximum time an execution is held back to fill up a batch, before it is delivered anyway.
+                     */
+                    private Duration flushInterval = Duration.ofMillis(100);
+
+                    /**
+                     * How to handle executions published while a subscriber's buffer is full.
+                     */
+                    private BackPressure backPressure = BackPressure.BLOCK;
+
+                    /**
+                     * On shutdown, the maximum time to wait for buffered executions to be delivered.
+                     */
+                    private Duration shutdownTimeout = Duration.ofSeconds(5);
+
+                    public enum BackPressure {
+                        /**
+                         * The publishing thread waits until there is space in the buffer.
+                         */
+                        BLOCK,
+                        /**
+                         * The publishing thread notifies the subscriber itself, synchronously.
+                         */
+                        CALLER_RUNS,
+                        /**
+                         * The execution being published is discarded (and counted as dropped).
+                         */
+                        DROP_NEWEST,
+                        /**
+                         * The oldest buffered execution is discarded (and counted as dropped),
+                         * to make room for the one being published.
+                         */
+                        DROP_OLDEST
+                    }
+                }
+            }
+
+            private final WrapperFactory wrapperFactory = new WrapperFactory();
+            @Data
+            public static class WrapperFactory {
+
+                private final Async async = new Async();
+                @Data
+                public static class Async {
+
+                    /**
+                     * Which executor runs the actions and property edits submitted asynchronously through the
+                     * {@link org.apache.causeway.applib.services.wrapper.WrapperFactory}, unless an
+                     * {@link java.util.concurrent.ExecutorService} is specified explicitly by the
+                     * {@link org.apache.causeway.applib.services.wrapper.control.AsyncControl}.
+                     */
+                    private Executor executor = Executor.COMMON_POOL;
+
+                    /**
+                     * The maximum number of asynchronous actions executed concurrently, when using the
+                     * {@link Executor#VIRTUAL_THREADS virtual threads} executor.  Any further actions submitted are
+                     * queued until one of those in flight completes.
+                     *
+                     * <p>
+                     *     As each action runs in its own interaction and transaction, this should not exceed the
+                     *     size of the database connection pool.
+                     * </p>
+                     */
+                    @Min(value = 1)
+                    private int maxConcurrency = 64;
+
+                    /**
+                     * On shutdown, the maximum time to wait for queued and in-flight actions to complete.
+                     */
+                    private Duration shutdownTimeout = Duration.ofSeconds(5);
+
+                    public enum Executor {
+                        /**
+                         * Uses the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+                         * This is the default.
+                         */
+                        COMMON_POOL,
+                        /**
+                         * Runs each action on a virtual thread (if supported by the JVM, otherwise on a platform
+                         * daemon thread), limited to {@link Async#getMaxConcurrency() max-concurrency}.
+                         */
+                        VIRTUAL_THREADS;
+
+                        public boolean isCommonPool() { return this == COMMON_POOL; }
+                        public boolean isVirtualThreads() { return this == VIRTUAL_THREADS; }
+                    }
+                }
+            }
+
+            private final QueryResultsCache queryResultsCache = new QueryResultsCache();
+            @Data
+            public static class QueryResultsCache {
+
+                private final Shared shared = new Shared();
+                @Data
+                public static class Shared {
+                    /**
+                     * Whether the application-scoped (second) tier of the
+                     * {@link org.apache.causeway.applib.services.queryresultscache.QueryResultsCache} is used, for
+                     * those call sites that opt in (either by annotating the calling method with
+                     * {@link org.apache.causeway.applib.services.queryresultscache.SharedQueryResults}, or by calling
+                     * one of the <code>executeShared(...)</code> methods).
+                     *
+                     * <p>
+                     *     If disabled, such call sites only use the interaction-scoped (first) tier.
+                     * </p>
+                     */
+                    private boolean enabled = true;
+
+                    /**
+                     * The maximum number of cached results; once reached, the least recently used result is evicted.
+                     */
+                    @Min(value = 1)
+                    private int maxSize = 1000;
+
+                    /**
+                     * How long a cached result is served at most, unless overridden per call site.
+                     *
+                     * <p>
+                     *     Results are invalidated earlier, if an entity of any of the types the call site declares
+                     *     to depend upon, is persisted, updated or deleted (within this JVM).
+                     * </p>
+                     */
+                    private Duration timeToLive = Duration.ofMinutes(10);
+                }
+            }
+
             private final ExceptionRecognizer exceptionRecognizer = new ExceptionRecognizer();
             @Data
             public static class ExceptionRecognizer {
@@ -1787,6 +1978,13 @@ public static class Po {
                      * </p>
                      */
                     Mode mode = Mode.WRITE;
+
+                    /**
+                     * Locales (eg. <code>en-GB</code>, <code>de</code>), whose translations are to be read
+                     * eagerly on startup (when in {@link Mode#READ read} mode),
+                     * rather than by the first request of a user with that locale.
+                     */
+                    List<Locale> preloadLocales = new ArrayList<>();
                 }
             }
         }
@@ -1835,6 +2033,46 @@ public static class Schema {
             private String createSchemaSqlTemplate = "CREATE SCHEMA IF NOT EXISTS %S";
 
         }
+
+        private final EntityChangeTracker entityChangeTracker = new EntityChangeTracker();
+        @Data
+        public static class EntityChangeTracker {
+
+            private final Compact compact = new Compact();
+            @Data
+            public static class Compact {
+                /**
+                 * Whether the entity change tracker should use a compact representation of the property changes
+                 * enlisted within a transaction, intended for (batch) actions that modify a large number of entities.
+                 *
+                 * <p>
+                 *     Rather than one record (holding both the pre- and post-value) per property changed, it keeps
+                 *     a single row per entity and only the pre-values, in column arrays; post-values are computed
+                 *     when the changes are streamed to the
+                 *     {@link org.apache.causeway.applib.services.publishing.spi.EntityPropertyChangeSubscriber}s
+                 *     at the end of the transaction.
+                 * </p>
+                 */
+                private boolean enabled = false;
+
+                /**
+                 * The number of pre-values held in memory, beyond which these are spilled to a temporary file.
+                 *
+                 * <p>
+                 *     Pre-values that have been spilled are compared with the post-value by their string
+                 *     representation (rather than by {@link Object#equals(Object) equality}).
+                 * </p>
+                 */
+                @Min(value = 1)
+                private int spillThreshold = 100_000;
+
+                /**
+                 * The directory to create spill files in; if not set, the default temporary-file directory
+                 * (as per the <code>java.io.tmpdir</code> system property) is used.
+                 */
+                private Optional<String> spillDirectory = Optional.empty();
+            }
+        }
     }
 
     private final Prototyping prototyping = new Prototyping();
@@ -2000,6 +2238,47 @@ public static class Credit {
             }
         }
 
+        private final Graphql graphql = new Graphql();
+        @Data
+        public static class Graphql {
+
+            /**
+             * Whether fetches of the same property or collection for sibling objects (for example, the customer
+             * of each of a list of orders) are coalesced into a single batch, resolved within a single interaction,
+             * with the owning objects loaded in bulk per logical type.
+             *
+             * <p>
+             *     If disabled, each property or collection is resolved for one owning object at a time.
+             * </p>
+             */
+            private boolean batchAssociations = true;
+
+            /**
+             * The maximum number of owning objects resolved within a single batch.
+             */
+            @Min(value = 1)
+            private int maxBatchSize = 500;
+
+            /**
+             * If set, queries nested deeper than this are rejected before execution.
+             *
+             * <p>
+             *     Not set by default, so that no query is rejected for its depth.
+             * </p>
+             */
+            private Integer maxQueryDepth = null;
+
+            /**
+             * If set, queries whose complexity (by default, the number of fields, including nested ones)
+             * exceeds this are rejected before execution.
+             *
+             * <p>
+             *     Not set by default, so that no query is rejected for its complexity.
+             * </p>
+             */
+            private Integer maxQueryComplexity = null;
+        }
+
         private final Restfulobjects restfulobjects = new Restfulobjects();
         @Data
         public static class Restfulobjects {
@@ -2109,6 +2388,30 @@ public static class Authentication {
              */
             private boolean suppressUpdateLink = false;
 
+            /**
+             * If set, then the elements of list and collection values are rendered one at a time, while the
+             * response is being written, rather than building up the complete representation in memory first.
+             *
+             * <p>
+             *     The representations returned are unchanged. However, as the response is already committed
+             *     while elements are still being rendered, a failure to render an element can no longer be
+             *     reported by means of an error response. Also, streamed responses are not given content based
+             *     <code>ETag</code>s.
+             * </p>
+             */
+            private boolean streamCollections = false;
+
+            /**
+             * Upper bound for the <code>x-ro-page-size</code> query parameter, which (along with
+             * <code>x-ro-page</code>) requests a single page of the elements of a list or collection value.
+             *
+             * <p>
+             *     If neither parameter is provided, all elements are returned.
+             * </p>
+             */
+            @Min(1)
+            private int maxPageSize = 1000;
+
             /**
              * If left unset (the default), then the RO viewer will use the {@link javax.ws.rs.core.UriInfo}
              * (injected using {@link javax.ws.rs.core.Context}) to figure out the base Uri (used to render
@@ -2124,6 +2427,41 @@ public static class Authentication {
              */
             @javax.validation.constraints.Pattern(regexp="^http[s]?://[^:]+?(:\\d+)?/([^/]+/)*+$")
             private Optional<String> baseUri = Optional.empty();
+
+            private final ETag etag = new ETag();
+            @Data
+            public static class ETag {
+
+                /**
+                 * Whether <code>GET</code> responses for domain objects, domain types and menu bars carry an
+                 * <code>ETag</code> header, and requests with a matching <code>If-None-Match</code> header are
+                 * answered with <i>Not Modified</i> (304).
+                 *
+                 * <p>
+                 *     Domain type and menu bar representations only change on redeployment, hence are given
+                 *     strong tags, that are evaluated before any rendering takes place.
+                 *     (Except when prototyping, as layouts may then be reloaded at runtime.)
+                 *     A deployment is identified by <code>causeway.viewer.common.application.version</code> and a
+                 *     hash of the metamodel, so tags are shared by all nodes and survive restarts. Bump the version
+                 *     when deploying changes to layout files only.
+                 * </p>
+                 */
+                private boolean enabled = true;
+
+                /**
+                 * If set, domain object tags are derived from the entity's version (as managed by the
+                 * persistence layer, eg. using <code>@Version</code>), so that a 304 can be answered before
+                 * the object is rendered.
+                 *
+                 * <p>
+                 *     Disabled by default, because representations may include derived properties or
+                 *     collections, that change without the version being incremented. If disabled (or if
+                 *     the entity is not versioned), tags are a hash of the rendered representation, which
+                 *     saves bandwidth, but not the rendering.
+                 * </p>
+                 */
+                private boolean useEntityVersion = false;
+            }
         }
 
         private final Wicket wicket = new Wicket();
@@ -2942,6 +3280,83 @@ public enum PersistPolicy {
              */
             private PersistPolicy persist = PersistPolicy.ENABLED;
 
+            /**
+             * How the <code>CommandDto</code> of each command log entry is encoded when persisted.
+             *
+             * <p>
+             *     Entries persisted using either encoding remain readable regardless, in particular those that
+             *     were persisted as {@link DtoEncoding#XML XML} (the default) before this setting was introduced.
+             *     Use <code>DtoEncodingMigrator</code> to re-encode existing entries.
+             * </p>
+             */
+            private DtoEncoding dtoEncoding = DtoEncoding.XML;
+
+            private final RunBackgroundCommands runBackgroundCommands = new RunBackgroundCommands();
+            @Data
+            public static class RunBackgroundCommands {
+
+                /**
+                 * The number of worker threads, that the <code>RunBackgroundCommandsJob</code> uses to execute
+                 * background commands.
+                 *
+                 * <p>
+                 *     With the default of <code>1</code>, all background commands not yet started are executed
+                 *     one after the other.  Otherwise commands are claimed in {@link #getBatchSize() batches}
+                 *     (marking them as started), such that multiple nodes may run the job concurrently.
+                 *     Commands of the same target are executed serially, in the order they were submitted.
+                 * </p>
+                 */
+                @Min(value = 1)
+                private int parallelism = 1;
+
+                /**
+                 * The maximum number of background commands claimed at once, when run in parallel.
+                 *
+                 * @see #getParallelism()
+                 */
+                @Min(value = 1)
+                private int batchSize = 50;
+
+                /**
+                 * Whether background commands are claimed in {@link #getBatchSize() batches} even if not run in
+                 * parallel, such that the <code>RunBackgroundCommandsJob</code> may run on multiple nodes.
+                 *
+                 * <p>
+                 *     Always the case if the {@link #getParallelism() parallelism} is greater than <code>1</code>.
+                 * </p>
+                 */
+                private boolean claim = false;
+
+                /**
+                 * How long the claim of a background command lasts, unless renewed.  Commands claimed (or started)
+                 * longer ago, yet still not completed, are considered abandoned (for example because the node that
+                 * claimed them has crashed) and are claimed again.
+                 *
+                 * <p>
+                 *     The <code>RunBackgroundCommandsJob</code> renews the claims of its commands when about to
+                 *     execute each, and every third of this duration while these are queued or executing.
+                 * </p>
+                 *
+                 * <p>
+                 *     A zero duration means that commands are never claimed again.
+                 * </p>
+                 */
+                private Duration claimLease = Duration.ofMinutes(30);
+
+                /**
+                 * How many times a background command is claimed at most.  Commands abandoned (see
+                 * {@link #getClaimLease()}) after having been claimed this many times are not claimed again, but
+                 * marked as completed with an exception instead, such that a command that keeps crashing the node
+                 * running it is not retried forever.
+                 */
+                @Min(value = 1)
+                private int maxClaims = 3;
+
+                public boolean isClaiming() {
+                    return parallelism > 1 || claim;
+                }
+            }
+
         }
 
         private final CommandReplay commandReplay = new CommandReplay();
@@ -3117,6 +3532,30 @@ public static class Cors {
 
         }
 
+        private final Excel excel = new Excel();
+        @Data
+        public static class Excel {
+
+            /**
+             * Number of rows kept in memory, when streaming a spreadsheet; rows beyond this window
+             * are flushed to a temporary file.
+             *
+             * <p>
+             *     Applies to the streaming export of the Excel extension, and to the Excel download
+             *     of the Wicket viewer.
+             * </p>
+             */
+            @Min(1)
+            private int rowWindowSize = 100;
+
+            /**
+             * Number of domain objects fetched at a time, when streaming a spreadsheet of the
+             * objects matching a query (or of the rows of a table).
+             */
+            @Min(1)
+            private int pageSize = 500;
+        }
+
         private final ExecutionLog executionLog = new ExecutionLog();
         @Data
         public static class ExecutionLog {
@@ -3156,6 +3595,12 @@ public enum PersistPolicy {
              * </p>
              */
             private PersistPolicy persist = PersistPolicy.ENABLED;
+
+            /**
+             * How the <code>InteractionDto</code> of each execution log entry is encoded when persisted,
+             * as per {@link CommandLog#getDtoEncoding()}.
+             */
+            private DtoEncoding dtoEncoding = DtoEncoding.XML;
         }
 
         private final ExecutionOutbox executionOutbox = new ExecutionOutbox();
@@ -3211,6 +3656,12 @@ public enum PersistPolicy {
              */
             private ExecutionOutbox.PersistPolicy persist = ExecutionOutbox.PersistPolicy.ENABLED;
 
+            /**
+             * How the <code>InteractionDto</code> of each execution outbox entry is encoded when persisted,
+             * as per {@link CommandLog#getDtoEncoding()}.
+             */
+            private DtoEncoding dtoEncoding = DtoEncoding.XML;
+
         }
 
         private final Secman secman = new Secman();
@@ -3412,6 +3863,39 @@ public enum PermissionsEvaluationPolicy {
              */
             private PermissionsEvaluationPolicy permissionsEvaluationPolicy = PermissionsEvaluationPolicy.ALLOW_BEATS_VETO;
 
+            private final PermissionCache permissionCache = new PermissionCache();
+            @Data
+            public static class PermissionCache {
+
+                /**
+                 * Whether the permissions of a user, once looked up, should be shared across interactions
+                 * (the default), rather than being looked up anew for every interaction.
+                 *
+                 * <p>
+                 *     Cached permissions are evicted whenever any <code>ApplicationUser</code>,
+                 *     <code>ApplicationRole</code> or <code>ApplicationPermission</code> affecting them is
+                 *     persisted, updated or removed.
+                 * </p>
+                 */
+                private boolean enabled = true;
+
+                /**
+                 * The maximum number of users for which permissions are cached,
+                 * the least recently used ones are evicted first.
+                 */
+                private int maxSize = 1000;
+
+                /**
+                 * How long cached permissions are retained at most, after having been looked up.
+                 *
+                 * <p>
+                 *     Only relevant if permissions are changed other than through the framework
+                 *     (for instance directly within the database).
+                 * </p>
+                 */
+                private Duration timeToLive = Duration.ofMinutes(5);
+            }
+
             private final UserRegistration userRegistration = new UserRegistration();
             @Data
             public static class UserRegistration {
@@ -3453,6 +3937,68 @@ public static class SessionLog {
             boolean autoLogoutOnRestart = true;
         }
 
+        private final Sse sse = new Sse();
+        @Data
+        public static class Sse {
+
+            private final Executor executor = new Executor();
+            @Data
+            public static class Executor {
+
+                /**
+                 * Maximum number of threads, that run {@code SseSource} tasks concurrently.
+                 * Tasks submitted while all threads are busy are queued.
+                 *
+                 * <p>
+                 *     Not applicable if {@link #isVirtualThreads() virtual threads} are used.
+                 * </p>
+                 */
+                @Min(1)
+                private int maxThreads = 8;
+
+                /**
+                 * Whether to run each {@code SseSource} task on its own virtual thread (rather than
+                 * on a bounded pool of platform threads), if supported by the JVM (Java 21+).
+                 * Otherwise is ignored.
+                 */
+                private boolean virtualThreads = false;
+            }
+
+            private final Subscriber subscriber = new Subscriber();
+            @Data
+            public static class Subscriber {
+
+                /**
+                 * Maximum number of events buffered per subscriber (browser connection), that have not yet
+                 * been written to the client. Once exceeded, the {@link #getOverflowPolicy() overflow policy} applies.
+                 */
+                @Min(1)
+                private int bufferSize = 32;
+
+                public enum OverflowPolicy {
+                    /**
+                     * Discards the oldest buffered event, to make room for the new one.
+                     */
+                    DROP_OLDEST,
+                    /**
+                     * Discards the new event.
+                     */
+                    DROP_NEWEST,
+                    /**
+                     * Discards all buffered events in favor of the new one. Appropriate if each event
+                     * renders the source's full state (as is the case for progress views).
+                     */
+                    COALESCE
+                }
+
+                /**
+                 * What to do with events, once a slow subscriber's {@link #getBufferSize() buffer} is full.
+                 */
+                private OverflowPolicy overflowPolicy = OverflowPolicy.COALESCE;
+            }
+
+        }
+
     }
 
     private static List<String> listOf(final String ...values) {
@@ -51,6 +51,7 @@
 import org.apache.causeway.applib.annotation.MemberSupport;
 import org.apache.causeway.applib.annotation.ObjectLifecycle;
 import org.apache.causeway.applib.annotation.ObjectSupport;
+import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.services.i18n.TranslatableString;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.collections.ImmutableCollection;
@@ -320,7 +321,8 @@ public static enum ReturnTypePattern {
         SCALAR(Can::ofSingleton),
         NON_SCALAR(ReturnTypeCategory::nonScalar),
         TEXT(__->ReturnTypeCategory.TRANSLATABLE.getReturnTypes()),
-        BOOLEAN(__->ReturnTypeCategory.BOOLEAN.getReturnTypes());
+        BOOLEAN(__->ReturnTypeCategory.BOOLEAN.getReturnTypes()),
+        QUERY(__->Can.of(Query.class));
         final Function<Class<?>, Can<Class<?>>> matchingTypesForElementType;
         public Can<Class<?>> matchingTypes(final @NonNull Class<?> elementType) {
             return matchingTypesForElementType.apply(elementType);
@@ -366,7 +368,8 @@ public static enum MemberSupportPrefix {
         DISABLE(ReturnTypePattern.TEXT, "disable"),
         VALIDATE(ReturnTypePattern.TEXT, "validate"),
         NAMED(ReturnTypePattern.TEXT, "named"), // imperative naming
-        DESCRIBED(ReturnTypePattern.TEXT, "described"); // imperative naming
+        DESCRIBED(ReturnTypePattern.TEXT, "described"), // imperative naming
+        QUERY(ReturnTypePattern.QUERY, "query"); // query backed collections and action results
         MemberSupportPrefix(
                 final ReturnTypePattern parameterSearchReturnType,
                 final String ...methodNamePrefixes) {
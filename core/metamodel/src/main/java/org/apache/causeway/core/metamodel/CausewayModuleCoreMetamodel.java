@@ -56,6 +56,7 @@
 import org.apache.causeway.core.metamodel.services.classsubstitutor.ClassSubstitutorRegistry;
 import org.apache.causeway.core.metamodel.services.events.MetamodelEventService;
 import org.apache.causeway.core.metamodel.services.exceprecog.ExceptionRecognizerForRecoverableException;
+import org.apache.causeway.core.metamodel.services.grid.GridCacheWarmer;
 import org.apache.causeway.core.metamodel.services.grid.GridLoaderServiceDefault;
 import org.apache.causeway.core.metamodel.services.grid.GridServiceDefault;
 import org.apache.causeway.core.metamodel.services.grid.bootstrap.GridMarshallerServiceBootstrap;
@@ -181,6 +182,7 @@
         ServiceInjectorDefault.class,
         MetamodelEventService.class,
         ExceptionRecognizerForRecoverableException.class,
+        GridCacheWarmer.class,
         GridLoaderServiceDefault.class,
         GridMarshallerServiceBootstrap.class,
         GridServiceDefault.class,
@@ -107,6 +107,10 @@ public Object invoke(
                 .build());
     }
 
+    /**
+     * Invokes via {@link Method#invoke(Object, Object...)};
+     * facets that invoke their method repeatedly should rather hold on to a {@link MethodHandleInvoker}.
+     */
     public Object invoke(
             final Method method,
             final Object targetPojo,
@@ -137,7 +141,7 @@ public Object invoke(final MethodInvocationRequest invocationRequest) {
 
     // -- HELPER
 
-    private Throwable toVerboseException(
+    Throwable toVerboseException(
             final Executable executable,
             final Object[] adaptedExecutionParameters,
             final Throwable e) {
@@ -191,6 +195,21 @@ private Throwable toVerboseException(
         return ThrowableExtensions.handleInvocationException(e, executable.getName());
     }
 
+    boolean isCompatible(
+            final Executable executable,
+            final Object[] adaptedExecutionParameters) {
+        final Class<?>[] parameterTypes = executable.getParameterTypes();
+        if(parameterTypes.length!=_NullSafe.size(adaptedExecutionParameters)) {
+            return false;
+        }
+        for(int j=0;j<parameterTypes.length;++j) {
+            if(!isValueCompatibleWithType(_Arrays.get(adaptedExecutionParameters, j), parameterTypes[j])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private boolean isValueCompatibleWithType(
             final @NonNull Optional<Object> value,
             final @NonNull Class<?> type) {
@@ -0,0 +1,241 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.commons;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.internal._Constants;
+import org.apache.causeway.core.config.progmodel.ProgrammingModelConstants;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Invokes a {@link Method} via a {@link MethodHandle}, that is resolved once on construction.
+ * <p>
+ * Semantically equivalent to {@link CanonicalInvoker#invoke(Method, Object, Object[])}
+ * using the {@link ParameterAdapter#DEFAULT default} parameter adapter,
+ * but avoids per call allocations for zero- and one-argument methods
+ * and only adapts arguments for those parameter types that actually require it
+ * (primitives and collection types).
+ * <p>
+ * If no {@link MethodHandle} can be resolved for a method
+ * (eg. because of module access restrictions),
+ * falls back to reflective invocation via {@link CanonicalInvoker}.
+ *
+ * @since 2.0
+ */
+@Log4j2
+public final class MethodHandleInvoker {
+
+    private static final MethodType GENERIC_0 = MethodType.genericMethodType(1);
+    private static final MethodType GENERIC_1 = MethodType.genericMethodType(2);
+    private static final MethodType SPREAD = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    /**
+     * Resolves a new {@link MethodHandleInvoker} for given {@link Method}.
+     * <p>
+     * Resolving is not cheap, so facets should rather use
+     * {@link org.apache.causeway.core.metamodel.specloader.SpecificationLoader#methodHandleInvoker(Method)}
+     * during metamodel introspection and hold on to the result.
+     */
+    public static MethodHandleInvoker of(final @NonNull Method method) {
+        return new MethodHandleInvoker(method);
+    }
+
+    @Getter private final @NonNull Method method;
+    private final int paramCount;
+    private final Class<?>[] parameterTypes;
+    private final boolean[] adaptationRequired;
+    private final boolean anyAdaptationRequired;
+
+    /** {@code (Object)Object}, only if paramCount==0 */
+    private final @Nullable MethodHandle handle0;
+    /** {@code (Object,Object)Object}, only if paramCount==1 */
+    private final @Nullable MethodHandle handle1;
+    /** {@code (Object,Object[])Object}, always if resolved */
+    private final @Nullable MethodHandle spreadHandle;
+
+    private MethodHandleInvoker(final Method method) {
+        this.method = method;
+        this.paramCount = method.getParameterCount();
+        this.parameterTypes = method.getParameterTypes();
+        this.adaptationRequired = new boolean[paramCount];
+        boolean any = false;
+        for(int i=0; i<paramCount; ++i) {
+            adaptationRequired[i] = requiresAdaptation(parameterTypes[i]);
+            any |= adaptationRequired[i];
+        }
+        this.anyAdaptationRequired = any;
+
+        val handle = resolveHandle(method);
+        this.handle0 = handle!=null && paramCount==0
+                ? handle.asType(GENERIC_0)
+                : null;
+        this.handle1 = handle!=null && paramCount==1
+                ? handle.asType(GENERIC_1)
+                : null;
+        this.spreadHandle = handle!=null
+                ? handle.asSpreader(Object[].class, paramCount).asType(SPREAD)
+                : null;
+    }
+
+    /**
+     * Whether a {@link MethodHandle} could be resolved,
+     * otherwise invocation falls back to reflection.
+     */
+    public boolean isMethodHandleResolved() {
+        return spreadHandle!=null;
+    }
+
+    // -- INVOKE
+
+    /**
+     * Invokes the method with no arguments;
+     * if the method declares parameters, these are filled with their defaults.
+     */
+    public Object invoke(final @NonNull Object targetPojo) {
+        if(handle0!=null) {
+            try {
+                return handle0.invokeExact(targetPojo);
+            } catch (Throwable e) {
+                throw verbose(targetPojo, _Constants.emptyObjects, e);
+            }
+        }
+        return invoke(targetPojo, _Constants.emptyObjects);
+    }
+
+    /**
+     * Invokes the method with a single argument.
+     */
+    public Object invoke(final @NonNull Object targetPojo, final @Nullable Object arg0) {
+        if(handle1!=null) {
+            val adaptedArg0 = adaptationRequired[0]
+                    ? ParameterAdapter.DEFAULT.adaptToType(parameterTypes[0], arg0)
+                    : arg0;
+            try {
+                return handle1.invokeExact(targetPojo, adaptedArg0);
+            } catch (Throwable e) {
+                throw verbose(targetPojo, new Object[] {adaptedArg0}, e);
+            }
+        }
+        return invoke(targetPojo, new Object[] {arg0});
+    }
+
+    /**
+     * Invokes the method with given arguments, adapting those as required.
+     */
+    public Object invoke(final @NonNull Object targetPojo, final @Nullable Object[] executionParameters) {
+        if(spreadHandle==null) {
+            return CanonicalInvoker.invoke(method, targetPojo, executionParameters);
+        }
+        val adaptedExecutionParameters = adapt(executionParameters);
+        try {
+            return spreadHandle.invokeExact(targetPojo, adaptedExecutionParameters);
+        } catch (Throwable e) {
+            throw verbose(targetPojo, adaptedExecutionParameters, e);
+        }
+    }
+
+    // -- HELPER
+
+    private Object[] adapt(final @Nullable Object[] executionParameters) {
+        if(paramCount==0) {
+            return _Constants.emptyObjects;
+        }
+        if(!anyAdaptationRequired
+                && executionParameters!=null
+                && executionParameters.length==paramCount) {
+            return executionParameters;
+        }
+        return ParameterAdapter.DEFAULT.adaptAll(method, executionParameters);
+    }
+
+    /**
+     * Unlike {@link Method#invoke(Object, Object...)}, method handles do not wrap exceptions
+     * thrown by the invoked method, nor do they report incompatible arguments as
+     * {@link IllegalArgumentException}; we restore the reflective semantics here,
+     * so that {@link CanonicalInvoker} can produce the same verbose exceptions.
+     */
+    @SneakyThrows
+    private RuntimeException verbose(
+            final Object targetPojo,
+            final Object[] adaptedExecutionParameters,
+            final Throwable e) {
+        val isArgumentMismatch = e instanceof ClassCastException
+                && (!(Modifier.isStatic(method.getModifiers())
+                        || method.getDeclaringClass().isInstance(targetPojo))
+                    || !CanonicalInvoker.isCompatible(method, adaptedExecutionParameters));
+        val reflectiveEquivalent = isArgumentMismatch
+                ? new IllegalArgumentException("argument type mismatch", e)
+                : new InvocationTargetException(e);
+        throw CanonicalInvoker.toVerboseException(method, adaptedExecutionParameters, reflectiveEquivalent);
+    }
+
+    private static boolean requiresAdaptation(final Class<?> parameterType) {
+        return parameterType.isPrimitive()
+                || ProgrammingModelConstants.CollectionSemantics.valueOf(parameterType).isPresent();
+    }
+
+    private static @Nullable MethodHandle resolveHandle(final Method method) {
+        try {
+            MethodHandle handle = unreflect(method).asFixedArity();
+            if(Modifier.isStatic(method.getModifiers())) {
+                // reflective invocation ignores the target for static methods
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return handle;
+        } catch (Exception | LinkageError e) {
+            log.debug("falling back to reflective invocation of {}", method, e);
+            return null;
+        }
+    }
+
+    private static MethodHandle unreflect(final Method method) throws ReflectiveOperationException {
+        val lookup = MethodHandles.lookup();
+        if(isPublicApi(method)) {
+            try {
+                return lookup.unreflect(method);
+            } catch (IllegalAccessException e) {
+                // fall through
+            }
+        }
+        // work on a copy, so we don't alter accessibility of the shared Method instance
+        val copy = method.getDeclaringClass()
+                .getDeclaredMethod(method.getName(), method.getParameterTypes());
+        copy.setAccessible(true);
+        return lookup.unreflect(copy);
+    }
+
+    private static boolean isPublicApi(final Method method) {
+        return Modifier.isPublic(method.getModifiers())
+                && Modifier.isPublic(method.getDeclaringClass().getModifiers());
+    }
+
+}
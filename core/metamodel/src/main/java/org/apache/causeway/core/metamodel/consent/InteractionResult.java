@@ -23,6 +23,7 @@
 import java.util.List;
 
 import org.apache.causeway.applib.services.wrapper.events.InteractionEvent;
+import org.apache.causeway.core.metamodel.interactions.InteractionEventSupplier;
 
 public class InteractionResult {
 
@@ -40,13 +41,29 @@ enum State {
         ADVISING, ADVISED
     }
 
-    private final InteractionEvent interactionEvent;
-    private final StringBuilder reasonBuf = new StringBuilder();
-    private final List<InteractionAdvisor> advisors = new ArrayList<InteractionAdvisor>();
+    private final InteractionEventSupplier<?> interactionEventSupplier;
+    private InteractionEvent interactionEvent;
+    // allocated only once vetoed, as most interactions are not
+    private StringBuilder reasonBuf;
+    private List<InteractionAdvisor> advisors;
 
     private State state = State.ADVISING;
 
     public InteractionResult(final InteractionEvent interactionEvent) {
+        this(()->interactionEvent, interactionEvent);
+    }
+
+    /**
+     * Defers creation of the {@link InteractionEvent} until {@link #getInteractionEvent()} is called.
+     */
+    public static InteractionResult deferred(final InteractionEventSupplier<?> interactionEventSupplier) {
+        return new InteractionResult(interactionEventSupplier, null);
+    }
+
+    private InteractionResult(
+            final InteractionEventSupplier<?> interactionEventSupplier,
+            final InteractionEvent interactionEvent) {
+        this.interactionEventSupplier = interactionEventSupplier;
         this.interactionEvent = interactionEvent;
     }
 
@@ -62,6 +79,9 @@ public InteractionResult(final InteractionEvent interactionEvent) {
      */
     public InteractionEvent getInteractionEvent() {
         if (state == State.ADVISING) {
+            if(interactionEvent == null) {
+                interactionEvent = interactionEventSupplier.createInteractionEvent();
+            }
             interactionEvent.advised(getReason(), getAdvisorClass());
             state = State.ADVISED;
         }
@@ -80,7 +100,10 @@ public void advise(final String reason, final InteractionAdvisor facet) {
         if (reason == null) {
             return;
         }
-        if (isVetoing()) {
+        if (reasonBuf == null) {
+            reasonBuf = new StringBuilder();
+            advisors = new ArrayList<InteractionAdvisor>();
+        } else if (isVetoing()) {
             reasonBuf.append("; ");
         }
         advisors.add(facet);
@@ -92,7 +115,8 @@ public boolean isVetoing() {
     }
 
     public boolean isNotVetoing() {
-        return reasonBuf.length() == 0;
+        return reasonBuf == null
+                || reasonBuf.length() == 0;
     }
 
     /**
@@ -103,7 +127,7 @@ public boolean isNotVetoing() {
      * @see #getAdvisorFacets()
      */
     public InteractionAdvisor getAdvisor() {
-        return advisors.size() >= 1 ? advisors.get(0) : null;
+        return advisors != null ? advisors.get(0) : null;
     }
 
     /**
@@ -114,7 +138,9 @@ public InteractionAdvisor getAdvisor() {
      * @see #getAdvisor()
      */
     public List<InteractionAdvisor> getAdvisorFacets() {
-        return Collections.unmodifiableList(advisors);
+        return advisors != null
+                ? Collections.unmodifiableList(advisors)
+                : Collections.emptyList();
     }
 
     public Consent createConsent() {
@@ -139,11 +165,11 @@ public String getReason() {
     @Override
     public String toString() {
         return String.format("%s: %s: %s (%d facets advised)",
-                interactionEvent, state, toStringInterpret(reasonBuf), advisors.size());
+                interactionEvent, state, toStringInterpret(), getAdvisorFacets().size());
     }
 
-    private String toStringInterpret(final StringBuilder reasonBuf) {
-        if (getReason().length() == 0) {
+    private String toStringInterpret() {
+        if (isNotVetoing()) {
             return "allowed";
         } else {
             return "vetoed";
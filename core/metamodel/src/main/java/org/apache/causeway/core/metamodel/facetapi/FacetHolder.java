@@ -18,8 +18,10 @@
  */
 package org.apache.causeway.core.metamodel.facetapi;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.causeway.applib.Identifier;
@@ -134,6 +136,17 @@ default <F extends Facet> Stream<F> streamFacets(final Class<F> requiredType) {
                 .map(requiredType::cast);
     }
 
+    /**
+     * As {@link #streamFacets(Class)}, but returns an immutable {@link List},
+     * that implementations may cache until the next {@link #addFacet(Facet)}.
+     * <p>
+     * Intended for hot paths, that would otherwise filter all facets by type on each call.
+     */
+    default <F extends Facet> List<F> listFacets(final Class<F> requiredType) {
+        return streamFacets(requiredType)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
     /**
      * Adds the facet, extracting its {@link Facet#facetType() type} as the key.
      *
@@ -18,8 +18,10 @@
  */
 package org.apache.causeway.core.metamodel.facetapi;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.causeway.applib.Identifier;
@@ -69,6 +71,7 @@ public final void addFacet(final @NonNull Facet facet) {
             val needsInvalidate = ranking.add(facet);
             if(needsInvalidate) {
                 snapshot.clear(); //invalidate
+                facetsByRequiredType.clear();
             }
         }
     }
@@ -90,6 +93,16 @@ public final Stream<Facet> streamFacets() {
         }
     }
 
+    @Override
+    public final <F extends Facet> List<F> listFacets(final Class<F> requiredType) {
+        synchronized($lock) {
+            return uncheckedCast(facetsByRequiredType.computeIfAbsent(requiredType, type->
+                snapshot.get().values().stream()
+                .filter(type::isInstance)
+                .collect(Collectors.toUnmodifiableList())));
+        }
+    }
+
     @Override
     public final int getFacetCount() {
         synchronized($lock) {
@@ -112,6 +125,7 @@ public final Optional<FacetRanking> getFacetRanking(final Class<? extends Facet>
     // -- HELPER
 
     private final _Lazy<Map<Class<? extends Facet>, Facet>> snapshot = _Lazy.threadSafe(this::snapshot);
+    private final Map<Class<?>, List<?>> facetsByRequiredType = _Maps.newHashMap();
 
     // collect all facet information provided with the top-level facets (contributed facets and aliases)
     private Map<Class<? extends Facet>, Facet> snapshot() {
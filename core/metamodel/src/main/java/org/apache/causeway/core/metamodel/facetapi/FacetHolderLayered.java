@@ -19,6 +19,7 @@
 package org.apache.causeway.core.metamodel.facetapi;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -139,6 +140,15 @@ public Stream<Facet> streamFacets() {
                 .filter(_NullSafe::isPresent);
     }
 
+    @Override
+    public <F extends Facet> List<F> listFacets(final Class<F> requiredType) {
+        // optimization, not strictly required
+        if(local.getFacetCount()==0) {
+            return shared.listFacets(requiredType);
+        }
+        return FacetHolder.super.listFacets(requiredType);
+    }
+
     @Override
     public Stream<FacetRanking> streamFacetRankings() {
         // optimization, not strictly required
@@ -18,6 +18,7 @@
  */
 package org.apache.causeway.core.metamodel.facetapi;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -62,6 +63,11 @@ default Stream<Facet> streamFacets() {
         return getFacetHolder().streamFacets();
     }
 
+    @Override
+    default <F extends Facet> List<F> listFacets(final Class<F> requiredType) {
+        return getFacetHolder().listFacets(requiredType);
+    }
+
     @Override
     default void addFacet(final Facet facet) {
         getFacetHolder().addFacet(facet);
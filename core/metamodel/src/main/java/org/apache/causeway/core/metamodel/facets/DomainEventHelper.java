@@ -112,6 +112,10 @@ private <S> ActionDomainEvent<S> postEventForAction(
 
         _Assert.assertTypeIsInstanceOf(eventType, ActionDomainEvent.class);
 
+        if(isSkippable(phase, eventType)) {
+            return null;
+        }
+
         try {
             final ActionDomainEvent<S> event;
 
@@ -236,6 +240,10 @@ public <S, T> PropertyDomainEvent<S, T> postEventForProperty(
 
         _Assert.assertTypeIsInstanceOf(eventType, PropertyDomainEvent.class);
 
+        if(isSkippable(phase, eventType)) {
+            return null;
+        }
+
         try {
             final PropertyDomainEvent<S, T> event;
 
@@ -335,6 +343,10 @@ public <S, T> CollectionDomainEvent<S, T> postEventForCollection(
 
         _Assert.assertTypeIsInstanceOf(eventType, CollectionDomainEvent.class);
 
+        if(isSkippable(phase, eventType)) {
+            return null;
+        }
+
         try {
             final CollectionDomainEvent<S, T> event;
 
@@ -404,6 +416,23 @@ <S, T> CollectionDomainEvent<S, T> newCollectionDomainEvent(
         throw new NoSuchMethodException(type.getName()+".<init>(...)");
     }
 
+    /**
+     * Events of the veto phases (hide, disable, validate) need not be created at all,
+     * if no-one subscribes to them; callers treat a {@code null} event as not vetoed.
+     * <p>
+     * Events of the executing and executed phases are always created, as these are also
+     * held by the current execution; {@link MetamodelEventService} skips their publication.
+     */
+    private boolean isSkippable(final AbstractDomainEvent.Phase phase, final Class<?> eventType) {
+        if(phase==null
+                || phase.isExecutingOrLater()
+                || metamodelEventService.hasSubscribers(eventType)) {
+            return false;
+        }
+        metamodelEventService.recordSkipped(phase);
+        return true;
+    }
+
     private static <T> T invokeConstructor(
             final @NonNull Constructor<T> constructor,
             final Object... args){
@@ -73,7 +73,11 @@ public static enum Intent {
         DEFAULTS,
         INITIALIZATION,
         LIFECYCLE,
-        UI_HINT
+        UI_HINT,
+        /**
+         * Provides the query, whose matching entities are the elements of a collection or an action's result.
+         */
+        QUERY
     }
 
     /**
@@ -33,7 +33,7 @@
 import org.apache.causeway.commons.internal.assertions._Assert;
 import org.apache.causeway.commons.internal.collections._Arrays;
 import org.apache.causeway.commons.internal.reflection._MethodFacades.MethodFacade;
-import org.apache.causeway.core.metamodel.commons.CanonicalInvoker;
+import org.apache.causeway.core.metamodel.commons.MethodHandleInvoker;
 import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.causeway.core.metamodel.execution.InteractionInternal;
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
@@ -60,6 +60,7 @@
 
     @Getter private final Class<? extends ActionDomainEvent<?>> eventType;
     @Getter(onMethod_ = {@Override}) private final @NonNull Can<MethodFacade> methods;
+    private final @NonNull MethodHandleInvoker invoker;
     @Getter(onMethod = @__(@Override)) private final ObjectSpecification declaringType;
     @Getter(onMethod = @__(@Override)) private final ObjectSpecification returnType;
     private final ServiceRegistry serviceRegistry;
@@ -75,6 +76,7 @@ public ActionInvocationFacetForDomainEventAbstract(
         super(holder);
         this.eventType = eventType;
         this.methods = ImperativeFacet.singleMethod(method);
+        this.invoker = holder.getSpecificationLoader().methodHandleInvoker(method.asMethodForIntrospection());
         this.declaringType = declaringType;
         this.returnType = returnType;
         this.serviceRegistry = getServiceRegistry();
@@ -156,11 +158,11 @@ private Object invokeMethodElseFromCache(
             final QueryResultsCache queryResultsCache = queryResultsCache();
             final Object[] targetPojoPlusExecutionParameters = _Arrays.combine(executionParameters, targetPojo);
             return queryResultsCache.execute(
-                    ()->CanonicalInvoker.invoke(method, targetPojo, executionParameters),
+                    ()->invoker.invoke(targetPojo, method.getArguments(executionParameters)),
                     targetPojo.getClass(), method.getName(), targetPojoPlusExecutionParameters);
 
         } else {
-            return CanonicalInvoker.invoke(method, targetPojo, executionParameters);
+            return invoker.invoke(targetPojo, method.getArguments(executionParameters));
         }
     }
 
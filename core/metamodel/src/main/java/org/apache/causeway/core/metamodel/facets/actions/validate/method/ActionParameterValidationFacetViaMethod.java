@@ -26,21 +26,22 @@
 import org.apache.causeway.applib.services.i18n.TranslationService;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.reflection._MethodFacades.MethodFacade;
+import org.apache.causeway.core.metamodel.commons.MethodHandleInvoker;
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
 import org.apache.causeway.core.metamodel.facets.ImperativeFacet;
 import org.apache.causeway.core.metamodel.facets.actions.validate.ActionParameterValidationFacetAbstract;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
-import org.apache.causeway.core.metamodel.object.MmInvokeUtil;
+import org.apache.causeway.core.metamodel.object.MmUnwrapUtil;
 
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.val;
 
 public class ActionParameterValidationFacetViaMethod
 extends ActionParameterValidationFacetAbstract
 implements ImperativeFacet {
 
     @Getter(onMethod_ = {@Override}) private final @NonNull Can<MethodFacade> methods;
+    private final @NonNull MethodHandleInvoker invoker;
     private final TranslationService translationService;
     private final TranslationContext translationContext;
 
@@ -51,6 +52,7 @@ public ActionParameterValidationFacetViaMethod(
     		final FacetHolder holder) {
         super(holder);
         this.methods = ImperativeFacet.singleRegularMethod(method);
+        this.invoker = holder.getSpecificationLoader().methodHandleInvoker(method);
         this.translationService = translationService;
         this.translationContext = translationContext;
     }
@@ -62,8 +64,7 @@ public Intent getIntent() {
 
     @Override
     public String invalidReason(final ManagedObject owningAdapter, final ManagedObject proposedArgumentAdapter) {
-        val method = methods.getFirstElseFail().asMethodElseFail(); // expected regular
-        final Object returnValue = MmInvokeUtil.invoke(method, owningAdapter, proposedArgumentAdapter);
+        final Object returnValue = invoker.invoke(MmUnwrapUtil.single(owningAdapter), MmUnwrapUtil.single(proposedArgumentAdapter));
         if(returnValue instanceof String) {
             return (String) returnValue;
         }
@@ -27,6 +27,7 @@
 import org.apache.causeway.applib.services.i18n.TranslationContext;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.reflection._MethodFacades.MethodFacade;
+import org.apache.causeway.core.metamodel.commons.MethodHandleInvoker;
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
 import org.apache.causeway.core.metamodel.facets.ImperativeFacet;
 import org.apache.causeway.core.metamodel.facets.actions.validate.ActionValidationFacetAbstract;
@@ -35,13 +36,13 @@
 
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.val;
 
 public class ActionValidationFacetViaMethod
 extends ActionValidationFacetAbstract
 implements ImperativeFacet {
 
     @Getter(onMethod_ = {@Override}) private final @NonNull Can<MethodFacade> methods;
+    private final @NonNull MethodHandleInvoker invoker;
     private final TranslationContext translationContext;
     private final Optional<Constructor<?>> patConstructor;
 
@@ -52,6 +53,7 @@ public ActionValidationFacetViaMethod(
 
         super(holder);
         this.methods = ImperativeFacet.singleMethod(method, patConstructor);
+        this.invoker = holder.getSpecificationLoader().methodHandleInvoker(method);
         this.translationContext = holder.getTranslationContext();
         this.patConstructor = patConstructor;
     }
@@ -64,8 +66,7 @@ public Intent getIntent() {
     @Override
     public String invalidReason(final ManagedObject owningAdapter, final Can<ManagedObject> proposedArgumentAdapters) {
 
-        val method = methods.getFirstElseFail();
-        final Object returnValue = MmInvokeUtil.invokeNoAutofit(patConstructor, method, owningAdapter, proposedArgumentAdapters);
+        final Object returnValue = MmInvokeUtil.invokeNoAutofit(patConstructor, invoker, owningAdapter, proposedArgumentAdapters);
 
         if(returnValue instanceof String) {
             return (String) returnValue;
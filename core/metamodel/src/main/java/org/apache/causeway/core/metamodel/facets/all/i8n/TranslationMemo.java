@@ -0,0 +1,94 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.facets.all.i8n;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.apache.causeway.applib.locale.UserLocale;
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.commons.internal.base._Lazy;
+import org.apache.causeway.core.metamodel.context.HasMetaModelContext;
+
+import lombok.NonNull;
+import lombok.val;
+
+/**
+ * Memoizes a translation per language {@link Locale} of the current user,
+ * such that it is resolved once per (feature, locale), rather than per render.
+ * <p>
+ * If there is no current user (eg. while the metamodel is being introspected),
+ * the translation is memoized once, independent of any locale.
+ *
+ * @since 2.0
+ */
+public final class TranslationMemo<T> {
+
+    private final @NonNull HasMetaModelContext mmcProvider;
+    private final @NonNull Supplier<T> translator;
+    private final @NonNull Map<Locale, T> translatedByLocale = new ConcurrentHashMap<>(4);
+    private final @NonNull _Lazy<T> translatedWithoutLocale;
+
+    public static <T> TranslationMemo<T> of(
+            final @NonNull HasMetaModelContext mmcProvider,
+            final @NonNull Supplier<T> translator) {
+        return new TranslationMemo<>(mmcProvider, translator);
+    }
+
+    private TranslationMemo(
+            final HasMetaModelContext mmcProvider,
+            final Supplier<T> translator) {
+        this.mmcProvider = mmcProvider;
+        this.translator = translator;
+        this.translatedWithoutLocale = _Lazy.threadSafe(translator);
+    }
+
+    /**
+     * The translation for the current user's language, translated on first access only.
+     */
+    public T get() {
+        val locale = currentLanguage().orElse(null);
+        if(locale == null) {
+            return translatedWithoutLocale.get();
+        }
+        // fast path, not requiring any lock
+        val translated = translatedByLocale.get(locale);
+        return translated != null
+                ? translated
+                : translatedByLocale.computeIfAbsent(locale, __->translator.get());
+    }
+
+    // -- HELPER
+
+    private Optional<Locale> currentLanguage() {
+        val mmc = mmcProvider.getMetaModelContext();
+        val interactionService = mmc != null
+                ? mmc.getInteractionService()
+                : null;
+        return interactionService != null
+                ? interactionService.currentInteractionContext()
+                    .map(InteractionContext::getLocale)
+                    .map(UserLocale::getLanguageLocale)
+                : Optional.empty();
+    }
+
+}
@@ -25,10 +25,10 @@
 
 import org.apache.causeway.applib.services.i18n.TranslationContext;
 import org.apache.causeway.commons.collections.ImmutableEnumSet;
-import org.apache.causeway.commons.internal.base._Lazy;
 import org.apache.causeway.core.metamodel.facetapi.Facet;
 import org.apache.causeway.core.metamodel.facetapi.FacetAbstract;
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
+import org.apache.causeway.core.metamodel.facets.all.i8n.TranslationMemo;
 
 import lombok.NonNull;
 import lombok.val;
@@ -40,7 +40,7 @@
     protected final TranslationContext translationContext;
 
     private final @NonNull NounForms nounForms;
-    private final @NonNull _Lazy<NounForms> translatedNounForms;
+    private final @NonNull TranslationMemo<NounForms> translatedNounForms;
 
     protected HasNounFacetAbstract(
             final Class<? extends Facet> facetType,
@@ -59,7 +59,7 @@ protected HasNounFacetAbstract(
         super(facetType, holder, precedence);
         this.nounForms = nounForms;
         this.translationContext = translationContext;
-        this.translatedNounForms = _Lazy.threadSafe(()->
+        this.translatedNounForms = TranslationMemo.of(holder, ()->
             nounForms.translate(holder.getTranslationService(), translationContext));
     }
 
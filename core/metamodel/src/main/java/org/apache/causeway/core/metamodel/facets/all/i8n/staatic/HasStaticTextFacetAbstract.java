@@ -22,10 +22,10 @@
 import java.util.function.BiConsumer;
 
 import org.apache.causeway.applib.services.i18n.TranslationContext;
-import org.apache.causeway.commons.internal.base._Lazy;
 import org.apache.causeway.core.metamodel.facetapi.Facet;
 import org.apache.causeway.core.metamodel.facetapi.FacetAbstract;
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
+import org.apache.causeway.core.metamodel.facets.all.i8n.TranslationMemo;
 
 import lombok.NonNull;
 import lombok.val;
@@ -37,7 +37,7 @@
     protected final TranslationContext translationContext;
 
     private final @NonNull String originalText;
-    private final @NonNull _Lazy<String> translatedText;
+    private final @NonNull TranslationMemo<String> translatedText;
 
     protected HasStaticTextFacetAbstract(
             final Class<? extends Facet> facetType,
@@ -56,7 +56,7 @@ protected HasStaticTextFacetAbstract(
         super(facetType, holder, precedence);
         this.originalText = originalText;
         this.translationContext = translationContext;
-        this.translatedText = _Lazy.threadSafe(()->
+        this.translatedText = TranslationMemo.of(holder, ()->
             holder.getTranslationService().translate(translationContext, originalText));
     }
 
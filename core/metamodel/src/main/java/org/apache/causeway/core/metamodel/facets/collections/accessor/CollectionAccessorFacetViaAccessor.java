@@ -23,12 +23,13 @@
 
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.reflection._MethodFacades.MethodFacade;
+import org.apache.causeway.core.metamodel.commons.MethodHandleInvoker;
 import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
 import org.apache.causeway.core.metamodel.facets.ImperativeFacet;
 import org.apache.causeway.core.metamodel.facets.propcoll.accessor.PropertyOrCollectionAccessorFacetAbstract;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
-import org.apache.causeway.core.metamodel.object.MmInvokeUtil;
+import org.apache.causeway.core.metamodel.object.MmUnwrapUtil;
 import org.apache.causeway.core.metamodel.object.MmVisibilityUtil;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 
@@ -41,6 +42,7 @@
 implements ImperativeFacet {
 
     @Getter(onMethod_ = {@Override}) private final @NonNull Can<MethodFacade> methods;
+    private final @NonNull MethodHandleInvoker invoker;
 
     public CollectionAccessorFacetViaAccessor(
             final ObjectSpecification declaringType,
@@ -48,6 +50,7 @@ public CollectionAccessorFacetViaAccessor(
             final FacetHolder holder) {
         super(declaringType, holder);
         this.methods = ImperativeFacet.singleRegularMethod(method);
+        this.invoker = holder.getSpecificationLoader().methodHandleInvoker(method);
     }
 
     @Override
@@ -61,7 +64,7 @@ public Object getProperty(
             final InteractionInitiatedBy interactionInitiatedBy) {
 
         val method = methods.getFirstElseFail().asMethodElseFail(); // expected regular
-        final Object collectionOrArray = MmInvokeUtil.invoke(method, owningAdapter);
+        final Object collectionOrArray = invoker.invoke(MmUnwrapUtil.single(owningAdapter));
         if(collectionOrArray == null) {
             return null;
         }
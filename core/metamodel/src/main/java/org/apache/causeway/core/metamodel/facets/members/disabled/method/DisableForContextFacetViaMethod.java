@@ -25,21 +25,22 @@
 import org.apache.causeway.applib.services.i18n.TranslationContext;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.reflection._MethodFacades.MethodFacade;
+import org.apache.causeway.core.metamodel.commons.MethodHandleInvoker;
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
 import org.apache.causeway.core.metamodel.facets.ImperativeFacet;
 import org.apache.causeway.core.metamodel.interactions.UsabilityContext;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
-import org.apache.causeway.core.metamodel.object.MmInvokeUtil;
+import org.apache.causeway.core.metamodel.object.MmUnwrapUtil;
 
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.val;
 
 public class DisableForContextFacetViaMethod
 extends DisableForContextFacetAbstract
 implements ImperativeFacet {
 
     @Getter(onMethod_ = {@Override}) private final @NonNull Can<MethodFacade> methods;
+    private final @NonNull MethodHandleInvoker invoker;
     private final TranslationContext translationContext;
 
     public DisableForContextFacetViaMethod(
@@ -47,6 +48,7 @@ public DisableForContextFacetViaMethod(
             final FacetHolder holder) {
         super(holder);
         this.methods = ImperativeFacet.singleRegularMethod(method);
+        this.invoker = holder.getSpecificationLoader().methodHandleInvoker(method);
         this.translationContext = holder.getTranslationContext();
     }
 
@@ -64,8 +66,8 @@ public String disables(final UsabilityContext ic) {
         if (target == null) {
             return null;
         }
-        val method = methods.getFirstElseFail().asMethodElseFail(); // expected regular
-        final Object returnValue = MmInvokeUtil.invokeAutofit(method, target);
+        // any parameters are filled with their defaults
+        final Object returnValue = invoker.invoke(MmUnwrapUtil.single(target));
         if(returnValue instanceof String) {
             return (String) returnValue;
         }
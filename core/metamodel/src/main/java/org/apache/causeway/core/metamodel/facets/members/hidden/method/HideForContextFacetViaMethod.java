@@ -23,25 +23,27 @@
 
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.reflection._MethodFacades.MethodFacade;
+import org.apache.causeway.core.metamodel.commons.MethodHandleInvoker;
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
 import org.apache.causeway.core.metamodel.facets.ImperativeFacet;
 import org.apache.causeway.core.metamodel.interactions.VisibilityContext;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
-import org.apache.causeway.core.metamodel.object.MmInvokeUtil;
+import org.apache.causeway.core.metamodel.object.MmUnwrapUtil;
 
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.val;
 
 public class HideForContextFacetViaMethod
 extends HideForContextFacetAbstract
 implements ImperativeFacet {
 
     @Getter(onMethod_ = {@Override}) private final @NonNull Can<MethodFacade> methods;
+    private final @NonNull MethodHandleInvoker invoker;
 
     public HideForContextFacetViaMethod(final Method method, final FacetHolder holder) {
         super(holder);
         this.methods = ImperativeFacet.singleRegularMethod(method);
+        this.invoker = holder.getSpecificationLoader().methodHandleInvoker(method);
     }
 
     @Override
@@ -55,8 +57,8 @@ public String hides(final VisibilityContext ic) {
         if (target == null) {
             return null;
         }
-        val method = methods.getFirstElseFail().asMethodElseFail(); // expected regular
-        final Boolean isHidden = (Boolean) MmInvokeUtil.invokeAutofit(method, target);
+        // any parameters are filled with their defaults
+        final Boolean isHidden = (Boolean) invoker.invoke(MmUnwrapUtil.single(target));
         return isHidden.booleanValue() ? "Hidden" : null;
     }
 
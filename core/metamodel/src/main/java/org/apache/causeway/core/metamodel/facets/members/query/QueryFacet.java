@@ -0,0 +1,45 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.facets.members.query;
+
+import java.util.Optional;
+
+import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.facetapi.Facet;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+
+/**
+ * Provides the {@link Query}, whose matching entities are the elements of a collection or an action's result,
+ * such that tables of these can be sorted, filtered and paged by the persistence layer.
+ *
+ * <p>
+ * In the standard Apache Causeway Programming Model, corresponds to invoking the
+ * <tt>queryXxx</tt> support method for the member, eg. <tt>queryOrders()</tt> for a collection <tt>orders</tt>,
+ * or <tt>queryFindOrders(String customerName)</tt> for an action <tt>findOrders(String customerName)</tt>.
+ */
+public interface QueryFacet extends Facet {
+
+    /**
+     * @param owner - the collection's owner or the action's target
+     * @param args - the action's arguments, empty for collections
+     */
+    Optional<Query<?>> query(ManagedObject owner, Can<ManagedObject> args);
+
+}
@@ -0,0 +1,81 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.facets.members.query.method;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.reflection._MethodFacades.MethodFacade;
+import org.apache.causeway.core.metamodel.facetapi.Facet;
+import org.apache.causeway.core.metamodel.facetapi.FacetAbstract;
+import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
+import org.apache.causeway.core.metamodel.facets.ImperativeFacet;
+import org.apache.causeway.core.metamodel.facets.members.query.QueryFacet;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.object.MmInvokeUtil;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.val;
+
+public class QueryFacetViaMethod
+extends FacetAbstract
+implements QueryFacet, ImperativeFacet {
+
+    private static final Class<? extends Facet> type() {
+        return QueryFacet.class;
+    }
+
+    @Getter(onMethod_ = {@Override}) private final @NonNull Can<MethodFacade> methods;
+    private final Optional<Constructor<?>> patConstructor;
+
+    public QueryFacetViaMethod(
+            final Method method,
+            final Optional<Constructor<?>> patConstructor,
+            final FacetHolder holder) {
+        super(type(), holder);
+        this.methods = ImperativeFacet.singleMethod(method, patConstructor);
+        this.patConstructor = patConstructor;
+    }
+
+    @Override
+    public Intent getIntent() {
+        return Intent.QUERY;
+    }
+
+    @Override
+    public Optional<Query<?>> query(final ManagedObject owner, final Can<ManagedObject> args) {
+        val method = methods.getFirstElseFail();
+        final Object returnValue = MmInvokeUtil.invokeNoAutofit(patConstructor, method, owner, args);
+        return returnValue instanceof Query
+                ? Optional.of((Query<?>) returnValue)
+                : Optional.empty();
+    }
+
+    @Override
+    public void visitAttributes(final BiConsumer<String, Object> visitor) {
+        super.visitAttributes(visitor);
+        ImperativeFacet.visitAttributes(this, visitor);
+    }
+
+}
@@ -0,0 +1,170 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.facets.object.entity;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import org.apache.causeway.applib.services.repository.StreamOptions;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import lombok.experimental.UtilityClass;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Turns an ORM specific cursor into a sequential {@link Stream}, as required by
+ * {@link EntityFacet#streamByQuery(org.apache.causeway.applib.query.Query, StreamOptions)}.
+ * <p>
+ * The cursor is closed once exhausted, when the {@link Stream} is closed,
+ * or otherwise when the current transaction completes, whichever comes first.
+ *
+ * @since 2.0
+ */
+@UtilityClass
+@Log4j2
+public class EntityCursorStreams {
+
+    /**
+     * @param cursor - iterates the ORM's cursor
+     * @param cursorCloser - releases the ORM's cursor, called at most once
+     * @param options - if {@link StreamOptions#isBatching() batching}, every
+     *      {@link StreamOptions#getBatchSize()} rows the {@code batchConsumer} is called
+     *      with the rows just consumed, before the next row is fetched
+     * @param batchConsumer - applies the {@link StreamOptions#getBatchPolicy()}
+     */
+    public <T> Stream<T> stream(
+            final @NonNull Iterator<T> cursor,
+            final @NonNull Runnable cursorCloser,
+            final @NonNull StreamOptions options,
+            final @NonNull Consumer<List<T>> batchConsumer) {
+
+        val closeOnce = new CloseOnce(cursorCloser);
+        closeOnTransactionCompletion(closeOnce);
+
+        val iterator = new CursorIterator<T>(
+                cursor,
+                options.isBatching() ? options.getBatchSize() : 0,
+                batchConsumer,
+                closeOnce);
+
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED),
+                false)
+                .onClose(closeOnce);
+    }
+
+    // -- HELPER
+
+    private void closeOnTransactionCompletion(final CloseOnce closeOnce) {
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                closeOnce.run();
+            }
+        });
+    }
+
+    @RequiredArgsConstructor
+    private static final class CloseOnce implements Runnable {
+        private final Runnable cursorCloser;
+        private final AtomicBoolean closed = new AtomicBoolean();
+        @Override
+        public void run() {
+            if(!closed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                cursorCloser.run();
+            } catch (Exception e) {
+                // eg. when the underlying connection was already released
+                log.debug("failed to close cursor", e);
+            }
+        }
+        boolean isClosed() {
+            return closed.get();
+        }
+    }
+
+    private static final class CursorIterator<T> implements Iterator<T> {
+
+        private final Iterator<T> cursor;
+        private final int batchSize;
+        private final Consumer<List<T>> batchConsumer;
+        private final CloseOnce closeOnce;
+        private final List<T> batch;
+
+        CursorIterator(
+                final Iterator<T> cursor,
+                final int batchSize,
+                final Consumer<List<T>> batchConsumer,
+                final CloseOnce closeOnce) {
+            this.cursor = cursor;
+            this.batchSize = batchSize;
+            this.batchConsumer = batchConsumer;
+            this.closeOnce = closeOnce;
+            this.batch = batchSize>0
+                    ? new ArrayList<>(batchSize)
+                    : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if(closeOnce.isClosed()) {
+                return false;
+            }
+            // the consumer is done with the previous row, when asking for the next one
+            if(batch!=null
+                    && batch.size()==batchSize) {
+                batchConsumer.accept(batch);
+                batch.clear();
+            }
+            val hasNext = cursor.hasNext();
+            if(!hasNext) {
+                closeOnce.run();
+            }
+            return hasNext;
+        }
+
+        @Override
+        public T next() {
+            val next = cursor.next();
+            if(batch!=null) {
+                batch.add(next);
+            }
+            return next;
+        }
+
+    }
+
+}
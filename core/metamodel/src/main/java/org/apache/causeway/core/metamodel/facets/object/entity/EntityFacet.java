@@ -19,16 +19,22 @@
 package org.apache.causeway.core.metamodel.facets.object.entity;
 
 import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.springframework.lang.Nullable;
 import org.springframework.util.ClassUtils;
 
+import org.apache.causeway.applib.query.CriteriaQuery;
 import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.bookmark.IdStringifier;
 import org.apache.causeway.applib.services.repository.EntityState;
+import org.apache.causeway.applib.services.repository.StreamOptions;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
@@ -40,6 +46,7 @@
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 
 import lombok.NonNull;
+import lombok.val;
 
 /**
  * Indicates that this class is managed by a persistence context.
@@ -142,8 +149,149 @@ default Bookmark bookmarkForElseFail(final @Nullable Object pojo) {
      */
     Optional<Object> fetchByBookmark(Bookmark bookmark);
 
+    /**
+     * Bulk variant of {@link #fetchByBookmark(Bookmark)}, where all given {@link Bookmark}s
+     * are expected to correspond to this facet's entity type.
+     * <p>
+     * Entity pojos that could not be found are not contained in the resulting map.
+     * @implNote the default implementation fetches one {@link Bookmark} at a time,
+     *      to be overridden by implementations that support fetching multiple entities with a single query
+     */
+    default Map<Bookmark, Object> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+        val entityPojoByBookmark = new HashMap<Bookmark, Object>();
+        bookmarks.forEach(bookmark->
+            fetchByBookmark(bookmark)
+                .ifPresent(entityPojo->entityPojoByBookmark.put(bookmark, entityPojo)));
+        return entityPojoByBookmark;
+    }
+
+    /**
+     * For each of given owner {@link Bookmark}s (all expected to correspond to this facet's entity type),
+     * the {@link Bookmark} of the entity referenced by given (single-valued) property, if any,
+     * read without fetching the referenced entities themselves; such that these can then be fetched in bulk
+     * via {@link #fetchByBookmarks(Can)}.
+     * <p>
+     * Owners that cannot be found or do not reference any entity are not contained in the resulting map.
+     * @return empty if not supported for given property, in which case callers are expected
+     *      to read the property of one owner at a time
+     */
+    default Optional<Map<Bookmark, Bookmark>> fetchReferenceBookmarks(
+            final @NonNull Can<Bookmark> ownerBookmarks,
+            final @NonNull String propertyName) {
+        return Optional.empty();
+    }
+
     Can<ManagedObject> fetchByQuery(Query<?> query);
 
+    /**
+     * Lazily streams the entities matching given {@link Query}, backed by a database cursor
+     * if supported, such that only a bounded number of entities is held in memory at any time.
+     * <p>
+     * The {@link Stream} must be consumed within the current transaction and should be closed
+     * (eg. using try-with-resources), otherwise the cursor is released once the transaction completes.
+     *
+     * @implNote the default implementation materializes all results via {@link #fetchByQuery(Query)},
+     *      to be overridden by implementations that support cursors
+     * @see EntityCursorStreams
+     */
+    default Stream<ManagedObject> streamByQuery(final @NonNull Query<?> query, final @NonNull StreamOptions options) {
+        return fetchByQuery(query).stream();
+    }
+
+    // -- QUERY PUSHDOWN
+
+    /**
+     * How to filter and sort the results of a {@link Query},
+     * to be pushed down to the persistence layer if supported.
+     */
+    @lombok.Value(staticConstructor = "of")
+    static class QueryPushdown {
+        /**
+         * Properties of type {@link String}, any of which must contain the search argument (ignoring case),
+         * for an entity to match.
+         */
+        private final @NonNull Can<String> searchProperties;
+        private final @Nullable String searchArgument;
+        private final @Nullable String sortProperty;
+        private final boolean ascending;
+
+        public static QueryPushdown unfiltered() {
+            return of(Can.empty(), null, null, true);
+        }
+
+        public Optional<String> getSearchArgument() {
+            return Optional.ofNullable(searchArgument)
+                    .map(String::trim)
+                    .filter(arg->!arg.isEmpty()
+                            && !searchProperties.isEmpty());
+        }
+
+        public Optional<String> getSortProperty() {
+            return Optional.ofNullable(sortProperty);
+        }
+    }
+
+    /**
+     * Whether given {@link Query}'s results can be filtered, sorted and paged by the persistence layer,
+     * as specified by given {@link QueryPushdown}.
+     * Otherwise callers are expected to do so in memory.
+     *
+     * @see #fetchByQuery(Query, QueryPushdown)
+     * @see #countByQuery(Query, QueryPushdown)
+     */
+    default boolean canPushdown(final @NonNull Query<?> query, final @NonNull QueryPushdown pushdown) {
+        return false;
+    }
+
+    /**
+     * The page of entities matching given {@link Query} and the filter of given {@link QueryPushdown},
+     * sorted accordingly and paged by the query's {@link Query#getRange() range},
+     * all in a single round-trip to the persistence layer.
+     * <p>
+     * Ties (or all entities, if there is no sort property) are ordered by the query's own ordering (if any)
+     * and finally by primary key, such that consecutive pages neither overlap nor miss any entities.
+     *
+     * @throws UnsupportedOperationException unless {@link #canPushdown(Query, QueryPushdown)}
+     */
+    default Can<ManagedObject> fetchByQuery(final @NonNull Query<?> query, final @NonNull QueryPushdown pushdown) {
+        throw _Exceptions.unsupportedOperation("query pushdown not supported by %s", getClass().getName());
+    }
+
+    /**
+     * Number of entities matching given {@link Query} and the filter of given {@link QueryPushdown},
+     * disregarding the query's {@link Query#getRange() range}.
+     *
+     * @throws UnsupportedOperationException unless {@link #canPushdown(Query, QueryPushdown)}
+     */
+    default long countByQuery(final @NonNull Query<?> query, final @NonNull QueryPushdown pushdown) {
+        throw _Exceptions.unsupportedOperation("query pushdown not supported by %s", getClass().getName());
+    }
+
+    // -- CRITERIA QUERIES
+
+    /**
+     * Whether given {@link CriteriaQuery} can be translated into a query of the persistence layer,
+     * as supported by {@link #fetchByQuery(Query)} and {@link #projectByQuery(CriteriaQuery, List)}.
+     * Otherwise callers are expected to filter and sort in memory.
+     *
+     * @param projectedPropertyNames - properties to be selected in addition (if any),
+     *      as passed on to {@link #projectByQuery(CriteriaQuery, List)}
+     */
+    default boolean canTranslate(final @NonNull CriteriaQuery<?> query, final @NonNull List<String> projectedPropertyNames) {
+        return false;
+    }
+
+    /**
+     * The values of given properties of the entities matching given {@link CriteriaQuery},
+     * paged by the query's {@link Query#getRange() range}.
+     * A single property yields its values, multiple properties yield an {@code Object[]} per row.
+     *
+     * @throws UnsupportedOperationException unless {@link #canTranslate(CriteriaQuery, List)}
+     */
+    default List<Object> projectByQuery(final @NonNull CriteriaQuery<?> query, final @NonNull List<String> propertyNames) {
+        throw _Exceptions.unsupportedOperation("criteria queries not supported by %s", getClass().getName());
+    }
+
     void persist(Object pojo);
 
     void refresh(Object pojo);
@@ -152,6 +300,14 @@ default Bookmark bookmarkForElseFail(final @Nullable Object pojo) {
 
     EntityState getEntityState(Object pojo);
 
+    /**
+     * Optionally the version of given entity pojo, as managed by the persistence layer
+     * for optimistic locking, based on whether the entity type is versioned.
+     */
+    default Optional<Object> versionFor(final @Nullable Object pojo) {
+        return Optional.empty();
+    }
+
     /**
      * Whether given method originates from byte code mangling.
      * @param method
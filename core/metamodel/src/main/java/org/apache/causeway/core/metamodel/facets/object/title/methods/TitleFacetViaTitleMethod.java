@@ -27,6 +27,7 @@
 import org.apache.causeway.applib.services.i18n.TranslatableString;
 import org.apache.causeway.applib.services.i18n.TranslationContext;
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
+import org.apache.causeway.core.metamodel.commons.MethodHandleInvoker;
 import org.apache.causeway.core.metamodel.context.MetaModelContext;
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
 import org.apache.causeway.core.metamodel.facets.HasImperativeAspect;
@@ -36,6 +37,7 @@
 import org.apache.causeway.core.metamodel.facets.object.title.TitleRenderRequest;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.object.ManagedObjects;
+import org.apache.causeway.core.metamodel.object.MmUnwrapUtil;
 
 import lombok.Getter;
 import lombok.NonNull;
@@ -48,6 +50,7 @@
 implements HasImperativeAspect {
 
     @Getter(onMethod_ = {@Override}) private final @NonNull ImperativeAspect imperativeAspect;
+    private final @NonNull MethodHandleInvoker invoker;
     private final TranslationContext translationContext;
 
     public static Optional<TitleFacet> create(
@@ -58,16 +61,19 @@ public static Optional<TitleFacet> create(
         .map(method->
             new TitleFacetViaTitleMethod(
                     ImperativeAspect.singleRegularMethod(method, Intent.UI_HINT),
+                    holder.getSpecificationLoader().methodHandleInvoker(method),
                     TranslationContext.forMethod(method),
                     holder));
     }
 
     private TitleFacetViaTitleMethod(
             final ImperativeAspect imperativeAspect,
+            final MethodHandleInvoker invoker,
     		final TranslationContext translationContext,
     		final FacetHolder holder) {
         super(holder);
         this.imperativeAspect = imperativeAspect;
+        this.invoker = invoker;
         this.translationContext = translationContext;
     }
 
@@ -80,7 +86,7 @@ public String title(final TitleRenderRequest titleRenderRequest) {
             return null;
         }
         try {
-            val returnValue = imperativeAspect.invokeSingleMethod(owningAdapter);
+            val returnValue = invoker.invoke(MmUnwrapUtil.single(owningAdapter));
             if(returnValue instanceof String) {
                 return (String) returnValue;
             }
@@ -27,21 +27,23 @@
 import org.apache.causeway.applib.services.i18n.TranslationContext;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.reflection._MethodFacades.MethodFacade;
+import org.apache.causeway.core.metamodel.commons.MethodHandleInvoker;
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
 import org.apache.causeway.core.metamodel.facets.ImperativeFacet;
 import org.apache.causeway.core.metamodel.facets.param.validate.ActionParameterValidationFacetAbstract;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.object.MmInvokeUtil;
+import org.apache.causeway.core.metamodel.object.MmUnwrapUtil;
 
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.val;
 
 public class ActionParameterValidationFacetViaMethod
 extends ActionParameterValidationFacetAbstract
 implements ImperativeFacet {
 
     @Getter(onMethod_ = {@Override}) private final @NonNull Can<MethodFacade> methods;
+    private final @NonNull MethodHandleInvoker invoker;
     private final TranslationContext translationContext;
     private final Optional<Constructor<?>> patConstructor;
 
@@ -52,6 +54,7 @@ public ActionParameterValidationFacetViaMethod(
 
         super(holder);
         this.methods = ImperativeFacet.singleMethod(method, patConstructor);
+        this.invoker = holder.getSpecificationLoader().methodHandleInvoker(method);
         this.translationContext = holder.getTranslationContext();
         this.patConstructor = patConstructor;
     }
@@ -67,18 +70,16 @@ public String invalidReason(
             final Can<ManagedObject> pendingArgs,
             final ManagedObject proposedArgument) {
 
-        val method = methods.getFirstElseFail();
         final Object returnValue = patConstructor.isPresent()
                 // provides all pending args as a tuple (for validation)
-                ? MmInvokeUtil.invokeWithPAT(
-                        patConstructor.get(),
-                        method.asMethodForIntrospection(),
+                ? MmInvokeUtil.invokeNoAutofit(
+                        patConstructor,
+                        invoker,
                         owningAdapter, pendingArgs)
                  // provides only a single pending arg (for validation)
-                : MmInvokeUtil.invoke(
-                        method.asMethodElseFail(),
-                        owningAdapter,
-                        proposedArgument);
+                : invoker.invoke(
+                        MmUnwrapUtil.single(owningAdapter),
+                        MmUnwrapUtil.single(proposedArgument));
 
         if(returnValue instanceof String) {
             return (String) returnValue;
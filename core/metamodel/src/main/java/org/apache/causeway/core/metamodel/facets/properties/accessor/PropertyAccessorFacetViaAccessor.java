@@ -23,18 +23,18 @@
 
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.reflection._MethodFacades.MethodFacade;
+import org.apache.causeway.core.metamodel.commons.MethodHandleInvoker;
 import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
 import org.apache.causeway.core.metamodel.facets.ImperativeFacet;
 import org.apache.causeway.core.metamodel.facets.propcoll.accessor.PropertyOrCollectionAccessorFacetAbstract;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
-import org.apache.causeway.core.metamodel.object.MmInvokeUtil;
+import org.apache.causeway.core.metamodel.object.MmUnwrapUtil;
 import org.apache.causeway.core.metamodel.object.MmVisibilityUtil;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.val;
 
 public class PropertyAccessorFacetViaAccessor
 extends PropertyOrCollectionAccessorFacetAbstract
@@ -42,6 +42,7 @@
 
 
     @Getter(onMethod_ = {@Override}) private final @NonNull Can<MethodFacade> methods;
+    private final @NonNull MethodHandleInvoker invoker;
 
     public PropertyAccessorFacetViaAccessor(
             final ObjectSpecification declaringType,
@@ -50,6 +51,7 @@ public PropertyAccessorFacetViaAccessor(
 
         super(declaringType, holder);
         this.methods = ImperativeFacet.singleRegularMethod(method);
+        this.invoker = holder.getSpecificationLoader().methodHandleInvoker(method);
     }
 
     @Override
@@ -61,8 +63,7 @@ public Intent getIntent() {
     public Object getProperty(
             final ManagedObject owningAdapter,
             final InteractionInitiatedBy interactionInitiatedBy) {
-        val method = methods.getFirstElseFail().asMethodElseFail(); // expected regular
-        final Object referencedObject = MmInvokeUtil.invoke(method, owningAdapter);
+        final Object referencedObject = invoker.invoke(MmUnwrapUtil.single(owningAdapter));
 
         if(referencedObject == null) {
             return null;
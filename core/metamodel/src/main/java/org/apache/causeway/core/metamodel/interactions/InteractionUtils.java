@@ -32,14 +32,17 @@ public final class InteractionUtils {
 
     public static InteractionResult isVisibleResult(FacetHolder facetHolder, VisibilityContext context) {
 
-        val iaResult = new InteractionResult(context.createInteractionEvent());
-
-        facetHolder.streamFacets(HidingInteractionAdvisor.class)
-        .filter(advisor->compatible(advisor, context))
-        .forEach(advisor->{
-            val hidingReason = advisor.hides(context);
-            iaResult.advise(hidingReason, advisor);
-        });
+        // the event is only created if asked for
+        val iaResult = InteractionResult.deferred(context);
+
+        val advisors = facetHolder.listFacets(HidingInteractionAdvisor.class);
+        for(int i=0, n=advisors.size(); i<n; ++i) {
+            val advisor = advisors.get(i);
+            if(compatible(advisor, context)) {
+                val hidingReason = advisor.hides(context);
+                iaResult.advise(hidingReason, advisor);
+            }
+        }
 
         return iaResult;
     }
@@ -47,28 +50,32 @@ public static InteractionResult isVisibleResult(FacetHolder facetHolder, Visibil
 
     public static InteractionResult isUsableResult(FacetHolder facetHolder, UsabilityContext context) {
 
-        val isResult = new InteractionResult(context.createInteractionEvent());
+        val isResult = InteractionResult.deferred(context);
 
-        facetHolder.streamFacets(DisablingInteractionAdvisor.class)
-        .filter(advisor->compatible(advisor, context))
-        .forEach(advisor->{
-            val disablingReason = advisor.disables(context);
-            isResult.advise(disablingReason, advisor);
-        });
+        val advisors = facetHolder.listFacets(DisablingInteractionAdvisor.class);
+        for(int i=0, n=advisors.size(); i<n; ++i) {
+            val advisor = advisors.get(i);
+            if(compatible(advisor, context)) {
+                val disablingReason = advisor.disables(context);
+                isResult.advise(disablingReason, advisor);
+            }
+        }
 
         return isResult;
     }
 
     public static InteractionResult isValidResult(FacetHolder facetHolder, ValidityContext context) {
 
-        val iaResult = new InteractionResult(context.createInteractionEvent());
+        val iaResult = InteractionResult.deferred(context);
 
-        facetHolder.streamFacets(ValidatingInteractionAdvisor.class)
-        .filter(advisor->compatible(advisor, context))
-        .forEach(advisor->{
-            val invalidatingReason = advisor.invalidates(context);
-            iaResult.advise(invalidatingReason, advisor);
-        });
+        val advisors = facetHolder.listFacets(ValidatingInteractionAdvisor.class);
+        for(int i=0, n=advisors.size(); i<n; ++i) {
+            val advisor = advisors.get(i);
+            if(compatible(advisor, context)) {
+                val invalidatingReason = advisor.invalidates(context);
+                iaResult.advise(invalidatingReason, advisor);
+            }
+        }
 
         return iaResult;
     }
@@ -24,12 +24,17 @@
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.applib.Identifier;
 import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.repository.StreamOptions;
 import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.base._Strings;
 import org.apache.causeway.commons.internal.binding._BindableAbstract;
 import org.apache.causeway.commons.internal.binding._Bindables;
 import org.apache.causeway.commons.internal.binding._Observables;
@@ -38,6 +43,9 @@
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.causeway.core.metamodel.consent.InteractionResult;
+import org.apache.causeway.core.metamodel.facets.members.query.QueryFacet;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet.QueryPushdown;
+import org.apache.causeway.core.metamodel.facets.object.hidden.HiddenObjectFacet;
 import org.apache.causeway.core.metamodel.interactions.InteractionHead;
 import org.apache.causeway.core.metamodel.interactions.InteractionUtils;
 import org.apache.causeway.core.metamodel.interactions.ObjectVisibilityContext;
@@ -50,9 +58,12 @@
 import org.apache.causeway.core.metamodel.interactions.managed.ManagedMember;
 import org.apache.causeway.core.metamodel.interactions.managed.MultiselectChoices;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.object.ManagedObjects;
 import org.apache.causeway.core.metamodel.object.PackedManagedObject;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.spec.feature.MixedInMember;
 import org.apache.causeway.core.metamodel.spec.feature.ObjectMember;
+import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
 
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -65,14 +76,24 @@
 
     // -- FACTORIES
 
+    /**
+     * If the collection provides a {@link Query} (see {@link QueryFacet}),
+     * is the same as {@link #forQuery(ManagedMember, Where, Query)}.
+     */
     public static DataTableModel forCollection(
             final ManagedCollection managedCollection) {
-        return new DataTableModel(managedCollection, managedCollection.getWhere(), ()->
-            managedCollection
-            .streamElements()
-            .collect(Can.toCan()));
+        return queryOf(managedCollection, Can.empty())
+                .map(query->forQuery(managedCollection, managedCollection.getWhere(), query))
+                .orElseGet(()->new DataTableModel(managedCollection, managedCollection.getWhere(), ()->
+                    managedCollection
+                    .streamElements()
+                    .collect(Can.toCan())));
     }
 
+    /**
+     * If the action provides a {@link Query} (see {@link QueryFacet}),
+     * is the same as {@link #forQuery(ManagedMember, Where, Query)}, not using the action's result.
+     */
     public static DataTableModel forAction(
             final ManagedAction managedAction,
             final Can<ManagedObject> args,
@@ -85,6 +106,11 @@ public static DataTableModel forAction(
             throw _Exceptions.unexpectedCodeReach();
         }
 
+        val query = queryOf(managedAction, args);
+        if(query.isPresent()) {
+            return forQuery(managedAction, managedAction.getWhere(), query.get());
+        }
+
         val elements = ((PackedManagedObject)actionResult).unpack();
         elements.forEach(ManagedObject::getBookmark);
 
@@ -92,11 +118,29 @@ public static DataTableModel forAction(
                 ()->elements);
     }
 
+    /**
+     * For a member, whose elements are the entities matching given {@link Query}.
+     * <p>
+     * If the persistence layer supports it, sorting, filtering and paging
+     * (as requested via {@link #getDataRowsPage(long, long, OneToOneAssociation, boolean)})
+     * are pushed down to the persistence layer.
+     */
+    public static DataTableModel forQuery(
+            final ManagedMember managedMember,
+            final Where where,
+            final Query<?> query) {
+        return new DataTableModel(managedMember, where, query);
+    }
+
     // -- CONSTRUCTION
 
     // as this is a layer of abstraction, don't expose via getter
     final @NonNull ManagedMember managedMember;
     final @NonNull Where where;
+    /**
+     * Non-null, if the elements are the entities matching this query.
+     */
+    final @Nullable Query<?> query;
 
     @Getter private final @NonNull LazyObservable<Can<ManagedObject>> dataElements;
     @Getter private final @NonNull _BindableAbstract<String> searchArgument; // filter the data rows
@@ -107,35 +151,60 @@ public static DataTableModel forAction(
     @Getter private final @NonNull LazyObservable<Can<DataColumn>> dataColumns;
     @Getter private final @NonNull LazyObservable<String> title;
 
+    private DataTableModel(
+            final ManagedMember managedMember,
+            final Where where,
+            final Query<?> query) {
+        this(managedMember, where, query, ()->
+            managedMember.getElementType().entityFacetElseFail().fetchByQuery(query));
+    }
+
     private DataTableModel(
             // we need access to the owner in support of imperative title and referenced column detection
             final ManagedMember managedMember,
             final Where where,
             final Supplier<Can<ManagedObject>> elementSupplier) {
+        this(managedMember, where, null, elementSupplier);
+    }
+
+    private DataTableModel(
+            // we need access to the owner in support of imperative title and referenced column detection
+            final ManagedMember managedMember,
+            final Where where,
+            final @Nullable Query<?> query,
+            final Supplier<Can<ManagedObject>> elementSupplier) {
 
         this.managedMember = managedMember;
         this.where = where;
+        this.query = query;
 
         //dataElements = _Observables.lazy(elementSupplier);
-        dataElements = _Observables.lazy(()->elementSupplier.get().map(e->
-            e.getMetaModelContext().getServiceInjector().injectServicesInto(e)));
+        dataElements = _Observables.lazy(()->elementSupplier.get().map(DataTableModel::injectServices));
 
         searchArgument = _Bindables.forValue(null);
 
         dataRowsFiltered = _Observables.lazy(()->
             dataElements.getValue().stream()
-                //XXX future extension: filter by searchArgument
+                .filter(this::matchesSearchArgument)
                 .filter(this::ignoreHidden)
                 .sorted(managedMember.getMetaModel().getElementComparator()
                         .orElseGet(()->(a, b)->0)) // else don't sort (no-op comparator for streams)
-                .map(domainObject->new DataRow(this, domainObject))
+                .map(this::dataRowFor)
                 .collect(Can.toCan()));
 
         dataRowsSelected = _Observables.lazy(()->
-            dataRowsFiltered.getValue().stream()
+            (query!=null
+                    // rows are shared between pages and the filtered rows, but need not all be fetched yet
+                    ? dataRowsByBookmark.values().stream()
+                    : dataRowsFiltered.getValue().stream())
             .filter(dataRow->dataRow.getSelectToggle().getValue().booleanValue())
             .collect(Can.toCan()));
 
+        elementCount = _Observables.lazy(()->
+            queryPushdown(null, true, false)
+            .map(this::countByQuery)
+            .orElseGet(()->dataRowsFiltered.getValue().size()));
+
         selectAllToggle = _Bindables.forValue(Boolean.FALSE);
         selectAllToggle.addListener((e,o,isAllOn)->{
             //_Debug.onClearToggleAll(o, isAllOn, isClearToggleAllEvent.get());
@@ -154,6 +223,7 @@ private DataTableModel(
         searchArgument.addListener((e,o,n)->{
             dataRowsFiltered.invalidate();
             dataRowsSelected.invalidate();
+            elementCount.invalidate();
         });
 
         dataColumns = _Observables.lazy(()->
@@ -175,9 +245,78 @@ public int getPageSize(final int pageSizeDefault) {
 
     /**
      * Count filtered data rows.
+     * <p>
+     * If the elements are the entities matching a {@link Query}, that can be pushed down to the persistence layer,
+     * this is the number of matching entities.
      */
     public int getElementCount() {
-        return dataRowsFiltered.getValue().size();
+        return elementCount.getValue();
+    }
+
+    // -- PAGING
+
+    /**
+     * The filtered data rows, sorted by given property (if any), starting at given index,
+     * up to given limit.
+     * <p>
+     * If the elements are the entities matching a {@link Query}, that can be pushed down to the persistence layer,
+     * only the requested page is fetched, otherwise all filtered data rows are sorted in memory.
+     */
+    public Can<DataRow> getDataRowsPage(
+            final long skip,
+            final long limit,
+            final @Nullable OneToOneAssociation sortProperty,
+            final boolean ascending) {
+
+        val pushdown = queryPushdown(sortProperty, ascending, true);
+        if(pushdown.isPresent()) {
+            // all or none of the page's rows are hidden, as otherwise not pushed down
+            val page = getElementType().entityFacetElseFail()
+                    .fetchByQuery(query.withRange(skip, limit), pushdown.get())
+                    .stream()
+                    .map(DataTableModel::injectServices)
+                    .filter(this::ignoreHidden)
+                    .map(this::dataRowFor)
+                    .collect(Can.toCan());
+            retainDataRows(page);
+            return page;
+        }
+
+        val dataRows = dataRowsFiltered.getValue();
+        val sortedDataRows = sortProperty != null
+                ? sorted(dataRows, sortProperty, ascending)
+                : dataRows;
+        return sortedDataRows.stream()
+                .skip(skip)
+                .limit(limit)
+                .collect(Can.toCan());
+    }
+
+    // -- STREAMING
+
+    /**
+     * Streams the elements of the filtered data rows, without creating (or retaining) any data rows,
+     * in support of exporting large tables.
+     * <p>
+     * If the elements are the entities matching a {@link Query}, these are read from a database cursor
+     * as per given {@link StreamOptions} and filtered in memory, in the query's order;
+     * unless the rows are to be sorted by the member's element comparator, in which case
+     * (as with all other tables) the filtered data rows are materialized.
+     * <p>
+     * The {@link Stream} must be consumed within the current transaction and should be closed.
+     */
+    public Stream<ManagedObject> streamDataElementsFiltered(final @NonNull StreamOptions options) {
+        if(query==null
+                || !getElementType().isEntity()
+                || getMetaModel().getElementComparator().isPresent()) {
+            return dataRowsFiltered.getValue().stream()
+                    .map(DataRow::getRowElement);
+        }
+        return getElementType().entityFacetElseFail()
+                .streamByQuery(query, options)
+                .map(DataTableModel::injectServices)
+                .filter(this::matchesSearchArgument)
+                .filter(this::ignoreHidden);
     }
 
     public ObjectMember getMetaModel() {
@@ -191,9 +330,15 @@ public ObjectSpecification getElementType() {
     private final Map<UUID, Optional<DataRow>> dataRowByUuidLookupCache = _Maps.newConcurrentHashMap();
     public Optional<DataRow> lookupDataRow(final @NonNull UUID uuid) {
         // lookup can be safely cached
-        return dataRowByUuidLookupCache.computeIfAbsent(uuid, __->getDataRowsFiltered().getValue().stream()
-                .filter(dr->dr.getUuid().equals(uuid))
-                .findFirst());
+        return dataRowByUuidLookupCache.computeIfAbsent(uuid, __->
+                query!=null
+                // rows of the current page and selected rows (others are not retained)
+                ? dataRowsByBookmark.values().stream()
+                    .filter(dr->dr.getUuid().equals(uuid))
+                    .findFirst()
+                : getDataRowsFiltered().getValue().stream()
+                    .filter(dr->dr.getUuid().equals(uuid))
+                    .findFirst());
     }
 
     // -- TOGGLE ALL
@@ -209,6 +354,148 @@ public void clearToggleAll() {
         }
     }
 
+    // -- DATA ROWS
+
+    /**
+     * Data rows of a {@link Query} backed table, by bookmark of their element,
+     * such that rows (and their selection state) are shared among pages.
+     * <p>
+     * Bounded to the rows of the current page and the selected rows (see {@link #retainDataRows(Can)}).
+     */
+    private final Map<Bookmark, DataRow> dataRowsByBookmark = _Maps.newConcurrentHashMap();
+    private final @NonNull LazyObservable<Integer> elementCount;
+
+    private DataRow dataRowFor(final ManagedObject element) {
+        if(query==null) {
+            return new DataRow(this, element);
+        }
+        return element.getBookmark()
+                .map(bookmark->dataRowsByBookmark.computeIfAbsent(bookmark, __->new DataRow(this, element)))
+                .orElseGet(()->new DataRow(this, element));
+    }
+
+    /**
+     * Releases the data rows of previously fetched pages, unless selected, such that the number of
+     * data rows held does not grow with the number of pages visited.
+     */
+    private void retainDataRows(final Can<DataRow> page) {
+        val pageRows = page.toSet();
+        dataRowsByBookmark.values().removeIf(dataRow->
+                !pageRows.contains(dataRow)
+                && !dataRow.getSelectToggle().getValue().booleanValue());
+        dataRowByUuidLookupCache.clear();
+    }
+
+    /**
+     * Whether all elements are hidden, is the same for each of them (as otherwise not pushed down),
+     * so only the first one is checked.
+     */
+    private int countByQuery(final QueryPushdown pushdown) {
+        val entityFacet = getElementType().entityFacetElseFail();
+        val count = Math.toIntExact(entityFacet.countByQuery(query, pushdown));
+        if(count == 0) {
+            return 0;
+        }
+        return entityFacet.fetchByQuery(query.withLimit(1), pushdown).stream()
+                .map(DataTableModel::injectServices)
+                .allMatch(this::ignoreHidden)
+                ? count
+                : 0;
+    }
+
+    private static ManagedObject injectServices(final ManagedObject element) {
+        return element.getMetaModelContext().getServiceInjector().injectServicesInto(element);
+    }
+
+    private static Can<DataRow> sorted(
+            final Can<DataRow> dataRows,
+            final OneToOneAssociation sortProperty,
+            final boolean ascending) {
+        val objComparator = ManagedObjects.orderingBy(sortProperty, ascending);
+        return dataRows.sorted((a, b)->objComparator.compare(a.getRowElement(), b.getRowElement()));
+    }
+
+    // -- SEARCH AND QUERY PUSHDOWN
+
+    /**
+     * Columns of type {@link String}, any of which must contain the search argument (ignoring case),
+     * for a data row to match.
+     */
+    private Can<OneToOneAssociation> searchableProperties() {
+        return dataColumns.getValue()
+                .map(DataColumn::getPropertyMetaModel)
+                .filter(property->String.class.equals(property.getElementType().getCorrespondingClass()));
+    }
+
+    private boolean matchesSearchArgument(final ManagedObject element) {
+        val searchArg = _Strings.emptyToNull(_Strings.trim(searchArgument.getValue()));
+        if(searchArg==null) {
+            return true;
+        }
+        val searchArgLower = searchArg.toLowerCase();
+        val searchableProperties = searchableProperties();
+        return searchableProperties.isEmpty()
+                || searchableProperties.stream()
+                    .map(property->property.get(element, InteractionInitiatedBy.PASS_THROUGH))
+                    .filter(value->!ManagedObjects.isNullOrUnspecifiedOrEmpty(value))
+                    .map(value->(String)value.getPojo())
+                    .anyMatch(value->value.toLowerCase().contains(searchArgLower));
+    }
+
+    /**
+     * Optionally the {@link Query} provided by the member's {@link QueryFacet}.
+     * <p>
+     * Not supported for mixed-in members.
+     */
+    private static Optional<Query<?>> queryOf(
+            final ManagedMember managedMember,
+            final Can<ManagedObject> args) {
+        val member = managedMember.getMetaModel();
+        if(member instanceof MixedInMember
+                || !member.getElementType().isEntity()) {
+            return Optional.empty();
+        }
+        return member.lookupFacet(QueryFacet.class)
+                .flatMap(queryFacet->queryFacet.query(managedMember.getOwner(), args));
+    }
+
+    /**
+     * Optionally how to push filtering and sorting down to the persistence layer,
+     * based on whether the elements are the entities matching a {@link Query},
+     * and whether the persistence layer supports it.
+     * <p>
+     * To yield the same data rows as the in-memory path, is not pushed down,
+     * if the element type's instances can be hidden individually (as then pages would be short),
+     * or (when ordered) if the rows are to be sorted by the member's element comparator.
+     *
+     * @param ordered - whether the order of the results matters, that is unless just counting
+     */
+    private Optional<QueryPushdown> queryPushdown(
+            final @Nullable OneToOneAssociation sortProperty,
+            final boolean ascending,
+            final boolean ordered) {
+        if(query==null
+                || !getElementType().isEntity()
+                || getElementType().containsFacet(HiddenObjectFacet.class)) {
+            return Optional.empty();
+        }
+        if(ordered
+                && sortProperty==null
+                && getMetaModel().getElementComparator().isPresent()) {
+            return Optional.empty();
+        }
+        val pushdown = QueryPushdown.of(
+                searchableProperties().map(OneToOneAssociation::getId),
+                searchArgument.getValue(),
+                sortProperty!=null
+                    ? sortProperty.getId()
+                    : null,
+                ascending);
+        return getElementType().entityFacetElseFail().canPushdown(query, pushdown)
+                ? Optional.of(pushdown)
+                : Optional.empty();
+    }
+
     // -- DATA ROW VISIBILITY
 
     private boolean ignoreHidden(final ManagedObject adapter) {
@@ -280,12 +567,14 @@ static Memento create(
             return new Memento(
                     managedMember.getIdentifier(),
                     table.where,
-                    argsMemento);
+                    argsMemento,
+                    table.query);
         }
 
         private final Identifier featureId;
         private final Where where;
         private final MementoForArgs argsMemento;
+        private final Query<?> query;
 
         public DataTableModel getDataTableModel(final ManagedObject owner) {
 
@@ -295,12 +584,19 @@ public DataTableModel getDataTableModel(final ManagedObject owner) {
                 // bypass domain events
                 val collInteraction = CollectionInteraction.start(owner, memberId, where);
                 val managedColl = collInteraction.getManagedCollection().orElseThrow();
+                if(query!=null) {
+                    return forQuery(managedColl, where, query);
+                }
                 // invocation bypassing domain events (pass-through)
                 return new DataTableModel(managedColl, where, ()->
                     managedColl.streamElements(InteractionInitiatedBy.PASS_THROUGH).collect(Can.toCan()));
             }
             val actionInteraction = ActionInteraction.start(owner, memberId, where);
             val managedAction = actionInteraction.getManagedActionElseFail();
+            if(query!=null) {
+                // no need to invoke the action, as its elements are the entities matching the query
+                return forQuery(managedAction, where, query);
+            }
             val args = argsMemento.getArgumentList(managedAction.getMetaModel());
             // invocation bypassing domain events (pass-through)
             val actionResult = managedAction.invoke(args, InteractionInitiatedBy.PASS_THROUGH)
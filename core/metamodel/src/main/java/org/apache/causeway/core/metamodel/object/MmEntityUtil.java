@@ -18,15 +18,20 @@
  */
 package org.apache.causeway.core.metamodel.object;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.applib.services.repository.EntityState;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.assertions._Assert;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.core.config.beans.PersistenceStack;
 import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 
 import lombok.NonNull;
 import lombok.val;
@@ -172,4 +177,46 @@ public static boolean isDeleted(final @Nullable ManagedObject entity) {
                 || state.isJpaSpecificDetachedWithOid();
     }
 
+    /**
+     * Refetches all detached entities among given objects, using a single
+     * {@link EntityFacet#fetchByBookmarks(Can)} round-trip per entity type,
+     * rather than one round-trip per entity on {@link ManagedObject#getPojo()}.
+     * <p>
+     * Entities that cannot be refetched this way are left as they are,
+     * so {@link ManagedObject#getPojo()} still applies its usual refetch (or failure) logic.
+     */
+    public static void refetchDetached(final @Nullable Iterable<? extends ManagedObject> objects) {
+        if(objects==null) {
+            return;
+        }
+        val detachedBySpec = new LinkedHashMap<ObjectSpecification, List<_ManagedObjectEntityBookmarked>>();
+        for(val object : objects) {
+            bookmarkedEntity(object)
+                .filter(_ManagedObjectEntityBookmarked::isRefetchRequired)
+                .ifPresent(entity->
+                    detachedBySpec.computeIfAbsent(entity.getSpecification(), __->new ArrayList<>())
+                        .add(entity));
+        }
+        detachedBySpec.forEach((spec, entities)->{
+            val bookmarks = Can.ofCollection(entities)
+                    .map(entity->entity.getBookmark().orElseThrow())
+                    .distinct();
+            val pojoByBookmark = spec.entityFacetElseFail().fetchByBookmarks(bookmarks);
+            entities.forEach(entity->{
+                val refetchedPojo = pojoByBookmark.get(entity.getBookmark().orElseThrow());
+                if(refetchedPojo!=null) {
+                    entity.acceptRefetched(refetchedPojo);
+                }
+            });
+        });
+    }
+
+    private static Optional<_ManagedObjectEntityBookmarked> bookmarkedEntity(final @Nullable ManagedObject object) {
+        return object instanceof _ManagedObjectEntityHybrid
+                ? ((_ManagedObjectEntityHybrid) object).bookmarkedVariant()
+                : object instanceof _ManagedObjectEntityBookmarked
+                    ? Optional.of((_ManagedObjectEntityBookmarked) object)
+                    : Optional.empty();
+    }
+
 }
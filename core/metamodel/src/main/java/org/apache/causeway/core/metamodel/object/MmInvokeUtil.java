@@ -32,6 +32,7 @@
 import org.apache.causeway.commons.internal.reflection._MethodFacades.MethodFacade;
 import org.apache.causeway.core.metamodel.commons.CanonicalInvoker;
 import org.apache.causeway.core.metamodel.commons.ClassExtensions;
+import org.apache.causeway.core.metamodel.commons.MethodHandleInvoker;
 
 import lombok.val;
 import lombok.experimental.UtilityClass;
@@ -87,6 +88,21 @@ public static Object invokeNoAutofit(
                         owningAdapter, pendingArgs);
     }
 
+    /**
+     * Same as {@link #invokeNoAutofit(Optional, MethodFacade, ManagedObject, Can)},
+     * but invokes via given (introspection time resolved) {@link MethodHandleInvoker}.
+     */
+    public static Object invokeNoAutofit(
+            final Optional<Constructor<?>> patConstructor,
+            final MethodHandleInvoker invoker, final ManagedObject owningAdapter, final Can<ManagedObject> pendingArgs) {
+        final Object targetPojo = MmUnwrapUtil.single(owningAdapter);
+        if(patConstructor.isPresent()) {
+            final Object pat = CanonicalInvoker.construct(patConstructor.get(), MmUnwrapUtil.multipleAsArray(pendingArgs));
+            return invoker.invoke(targetPojo, pat);
+        }
+        return invoker.invoke(targetPojo, MmUnwrapUtil.multipleAsArray(pendingArgs));
+    }
+
     public static Object invokeWithSearchArg(
             final Optional<Constructor<?>> patConstructor,
             final MethodFacade methodFacade, final ManagedObject owningAdapter, final Can<ManagedObject> pendingArgs, final String searchArg) {
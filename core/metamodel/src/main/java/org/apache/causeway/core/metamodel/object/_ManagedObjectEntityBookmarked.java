@@ -108,6 +108,32 @@ public Object getPojo() {
         return entityFacet.getEntityState(pojo);
     }
 
+    // -- BULK REFETCH
+
+    /**
+     * Whether {@link #getPojo()} would have to refetch, because the pojo is no longer attached.
+     * @see MmEntityUtil#refetchDetached(Iterable)
+     */
+    boolean isRefetchRequired() {
+        if(refetching) {
+            return false;
+        }
+        val entityState = entityFacet().getEntityState(pojo);
+        return entityState.isPersistable()
+                && !entityState.isAttached();
+    }
+
+    /**
+     * Replaces the detached pojo with one that was already refetched in bulk.
+     * @see MmEntityUtil#refetchDetached(Iterable)
+     */
+    void acceptRefetched(final @NonNull Object refetchedPojo) {
+        if(!entityFacet().getEntityState(refetchedPojo).hasOid()) {
+            return; // leave it to getPojo() to try again (or fail)
+        }
+        this.pojo = assertCompliance(refetchedPojo);
+    }
+
     // -- HELPER
 
     private boolean refetching;
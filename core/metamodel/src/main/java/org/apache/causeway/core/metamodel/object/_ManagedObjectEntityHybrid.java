@@ -166,6 +166,16 @@ private boolean isVariantBookmarked() {
         return variant instanceof _ManagedObjectEntityBookmarked;
     }
 
+    /**
+     * The current variant, if bookmarked.
+     * @see MmEntityUtil#refetchDetached(Iterable)
+     */
+    Optional<_ManagedObjectEntityBookmarked> bookmarkedVariant() {
+        return isVariantBookmarked()
+                ? Optional.of((_ManagedObjectEntityBookmarked) variant)
+                : Optional.empty();
+    }
+
     private boolean isVariantTransient() {
         return variant instanceof _ManagedObjectEntityTransient;
     }
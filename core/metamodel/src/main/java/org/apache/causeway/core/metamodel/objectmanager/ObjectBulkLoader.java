@@ -18,14 +18,21 @@
  */
 package org.apache.causeway.core.metamodel.objectmanager;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Optional;
 
 import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.handler.ChainOfResponsibility;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.core.metamodel.context.MetaModelContext;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.object.ProtoObject;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 
 import lombok.Value;
@@ -38,6 +45,21 @@ public interface ObjectBulkLoader {
 
     Can<ManagedObject> loadObject(Request objectQuery);
 
+    /**
+     * Recovers the objects corresponding to given {@code bookmarks}, preserving their order.
+     * <p>
+     * Entities are grouped by their logical type, each group then fetched in bulk via
+     * {@link EntityFacet#fetchByBookmarks(Can)}, avoiding one round-trip per {@link Bookmark}.
+     * Any other objects are loaded one by one via the {@link ObjectLoader}.
+     * <p>
+     * The result has the same cardinality as the input, where {@link Bookmark}s that cannot be resolved
+     * to a type are represented by {@link ManagedObject#unspecified()} and entities that cannot be found
+     * by {@link ManagedObject#empty(ObjectSpecification)}.
+     * <p>
+     * Resolves injection-points for the result. (Handles service injection.)
+     */
+    Can<ManagedObject> loadObjects(Can<Bookmark> bookmarks);
+
     // -- REQUEST (VALUE) TYPE
 
     @Value(staticConstructor = "of")
@@ -56,11 +78,70 @@ public static class Request {
     // -- FACTORY
 
     public static ObjectBulkLoader createDefault(final MetaModelContext mmc) {
-        return request ->
-            ChainOfResponsibility.named(
-                    "ObjectBulkLoader",
-                    handlers)
-                .handle(request);
+        return new ObjectBulkLoader() {
+            @Override
+            public Can<ManagedObject> loadObject(final Request request) {
+                return ChainOfResponsibility.named(
+                        "ObjectBulkLoader",
+                        handlers)
+                    .handle(request);
+            }
+            @Override
+            public Can<ManagedObject> loadObjects(final Can<Bookmark> bookmarks) {
+                return loadObjectsByBookmark(mmc, bookmarks);
+            }
+        };
+    }
+
+    // -- BOOKMARK BULK LOADING
+
+    private static Can<ManagedObject> loadObjectsByBookmark(
+            final MetaModelContext mmc,
+            final Can<Bookmark> bookmarks) {
+
+        if(bookmarks.isEmpty()) {
+            return Can.empty();
+        }
+
+        val specLoader = mmc.getSpecificationLoader();
+        val objectLoader = mmc.getObjectManager().getObjectLoader();
+
+        val objectByBookmark = new HashMap<Bookmark, ManagedObject>();
+        val entityBookmarksBySpec = new LinkedHashMap<ObjectSpecification, List<Bookmark>>();
+
+        for(val bookmark : bookmarks) {
+            if(objectByBookmark.containsKey(bookmark)) {
+                continue; // duplicate
+            }
+            val protoObject = ProtoObject.resolve(specLoader, bookmark).orElse(null);
+            if(protoObject==null) {
+                objectByBookmark.put(bookmark, ManagedObject.unspecified());
+                continue;
+            }
+            val spec = protoObject.getObjectSpecification();
+            if(spec.isEntity()) {
+                val entityBookmarks = entityBookmarksBySpec.computeIfAbsent(spec, __->new ArrayList<>());
+                if(!entityBookmarks.contains(bookmark)) {
+                    entityBookmarks.add(bookmark);
+                }
+                continue;
+            }
+            objectByBookmark.put(bookmark, objectLoader.loadObject(protoObject));
+        }
+
+        // one bulk fetch per entity type
+        entityBookmarksBySpec.forEach((spec, entityBookmarks)->{
+            val entityPojoByBookmark = spec.entityFacetElseFail()
+                    .fetchByBookmarks(Can.ofCollection(entityBookmarks));
+            entityBookmarks.forEach(bookmark->{
+                val entityPojo = entityPojoByBookmark.get(bookmark);
+                objectByBookmark.put(bookmark, entityPojo!=null
+                        ? ManagedObject.entity(spec, entityPojo, Optional.of(bookmark))
+                        : ManagedObject.empty(spec));
+            });
+        });
+
+        return bookmarks.map(objectByBookmark::get);
     }
 
     // -- HANDLERS
@@ -109,6 +109,20 @@ default Optional<ManagedObject> loadObject(final @Nullable Bookmark bookmark) {
                 .map(this::loadObject);
     }
 
+    /**
+     * Bulk variant of {@link #loadObject(Bookmark)}, preserving order.
+     * <p>
+     * Resolves injection-points for the result. (Handles service injection.)
+     * @see ObjectBulkLoader#loadObjects(Can)
+     */
+    default Can<ManagedObject> loadObjects(final @Nullable Can<Bookmark> bookmarks) {
+        if(bookmarks==null
+                || bookmarks.isEmpty()) {
+            return Can.empty();
+        }
+        return getObjectBulkLoader().loadObjects(bookmarks);
+    }
+
     /**
      * @see #loadObject(Bookmark)
      */
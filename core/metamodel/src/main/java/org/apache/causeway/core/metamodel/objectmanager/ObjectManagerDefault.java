@@ -89,9 +89,7 @@ public ManagedObject demementify(final @Nullable ObjectMemento memento) {
 
             val elementSpec = getSpecificationLoader().specForLogicalTypeNameElseFail(memento.getLogicalTypeName());
 
-            val objects = objectMementoCollection.unwrapList().stream()
-                    .map(this::demementify)
-                    .collect(Can.toCan());
+            val objects = demementifyAll(Can.ofCollection(objectMementoCollection.unwrapList()));
 
             return ManagedObject.packed(elementSpec, objects);
         }
@@ -105,6 +103,32 @@ public ManagedObject demementify(final @Nullable ObjectMemento memento) {
     }
 
 
+    // -- HELPER
+
+    /**
+     * Bulk loads those elements, that are recreated by lookup, see {@link #loadObjects(Can)},
+     * while any other elements are demementified one by one.
+     */
+    private Can<ManagedObject> demementifyAll(final Can<ObjectMemento> mementos) {
+        val lookupBookmarks = mementos.stream()
+                .filter(ObjectManagerDefault::isRecreatedByLookup)
+                .map(ObjectMemento::getBookmark)
+                .collect(Can.toCan());
+        if(lookupBookmarks.isEmpty()) {
+            return mementos.map(this::demementify);
+        }
+        val lookupObjects = loadObjects(lookupBookmarks).iterator();
+        return mementos.map(memento->isRecreatedByLookup(memento)
+                ? lookupObjects.next()
+                : demementify(memento));
+    }
+
+    private static boolean isRecreatedByLookup(final @Nullable ObjectMemento memento) {
+        return memento instanceof ObjectMementoForScalar
+                && ((ObjectMementoForScalar) memento).isRecreatedByLookup()
+                && memento.getBookmark()!=null;
+    }
+
     // JUnit support
     public static ObjectManager forTesting(final MetaModelContext metaModelContext) {
         val objectManager = new ObjectManagerDefault(metaModelContext);
@@ -129,6 +129,14 @@ private ObjectMementoForScalar(final @NonNull ManagedObject adapter) {
 
     }
 
+    /**
+     * Whether the object is recreated by means of a {@link Bookmark} lookup,
+     * hence eligible for bulk loading.
+     */
+    public boolean isRecreatedByLookup() {
+        return recreateStrategy == _Recreatable.RecreateStrategy.LOOKUP;
+    }
+
     public ManagedObject reconstructObject(final MetaModelContext mmc) {
         val spec = mmc.getSpecificationLoader()
                 .specForLogicalType(logicalType).orElse(null);
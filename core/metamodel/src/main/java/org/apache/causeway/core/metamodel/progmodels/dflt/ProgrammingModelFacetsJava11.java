@@ -39,6 +39,7 @@
 import org.apache.causeway.core.metamodel.facets.members.disabled.method.DisableForContextFacetViaMethodFactory;
 import org.apache.causeway.core.metamodel.facets.members.hidden.method.HideForContextFacetViaMethodFactory;
 import org.apache.causeway.core.metamodel.facets.members.named.method.NamedFacetForMemberViaMethodFactory;
+import org.apache.causeway.core.metamodel.facets.members.query.method.QueryFacetViaMethodFactory;
 import org.apache.causeway.core.metamodel.facets.object.ViewModelSemanticCheckingFacetFactory;
 import org.apache.causeway.core.metamodel.facets.object.bookmarkpolicy.bookmarkable.BookmarkPolicyFacetFallbackFactory;
 import org.apache.causeway.core.metamodel.facets.object.callbacks.CallbackFacetFactory;
@@ -168,6 +169,7 @@ private void addFacetFactories() {
         addFactory(FacetProcessingOrder.E1_MEMBER_MODELLING, new DescribedAsFacetForMemberViaMethodFactory(mmc));
         addFactory(FacetProcessingOrder.E1_MEMBER_MODELLING, new DisableForContextFacetViaMethodFactory(mmc));
         addFactory(FacetProcessingOrder.E1_MEMBER_MODELLING, new HideForContextFacetViaMethodFactory(mmc));
+        addFactory(FacetProcessingOrder.E1_MEMBER_MODELLING, new QueryFacetViaMethodFactory(mmc));
 
         addFactory(FacetProcessingOrder.E1_MEMBER_MODELLING, new CallbackFacetFactory(mmc));
 
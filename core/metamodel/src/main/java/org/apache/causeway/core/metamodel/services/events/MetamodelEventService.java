@@ -18,15 +18,38 @@
  */
 package org.apache.causeway.core.metamodel.services.events;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
 import javax.annotation.Priority;
 import javax.inject.Inject;
 import javax.inject.Named;
 
+import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.event.GenericApplicationListener;
+import org.springframework.context.event.GenericApplicationListenerAdapter;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.events.domain.AbstractDomainEvent;
 import org.apache.causeway.applib.events.domain.ActionDomainEvent;
 import org.apache.causeway.applib.events.domain.CollectionDomainEvent;
 import org.apache.causeway.applib.events.domain.PropertyDomainEvent;
@@ -34,9 +57,14 @@
 import org.apache.causeway.applib.events.ui.IconUiEvent;
 import org.apache.causeway.applib.events.ui.LayoutUiEvent;
 import org.apache.causeway.applib.events.ui.TitleUiEvent;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.metamodel.CausewayModuleCoreMetamodel;
 
 import lombok.Builder;
+import lombok.Value;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
 
 /**
  *
@@ -48,9 +76,17 @@
 @Priority(PriorityPrecedence.MIDPOINT)
 @Qualifier("Default")
 @Builder //for JUnit Test support
+@Log4j2
 public class MetamodelEventService {
 
     @Inject private ApplicationEventPublisher publisher;
+    @Inject private @Nullable ApplicationContext applicationContext;
+    @Inject private @Nullable CausewayConfiguration configuration;
+
+    /** listeners known after the last context refresh, empty until then */
+    private final AtomicReference<List<ApplicationListener<?>>> listenersRef = new AtomicReference<>();
+    private final Map<Class<?>, Boolean> hasSubscribersByEventType = new ConcurrentHashMap<>();
+    private final Map<AbstractDomainEvent.Phase, PhaseCounters> countersByPhase = newCountersByPhase();
 
     // -- METAMODEL UI EVENTS
 
@@ -71,15 +107,188 @@ public void fireTitleUiEvent(TitleUiEvent<Object> event) {
     }
 
     public void fireActionDomainEvent(ActionDomainEvent<?> event) {
-        publisher.publishEvent(event);
+        publishDomainEvent(event);
     }
 
     public void firePropertyDomainEvent(PropertyDomainEvent<?, ?> event) {
-        publisher.publishEvent(event);
+        publishDomainEvent(event);
     }
 
     public void fireCollectionDomainEvent(CollectionDomainEvent<?, ?> event) {
-        publisher.publishEvent(event);
+        publishDomainEvent(event);
+    }
+
+    // -- SUBSCRIBER AWARENESS
+
+    /**
+     * Whether any listener, known after the last context refresh, would receive a domain event
+     * of given type.
+     * <p>
+     * Listeners that are not specific to any event type, that is, plain {@link ApplicationListener}s
+     * declared for {@link ApplicationEvent} (or with an unresolvable event type), are not considered
+     * subscribers. These are infrastructure, eg. Spring Boot's {@code DelegatingApplicationListener},
+     * which otherwise would claim support for every domain event. Domain event subscribers are expected
+     * to declare the event type, either with {@link EventListener} or with a typed
+     * {@link ApplicationListener}.
+     * <p>
+     * Errs on the side of caution, that is, returns {@code true} until the context was refreshed,
+     * or if this optimization is disabled via
+     * {@link CausewayConfiguration.Core.MetaModel#isSkipDomainEventsWithoutSubscribers()}.
+     */
+    public boolean hasSubscribers(final Class<?> eventType) {
+        val listeners = listenersRef.get();
+        if(listeners==null
+                || configuration==null
+                || !configuration.getCore().getMetaModel().isSkipDomainEventsWithoutSubscribers()) {
+            return true;
+        }
+        return hasSubscribersByEventType.computeIfAbsent(eventType, type->anySupports(listeners, type));
+    }
+
+    /**
+     * Records a domain event, that was not even created, because there are no subscribers.
+     */
+    public void recordSkipped(final AbstractDomainEvent.Phase phase) {
+        if(phase!=null) {
+            countersByPhase.get(phase).skipped.increment();
+        }
+    }
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void onContextRefreshed(final ContextRefreshedEvent event) {
+        if(applicationContext==null
+                || event.getApplicationContext()!=applicationContext) {
+            return;
+        }
+        val listeners = collectListeners(applicationContext);
+        hasSubscribersByEventType.clear();
+        listenersRef.set(listeners.orElse(null));
+        log.debug("domain event subscriber detection {}",
+                listeners.isPresent() ? "enabled" : "disabled, found non-singleton listeners");
+    }
+
+    // -- METRICS
+
+    @Value
+    public static class PhaseMetrics {
+        AbstractDomainEvent.Phase phase;
+        /** number of domain events published to listeners */
+        long published;
+        /** number of domain events not created or published, because there were no subscribers */
+        long skipped;
+        /** accumulated time spent in listeners */
+        long nanosInListeners;
+    }
+
+    /**
+     * Per {@link AbstractDomainEvent.Phase} counts of published and skipped domain events,
+     * and the time spent in listeners.
+     */
+    public Can<PhaseMetrics> getDomainEventMetrics() {
+        return Can.ofCollection(countersByPhase.values())
+                .map(PhaseCounters::snapshot);
+    }
+
+    // -- HELPER
+
+    private void publishDomainEvent(final AbstractDomainEvent<?> event) {
+        val counters = event.getEventPhase()!=null
+                ? countersByPhase.get(event.getEventPhase())
+                : null;
+        if(!hasSubscribers(event.getClass())) {
+            if(counters!=null) {
+                counters.skipped.increment();
+            }
+            return;
+        }
+        val startNanos = System.nanoTime();
+        try {
+            publisher.publishEvent(event);
+        } finally {
+            if(counters!=null) {
+                counters.published.increment();
+                counters.nanosInListeners.add(System.nanoTime() - startNanos);
+            }
+        }
+    }
+
+    private static boolean anySupports(final List<ApplicationListener<?>> listeners, final Class<?> eventType) {
+        // events that are not ApplicationEvents are wrapped by Spring
+        val payloadType = ResolvableType.forClassWithGenerics(PayloadApplicationEvent.class, eventType);
+        for(val listener : listeners) {
+            if(isCatchAll(listener)) {
+                continue;
+            }
+            if(new GenericApplicationListenerAdapter(listener).supportsEventType(payloadType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether given listener is a plain {@link ApplicationListener}, that does not declare
+     * a specific event type. ({@link GenericApplicationListener}s and {@link SmartApplicationListener}s,
+     * including {@link EventListener} method adapters, decide on the event type themselves.)
+     */
+    private static boolean isCatchAll(final ApplicationListener<?> listener) {
+        if(listener instanceof GenericApplicationListener
+                || listener instanceof SmartApplicationListener) {
+            return false;
+        }
+        val declaredEventType = ResolvableType.forClass(AopUtils.getTargetClass(listener))
+                .as(ApplicationListener.class)
+                .getGeneric()
+                .resolve();
+        return declaredEventType==null
+                || declaredEventType==ApplicationEvent.class
+                || declaredEventType==Object.class;
+    }
+
+    /**
+     * Collects all listeners of given context and its ancestors (events are propagated to these).
+     * Returns empty if there are listeners we cannot inspect without side effects
+     * (non-singleton beans), in which case subscriber detection is not applicable.
+     */
+    private static Optional<List<ApplicationListener<?>>> collectListeners(
+            final ApplicationContext applicationContext) {
+        val listeners = new ArrayList<ApplicationListener<?>>();
+        for(ApplicationContext context = applicationContext; context!=null; context = context.getParent()) {
+            if(context instanceof AbstractApplicationContext) {
+                // includes @EventListener method adapters
+                listeners.addAll(((AbstractApplicationContext) context).getApplicationListeners());
+            } else {
+                return Optional.empty();
+            }
+            val singletons = context.getBeansOfType(ApplicationListener.class, false, false);
+            if(singletons.size()
+                    != context.getBeanNamesForType(ApplicationListener.class, true, false).length) {
+                return Optional.empty();
+            }
+            singletons.values().forEach(listeners::add);
+        }
+        return Optional.of(listeners);
+    }
+
+    private static class PhaseCounters {
+        final AbstractDomainEvent.Phase phase;
+        final LongAdder published = new LongAdder();
+        final LongAdder skipped = new LongAdder();
+        final LongAdder nanosInListeners = new LongAdder();
+        PhaseCounters(final AbstractDomainEvent.Phase phase) {
+            this.phase = phase;
+        }
+        PhaseMetrics snapshot() {
+            return new PhaseMetrics(phase, published.sum(), skipped.sum(), nanosInListeners.sum());
+        }
+    }
+
+    private static Map<AbstractDomainEvent.Phase, PhaseCounters> newCountersByPhase() {
+        val countersByPhase = new EnumMap<AbstractDomainEvent.Phase, PhaseCounters>(AbstractDomainEvent.Phase.class);
+        for(val phase : AbstractDomainEvent.Phase.values()) {
+            countersByPhase.put(phase, new PhaseCounters(phase));
+        }
+        return countersByPhase;
     }
 
 }
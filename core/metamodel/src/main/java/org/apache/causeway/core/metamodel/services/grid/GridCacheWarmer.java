@@ -0,0 +1,88 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.services.grid;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.events.metamodel.MetamodelListener;
+import org.apache.causeway.applib.services.grid.GridLoaderService;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.CausewayModuleCoreMetamodel;
+import org.apache.causeway.core.metamodel.facets.object.grid.GridFacet;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Once the metamodel has been loaded, eagerly loads the layouts of all entities and view models,
+ * such that these are cached (in production mode) before the first request.
+ *
+ * @see CausewayConfiguration.Core.MetaModel.Layout#isWarmUp()
+ * @since 2.0
+ */
+@Service
+@Named(CausewayModuleCoreMetamodel.NAMESPACE + ".GridCacheWarmer")
+@Priority(PriorityPrecedence.LATE)
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+@Log4j2
+public class GridCacheWarmer implements MetamodelListener {
+
+    private final CausewayConfiguration configuration;
+    private final GridLoaderService gridLoaderService;
+    private final SpecificationLoader specificationLoader;
+
+    @Override
+    public void onMetamodelLoaded() {
+        if(gridLoaderService.supportsReloading()
+                || !configuration.getCore().getMetaModel().getLayout().isWarmUp()) {
+            return; // nothing is cached, or not wanted
+        }
+        int count = 0;
+        for(val spec : specificationLoader.snapshotSpecifications()) {
+            if(spec.isEntityOrViewModel()
+                    && warmUp(spec)) {
+                ++count;
+            }
+        }
+        log.info("warmed up layouts of {} domain type(s)", count);
+    }
+
+    // -- HELPER
+
+    private boolean warmUp(final ObjectSpecification spec) {
+        try {
+            return spec.lookupFacet(GridFacet.class)
+                    .map(gridFacet->gridFacet.getGrid(null))
+                    .isPresent();
+        } catch (Exception e) {
+            // don't fail bootstrapping, the layout will be (re-)attempted on first use
+            log.warn("failed to warm up layout of {}", spec.getLogicalTypeName(), e);
+            return false;
+        }
+    }
+
+}
@@ -19,10 +19,12 @@
 package org.apache.causeway.core.metamodel.services.grid;
 
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.EnumSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import javax.annotation.Priority;
@@ -39,11 +41,14 @@
 import org.apache.causeway.applib.services.grid.GridMarshallerService;
 import org.apache.causeway.applib.services.message.MessageService;
 import org.apache.causeway.applib.value.NamedWithMimeType.CommonMimeType;
+import org.apache.causeway.commons.internal.base._Bytes;
+import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.commons.internal.base._Strings;
 import org.apache.causeway.commons.internal.collections._Maps;
 import org.apache.causeway.commons.internal.reflection._Reflect;
 import org.apache.causeway.commons.internal.reflection._Reflect.InterfacePolicy;
 import org.apache.causeway.commons.internal.resources._Resources;
+import org.apache.causeway.commons.internal.resources._Serializables;
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
 import org.apache.causeway.core.metamodel.CausewayModuleCoreMetamodel;
 
@@ -83,6 +88,7 @@ static class LayoutKey {
 
     @Value
     static class LayoutResource {
+        private final @NonNull Class<?> contextType; // resourceName is relative to
         private final @NonNull String resourceName;
         private final @NonNull CommonMimeType format;
         private final @NonNull String content;
@@ -90,8 +96,39 @@ static class LayoutResource {
 
     // for better logging messages (used only in prototyping mode)
     private final Map<LayoutKey, String> badContentByKey = _Maps.newHashMap();
-    // cache (used only in prototyping mode)
-    private final Map<LayoutKey, Grid> gridCache = _Maps.newHashMap();
+
+    @Value
+    static class CacheKey {
+        private final @NonNull LayoutKey layoutKey;
+        private final @NonNull Class<? extends Grid> gridType;
+    }
+
+    /**
+     * The parsed layout, as held by the cache in compact form,
+     * such that each {@link #instantiate(GridMarshallerService) instantiation} yields a new instance,
+     * which its callers are free to normalize (mutate).
+     */
+    @Value
+    static class CompiledGrid {
+        private final @NonNull LayoutResource layoutResource;
+        /** serialized form, if the grid is serializable, otherwise we have to re-parse */
+        private final @Nullable byte[] serialized;
+
+        <T extends Grid> T instantiate(
+                final Class<?> domainClass,
+                final GridMarshallerService<T> marshaller) {
+            final T grid = serialized != null
+                    ? _Casts.uncheckedCast(_Serializables.read(Serializable.class, serialized))
+                    : marshaller
+                        .unmarshal(layoutResource.getContent(), layoutResource.getFormat())
+                        .getValue().orElseThrow();
+            grid.setDomainClass(domainClass);
+            return grid;
+        }
+    }
+
+    // cache (used only in production mode), negative lookups included
+    private final Map<CacheKey, Optional<CompiledGrid>> compiledGridsByKey = new ConcurrentHashMap<>();
 
     @Override
     public void remove(final Class<?> domainClass) {
@@ -101,7 +138,6 @@ public void remove(final Class<?> domainClass) {
         final String layoutIfAny = null;
         val layoutKey = new LayoutKey(domainClass, layoutIfAny);
         badContentByKey.remove(layoutKey);
-        gridCache.remove(layoutKey);
     }
 
     @Override
@@ -115,41 +151,83 @@ public <T extends Grid> Optional<T> load(
             final String layoutIfAny,
             final @NonNull GridMarshallerService<T> marshaller) {
 
-        val supportedFormats = marshaller.supportedFormats();
-
         val layoutKey = new LayoutKey(domainClass, layoutIfAny);
-        val layoutResource = loadLayoutResource(layoutKey, supportedFormats).orElse(null);
+
+        if(!supportsReloading()) {
+            // layouts don't change, so parse only once
+            return compiledGridsByKey
+                    .computeIfAbsent(
+                            new CacheKey(layoutKey, marshaller.supportedClass()),
+                            cacheKey->compile(layoutKey, marshaller))
+                    .map(compiledGrid->compiledGrid.instantiate(domainClass, marshaller));
+        }
+
+        val layoutResource = loadLayoutResource(layoutKey, marshaller.supportedFormats()).orElse(null);
         if(layoutResource == null) {
             return Optional.empty();
         }
 
-        if(supportsReloading()) {
-            final String badContent = badContentByKey.get(layoutKey);
-            if(badContent != null) {
-                if(Objects.equals(layoutResource.getContent(), badContent)) {
-                    // seen this before and already logged; just quit
-                    return Optional.empty();
-                } else {
-                    // this different content might be good
-                    badContentByKey.remove(layoutKey);
-                }
-            }
-        } else {
-            // if cached, serve from cache - otherwise fall through
-            final Grid grid = gridCache.get(layoutKey);
-            if(grid != null) {
-                return Optional.of((T)grid);
+        final String badContent = badContentByKey.get(layoutKey);
+        if(badContent != null) {
+            if(Objects.equals(layoutResource.getContent(), badContent)) {
+                // seen this before and already logged; just quit
+                return Optional.empty();
+            } else {
+                // this different content might be good
+                badContentByKey.remove(layoutKey);
             }
         }
 
+        return parse(layoutKey, layoutResource, marshaller);
+    }
+
+    // -- HELPER
+
+    private <T extends Grid> Optional<CompiledGrid> compile(
+            final LayoutKey layoutKey,
+            final GridMarshallerService<T> marshaller) {
+        val layoutResource = loadLayoutResource(layoutKey, marshaller.supportedFormats()).orElse(null);
+        if(layoutResource == null) {
+            return Optional.empty();
+        }
+        val precompiled = loadPrecompiled(layoutResource)
+                .filter(marshaller.supportedClass()::isInstance);
+        if(precompiled.isPresent()) {
+            return precompiled.map(grid->compiled(layoutResource, grid));
+        }
+        return parse(layoutKey, layoutResource, marshaller)
+                .map(grid->compiled(layoutResource, grid));
+    }
+
+    private static CompiledGrid compiled(final LayoutResource layoutResource, final Grid grid) {
+        return new CompiledGrid(
+                layoutResource,
+                grid instanceof Serializable
+                    ? _Serializables.write((Serializable) grid)
+                    : null);
+    }
+
+    private Optional<Grid> loadPrecompiled(final LayoutResource layoutResource) {
+        try {
+            return GridPrecompiler.decompile(
+                    _Bytes.of(_Resources.load(
+                            layoutResource.getContextType(),
+                            layoutResource.getResourceName() + GridPrecompiler.SUFFIX)),
+                    layoutResource.getContent());
+        } catch (IOException ex) {
+            return Optional.empty();
+        }
+    }
+
+    private <T extends Grid> Optional<T> parse(
+            final LayoutKey layoutKey,
+            final LayoutResource layoutResource,
+            final GridMarshallerService<T> marshaller) {
         try {
             final T grid = marshaller
                     .unmarshal(layoutResource.getContent(), layoutResource.getFormat())
                     .getValue().orElseThrow();
-            grid.setDomainClass(domainClass);
-            if(supportsReloading()) {
-                gridCache.put(layoutKey, grid);
-            }
+            grid.setDomainClass(layoutKey.getDomainClass());
             return Optional.of(grid);
         } catch(Exception ex) {
 
@@ -171,8 +249,6 @@ public <T extends Grid> Optional<T> load(
         }
     }
 
-    // -- HELPER
-
     Optional<LayoutResource> loadLayoutResource(
             final LayoutKey dcal,
             final EnumSet<CommonMimeType> supportedFormats) {
@@ -234,6 +310,7 @@ private Optional<LayoutResource> tryLoadLayoutResource(
             return Optional.ofNullable(
                     _Resources.loadAsStringUtf8(type, candidateResourceName))
                     .map(fileContent->new LayoutResource(
+                            type,
                             candidateResourceName,
                             CommonMimeType.valueOfFileName(candidateResourceName).orElseThrow(),
                             fileContent));
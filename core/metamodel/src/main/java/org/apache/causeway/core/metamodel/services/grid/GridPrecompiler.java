@@ -0,0 +1,176 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.services.grid;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.layout.grid.Grid;
+import org.apache.causeway.applib.layout.grid.bootstrap.BSGrid;
+import org.apache.causeway.commons.internal.resources._Serializables;
+import org.apache.causeway.commons.io.JaxbUtils;
+
+import lombok.NonNull;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Build-time tool, that precompiles <code>.layout.xml</code> files into a compact (Java serialized) form,
+ * such that in production mode the {@link GridLoaderServiceDefault} does not need to parse layouts with JAXB.
+ * <p>
+ * For every <code>Xxx.layout.xml</code> file found (recursively) within given directories,
+ * writes a <code>Xxx.layout.xml.ser</code> file next to it.
+ * Precompiled layouts carry a checksum of their source,
+ * hence are ignored at runtime, once they have become stale.
+ * <p>
+ * For example, to be run after resources have been copied to the output directory,
+ * using the <i>exec-maven-plugin</i>:
+ * <pre>
+ * &lt;plugin&gt;
+ *   &lt;groupId&gt;org.codehaus.mojo&lt;/groupId&gt;
+ *   &lt;artifactId&gt;exec-maven-plugin&lt;/artifactId&gt;
+ *   &lt;executions&gt;
+ *     &lt;execution&gt;
+ *       &lt;id&gt;precompile-layouts&lt;/id&gt;
+ *       &lt;phase&gt;process-classes&lt;/phase&gt;
+ *       &lt;goals&gt;&lt;goal&gt;java&lt;/goal&gt;&lt;/goals&gt;
+ *       &lt;configuration&gt;
+ *         &lt;mainClass&gt;org.apache.causeway.core.metamodel.services.grid.GridPrecompiler&lt;/mainClass&gt;
+ *         &lt;arguments&gt;&lt;argument&gt;${project.build.outputDirectory}&lt;/argument&gt;&lt;/arguments&gt;
+ *       &lt;/configuration&gt;
+ *     &lt;/execution&gt;
+ *   &lt;/executions&gt;
+ * &lt;/plugin&gt;
+ * </pre>
+ *
+ * @since 2.0
+ */
+@Log4j2
+public final class GridPrecompiler {
+
+    /**
+     * File name suffix of precompiled layouts, as appended to the layout's source file name.
+     */
+    public static final String SUFFIX = ".ser";
+
+    private static final int MAGIC = 0x43474c31; // 'CGL1'
+
+    private GridPrecompiler() {}
+
+    public static void main(final String[] args) throws IOException {
+        if(args.length == 0) {
+            System.err.println("usage: GridPrecompiler <directory>...");
+            System.exit(1);
+        }
+        for(val dir : args) {
+            val precompiled = precompileAll(Paths.get(dir));
+            log.info("precompiled {} layout(s) within {}", precompiled, dir);
+        }
+    }
+
+    /**
+     * Precompiles all <code>.layout.xml</code> files found (recursively) within given directory.
+     * @return the number of layouts precompiled
+     */
+    public static int precompileAll(final @NonNull Path dir) throws IOException {
+        final List<Path> sources;
+        try(val paths = Files.walk(dir)) {
+            sources = paths
+                    .filter(Files::isRegularFile)
+                    .filter(path->path.getFileName().toString().endsWith(".layout.xml"))
+                    .collect(Collectors.toList());
+        }
+        int count = 0;
+        for(val source : sources) {
+            val content = Files.readString(source, StandardCharsets.UTF_8);
+            val grid = JaxbUtils.tryRead(BSGrid.class, content).getValue().orElse(null);
+            if(grid == null) {
+                log.warn("skipping {}, failed to parse", source);
+                continue;
+            }
+            Files.write(source.resolveSibling(source.getFileName() + SUFFIX), compile(grid, content));
+            ++count;
+        }
+        return count;
+    }
+
+    // -- HELPER
+
+    /**
+     * Compact form of given {@link Grid} (as parsed from given source content).
+     */
+    static byte[] compile(final @NonNull Grid grid, final @NonNull String sourceContent) {
+        val bos = new ByteArrayOutputStream();
+        try(val out = new DataOutputStream(bos)) {
+            out.writeInt(MAGIC);
+            out.writeLong(checksum(sourceContent));
+            out.write(_Serializables.write((Serializable) grid));
+        } catch (IOException e) {
+            // not expected for in-memory streams
+            throw new IllegalStateException(e);
+        }
+        return bos.toByteArray();
+    }
+
+    /**
+     * Optionally the {@link Grid} recovered from given compact form,
+     * based on whether it is well-formed and was compiled from given source content.
+     */
+    static Optional<Grid> decompile(final @Nullable byte[] compiled, final @NonNull String sourceContent) {
+        if(compiled == null) {
+            return Optional.empty();
+        }
+        try(val in = new DataInputStream(new ByteArrayInputStream(compiled))) {
+            if(in.readInt() != MAGIC
+                    || in.readLong() != checksum(sourceContent)) {
+                return Optional.empty();
+            }
+            val serialized = Arrays.copyOfRange(compiled, Integer.BYTES + Long.BYTES, compiled.length);
+            val grid = _Serializables.read(Serializable.class, serialized);
+            return grid instanceof Grid
+                    ? Optional.of((Grid) grid)
+                    : Optional.empty();
+        } catch (Exception e) {
+            log.warn("failed to read precompiled layout, falling back to parsing its source", e);
+            return Optional.empty();
+        }
+    }
+
+    private static long checksum(final String sourceContent) {
+        val crc = new CRC32();
+        crc.update(sourceContent.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+
+}
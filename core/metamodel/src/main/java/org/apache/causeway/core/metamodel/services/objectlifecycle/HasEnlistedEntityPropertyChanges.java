@@ -19,6 +19,7 @@
 package org.apache.causeway.core.metamodel.services.objectlifecycle;
 
 import java.sql.Timestamp;
+import java.util.stream.Stream;
 
 import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
 import org.apache.causeway.applib.services.xactn.TransactionId;
@@ -28,4 +29,15 @@ public interface HasEnlistedEntityPropertyChanges {
 
     Can<EntityPropertyChange> getPropertyChanges(Timestamp timestamp, String user, TransactionId txId);
 
+    /**
+     * As per {@link #getPropertyChanges(Timestamp, String, TransactionId)}, but allowing implementations
+     * to produce the changes lazily, rather than materializing them all up front.
+     * <p>
+     * The stream must be consumed (and closed) within the current transaction.
+     */
+    default Stream<EntityPropertyChange> streamPropertyChanges(
+            final Timestamp timestamp, final String user, final TransactionId txId) {
+        return getPropertyChanges(timestamp, user, txId).stream();
+    }
+
 }
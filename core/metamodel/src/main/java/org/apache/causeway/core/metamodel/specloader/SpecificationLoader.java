@@ -18,6 +18,7 @@
  */
 package org.apache.causeway.core.metamodel.specloader;
 
+import java.lang.reflect.Method;
 import java.util.Optional;
 import java.util.function.Consumer;
 
@@ -31,6 +32,7 @@
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.base._Strings;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.core.metamodel.commons.MethodHandleInvoker;
 import org.apache.causeway.core.metamodel.progmodel.ProgrammingModel;
 import org.apache.causeway.core.metamodel.services.classsubstitutor.ClassSubstitutor;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
@@ -147,6 +149,15 @@ default LogicalType lookupLogicalTypeElseFail(@NonNull final String logicalTypeN
      */
     void validateLater(ObjectSpecification objectSpec);
 
+    // -- METHOD INVOCATION
+
+    /**
+     * Returns the {@link MethodHandleInvoker} for given {@link Method}, resolved once and then
+     * shared by all facets introspected from that method, until the metamodel is
+     * {@link #disposeMetaModel() disposed}.
+     */
+    MethodHandleInvoker methodHandleInvoker(@NonNull Method method);
+
     // -- SUPPORT FOR LOOKUP BY LOGICAL TYPE NAME
 
     /**
@@ -18,11 +18,14 @@
  */
 package org.apache.causeway.core.metamodel.specloader;
 
+import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
@@ -66,6 +69,7 @@
 import org.apache.causeway.core.metamodel.CausewayModuleCoreMetamodel;
 import org.apache.causeway.core.metamodel.CausewayModuleCoreMetamodel.PreloadableTypes;
 import org.apache.causeway.core.metamodel.commons.ClassUtil;
+import org.apache.causeway.core.metamodel.commons.MethodHandleInvoker;
 import org.apache.causeway.core.metamodel.context.MetaModelContext;
 import org.apache.causeway.core.metamodel.facetapi.Facet;
 import org.apache.causeway.core.metamodel.progmodel.ProgrammingModel;
@@ -133,8 +137,9 @@
 
     private FacetProcessor facetProcessor;
 
-    private final SpecificationCache<ObjectSpecification> cache = new SpecificationCacheDefault<>();
+    private final SpecificationCache<ObjectSpecification> cache = new SpecificationCacheConcurrent<>();
     private final LogicalTypeResolver logicalTypeResolver = new LogicalTypeResolverDefault();
+    private final Map<Method, MethodHandleInvoker> methodHandleInvokers = new ConcurrentHashMap<>();
 
     /**
      * We only ever mark the meta-model as fully introspected if in {@link #isFullIntrospect() full}
@@ -347,6 +352,7 @@ public void disposeMetaModel() {
         waitForValidationToFinish();
         logicalTypeResolver.clear();
         cache.clear();
+        methodHandleInvokers.clear();
         validationResult.clear();
         serviceRegistry.clearRegisteredBeans();
         log.info("Metamodel disposed.");
@@ -494,6 +500,13 @@ public Optional<LogicalType> lookupLogicalType(final @NonNull String logicalType
         return Optional.empty();
     }
 
+    // -- METHOD INVOCATION
+
+    @Override
+    public MethodHandleInvoker methodHandleInvoker(final @NonNull Method method) {
+        return methodHandleInvokers.computeIfAbsent(method, MethodHandleInvoker::of);
+    }
+
     // -- VALIDATION STUFF
 
     private final ValidationFailures validationFailures = new ValidationFailures();
@@ -0,0 +1,117 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.commons;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the reflective invocation path of {@link CanonicalInvoker}
+ * with {@link MethodHandleInvoker}, for zero-, one- and two-argument methods.
+ * <p>
+ * Not run as part of the build, run {@link #main(String[])} from the IDE instead.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MethodHandleInvokerBenchmark {
+
+    public static class Customer {
+        private String name = "Joe";
+        public String getName() { return name; }
+        public boolean hideName(final String name) { return name == null; }
+        public String rename(final String first, final String last) { return first + last; }
+    }
+
+    private Customer customer;
+    private Method getter;
+    private Method supporting;
+    private Method action;
+    private MethodHandleInvoker getterInvoker;
+    private MethodHandleInvoker supportingInvoker;
+    private MethodHandleInvoker actionInvoker;
+    private Object[] actionArgs;
+
+    @Setup
+    public void setUp() throws Exception {
+        customer = new Customer();
+        getter = Customer.class.getMethod("getName");
+        supporting = Customer.class.getMethod("hideName", String.class);
+        action = Customer.class.getMethod("rename", String.class, String.class);
+        getterInvoker = MethodHandleInvoker.of(getter);
+        supportingInvoker = MethodHandleInvoker.of(supporting);
+        actionInvoker = MethodHandleInvoker.of(action);
+        actionArgs = new Object[] {"Mary", "Smith"};
+    }
+
+    @Benchmark
+    public Object zeroArgReflective() {
+        return CanonicalInvoker.invoke(getter, customer, null);
+    }
+
+    @Benchmark
+    public Object zeroArgMethodHandle() {
+        return getterInvoker.invoke(customer);
+    }
+
+    @Benchmark
+    public Object oneArgReflective() {
+        return CanonicalInvoker.invoke(supporting, customer, new Object[] {"Joe"});
+    }
+
+    @Benchmark
+    public Object oneArgMethodHandle() {
+        return supportingInvoker.invoke(customer, "Joe");
+    }
+
+    @Benchmark
+    public Object twoArgReflective() {
+        return CanonicalInvoker.invoke(action, customer, actionArgs);
+    }
+
+    @Benchmark
+    public Object twoArgMethodHandle() {
+        return actionInvoker.invoke(customer, actionArgs);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MethodHandleInvokerBenchmark.class.getSimpleName())
+                .build())
+        .run();
+    }
+
+}
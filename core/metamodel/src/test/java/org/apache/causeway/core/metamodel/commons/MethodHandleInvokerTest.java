@@ -0,0 +1,113 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.commons;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import lombok.SneakyThrows;
+import lombok.val;
+
+class MethodHandleInvokerTest {
+
+    public static class Customer {
+        private String name = "Joe";
+        public String getName() { return name; }
+        public void setName(final String name) { this.name = name; }
+        public int add(final int a, final int b) { return a + b; }
+        public int size(final List<String> list) { return list.size(); }
+        @SuppressWarnings("unused")
+        private String secret() { return "s3cret"; }
+        public String fail() { throw new IllegalArgumentException("from method body"); }
+        public static String hello(final String who) { return "hello " + who; }
+    }
+
+    @Test
+    void zeroArg() {
+        val invoker = invokerFor("getName");
+        assertTrue(invoker.isMethodHandleResolved());
+        assertEquals("Joe", invoker.invoke(new Customer()));
+    }
+
+    @Test
+    void oneArg() {
+        val customer = new Customer();
+        assertNull(invokerFor("setName", String.class).invoke(customer, "Mary"));
+        assertEquals("Mary", customer.getName());
+    }
+
+    @Test
+    void missingPrimitiveArgs_areFilledWithDefaults() {
+        val invoker = invokerFor("add", int.class, int.class);
+        assertEquals(3, invoker.invoke(new Customer(), new Object[] {1, 2}));
+        assertEquals(1, invoker.invoke(new Customer(), new Object[] {1}));
+        assertEquals(0, invoker.invoke(new Customer()));
+    }
+
+    @Test
+    void collectionArgs_areAdapted() {
+        assertEquals(2, invokerFor("size", List.class)
+                .invoke(new Customer(), (Object)Set.of("a", "b")));
+    }
+
+    @Test
+    void privateMethod() {
+        assertEquals("s3cret", invokerFor("secret").invoke(new Customer()));
+    }
+
+    @Test
+    void staticMethod_ignoresTarget() {
+        assertEquals("hello Joe", invokerFor("hello", String.class).invoke(new Customer(), "Joe"));
+    }
+
+    @Test
+    void exceptionFromMethodBody_isPropagated() {
+        val ex = assertThrows(IllegalArgumentException.class,
+                ()->invokerFor("fail").invoke(new Customer()));
+        assertEquals("from method body", ex.getMessage());
+    }
+
+    @Test
+    void incompatibleArg_isReportedVerbose() {
+        val ex = assertThrows(IllegalArgumentException.class,
+                ()->invokerFor("setName", String.class).invoke(new Customer(), 42));
+        assertTrue(ex.getMessage().contains("param-type[0]"));
+    }
+
+    @Test
+    void invokers_areCached() {
+        assertSame(invokerFor("getName"), invokerFor("getName"));
+    }
+
+    // -- HELPER
+
+    @SneakyThrows
+    private static MethodHandleInvoker invokerFor(final String name, final Class<?>... paramTypes) {
+        return MethodHandleInvoker.of(Customer.class.getDeclaredMethod(name, paramTypes));
+    }
+
+}
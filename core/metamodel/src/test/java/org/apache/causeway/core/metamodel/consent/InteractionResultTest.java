@@ -21,11 +21,17 @@
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import org.apache.causeway.applib.services.wrapper.events.InteractionEvent;
+
+import lombok.val;
+
 class InteractionResultTest {
 
     private InteractionResult result;
@@ -79,4 +85,21 @@ public void shouldBeEmptyWhenAdvisedWithNull() {
         assertEquals(null, result.getReason());
     }
 
+    @Test
+    public void shouldCreateDeferredEventOnlyWhenAskedFor() {
+        val event = Mockito.mock(InteractionEvent.class);
+        val createCount = new int[1];
+        val deferredResult = InteractionResult.deferred(()->{
+            createCount[0]++;
+            return event;
+        });
+        deferredResult.advise("foo", InteractionAdvisor.forTesting());
+        assertEquals(0, createCount[0]);
+
+        assertSame(event, deferredResult.getInteractionEvent());
+        assertSame(event, deferredResult.getInteractionEvent());
+        assertEquals(1, createCount[0]);
+        Mockito.verify(event).advised(Mockito.eq("foo"), Mockito.any());
+    }
+
 }
@@ -0,0 +1,95 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.facets.all.i8n;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.causeway.applib.locale.UserLocale;
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.user.UserMemento;
+import org.apache.causeway.core.metamodel.context.MetaModelContext;
+
+import lombok.val;
+
+class TranslationMemoTest {
+
+    private InteractionService interactionService;
+    private MetaModelContext mmc;
+
+    private final AtomicInteger translationCount = new AtomicInteger();
+    private TranslationMemo<String> memo;
+
+    @BeforeEach
+    void setUp() {
+        interactionService = Mockito.mock(InteractionService.class);
+        mmc = Mockito.mock(MetaModelContext.class);
+        Mockito.when(mmc.getMetaModelContext()).thenReturn(mmc);
+        Mockito.when(mmc.getInteractionService()).thenReturn(interactionService);
+
+        memo = TranslationMemo.of(mmc, ()->
+            currentLanguage() + "-" + translationCount.incrementAndGet());
+    }
+
+    @Test
+    void translatesOncePerLocale() {
+        switchLocale(Locale.GERMAN);
+        assertEquals("de-1", memo.get());
+        assertEquals("de-1", memo.get());
+
+        switchLocale(Locale.FRENCH);
+        assertEquals("fr-2", memo.get());
+
+        switchLocale(Locale.GERMAN);
+        assertEquals("de-1", memo.get());
+
+        assertEquals(2, translationCount.get());
+    }
+
+    @Test
+    void translatesOnceWithoutInteraction() {
+        Mockito.when(interactionService.currentInteractionContext()).thenReturn(Optional.empty());
+        assertEquals("none-1", memo.get());
+        assertEquals("none-1", memo.get());
+        assertEquals(1, translationCount.get());
+    }
+
+    // -- HELPER
+
+    private void switchLocale(final Locale locale) {
+        val interactionContext = InteractionContext.ofUserWithSystemDefaults(UserMemento.ofName("sven"))
+                .withLocale(UserLocale.valueOf(locale));
+        Mockito.when(interactionService.currentInteractionContext()).thenReturn(Optional.of(interactionContext));
+    }
+
+    private String currentLanguage() {
+        return interactionService.currentInteractionContext()
+                .map(ctx->ctx.getLocale().getLanguageLocale().getLanguage())
+                .orElse("none");
+    }
+
+}
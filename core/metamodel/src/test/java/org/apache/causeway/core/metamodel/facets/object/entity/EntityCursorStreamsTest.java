@@ -0,0 +1,79 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.facets.object.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.causeway.applib.services.repository.StreamOptions;
+
+import lombok.val;
+
+class EntityCursorStreamsTest {
+
+    private final List<List<Integer>> batches = new ArrayList<>();
+    private final AtomicInteger closeCount = new AtomicInteger();
+
+    @Test
+    void closesCursorOnce_whenExhausted() {
+        try(val stream = stream(5, StreamOptions.defaults())) {
+            assertEquals(List.of(0, 1, 2, 3, 4), stream.collect(Collectors.toList()));
+            assertEquals(1, closeCount.get());
+        }
+        assertEquals(1, closeCount.get());
+        assertEquals(0, batches.size());
+    }
+
+    @Test
+    void closesCursor_whenStreamClosedEarly() {
+        try(val stream = stream(5, StreamOptions.defaults())) {
+            assertEquals(List.of(0, 1), stream.limit(2).collect(Collectors.toList()));
+            assertEquals(0, closeCount.get());
+        }
+        assertEquals(1, closeCount.get());
+    }
+
+    @Test
+    void consumesBatches_beforeFetchingNextRow() {
+        try(val stream = stream(7, StreamOptions.flushAndClearEvery(3))) {
+            stream.forEach(i->{});
+        }
+        assertEquals(List.of(List.of(0, 1, 2), List.of(3, 4, 5)), batches);
+        assertEquals(1, closeCount.get());
+    }
+
+    // -- HELPER
+
+    private Stream<Integer> stream(final int size, final StreamOptions options) {
+        return EntityCursorStreams.stream(
+                IntStream.range(0, size).boxed().iterator(),
+                closeCount::incrementAndGet,
+                options,
+                batch->batches.add(List.copyOf(batch)));
+    }
+
+}
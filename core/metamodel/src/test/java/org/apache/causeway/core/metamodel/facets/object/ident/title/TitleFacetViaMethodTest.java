@@ -57,6 +57,7 @@ public void setUp() throws Exception {
 
         mockFacetHolder = Mockito.mock(FacetHolder.class);
         Mockito.when(mockFacetHolder.getMetaModelContext()).thenReturn(metaModelContext);
+        Mockito.when(mockFacetHolder.getSpecificationLoader()).thenReturn(metaModelContext.getSpecificationLoader());
 
         pojo = new DomainObjectWithProblemInItsTitleMethod();
         //mockFacetHolder = mockery.mock(FacetHolder.class);
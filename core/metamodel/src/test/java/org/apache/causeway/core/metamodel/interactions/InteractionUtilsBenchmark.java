@@ -0,0 +1,158 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.interactions;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import org.apache.causeway.core.metamodel._testing.MetaModelContext_forTesting;
+import org.apache.causeway.core.metamodel.consent.InteractionResult;
+import org.apache.causeway.core.metamodel.facetapi.Facet;
+import org.apache.causeway.core.metamodel.facetapi.FacetAbstract;
+import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
+
+import lombok.val;
+
+/**
+ * Simulates rendering an object page, that is, checking visibility and usability of
+ * hundreds of members, none of which is vetoed.
+ * Compares {@link InteractionUtils} with the former stream based evaluation.
+ * <p>
+ * Not run as part of the build, run {@link #main(String[])} from the IDE instead.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InteractionUtilsBenchmark {
+
+    public static interface FillerFacetA extends Facet {}
+    public static interface FillerFacetB extends Facet {}
+    public static interface FillerFacetC extends Facet {}
+    public static interface NeverHiddenFacet extends Facet, HidingInteractionAdvisor {}
+    public static interface NeverDisabledFacet extends Facet, DisablingInteractionAdvisor {}
+
+    static class Filler extends FacetAbstract {
+        Filler(final Class<? extends Facet> facetType, final FacetHolder holder) {
+            super(facetType, holder);
+        }
+    }
+
+    static class NeverHidden extends FacetAbstract implements NeverHiddenFacet {
+        NeverHidden(final FacetHolder holder) {
+            super(NeverHiddenFacet.class, holder);
+        }
+        @Override public String hides(final VisibilityContext ic) {
+            return null;
+        }
+    }
+
+    static class NeverDisabled extends FacetAbstract implements NeverDisabledFacet {
+        NeverDisabled(final FacetHolder holder) {
+            super(NeverDisabledFacet.class, holder);
+        }
+        @Override public String disables(final UsabilityContext ic) {
+            return null;
+        }
+    }
+
+    @Param({"100", "500"})
+    public int memberCount;
+
+    private FacetHolder[] members;
+    private VisibilityContext visibilityContext;
+    private UsabilityContext usabilityContext;
+
+    @Setup
+    public void setUp() {
+        val mmc = MetaModelContext_forTesting.builder().build();
+        members = new FacetHolder[memberCount];
+        for(int i=0; i<memberCount; ++i) {
+            val member = FacetHolder.forTesting(mmc);
+            member.addFacet(new Filler(FillerFacetA.class, member));
+            member.addFacet(new Filler(FillerFacetB.class, member));
+            member.addFacet(new Filler(FillerFacetC.class, member));
+            member.addFacet(new NeverHidden(member));
+            member.addFacet(new NeverDisabled(member));
+            members[i] = member;
+        }
+        visibilityContext = Mockito.mock(VisibilityContext.class);
+        usabilityContext = Mockito.mock(UsabilityContext.class);
+    }
+
+    @Benchmark
+    public void renderObjectPage(final Blackhole blackhole) {
+        for(val member : members) {
+            blackhole.consume(InteractionUtils.isVisibleResult(member, visibilityContext).isNotVetoing());
+            blackhole.consume(InteractionUtils.isUsableResult(member, usabilityContext).isNotVetoing());
+        }
+    }
+
+    @Benchmark
+    public void renderObjectPageUsingStreams(final Blackhole blackhole) {
+        for(val member : members) {
+            blackhole.consume(isVisibleResultUsingStreams(member, visibilityContext).isNotVetoing());
+            blackhole.consume(isUsableResultUsingStreams(member, usabilityContext).isNotVetoing());
+        }
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(InteractionUtilsBenchmark.class.getSimpleName())
+                .build())
+        .run();
+    }
+
+    // -- FORMER IMPLEMENTATION
+
+    private static InteractionResult isVisibleResultUsingStreams(
+            final FacetHolder facetHolder, final VisibilityContext context) {
+        val iaResult = new InteractionResult(context.createInteractionEvent());
+        facetHolder.streamFacets(HidingInteractionAdvisor.class)
+        .forEach(advisor->iaResult.advise(advisor.hides(context), advisor));
+        return iaResult;
+    }
+
+    private static InteractionResult isUsableResultUsingStreams(
+            final FacetHolder facetHolder, final UsabilityContext context) {
+        val iaResult = new InteractionResult(context.createInteractionEvent());
+        facetHolder.streamFacets(DisablingInteractionAdvisor.class)
+        .forEach(advisor->iaResult.advise(advisor.disables(context), advisor));
+        return iaResult;
+    }
+
+}
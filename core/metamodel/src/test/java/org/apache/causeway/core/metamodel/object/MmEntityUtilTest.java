@@ -0,0 +1,111 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.object;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.inject.ServiceInjector;
+import org.apache.causeway.applib.services.metamodel.BeanSort;
+import org.apache.causeway.applib.services.repository.EntityState;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.context.MetaModelContext;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+
+import lombok.val;
+
+class MmEntityUtilTest {
+
+    static class Customer {}
+
+    private ObjectSpecification customerSpec;
+    private EntityFacet entityFacet;
+
+    private final Customer detached1 = new Customer();
+    private final Customer detached2 = new Customer();
+    private final Customer attached1 = new Customer();
+    private final Customer attached2 = new Customer();
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @BeforeEach
+    void setUp() {
+        customerSpec = Mockito.mock(ObjectSpecification.class);
+        entityFacet = Mockito.mock(EntityFacet.class);
+        Mockito.when(customerSpec.getCorrespondingClass()).thenReturn((Class)Customer.class);
+        Mockito.when(customerSpec.getBeanSort()).thenReturn(BeanSort.ENTITY);
+        Mockito.when(customerSpec.isEntity()).thenReturn(true);
+        Mockito.when(customerSpec.entityFacetElseFail()).thenReturn(entityFacet);
+        Mockito.when(entityFacet.validateBookmark(ArgumentMatchers.any()))
+            .thenAnswer(invocation->invocation.getArgument(0));
+        Mockito.when(entityFacet.getEntityState(ArgumentMatchers.any()))
+            .thenReturn(EntityState.PERSISTABLE_ATTACHED);
+        Mockito.when(entityFacet.getEntityState(detached1)).thenReturn(EntityState.PERSISTABLE_DETACHED);
+        Mockito.when(entityFacet.getEntityState(detached2)).thenReturn(EntityState.PERSISTABLE_DETACHED);
+
+        val mmc = Mockito.mock(MetaModelContext.class);
+        Mockito.when(mmc.getServiceInjector()).thenReturn(Mockito.mock(ServiceInjector.class));
+        Mockito.when(customerSpec.getMetaModelContext()).thenReturn(mmc);
+    }
+
+    @Test
+    void shouldRefetchDetachedEntities_withSingleRoundTripPerType() {
+
+        val cus1 = Bookmark.forLogicalTypeNameAndIdentifier("CUS", "1");
+        val cus2 = Bookmark.forLogicalTypeNameAndIdentifier("CUS", "2");
+
+        val entity1 = ManagedObject.entity(customerSpec, detached1, Optional.of(cus1));
+        val entity2 = ManagedObject.entity(customerSpec, detached2, Optional.of(cus2));
+
+        Mockito.when(entityFacet.fetchByBookmarks(Can.of(cus1, cus2)))
+            .thenReturn(Map.of(cus1, attached1, cus2, attached2));
+
+        MmEntityUtil.refetchDetached(List.of(entity1, entity2, entity1));
+
+        Mockito.verify(entityFacet, Mockito.times(1)).fetchByBookmarks(ArgumentMatchers.any());
+
+        assertSame(attached1, entity1.getPojo());
+        assertSame(attached2, entity2.getPojo());
+
+        // no refetch one by one
+        Mockito.verify(entityFacet, Mockito.never()).fetchByBookmark(ArgumentMatchers.any());
+    }
+
+    @Test
+    void shouldLeaveAttachedEntitiesAlone() {
+
+        val cus1 = Bookmark.forLogicalTypeNameAndIdentifier("CUS", "1");
+        val entity1 = ManagedObject.entity(customerSpec, attached1, Optional.of(cus1));
+
+        MmEntityUtil.refetchDetached(List.of(entity1));
+
+        Mockito.verify(entityFacet, Mockito.never()).fetchByBookmarks(ArgumentMatchers.any());
+        assertSame(attached1, entity1.getPojo());
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.objectmanager;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.inject.ServiceInjector;
+import org.apache.causeway.applib.services.metamodel.BeanSort;
+import org.apache.causeway.applib.services.repository.EntityState;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.context.MetaModelContext;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.causeway.core.metamodel.object.ManagedObjects;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+
+import lombok.val;
+
+class ObjectBulkLoaderTest {
+
+    static class Customer {}
+
+    private ObjectSpecification customerSpec;
+    private EntityFacet entityFacet;
+    private ObjectBulkLoader objectBulkLoader;
+
+    private final Customer customer1 = new Customer();
+    private final Customer customer3 = new Customer();
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @BeforeEach
+    void setUp() {
+        customerSpec = Mockito.mock(ObjectSpecification.class);
+        entityFacet = Mockito.mock(EntityFacet.class);
+        Mockito.when(customerSpec.getCorrespondingClass()).thenReturn((Class)Customer.class);
+        Mockito.when(customerSpec.getBeanSort()).thenReturn(BeanSort.ENTITY);
+        Mockito.when(customerSpec.isEntity()).thenReturn(true);
+        Mockito.when(customerSpec.entityFacetElseFail()).thenReturn(entityFacet);
+        Mockito.when(entityFacet.validateBookmark(ArgumentMatchers.any()))
+            .thenAnswer(invocation->invocation.getArgument(0));
+        Mockito.when(entityFacet.getEntityState(ArgumentMatchers.any()))
+            .thenReturn(EntityState.PERSISTABLE_ATTACHED);
+
+        val specLoader = Mockito.mock(SpecificationLoader.class);
+        Mockito.when(specLoader.specForLogicalTypeName(ArgumentMatchers.anyString()))
+            .thenReturn(Optional.empty());
+        Mockito.when(specLoader.specForLogicalTypeName("CUS"))
+            .thenReturn(Optional.of(customerSpec));
+        Mockito.when(specLoader.specForType(Customer.class))
+            .thenReturn(Optional.of(customerSpec));
+        Mockito.when(customerSpec.getSpecificationLoader()).thenReturn(specLoader);
+
+        val mmc = Mockito.mock(MetaModelContext.class);
+        val objectManager = Mockito.mock(ObjectManager.class);
+        Mockito.when(mmc.getSpecificationLoader()).thenReturn(specLoader);
+        Mockito.when(mmc.getObjectManager()).thenReturn(objectManager);
+        Mockito.when(mmc.getServiceInjector()).thenReturn(Mockito.mock(ServiceInjector.class));
+        Mockito.when(customerSpec.getMetaModelContext()).thenReturn(mmc);
+
+        objectBulkLoader = ObjectBulkLoader.createDefault(mmc);
+    }
+
+    @Test
+    void shouldFetchOncePerLogicalType_preservingOrder() {
+
+        val cus1 = Bookmark.forLogicalTypeNameAndIdentifier("CUS", "1");
+        val cus2 = Bookmark.forLogicalTypeNameAndIdentifier("CUS", "2");
+        val cus3 = Bookmark.forLogicalTypeNameAndIdentifier("CUS", "3");
+        val unknown = Bookmark.forLogicalTypeNameAndIdentifier("UNKNOWN", "1");
+
+        Mockito.when(entityFacet.fetchByBookmarks(Can.of(cus3, cus2, cus1)))
+            .thenReturn(Map.of(cus1, customer1, cus3, customer3));
+
+        val objects = objectBulkLoader.loadObjects(Can.of(cus3, unknown, cus2, cus1, cus3));
+
+        Mockito.verify(entityFacet, Mockito.times(1)).fetchByBookmarks(ArgumentMatchers.any());
+
+        assertEquals(5, objects.size());
+        assertSame(customer3, objects.getElseFail(0).getPojo());
+        assertTrue(ManagedObjects.isSpecified(objects.getElseFail(0)));
+        assertFalse(ManagedObjects.isSpecified(objects.getElseFail(1)));
+        assertTrue(ManagedObjects.isNullOrUnspecifiedOrEmpty(objects.getElseFail(2)));
+        assertSame(customer1, objects.getElseFail(3).getPojo());
+        assertSame(customer3, objects.getElseFail(4).getPojo());
+    }
+
+    @Test
+    void whenEmpty_shouldNotFetch() {
+        assertTrue(objectBulkLoader.loadObjects(Can.empty()).isEmpty());
+        Mockito.verifyNoInteractions(entityFacet);
+    }
+
+}
@@ -0,0 +1,150 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.services.events;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.config.DelegatingApplicationListener;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.events.domain.AbstractDomainEvent;
+import org.apache.causeway.applib.events.domain.ActionDomainEvent;
+import org.apache.causeway.applib.events.domain.PropertyDomainEvent;
+import org.apache.causeway.core.config.CausewayConfiguration;
+
+import lombok.val;
+
+class MetamodelEventServiceTest {
+
+    public static class ObservedActionDomainEvent extends ActionDomainEvent<Object> {}
+    public static class UnobservedPropertyDomainEvent extends PropertyDomainEvent<Object, Object> {}
+
+    public static class Subscriber {
+        final List<Object> received = new ArrayList<>();
+        @EventListener(ObservedActionDomainEvent.class)
+        public void on(final ObservedActionDomainEvent event) {
+            received.add(event);
+        }
+    }
+
+    private AnnotationConfigApplicationContext applicationContext;
+    private CausewayConfiguration configuration;
+    private MetamodelEventService metamodelEventService;
+
+    @BeforeEach
+    void setUp() {
+        applicationContext = new AnnotationConfigApplicationContext(Subscriber.class);
+        configuration = new CausewayConfiguration(null);
+        metamodelEventService = MetamodelEventService.builder()
+                .publisher(applicationContext)
+                .applicationContext(applicationContext)
+                .configuration(configuration)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        applicationContext.close();
+    }
+
+    @Test
+    void beforeRefresh_assumesSubscribers() {
+        assertTrue(metamodelEventService.hasSubscribers(UnobservedPropertyDomainEvent.class));
+    }
+
+    @Test
+    void afterRefresh_detectsSubscribers() {
+        refresh();
+        assertTrue(metamodelEventService.hasSubscribers(ObservedActionDomainEvent.class));
+        assertFalse(metamodelEventService.hasSubscribers(UnobservedPropertyDomainEvent.class));
+    }
+
+    @Test
+    void whenDisabled_assumesSubscribers() {
+        configuration.getCore().getMetaModel().setSkipDomainEventsWithoutSubscribers(false);
+        refresh();
+        assertTrue(metamodelEventService.hasSubscribers(UnobservedPropertyDomainEvent.class));
+    }
+
+    @Test
+    void publishesOnlyWhenSubscribed_andCountsPerPhase() {
+        refresh();
+
+        val observed = new ObservedActionDomainEvent();
+        observed.setEventPhase(AbstractDomainEvent.Phase.EXECUTING);
+        metamodelEventService.fireActionDomainEvent(observed);
+
+        val unobserved = new UnobservedPropertyDomainEvent();
+        unobserved.setEventPhase(AbstractDomainEvent.Phase.EXECUTING);
+        metamodelEventService.firePropertyDomainEvent(unobserved);
+
+        assertEquals(List.of(observed), applicationContext.getBean(Subscriber.class).received);
+
+        val executing = metamodelEventService.getDomainEventMetrics()
+                .filter(metrics->metrics.getPhase()==AbstractDomainEvent.Phase.EXECUTING)
+                .getFirstElseFail();
+        assertEquals(1L, executing.getPublished());
+        assertEquals(1L, executing.getSkipped());
+    }
+
+    @Test
+    void withinSpringBootApplication_ignoresCatchAllListeners() {
+        try(val bootContext = new SpringApplicationBuilder(Subscriber.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .run()) {
+
+            // Spring Boot registers an ApplicationListener<ApplicationEvent>, that supports any event
+            assertTrue(((AbstractApplicationContext) bootContext).getApplicationListeners().stream()
+                    .anyMatch(DelegatingApplicationListener.class::isInstance));
+
+            val bootMetamodelEventService = MetamodelEventService.builder()
+                    .publisher(bootContext)
+                    .applicationContext(bootContext)
+                    .configuration(configuration)
+                    .build();
+            bootMetamodelEventService.onContextRefreshed(new ContextRefreshedEvent(bootContext));
+
+            assertTrue(bootMetamodelEventService.hasSubscribers(ObservedActionDomainEvent.class));
+            assertFalse(bootMetamodelEventService.hasSubscribers(UnobservedPropertyDomainEvent.class));
+        }
+    }
+
+    // -- HELPER
+
+    private void refresh() {
+        metamodelEventService.onContextRefreshed(new ContextRefreshedEvent(applicationContext));
+    }
+
+}
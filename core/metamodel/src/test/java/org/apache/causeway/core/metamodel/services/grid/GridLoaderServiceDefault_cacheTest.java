@@ -0,0 +1,108 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.services.grid;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.layout.grid.bootstrap.BSGrid;
+import org.apache.causeway.applib.services.jaxb.JaxbService;
+import org.apache.causeway.applib.value.NamedWithMimeType.CommonMimeType;
+import org.apache.causeway.commons.internal.resources._Resources;
+import org.apache.causeway.core.metamodel.services.grid.bootstrap.GridMarshallerServiceBootstrap;
+
+import lombok.val;
+
+class GridLoaderServiceDefault_cacheTest {
+
+    private GridLoaderServiceDefault gridLoaderService;
+    private JaxbService jaxbService;
+    private GridMarshallerServiceBootstrap marshaller;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        gridLoaderService = new GridLoaderServiceDefault(null, false); // production mode
+        jaxbService = new JaxbService.Simple();
+        marshaller = new GridMarshallerServiceBootstrap(jaxbService);
+    }
+
+    @Test
+    void when_cached_each_load_yields_a_new_instance() {
+        val grid1 = gridLoaderService.load(Foo.class, marshaller).orElseThrow();
+        val grid2 = gridLoaderService.load(Foo.class, marshaller).orElseThrow();
+
+        assertNotSame(grid1, grid2);
+        assertEquals(Foo.class, grid1.getDomainClass());
+        assertEquals(Foo.class, grid2.getDomainClass());
+        assertFalse(grid2.isNormalized());
+        assertEquals(
+                toXml(grid1),
+                toXml(grid2));
+    }
+
+    @Test
+    void when_missing_stays_missing() {
+        assertFalse(gridLoaderService.load(Foo4.class, marshaller).isPresent());
+        assertFalse(gridLoaderService.load(Foo4.class, marshaller).isPresent());
+    }
+
+    @Test
+    void precompiled_roundtrip() throws Exception {
+        val content = _Resources.loadAsStringUtf8(Foo.class, "Foo.layout.xml");
+        val grid = marshaller.unmarshal(content, CommonMimeType.XML).getValue().orElseThrow();
+
+        val compiled = GridPrecompiler.compile(grid, content);
+
+        val recovered = GridPrecompiler.decompile(compiled, content).orElseThrow();
+        assertTrue(recovered instanceof BSGrid);
+        assertEquals(
+                toXml(grid),
+                toXml(recovered));
+
+        // stale, once the source has changed
+        assertFalse(GridPrecompiler.decompile(compiled, content + " ").isPresent());
+    }
+
+    @Test
+    void precompiler_writes_next_to_source(final @TempDir Path dir) throws Exception {
+        val content = _Resources.loadAsStringUtf8(Foo.class, "Foo.layout.xml");
+        Files.writeString(dir.resolve("Foo.layout.xml"), content);
+
+        assertEquals(1, GridPrecompiler.precompileAll(dir));
+
+        val compiled = Files.readAllBytes(dir.resolve("Foo.layout.xml" + GridPrecompiler.SUFFIX));
+        assertTrue(GridPrecompiler.decompile(compiled, content).isPresent());
+    }
+
+    // -- HELPER
+
+    private String toXml(final Object grid) {
+        return jaxbService.toXml(grid);
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.specloader;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+
+/**
+ * Compares steady-state lookup throughput of {@link SpecificationCacheDefault}
+ * with {@link SpecificationCacheConcurrent}.
+ * <p>
+ * Not run as part of the build, run {@link #main(String[])} from the IDE instead.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpecificationCacheBenchmark {
+
+    private static final Class<?>[] TYPES = {
+            String.class, Integer.class, Long.class, Double.class, Boolean.class,
+            java.math.BigDecimal.class, java.math.BigInteger.class, java.util.UUID.class,
+            java.time.LocalDate.class, java.time.LocalDateTime.class, java.time.Instant.class,
+            java.net.URL.class, java.util.List.class, java.util.Set.class, java.util.Map.class,
+            Object.class};
+
+    @Param({"default", "concurrent"})
+    public String implementation;
+
+    private SpecificationCache<ObjectSpecification> cache;
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Setup
+    public void setUp() {
+        cache = "concurrent".equals(implementation)
+                ? new SpecificationCacheConcurrent<>()
+                : new SpecificationCacheDefault<>();
+        for(Class<?> type : TYPES) {
+            final ObjectSpecification spec = Mockito.mock(ObjectSpecification.class);
+            Mockito.when(spec.getCorrespondingClass()).thenReturn((Class)type);
+            cache.computeIfAbsent(type, __->spec);
+        }
+    }
+
+    @Benchmark
+    public void lookup(final Blackhole blackhole) {
+        for(Class<?> type : TYPES) {
+            blackhole.consume(cache.lookup(type));
+        }
+    }
+
+    @Benchmark
+    public void computeIfAbsent(final Blackhole blackhole) {
+        for(Class<?> type : TYPES) {
+            blackhole.consume(cache.computeIfAbsent(type, __->null));
+        }
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        for(int threads : new int[] {1, 2, 4, 8, 16, 32, 64}) {
+            new Runner(new OptionsBuilder()
+                    .include(SpecificationCacheBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build())
+            .run();
+        }
+    }
+
+}
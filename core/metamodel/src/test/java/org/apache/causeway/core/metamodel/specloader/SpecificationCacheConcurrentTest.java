@@ -0,0 +1,133 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.specloader;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+
+import lombok.val;
+
+class SpecificationCacheConcurrentTest {
+
+    ObjectSpecification customerSpec;
+    ObjectSpecification orderSpec;
+
+    private SpecificationCache<ObjectSpecification> specificationCache;
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @BeforeEach
+    public void setUp() throws Exception {
+        specificationCache = new SpecificationCacheConcurrent<>();
+
+        customerSpec = Mockito.mock(ObjectSpecification.class);
+        orderSpec = Mockito.mock(ObjectSpecification.class);
+
+        Mockito.when(customerSpec.getCorrespondingClass()).thenReturn((Class)Customer.class);
+        Mockito.when(orderSpec.getCorrespondingClass()).thenReturn((Class)Order.class);
+    }
+
+    static class Customer {}
+    static class Order {}
+
+    @Test
+    void lookup_whenNotCached() {
+        assertFalse(specificationCache.lookup(Customer.class).isPresent());
+    }
+
+    @Test
+    void lookup_whenCached() {
+        specificationCache.computeIfAbsent(Customer.class, __->customerSpec);
+        assertSame(customerSpec, specificationCache.lookup(Customer.class).orElse(null));
+    }
+
+    @Test
+    void computeIfAbsent_shouldSupportReentrantIntrospection() {
+        // introspecting a customer triggers introspection of an order
+        val spec = specificationCache.computeIfAbsent(Customer.class, __->{
+            specificationCache.computeIfAbsent(Order.class, ___->orderSpec);
+            return customerSpec;
+        });
+
+        assertSame(customerSpec, spec);
+        assertSame(orderSpec, specificationCache.lookup(Order.class).orElse(null));
+        assertEquals(2, specificationCache.snapshotSpecs().size());
+    }
+
+    @Test
+    void remove_shouldInvalidateVersionedList() {
+        specificationCache.computeIfAbsent(Customer.class, __->customerSpec);
+        specificationCache.computeIfAbsent(Order.class, __->orderSpec);
+
+        assertSame(orderSpec, specificationCache.remove(Order.class));
+
+        val visited = new ArrayList<ObjectSpecification>();
+        specificationCache.forEach(visited::add);
+        assertEquals(1, visited.size());
+        assertSame(customerSpec, visited.get(0));
+    }
+
+    @Test
+    void computeIfAbsent_shouldIntrospectOnlyOnce_whenConcurrentlyAccessed() throws Exception {
+        final int threadCount = 16;
+        val introspectionCount = new AtomicInteger();
+        val startSignal = new CountDownLatch(1);
+        val executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            val futures = new ArrayList<Future<ObjectSpecification>>();
+            for(int i=0; i<threadCount; ++i) {
+                futures.add(executor.submit(()->{
+                    startSignal.await();
+                    return specificationCache.computeIfAbsent(Customer.class, __->{
+                        introspectionCount.incrementAndGet();
+                        return customerSpec;
+                    });
+                }));
+            }
+            startSignal.countDown();
+            for(val future : futures) {
+                assertSame(customerSpec, future.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, introspectionCount.get());
+
+        val visited = new AtomicInteger();
+        specificationCache.forEachConcurrent(__->visited.incrementAndGet());
+        assertEquals(1, visited.get());
+        assertTrue(specificationCache.lookup(Customer.class).isPresent());
+    }
+
+}
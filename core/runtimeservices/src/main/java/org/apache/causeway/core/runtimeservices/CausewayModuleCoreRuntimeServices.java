@@ -54,8 +54,10 @@
 import org.apache.causeway.core.runtimeservices.publish.EntityChangesPublisherDefault;
 import org.apache.causeway.core.runtimeservices.publish.EntityPropertyChangePublisherDefault;
 import org.apache.causeway.core.runtimeservices.publish.ExecutionPublisherDefault;
+import org.apache.causeway.core.runtimeservices.publish.ExecutionSubscriberAsyncDispatcher;
 import org.apache.causeway.core.runtimeservices.publish.LifecycleCallbackNotifier;
 import org.apache.causeway.core.runtimeservices.publish.ObjectLifecyclePublisherDefault;
+import org.apache.causeway.core.runtimeservices.queryresultscache.SharedQueryResultsCacheDefault;
 import org.apache.causeway.core.runtimeservices.recognizer.ExceptionRecognizerServiceDefault;
 import org.apache.causeway.core.runtimeservices.recognizer.dae.ExceptionRecognizerForDataAccessException;
 import org.apache.causeway.core.runtimeservices.repository.RepositoryServiceDefault;
@@ -72,6 +74,7 @@
 import org.apache.causeway.core.runtimeservices.user.ImpersonatedUserHolderDefault;
 import org.apache.causeway.core.runtimeservices.user.UserCurrentSessionTimeZoneHolderDefault;
 import org.apache.causeway.core.runtimeservices.userreg.EmailNotificationServiceDefault;
+import org.apache.causeway.core.runtimeservices.wrapper.WrapperFactoryAsyncExecutor;
 import org.apache.causeway.core.runtimeservices.wrapper.WrapperFactoryDefault;
 import org.apache.causeway.core.runtimeservices.xml.XmlServiceDefault;
 import org.apache.causeway.core.runtimeservices.xmlsnapshot.XmlSnapshotServiceDefault;
@@ -94,6 +97,7 @@
         EventBusServiceSpring.class,
         ExceptionRecognizerServiceDefault.class,
         ExecutionPublisherDefault.class,
+        ExecutionSubscriberAsyncDispatcher.class,
         FactoryServiceDefault.class,
         HomePageResolverServiceDefault.class,
         ImpersonateMenuAdvisorDefault.class,
@@ -116,12 +120,14 @@
         SchemaValueMarshallerDefault.class,
         ScratchpadDefault.class,
         SerializingAdapterDefault.class,
+        SharedQueryResultsCacheDefault.class,
         SitemapServiceDefault.class,
         SpringBeansService.class,
         TransactionServiceSpring.class,
         TranslationServicePo.class,
         UrlEncodingServiceWithCompression.class,
         UserCurrentSessionTimeZoneHolderDefault.class,
+        WrapperFactoryAsyncExecutor.class,
         WrapperFactoryDefault.class,
         XmlServiceDefault.class,
         XmlSnapshotServiceDefault.class,
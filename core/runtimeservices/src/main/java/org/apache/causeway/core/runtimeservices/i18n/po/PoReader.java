@@ -23,6 +23,8 @@
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 import org.apache.causeway.applib.services.i18n.LanguageProvider;
@@ -44,8 +46,14 @@ class PoReader extends PoAbstract {
     public static final String DASH = "-";
     public static final String UNDERSCORE = "_";
 
-    private final Map<Locale, Map<ContextAndMsgId, String>> translationByKeyByLocale = _Maps.newHashMap();
-    private final Map<Locale, Boolean> usesFallbackByLocale = _Maps.newHashMap();
+    /**
+     * Immutable translation tables, each built only once per locale,
+     * either eagerly (see {@link #preload(List)}) or on first request.
+     */
+    private final Map<Locale, TranslationTable> translationTableByLocale = new ConcurrentHashMap<>();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
 
     /**
      * The basename of the translations file, hard-coded to <tt>translations</tt>.
@@ -89,6 +97,19 @@ void init() {
         }
     }
 
+    /**
+     * Not API
+     * <p>
+     * Eagerly builds the translation tables of given locales,
+     * such that no request has to wait for them being read.
+     */
+    void preload(final List<Locale> locales) {
+        locales.forEach(this::translationTableFor);
+        if(!locales.isEmpty()) {
+            log.info("Preloaded translations for locales {}", locales);
+        }
+    }
+
     @Override
     public String translate(final TranslationContext context, final String msgId) {
         if(translationsResolver == null) {
@@ -115,9 +136,20 @@ String translate(final TranslationContext context, final String msgId, final Str
     }
 
     void clearCache() {
-        translationByKeyByLocale.clear();
-        usesFallbackByLocale.clear();
+        val preloadedLocales = List.copyOf(translationTableByLocale.keySet());
         init();
+        translationTableByLocale.clear();
+        preloadedLocales.forEach(this::translationTableFor);
+    }
+
+    /**
+     * Not API
+     */
+    TranslationServicePo.Stats getStats() {
+        return new TranslationServicePo.Stats(
+                hitCount.sum(),
+                missCount.sum(),
+                Set.copyOf(translationTableByLocale.keySet()));
     }
 
     private String translate(final TranslationContext context, final String msgId, final ContextAndMsgId.Type type) {
@@ -136,21 +168,15 @@ private String translate(final TranslationContext context, final String msgId, f
         }
 
 
-        final Map<ContextAndMsgId, String> translationsByKey = readAndCacheTranslationsIfRequired(targetLocale);
+        final TranslationTable translationTable = translationTableFor(targetLocale);
 
-        // search for translation with a context
-        final ContextAndMsgId key = new ContextAndMsgId(context.getName(), msgId, type);
-        final String translation = lookupTranslation(translationsByKey, key);
-        if (!_Strings.isNullOrEmpty(translation)) {
+        // search for translation with a context, else without a context
+        final String translation = translationTable.lookup(context.getName(), msgId);
+        if (translation != null) {
+            hitCount.increment();
             return translation;
         }
-
-        // else search for translation without a context
-        final ContextAndMsgId keyNoContext = new ContextAndMsgId("", msgId, type);
-        final String translationNoContext = lookupTranslation(translationsByKey, keyNoContext);
-        if (!_Strings.isNullOrEmpty(translationNoContext)) {
-            return translationNoContext;
-        }
+        missCount.increment();
 
         // to avoid chattiness in the log, we only log if there are ANY translations at all for the target locale.
         // the algorithm for searching for translations looks for:
@@ -158,58 +184,45 @@ private String translate(final TranslationContext context, final String msgId, f
         // 2. language
         // 3. fallback
         // so this message is only ever displayed if the locale isn't using fallback (ie a translation is genuinely missing)
-        final Boolean usesFallback = usesFallbackByLocale.get(targetLocale);
-        if(usesFallback == null || !usesFallback) {
-            logInfoIfNotPreviously("No translation found for: " + key);
+        if(!translationTable.isUsesFallback()) {
+            logInfoIfNotPreviously("No translation found for: " + new ContextAndMsgId(context.getName(), msgId, type));
         }
 
         return msgId;
     }
 
-
-    private String lookupTranslation(final Map<ContextAndMsgId, String> translationsByKey, final ContextAndMsgId key) {
-        final String s = translationsByKey.get(key);
-        return s != null? s.trim(): null;
-    }
-
-    private Map<ContextAndMsgId, String> readAndCacheTranslationsIfRequired(final Locale locale) {
-        Map<ContextAndMsgId, String> translationsByKey = translationByKeyByLocale.get(locale);
-        if(translationsByKey != null) {
-            return translationsByKey;
-        }
-
-        translationsByKey = _Maps.newHashMap();
-        read(locale, translationsByKey);
-        translationByKeyByLocale.put(locale, translationsByKey);
-
-        return translationsByKey;
+    private TranslationTable translationTableFor(final Locale locale) {
+        // fast path, not requiring any lock
+        final TranslationTable translationTable = translationTableByLocale.get(locale);
+        return translationTable != null
+                ? translationTable
+                : translationTableByLocale.computeIfAbsent(locale, this::read);
     }
 
-
     /**
      * @param locale - the .po file to load
-     * @param translationsByKey - the translations to be populated
      */
-    private void read(final Locale locale, final Map<ContextAndMsgId, String> translationsByKey) {
+    private TranslationTable read(final Locale locale) {
         final List<String> contents = readPo(locale);
+        final boolean usesFallback = contents == fallback;
 
+        final Map<ContextAndMsgId, String> translationsByKey = _Maps.newHashMap();
         Block block = new Block();
         for (final String line : contents) {
             block = block.parseLine(line, translationsByKey);
         }
+        return TranslationTable.of(translationsByKey, usesFallback);
     }
 
     protected List<String> readPo(final Locale locale) {
         final List<String> lines = readPoElseNull(locale);
         if(lines != null) {
-            usesFallbackByLocale.put(locale, false);
             return lines;
         }
 
         // this is only ever logged the first time that a user using this particular locale is encountered
         logInfoIfNotPreviously("Could not locate translations for locale: " + locale + ", using fallback");
 
-        usesFallbackByLocale.put(locale, true);
         return fallback;
     }
 
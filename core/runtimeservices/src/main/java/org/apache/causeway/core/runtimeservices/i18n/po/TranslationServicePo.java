@@ -18,7 +18,9 @@
  */
 package org.apache.causeway.core.runtimeservices.i18n.po;
 
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
@@ -88,6 +90,7 @@ public void init() {
         // switch to read mode
         final PoReader poReader = new PoReader(this);
         poReader.init();
+        poReader.preload(configuration.getCore().getRuntimeServices().getTranslation().getPo().getPreloadLocales());
         po = poReader;
 
         if(!systemEnvironment.isUnitTesting()) {
@@ -132,6 +135,36 @@ public Optional<String> toPot() {
     }
 
 
+    /**
+     * Translation statistics, as gathered while in {@link Mode#READ read} mode.
+     */
+    @lombok.Value
+    public static class Stats {
+        /**
+         * Number of lookups, for which a translation was found.
+         */
+        long hitCount;
+        /**
+         * Number of lookups, for which no translation was found, hence the original text was used.
+         */
+        long missCount;
+        /**
+         * Locales, for which translations have been loaded.
+         */
+        Set<Locale> locales;
+    }
+
+    /**
+     * Not API
+     * <p>
+     * Optionally the translation statistics, based on whether in {@link Mode#READ read} mode.
+     */
+    public Optional<Stats> getStats() {
+        return po instanceof PoReader
+                ? Optional.of(((PoReader)po).getStats())
+                : Optional.empty();
+    }
+
     /**
      * Not API
      */
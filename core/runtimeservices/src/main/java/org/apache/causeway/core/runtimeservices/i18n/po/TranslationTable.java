@@ -0,0 +1,99 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.i18n.po;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.internal.base._Strings;
+
+import lombok.Getter;
+import lombok.val;
+
+/**
+ * Immutable translations of a single locale, as read from a <i>.po</i> file.
+ * <p>
+ * Built once per locale and safe for concurrent lookups without any locking.
+ * Lookups by context and msgId do not allocate any key objects;
+ * the msgIds and contexts are interned, as they reoccur across locales and are largely
+ * the very same strings as held by the metamodel.
+ */
+final class TranslationTable {
+
+    private final Map<String, Map<String, String>> translationByContextByMsgId;
+
+    /**
+     * Whether the translations are not specific to the locale, but have been read from the fallback file.
+     */
+    @Getter private final boolean usesFallback;
+
+    @Getter private final int size;
+
+    static TranslationTable of(final Map<ContextAndMsgId, String> translationsByKey, final boolean usesFallback) {
+        return new TranslationTable(translationsByKey, usesFallback);
+    }
+
+    private TranslationTable(final Map<ContextAndMsgId, String> translationsByKey, final boolean usesFallback) {
+        val translationByContextByMsgId = new HashMap<String, Map<String, String>>();
+        int size = 0;
+        for (val entry : translationsByKey.entrySet()) {
+            val translation = entry.getValue() != null
+                    ? entry.getValue().trim()
+                    : null;
+            val key = entry.getKey();
+            if(_Strings.isNullOrEmpty(translation)
+                    || key.getMsgId() == null) {
+                continue; // treated as if there were no translation at all
+            }
+            translationByContextByMsgId
+                .computeIfAbsent(key.getMsgId().intern(), __->new HashMap<>(2))
+                .put(key.getContext().intern(), translation);
+            size++;
+        }
+        translationByContextByMsgId.replaceAll((msgId, translationByContext)->Map.copyOf(translationByContext));
+        this.translationByContextByMsgId = Map.copyOf(translationByContextByMsgId);
+        this.usesFallback = usesFallback;
+        this.size = size;
+    }
+
+    /**
+     * The (non-empty) translation of given msgId within given context, if any,
+     * otherwise the translation of given msgId without a context, if any.
+     */
+    @Nullable
+    String lookup(final @Nullable String context, final @Nullable String msgId) {
+        if(msgId == null) {
+            return null;
+        }
+        val translationByContext = translationByContextByMsgId.get(msgId);
+        if(translationByContext == null) {
+            return null;
+        }
+        if(context != null) {
+            val translation = translationByContext.get(context);
+            if(translation != null) {
+                return translation;
+            }
+        }
+        return translationByContext.get("");
+    }
+
+}
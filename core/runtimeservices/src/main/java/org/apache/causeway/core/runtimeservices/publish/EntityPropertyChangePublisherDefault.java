@@ -40,6 +40,7 @@
 import org.apache.causeway.applib.services.xactn.TransactionService;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.having.HasEnabling;
+import org.apache.causeway.commons.internal.debug.xray.XrayUi;
 import org.apache.causeway.core.metamodel.services.objectlifecycle.HasEnlistedEntityPropertyChanges;
 import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
 import org.apache.causeway.core.security.util.XrayUtil;
@@ -89,33 +90,44 @@ public void publishChangedProperties() {
         val currentUser = userService.currentUserNameElseNobody();
         val currentTransactionId = transactionService.currentTransactionId().orElse(TransactionId.empty());
 
-        val propertyChanges = hasEnlistedEntityPropertyChanges().getPropertyChanges(
+        // changes are streamed (rather than materialized) to the subscribers, unless required for x-ray
+        try(val propertyChanges = hasEnlistedEntityPropertyChanges().streamPropertyChanges(
                 currentTime,
                 currentUser,
-                currentTransactionId);
-
-        XrayUtil.SequenceHandle xrayHandle = null;
-        try {
-            xrayHandle = _Xray.enterEntityPropertyChangePublishing(
-                    iaTracker,
-                    propertyChanges,
-                    enabledSubscribers,
-                    () -> getCannotPublishReason(propertyChanges)
-            );
-
-            propertyChanges.forEach(propertyChange->{
-                for (val subscriber : enabledSubscribers) {
-                    subscriber.onChanging(propertyChange);
-                }
-            });
-        } finally {
-            _Xray.exitPublishing(xrayHandle);
+                currentTransactionId)) {
+
+            if(!XrayUi.isXrayEnabled()) {
+                propertyChanges.forEach(this::notifySubscribers);
+                return;
+            }
+
+            val payload = propertyChanges.collect(Can.toCan());
+
+            XrayUtil.SequenceHandle xrayHandle = null;
+            try {
+                xrayHandle = _Xray.enterEntityPropertyChangePublishing(
+                        iaTracker,
+                        payload,
+                        enabledSubscribers,
+                        () -> getCannotPublishReason(payload)
+                );
+
+                payload.forEach(this::notifySubscribers);
+            } finally {
+                _Xray.exitPublishing(xrayHandle);
+            }
         }
     }
 
 
     // -- HELPER
 
+    private void notifySubscribers(final EntityPropertyChange propertyChange) {
+        for (val subscriber : enabledSubscribers) {
+            subscriber.onChanging(propertyChange);
+        }
+    }
+
     // x-ray support
     private @Nullable String getCannotPublishReason(final @NonNull Can<EntityPropertyChange> payload) {
         return enabledSubscribers.isEmpty()
@@ -55,6 +55,7 @@
 
     private final List<ExecutionSubscriber> subscribers;
     private final InteractionLayerTracker iaTracker;
+    private final ExecutionSubscriberAsyncDispatcher asyncDispatcher;
 
     private Can<ExecutionSubscriber> enabledSubscribers = Can.empty();
     /**
@@ -105,7 +106,11 @@ private void notifySubscribers(final Execution<?,?> execution) {
 
         if(canPublish()) {
             for (val subscriber : enabledSubscribers) {
-                subscriber.onExecution(execution);
+                if(asyncDispatcher.isAsync(subscriber)) {
+                    asyncDispatcher.dispatch(subscriber, execution);
+                } else {
+                    subscriber.onExecution(execution);
+                }
             }
         }
 
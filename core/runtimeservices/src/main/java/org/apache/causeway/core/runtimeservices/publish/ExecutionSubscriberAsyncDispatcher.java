@@ -0,0 +1,389 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.publish;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PreDestroy;
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Provider;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.iactn.Execution;
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.applib.services.iactnlayer.InteractionLayerTracker;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.publishing.spi.ExecutionSubscriber;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.functional.ThrowingRunnable;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
+
+import lombok.NonNull;
+import lombok.Value;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Notifies {@link ExecutionSubscriber}s asynchronously, if enabled.
+ * <p>
+ * Each subscriber is given its own bounded buffer, drained by a dedicated background thread,
+ * which hands over executions in batches of up to
+ * {@link CausewayConfiguration.Core.RuntimeServices.ExecutionPublisher.Async#getBatchSize() batch-size},
+ * waiting no longer than the
+ * {@link CausewayConfiguration.Core.RuntimeServices.ExecutionPublisher.Async#getFlushInterval() flush-interval}
+ * for a batch to fill up. Hence a slow subscriber neither holds up the publishing thread
+ * nor any of the other subscribers.
+ * <p>
+ * Each batch is delivered within its own interaction, using the {@link InteractionContext} (user, clock, locale, ...)
+ * of the interaction that published the executions, and within its own transaction, such that subscribers may use
+ * domain services, the same as when notified synchronously. Consecutive executions published with different
+ * interaction contexts are delivered in separate batches.
+ * <p>
+ * However, these are not the interactions that published the executions, hence any domain objects referenced by
+ * those executions are detached. Subscribers that cannot cope with that declare themselves
+ * {@link ExecutionSubscriber#isSynchronous() synchronous} and are never dispatched through here.
+ * <p>
+ * Subscribers are handed {@link Execution#snapshot() snapshots}, taken on the publishing thread, rather than the
+ * executions themselves, as these (and their dtos) may still be changed by the publishing interaction.
+ * Taking a snapshot copies the execution's dto, which is the price paid on the publishing thread.
+ *
+ * @see ExecutionPublisherDefault
+ * @see CausewayConfiguration.Core.RuntimeServices.ExecutionPublisher.Async
+ * @since 2.0
+ */
+@Service
+@Named(CausewayModuleCoreRuntimeServices.NAMESPACE + ".ExecutionSubscriberAsyncDispatcher")
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+@Log4j2
+public class ExecutionSubscriberAsyncDispatcher {
+
+    private final CausewayConfiguration.Core.RuntimeServices.ExecutionPublisher.Async config;
+    private final InteractionLayerTracker iaTracker;
+    private final Provider<InteractionService> interactionServiceProvider;
+    private final Provider<TransactionService> transactionServiceProvider;
+    private final Map<ExecutionSubscriber, Channel> channelsBySubscriber = new ConcurrentHashMap<>();
+    private volatile boolean shutdown;
+
+    @Inject
+    public ExecutionSubscriberAsyncDispatcher(
+            final CausewayConfiguration causewayConfiguration,
+            final InteractionLayerTracker iaTracker,
+            final Provider<InteractionService> interactionServiceProvider,
+            final Provider<TransactionService> transactionServiceProvider) {
+        this.config = causewayConfiguration.getCore().getRuntimeServices().getExecutionPublisher().getAsync();
+        this.iaTracker = iaTracker;
+        this.interactionServiceProvider = interactionServiceProvider;
+        this.transactionServiceProvider = transactionServiceProvider;
+    }
+
+    /**
+     * Whether given subscriber is to be notified through this dispatcher,
+     * rather than synchronously by the caller.
+     */
+    public boolean isAsync(final @NonNull ExecutionSubscriber subscriber) {
+        return config.isEnabled()
+                && !subscriber.isSynchronous();
+    }
+
+    /**
+     * Buffers given execution for later delivery to given subscriber,
+     * applying the configured back-pressure policy if the subscriber's buffer is full.
+     * <p>
+     * Once shut down, delivers synchronously instead.
+     */
+    public void dispatch(
+            final @NonNull ExecutionSubscriber subscriber,
+            final @NonNull Execution<?, ?> execution) {
+        if(shutdown) {
+            subscriber.onExecution(execution);
+            return;
+        }
+        channelsBySubscriber.computeIfAbsent(subscriber, Channel::new)
+            .offer(new Envelope(execution.snapshot(), iaTracker.currentInteractionContext().orElse(null)));
+    }
+
+    /**
+     * Delivery metrics per subscriber, that has been dispatched to at least once.
+     */
+    public Can<DeliveryMetrics> getDeliveryMetrics() {
+        return Can.ofCollection(channelsBySubscriber.values())
+                .map(Channel::metrics);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        shutdown = true;
+        val deadline = System.nanoTime() + config.getShutdownTimeout().toNanos();
+        channelsBySubscriber.values().forEach(Channel::close);
+        channelsBySubscriber.values().forEach(channel->channel.awaitTermination(deadline));
+    }
+
+    // -- METRICS
+
+    @Value
+    public static class DeliveryMetrics {
+        /**
+         * Class name of the subscriber.
+         */
+        String subscriber;
+        /**
+         * Number of executions published to the subscriber.
+         */
+        long published;
+        /**
+         * Number of executions delivered to the subscriber, including those delivered by the caller.
+         */
+        long delivered;
+        /**
+         * Number of executions delivered synchronously by the publishing thread,
+         * as per {@link CausewayConfiguration.Core.RuntimeServices.ExecutionPublisher.Async.BackPressure#CALLER_RUNS}.
+         */
+        long deliveredByCaller;
+        /**
+         * Number of executions discarded because the buffer was full (or not delivered on shutdown).
+         */
+        long dropped;
+        /**
+         * Number of executions, for which the subscriber threw an exception.
+         */
+        long failed;
+        /**
+         * Number of executions currently buffered.
+         */
+        int queued;
+    }
+
+    // -- ENVELOPE
+
+    /**
+     * A snapshot of an execution, along with the context of the interaction it was published by.
+     */
+    @Value
+    private static class Envelope {
+        Execution<?, ?> execution;
+        @Nullable InteractionContext interactionContext;
+    }
+
+    // -- CHANNEL
+
+    private final class Channel implements Runnable {
+
+        private final ExecutionSubscriber subscriber;
+        private final BlockingQueue<Envelope> queue;
+        private final Thread worker;
+        private final long flushIntervalNanos;
+        private final int batchSize;
+
+        private final LongAdder published = new LongAdder();
+        private final LongAdder delivered = new LongAdder();
+        private final LongAdder deliveredByCaller = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+
+        private volatile boolean closed;
+
+        Channel(final ExecutionSubscriber subscriber) {
+            this.subscriber = subscriber;
+            this.queue = new ArrayBlockingQueue<>(config.getQueueCapacity());
+            this.flushIntervalNanos = Math.max(1L, config.getFlushInterval().toNanos());
+            this.batchSize = config.getBatchSize();
+            this.worker = new Thread(this, "causeway-execution-publisher-" + subscriber.getClass().getSimpleName());
+            worker.setDaemon(true);
+            worker.start();
+        }
+
+        void offer(final Envelope envelope) {
+            published.increment();
+            if(closed) {
+                deliverByCaller(envelope);
+                return;
+            }
+            if(queue.offer(envelope)) {
+                return;
+            }
+            switch (config.getBackPressure()) {
+            case BLOCK:
+                try {
+                    queue.put(envelope);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    deliverByCaller(envelope);
+                }
+                return;
+            case CALLER_RUNS:
+                deliverByCaller(envelope);
+                return;
+            case DROP_NEWEST:
+                drop(1);
+                return;
+            case DROP_OLDEST:
+                while(!queue.offer(envelope)) {
+                    if(queue.poll()!=null) {
+                        drop(1);
+                    }
+                }
+                return;
+            }
+        }
+
+        @Override
+        public void run() {
+            val batch = new ArrayList<Envelope>(batchSize);
+            boolean interrupted = false;
+            while(!interrupted
+                    && (!closed || !queue.isEmpty())) {
+                try {
+                    val first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                    if(first==null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    val deadline = System.nanoTime() + flushIntervalNanos;
+                    while(batch.size()<batchSize) {
+                        queue.drainTo(batch, batchSize - batch.size());
+                        val remaining = deadline - System.nanoTime();
+                        if(batch.size()>=batchSize
+                                || remaining<=0
+                                || closed) {
+                            break;
+                        }
+                        val next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                        if(next==null) {
+                            break;
+                        }
+                        batch.add(next);
+                    }
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+                deliver(batch);
+                batch.clear();
+            }
+            if(!queue.isEmpty()) {
+                val remaining = new ArrayList<Envelope>();
+                queue.drainTo(remaining);
+                drop(remaining.size());
+            }
+        }
+
+        void close() {
+            closed = true;
+        }
+
+        void awaitTermination(final long deadlineNanos) {
+            try {
+                worker.join(Math.max(1L, TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime())));
+                if(worker.isAlive()) {
+                    log.warn("{} did not finish delivering buffered executions in time, interrupting",
+                            worker.getName());
+                    worker.interrupt();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        DeliveryMetrics metrics() {
+            return new DeliveryMetrics(
+                    subscriber.getClass().getName(),
+                    published.sum(),
+                    delivered.sum(),
+                    deliveredByCaller.sum(),
+                    dropped.sum(),
+                    failed.sum(),
+                    queue.size());
+        }
+
+        // -- HELPER
+
+        private void deliver(final List<Envelope> batch) {
+            // split up into runs of consecutive executions sharing the same interaction context
+            int from = 0;
+            while(from < batch.size()) {
+                val interactionContext = batch.get(from).getInteractionContext();
+                int to = from + 1;
+                while(to < batch.size()
+                        && Objects.equals(interactionContext, batch.get(to).getInteractionContext())) {
+                    ++to;
+                }
+                deliver(interactionContext, Can.ofCollection(batch.subList(from, to)).map(Envelope::getExecution));
+                from = to;
+            }
+        }
+
+        private void deliver(
+                final @Nullable InteractionContext interactionContext,
+                final Can<Execution<?, ?>> executions) {
+            final ThrowingRunnable delivery = ()->
+                transactionServiceProvider.get()
+                    .runTransactional(Propagation.REQUIRES_NEW, ()->subscriber.onExecutions(executions))
+                    .ifFailureFail();
+            try {
+                if(interactionContext != null) {
+                    interactionServiceProvider.get().run(interactionContext, delivery);
+                } else {
+                    interactionServiceProvider.get().runAnonymous(delivery);
+                }
+                delivered.add(executions.size());
+            } catch (Exception e) {
+                failed.add(executions.size());
+                log.error("failed to deliver {} execution(s) to {}",
+                        executions.size(), subscriber.getClass().getName(), e);
+            }
+        }
+
+        /**
+         * The caller is still within the interaction (and transaction) that published the execution.
+         */
+        private void deliverByCaller(final Envelope envelope) {
+            subscriber.onExecution(envelope.getExecution());
+            delivered.increment();
+            deliveredByCaller.increment();
+        }
+
+        private void drop(final int count) {
+            if(count<1) {
+                return;
+            }
+            dropped.add(count);
+            log.warn("dropped {} execution(s) destined for {}",
+                    count, subscriber.getClass().getName());
+        }
+
+    }
+
+}
@@ -54,6 +54,7 @@
 import org.apache.causeway.core.metamodel.object.ManagedObjects;
 import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
 import org.apache.causeway.core.transaction.changetracking.events.PostStoreEvent;
+import org.apache.causeway.core.transaction.changetracking.events.PreRemoveEvent;
 import org.apache.causeway.core.transaction.changetracking.events.PreStoreEvent;
 
 import lombok.NonNull;
@@ -109,6 +110,7 @@ public void postUpdate(final ManagedObject entity) {
     }
 
     public void preRemove(final ManagedObject entity) {
+        eventBusService.post(PreRemoveEvent.of(entity.getPojo()));
         dispatch(entity, RemovingCallbackFacet.class, RemovingLifecycleEventFacet.class);
     }
 
@@ -29,6 +29,7 @@
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.queryresultscache.SharedQueryResultsCache;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.functional.Either;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
@@ -54,6 +55,7 @@ public class ObjectLifecyclePublisherDefault implements ObjectLifecyclePublisher
     private final Provider<EntityChangeTracker> entityChangeTrackerProvider;
     private final Provider<LifecycleCallbackNotifier> lifecycleCallbackNotifierProvider;
     private final Provider<InteractionService> interactionServiceProvider;
+    private final Provider<SharedQueryResultsCache> sharedQueryResultsCacheProvider;
 
     private InteractionService interactionService() {
         return interactionServiceProvider.get();
@@ -65,6 +67,10 @@ private EntityChangeTracker entityChangeTracker() {
                 : EntityChangeTracker.NOOP;
     }
 
+    private SharedQueryResultsCache sharedQueryResultsCache() {
+        return sharedQueryResultsCacheProvider.get();
+    }
+
     LifecycleCallbackNotifier lifecycleCallbackNotifier() {
         return lifecycleCallbackNotifierProvider.get();
     }
@@ -88,6 +94,7 @@ public void onPrePersist(final Either<ManagedObject, ManagedObject> eitherWithOr
     @Override
     public void onPostPersist(final ManagedObject entity) {
         entityChangeTracker().enlistCreated(entity);
+        sharedQueryResultsCache().invalidate(entity.getCorrespondingClass());
         lifecycleCallbackNotifier().postPersist(entity);
     }
 
@@ -96,6 +103,7 @@ public void onPreUpdate(
             final ManagedObject entity,
             @Nullable final Can<PropertyChangeRecord> changeRecords) {
         entityChangeTracker().enlistUpdating(entity, changeRecords);
+        sharedQueryResultsCache().invalidate(entity.getCorrespondingClass());
         lifecycleCallbackNotifier().preUpdate(entity);
     }
 
@@ -109,6 +117,7 @@ public void onPostUpdate(final ManagedObject entity) {
     @Override
     public void onPreRemove(final ManagedObject entity) {
         entityChangeTracker().enlistDeleting(entity);
+        sharedQueryResultsCache().invalidate(entity.getCorrespondingClass());
         lifecycleCallbackNotifier().preRemove(entity);
     }
 
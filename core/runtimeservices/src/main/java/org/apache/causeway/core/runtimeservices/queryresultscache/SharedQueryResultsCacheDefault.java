@@ -0,0 +1,320 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.queryresultscache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.queryresultscache.QueryResultsCache;
+import org.apache.causeway.applib.services.queryresultscache.SharedQueryResultsCache;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Default implementation of {@link SharedQueryResultsCache}, backed by an access-ordered
+ * {@link LinkedHashMap}, bounded by
+ * {@link CausewayConfiguration.Core.RuntimeServices.QueryResultsCache.Shared#getMaxSize() max-size}.
+ * <p>
+ * Entries are indexed by the entity types they are invalidated by, such that invalidating
+ * an entity type only visits the entries of that type (or its supertypes).
+ * <p>
+ * Results computed concurrently with an invalidation of any of their entity types are not cached,
+ * as they might be stale already; neither are results computed within a transaction that changed entities,
+ * which are invalidated (again) once that transaction completes.
+ *
+ * @see CausewayConfiguration.Core.RuntimeServices.QueryResultsCache.Shared
+ * @since 2.0
+ */
+@Service
+@Named(CausewayModuleCoreRuntimeServices.NAMESPACE + ".SharedQueryResultsCacheDefault")
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+@Log4j2
+public class SharedQueryResultsCacheDefault implements SharedQueryResultsCache {
+
+    private final CausewayConfiguration.Core.RuntimeServices.QueryResultsCache.Shared config;
+    private final LongSupplier nanoClock;
+
+    private final Map<QueryResultsCache.Key, CachedResult> entries;
+    /**
+     * Keys of the {@link #entries}, by the entity types they are invalidated by;
+     * guarded by {@link #entries}.
+     */
+    private final Map<Class<?>, Set<QueryResultsCache.Key>> keysByEntityType = new HashMap<>();
+    /**
+     * Per entity type (as declared by call sites), incremented with every invalidation of that type
+     * (or a subtype), such that results computed meanwhile are not cached.
+     */
+    private final Map<Class<?>, AtomicLong> invalidationEpochs = new ConcurrentHashMap<>();
+    /**
+     * Incremented with every {@link #invalidateAll()}.
+     */
+    private final AtomicLong invalidateAllEpoch = new AtomicLong();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder expirationCount = new LongAdder();
+    private final LongAdder invalidationCount = new LongAdder();
+
+    @Inject
+    public SharedQueryResultsCacheDefault(final CausewayConfiguration causewayConfiguration) {
+        this(causewayConfiguration.getCore().getRuntimeServices().getQueryResultsCache().getShared(), System::nanoTime);
+    }
+
+    // JUnit support
+    SharedQueryResultsCacheDefault(
+            final CausewayConfiguration.Core.RuntimeServices.QueryResultsCache.Shared config,
+            final LongSupplier nanoClock) {
+        this.config = config;
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<QueryResultsCache.Key, CachedResult>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<QueryResultsCache.Key, CachedResult> eldest) {
+                if(size() <= config.getMaxSize()) {
+                    return false;
+                }
+                unindex(eldest.getKey(), eldest.getValue());
+                evictionCount.increment();
+                return true;
+            }
+        };
+    }
+
+    @Override
+    public <T> T execute(
+            final Callable<T> callable,
+            final QueryResultsCache.Key cacheKey,
+            final Can<Class<?>> invalidatedBy,
+            final Optional<Duration> timeToLive) throws Exception {
+
+        if(!config.isEnabled()) {
+            return callable.call();
+        }
+
+        val cached = lookup(cacheKey);
+        if(cached.isPresent()) {
+            hitCount.increment();
+            log.debug("SHARED HIT: {}", cacheKey);
+            return _Casts.uncheckedCast(cached.get().result);
+        }
+        missCount.increment();
+        log.debug("SHARED MISS: {}", cacheKey);
+
+        val epochs = invalidationEpochsOf(invalidatedBy);
+        final T result = callable.call();
+
+        if(hasPendingInvalidations()) {
+            // this transaction's changes are not committed yet
+            return result;
+        }
+        val expiresAt = nanoClock.getAsLong() + timeToLive.orElseGet(config::getTimeToLive).toNanos();
+        synchronized(entries) {
+            if(Arrays.equals(epochs, invalidationEpochsOf(invalidatedBy))) {
+                val cachedResult = new CachedResult(result, invalidatedBy, expiresAt);
+                val previous = entries.put(cacheKey, cachedResult);
+                if(previous != null) {
+                    unindex(cacheKey, previous);
+                }
+                index(cacheKey, cachedResult);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void invalidate(final Class<?> changedEntityType) {
+        invalidateNow(changedEntityType);
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingInvalidations().add(changedEntityType);
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        synchronized(entries) {
+            invalidateAllEpoch.incrementAndGet();
+            invalidationCount.add(entries.size());
+            entries.clear();
+            keysByEntityType.clear();
+        }
+    }
+
+    @Override
+    public Stats getStats() {
+        final int size;
+        synchronized(entries) {
+            size = entries.size();
+        }
+        return new Stats(
+                hitCount.sum(),
+                missCount.sum(),
+                evictionCount.sum(),
+                expirationCount.sum(),
+                invalidationCount.sum(),
+                size);
+    }
+
+    // -- HELPER
+
+    @RequiredArgsConstructor
+    private static class CachedResult {
+        final Object result;
+        final Can<Class<?>> invalidatedBy;
+        final long expiresAt;
+    }
+
+    /**
+     * The current epochs of {@link #invalidateAll()} and of given entity types,
+     * to be compared with once a result is computed.
+     */
+    private long[] invalidationEpochsOf(final Can<Class<?>> invalidatedBy) {
+        val epochs = new long[invalidatedBy.size() + 1];
+        epochs[0] = invalidateAllEpoch.get();
+        int i = 1;
+        for(val entityType : invalidatedBy) {
+            epochs[i++] = invalidationEpochs.computeIfAbsent(entityType, __->new AtomicLong()).get();
+        }
+        return epochs;
+    }
+
+    // guarded by entries
+    private void index(final QueryResultsCache.Key cacheKey, final CachedResult cachedResult) {
+        cachedResult.invalidatedBy.forEach(entityType->
+            keysByEntityType.computeIfAbsent(entityType, __->new HashSet<>()).add(cacheKey));
+    }
+
+    // guarded by entries
+    private void unindex(final QueryResultsCache.Key cacheKey, final CachedResult cachedResult) {
+        cachedResult.invalidatedBy.forEach(entityType->{
+            val keys = keysByEntityType.get(entityType);
+            if(keys != null
+                    && keys.remove(cacheKey)
+                    && keys.isEmpty()) {
+                keysByEntityType.remove(entityType);
+            }
+        });
+    }
+
+    private Optional<CachedResult> lookup(final QueryResultsCache.Key cacheKey) {
+        synchronized(entries) {
+            val entry = entries.get(cacheKey);
+            if(entry == null) {
+                return Optional.empty();
+            }
+            if(nanoClock.getAsLong() - entry.expiresAt >= 0) {
+                entries.remove(cacheKey);
+                unindex(cacheKey, entry);
+                expirationCount.increment();
+                return Optional.empty();
+            }
+            return Optional.of(entry);
+        }
+    }
+
+    /**
+     * Invalidates the entries of those entity types (as declared by call sites),
+     * that given changed entity type is assignable to, leaving all other entries (and their computations) be.
+     */
+    private void invalidateNow(final Class<?> changedEntityType) {
+        final List<Class<?>> affectedEntityTypes = new ArrayList<>();
+        invalidationEpochs.forEach((entityType, epoch)->{
+            if(entityType.isAssignableFrom(changedEntityType)) {
+                // before removing entries, so results being computed are not cached
+                epoch.incrementAndGet();
+                affectedEntityTypes.add(entityType);
+            }
+        });
+        if(affectedEntityTypes.isEmpty()) {
+            return;
+        }
+        synchronized(entries) {
+            for(val entityType : affectedEntityTypes) {
+                val keys = keysByEntityType.remove(entityType);
+                if(keys == null) {
+                    continue;
+                }
+                for(val cacheKey : keys) {
+                    val removed = entries.remove(cacheKey);
+                    if(removed != null) {
+                        unindex(cacheKey, removed);
+                        invalidationCount.increment();
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean hasPendingInvalidations() {
+        return TransactionSynchronizationManager.isSynchronizationActive()
+                && TransactionSynchronizationManager.hasResource(this);
+    }
+
+    /**
+     * Entity types changed within the current transaction,
+     * to be invalidated (again) once the transaction completes.
+     */
+    private Set<Class<?>> pendingInvalidations() {
+        final Set<Class<?>> pending = _Casts.uncheckedCast(TransactionSynchronizationManager.getResource(this));
+        if(pending != null) {
+            return pending;
+        }
+        final Set<Class<?>> newPending = new HashSet<>();
+        TransactionSynchronizationManager.bindResource(this, newPending);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(SharedQueryResultsCacheDefault.this);
+                newPending.forEach(SharedQueryResultsCacheDefault.this::invalidateNow);
+            }
+        });
+        return newPending;
+    }
+
+}
@@ -20,10 +20,14 @@
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.Priority;
@@ -36,11 +40,15 @@
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.exceptions.unrecoverable.PersistFailedException;
 import org.apache.causeway.applib.exceptions.unrecoverable.RepositoryException;
+import org.apache.causeway.applib.query.CriteriaProperty;
+import org.apache.causeway.applib.query.CriteriaQuery;
+import org.apache.causeway.applib.query.Criterion;
 import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.query.QueryRange;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.repository.EntityState;
 import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.applib.services.repository.StreamOptions;
 import org.apache.causeway.applib.services.wrapper.WrapperFactory;
 import org.apache.causeway.applib.services.xactn.TransactionService;
 import org.apache.causeway.commons.internal.base._Casts;
@@ -59,13 +67,14 @@
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
+import lombok.extern.log4j.Log4j2;
 
 @Service
 @Named(CausewayModuleCoreRuntimeServices.NAMESPACE + ".RepositoryServiceDefault")
 @Priority(PriorityPrecedence.EARLY)
 @Qualifier("Default")
 @RequiredArgsConstructor
-//@Log4j2
+@Log4j2
 public class RepositoryServiceDefault
 implements RepositoryService, HasMetaModelContext {
 
@@ -78,6 +87,11 @@
     final MetaModelContext metaModelContext;
 
     private boolean autoFlush;
+    /**
+     * Call sites (caller class and line, per entity type) already warned about
+     * for filtering in memory.
+     */
+    private final Set<String> warnedCallSites = ConcurrentHashMap.newKeySet();
 
     @PostConstruct
     public void init() {
@@ -160,6 +174,13 @@ public <T> List<T> allMatches(final Class<T> ofType, final Predicate<? super T>
 
     @Override
     public <T> List<T> allMatches(final Class<T> ofType, final Predicate<? super T> predicate, final long start, final long count) {
+        if(predicate instanceof Criterion) {
+            final Criterion<? super T> criterion = _Casts.uncheckedCast(predicate);
+            return allMatches(Query.criteria(ofType)
+                    .where(criterion)
+                    .withRange(QueryRange.of(start, count)));
+        }
+        warnClientSideFiltering(ofType, predicate);
         return _NullSafe.stream(allInstances(ofType, start, count))
                 .filter(predicate)
                 .collect(Collectors.toCollection(ArrayList::new));
@@ -181,6 +202,10 @@ <T> List<T> submitQuery(final Query<T> query) {
         if(resultTypeSpec==null) {
             return Collections.emptyList();
         }
+        if(query instanceof CriteriaQuery
+                && !canTranslate(resultTypeSpec, (CriteriaQuery<T>) query, List.of())) {
+            return filterInMemory((CriteriaQuery<T>) query);
+        }
 
         val queryRequest = ObjectBulkLoader.Request.of(resultTypeSpec, query);
         val allMatching = getObjectManager().queryObjects(queryRequest);
@@ -188,6 +213,71 @@ <T> List<T> submitQuery(final Query<T> query) {
         return resultList;
     }
 
+    @Override
+    public <T> Stream<T> streamMatches(final @NonNull Query<T> query, final @NonNull StreamOptions options) {
+        if(autoFlush) {
+            transactionService.flushTransaction();
+        }
+        val resultTypeSpec = getSpecificationLoader()
+                .specForType(query.getResultType())
+                .orElse(null);
+
+        if(resultTypeSpec==null) {
+            return Stream.empty();
+        }
+        if(!resultTypeSpec.isEntity()
+                || (query instanceof CriteriaQuery
+                        && !canTranslate(resultTypeSpec, (CriteriaQuery<T>) query, List.of()))) {
+            return submitQuery(query).stream();
+        }
+        return resultTypeSpec.entityFacetElseFail()
+                .streamByQuery(query, options)
+                .map(MmUnwrapUtil::single)
+                .map(_Casts::<T>uncheckedCast);
+    }
+
+    @Override
+    public <T, V> List<V> projectMatches(
+            final @NonNull CriteriaQuery<T> query,
+            final @NonNull CriteriaProperty<? super T, V> property) {
+        return this.<T>project(query, List.of(property))
+                .map(_Casts::<List<V>>uncheckedCast)
+                .orElseGet(()->RepositoryService.super.projectMatches(query, property));
+    }
+
+    @Override
+    public <T> List<Object[]> projectMatches(
+            final @NonNull CriteriaQuery<T> query,
+            final @NonNull List<CriteriaProperty<? super T, ?>> properties) {
+        if(properties.size() == 1) {
+            // a single projected property yields its values rather than rows
+            return projectMatches(query, properties.get(0)).stream()
+                    .map(value->new Object[] {value})
+                    .collect(Collectors.toList());
+        }
+        return this.<T>project(query, properties)
+                .map(_Casts::<List<Object[]>>uncheckedCast)
+                .orElseGet(()->RepositoryService.super.projectMatches(query, properties));
+    }
+
+    /**
+     * Empty if the query cannot be translated, in which case callers fall back to in-memory projection.
+     */
+    private <T> Optional<List<Object>> project(
+            final CriteriaQuery<T> query,
+            final List<? extends CriteriaProperty<?, ?>> properties) {
+        if(autoFlush) {
+            transactionService.flushTransaction();
+        }
+        val propertyNames = properties.stream()
+                .map(CriteriaProperty::getName)
+                .collect(Collectors.toList());
+        return getSpecificationLoader()
+                .specForType(query.getResultType())
+                .filter(resultTypeSpec->canTranslate(resultTypeSpec, query, propertyNames))
+                .map(resultTypeSpec->resultTypeSpec.entityFacetElseFail().projectByQuery(query, propertyNames));
+    }
+
     @Override
     public <T> Optional<T> uniqueMatch(final Class<T> type, final Predicate<T> predicate) {
         final List<T> instances = allMatches(type, predicate);
@@ -255,6 +345,82 @@ public <T> void removeAll(final Class<T> cls) {
 
     // -- HELPER
 
+    // -- CRITERIA QUERIES
+
+    private static boolean canTranslate(
+            final ObjectSpecification resultTypeSpec,
+            final CriteriaQuery<?> query,
+            final List<String> projectedPropertyNames) {
+        return resultTypeSpec.isEntity()
+                && resultTypeSpec.entityFacetElseFail().canTranslate(query, projectedPropertyNames);
+    }
+
+    private <T> List<T> filterInMemory(final CriteriaQuery<T> query) {
+        warnClientSideFiltering(query.getResultType(), query.getDescription());
+
+        final Criterion<? super T> criterion = query.getCriterion().orElse(null);
+        Stream<T> stream = _NullSafe.stream(submitQuery(Query.allInstances(query.getResultType())));
+        if(criterion!=null) {
+            stream = stream.filter(criterion);
+        }
+        Comparator<T> comparator = null;
+        for(val ordering : query.getOrderings()) {
+            final Comparator<? super T> next = ordering.toComparator();
+            comparator = comparator==null
+                    ? next::compare
+                    : comparator.thenComparing(next);
+        }
+        if(comparator!=null) {
+            stream = stream.sorted(comparator);
+        }
+        val range = query.getRange();
+        if(range.hasOffset()) {
+            stream = stream.skip(range.getStart());
+        }
+        if(range.hasLimit()) {
+            stream = stream.limit(range.getLimit());
+        }
+        return stream.collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * Logs (once per call site and entity type) that all instances are loaded and filtered in memory,
+     * so that offending callers can be found and migrated to a {@link Criterion}.
+     * <p>
+     * The call site is the first stack frame outside of the framework,
+     * identified by its class and line number.
+     */
+    private void warnClientSideFiltering(final Class<?> type, final Object filter) {
+        val callSite = callSite();
+        val callSiteKey = type.getName() + "@" + callSite
+                .map(frame->frame.getClassName() + ":" + frame.getLineNumber())
+                .orElse("(unknown)");
+        if(warnedCallSites.add(callSiteKey)) {
+            log.warn("loading all instances of {} to filter in memory (by {}), called from {}",
+                    type.getName(), filter, callSite
+                        .map(StackWalker.StackFrame::toStackTraceElement)
+                        .map(StackTraceElement::toString)
+                        .orElse("(unknown)"));
+        }
+    }
+
+    private static Optional<StackWalker.StackFrame> callSite() {
+        return StackWalker.getInstance()
+                .walk(frames->frames
+                        .filter(frame->!isInfrastructure(frame.getClassName()))
+                        .findFirst());
+    }
+
+    private static boolean isInfrastructure(final String className) {
+        return className.startsWith(RepositoryServiceDefault.class.getName())
+                || className.startsWith(RepositoryService.class.getName())
+                || className.startsWith("java.")
+                || className.startsWith("jdk.")
+                || className.startsWith("sun.")
+                || className.startsWith("org.springframework.")
+                || className.contains("$$");
+    }
+
     private static <T> Optional<T> firstInstanceElseEmpty(final List<T> instances) {
         return instances.size() == 0
                 ? Optional.empty()
@@ -0,0 +1,310 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.wrapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * An {@link java.util.concurrent.ExecutorService} that runs tasks on virtual threads (if supported by the JVM,
+ * otherwise on platform daemon threads), with no more than a given number of tasks in flight at any time.
+ * <p>
+ * Tasks submitted beyond that limit are queued (unbounded), such that submitting is cheap and never blocks.
+ * Each worker thread drains the queue, then terminates; there are no idle threads.
+ * <p>
+ * Tasks must not rely on any thread-local state left behind by previous tasks run on the same thread;
+ * the hook given is run after each task to clean up any such state.
+ *
+ * @since 2.0
+ */
+@Log4j2
+public class VirtualThreadExecutorService extends AbstractExecutorService {
+
+    @Getter private final int maxConcurrency;
+    @Getter private final boolean virtualThreads;
+    private final ThreadFactory threadFactory;
+    private final Runnable afterEachTask;
+
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger(); // as ConcurrentLinkedQueue.size() is not constant time
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger workers = new AtomicInteger();
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private final Object terminationLock = new Object();
+    private volatile boolean shutdown;
+
+    public VirtualThreadExecutorService(
+            final @NonNull String threadNamePrefix,
+            final int maxConcurrency,
+            final @NonNull Runnable afterEachTask) {
+        if(maxConcurrency<1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive, got " + maxConcurrency);
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.afterEachTask = afterEachTask;
+        val virtualThreadFactory = virtualThreadFactory(threadNamePrefix);
+        this.virtualThreads = virtualThreadFactory != null;
+        this.threadFactory = virtualThreadFactory != null
+                ? virtualThreadFactory
+                : daemonThreadFactory(threadNamePrefix);
+    }
+
+    // -- METRICS
+
+    @Value
+    public static class Metrics {
+        /**
+         * Whether tasks are run on virtual threads, rather than on platform threads.
+         */
+        boolean virtualThreads;
+        /**
+         * Number of tasks submitted, but not yet started.
+         */
+        int queued;
+        /**
+         * Number of tasks currently running.
+         */
+        int inFlight;
+        /**
+         * Number of tasks submitted in total.
+         */
+        long submitted;
+        /**
+         * Number of tasks that completed normally.
+         */
+        long completed;
+        /**
+         * Number of tasks that completed exceptionally (or were cancelled).
+         */
+        long failed;
+    }
+
+    public Metrics getMetrics() {
+        return new Metrics(
+                virtualThreads,
+                queued.get(),
+                inFlight.get(),
+                submitted.sum(),
+                completed.sum(),
+                failed.sum());
+    }
+
+    // -- EXECUTION
+
+    @Override
+    public void execute(final @NonNull Runnable task) {
+        if(shutdown) {
+            throw new RejectedExecutionException("executor has been shut down");
+        }
+        submitted.increment();
+        queued.incrementAndGet();
+        queue.offer(task);
+        if(tryAddWorker()) {
+            startWorker();
+        }
+    }
+
+    // -- LIFECYCLE
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        signalIfTerminated();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown();
+        val notStarted = new ArrayList<Runnable>();
+        Runnable task;
+        while((task = queue.poll()) != null) {
+            queued.decrementAndGet();
+            notStarted.add(task);
+        }
+        return notStarted;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown
+                && workers.get() == 0
+                && queue.isEmpty();
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        val deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (terminationLock) {
+            while(!isTerminated()) {
+                val remaining = deadline - System.nanoTime();
+                if(remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(terminationLock, remaining);
+            }
+            return true;
+        }
+    }
+
+    // -- WORKERS
+
+    private boolean tryAddWorker() {
+        while(true) {
+            val current = workers.get();
+            if(current >= maxConcurrency) {
+                return false;
+            }
+            if(workers.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void startWorker() {
+        try {
+            threadFactory.newThread(this::drainQueue).start();
+        } catch (RuntimeException | Error e) {
+            workers.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private void drainQueue() {
+        do {
+            Runnable task;
+            while((task = queue.poll()) != null) {
+                queued.decrementAndGet();
+                run(task);
+            }
+            workers.decrementAndGet();
+            // a task might have been queued after the last poll, yet before this worker retired,
+            // in which case its submitter may not have been able to add a worker
+        } while(!queue.isEmpty()
+                && tryAddWorker());
+        signalIfTerminated();
+    }
+
+    private void run(final Runnable task) {
+        inFlight.incrementAndGet();
+        try {
+            task.run();
+            if(isFailed(task)) {
+                failed.increment();
+            } else {
+                completed.increment();
+            }
+        } catch (Throwable e) {
+            failed.increment();
+            log.error("async task failed", e);
+        } finally {
+            inFlight.decrementAndGet();
+            try {
+                afterEachTask.run();
+            } catch (Throwable e) {
+                log.error("failed to clean up after async task", e);
+            }
+        }
+    }
+
+    private void signalIfTerminated() {
+        if(isTerminated()) {
+            synchronized (terminationLock) {
+                terminationLock.notifyAll();
+            }
+        }
+    }
+
+    // -- HELPER
+
+    /**
+     * Tasks submitted via {@link #submit(java.util.concurrent.Callable)} capture their failure,
+     * rather than throwing it.
+     */
+    private static boolean isFailed(final Runnable task) {
+        if(!(task instanceof Future)) {
+            return false;
+        }
+        val future = (Future<?>) task;
+        if(!future.isDone()) {
+            return false;
+        }
+        try {
+            future.get();
+            return false;
+        } catch (ExecutionException | CancellationException e) {
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Java 21+ <code>Thread.ofVirtual().name(prefix, 0).factory()</code>, looked up reflectively,
+     * as the framework itself is compiled against an earlier release.
+     *
+     * @return <code>null</code> if not supported by the JVM
+     */
+    private static ThreadFactory virtualThreadFactory(final String threadNamePrefix) {
+        try {
+            val ofVirtualClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = ofVirtualClass.getMethod("name", String.class, long.class).invoke(builder, threadNamePrefix, 0L);
+            return (ThreadFactory) ofVirtualClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static ThreadFactory daemonThreadFactory(final String threadNamePrefix) {
+        val counter = new AtomicLong();
+        return runnable->{
+            val thread = new Thread(runnable, threadNamePrefix + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+}
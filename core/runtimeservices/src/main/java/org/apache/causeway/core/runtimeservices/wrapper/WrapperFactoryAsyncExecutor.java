@@ -0,0 +1,141 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.wrapper;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PreDestroy;
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Provider;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.wrapper.control.AsyncControl;
+import org.apache.causeway.commons.internal.base._Lazy;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
+
+import lombok.NonNull;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Provides the {@link ExecutorService} that runs actions and property edits submitted asynchronously
+ * through the {@link WrapperFactoryDefault}, as
+ * {@link CausewayConfiguration.Core.RuntimeServices.WrapperFactory.Async#getExecutor() configured},
+ * unless specified explicitly by the {@link AsyncControl}.
+ * <p>
+ * Each asynchronous task opens its own interaction on whichever thread runs it, using the
+ * {@link org.apache.causeway.applib.services.iactnlayer.InteractionContext} captured on submission,
+ * and closes it again once done; so no interaction is shared across threads.
+ *
+ * @see VirtualThreadExecutorService
+ * @since 2.0
+ */
+@Service
+@Named(CausewayModuleCoreRuntimeServices.NAMESPACE + ".WrapperFactoryAsyncExecutor")
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+@Log4j2
+public class WrapperFactoryAsyncExecutor {
+
+    private final CausewayConfiguration.Core.RuntimeServices.WrapperFactory.Async config;
+    private final Provider<InteractionService> interactionServiceProvider;
+    private final _Lazy<VirtualThreadExecutorService> virtualThreadExecutor;
+
+    @Inject
+    public WrapperFactoryAsyncExecutor(
+            final CausewayConfiguration causewayConfiguration,
+            final Provider<InteractionService> interactionServiceProvider) {
+        this.config = causewayConfiguration.getCore().getRuntimeServices().getWrapperFactory().getAsync();
+        this.interactionServiceProvider = interactionServiceProvider;
+        this.virtualThreadExecutor = _Lazy.threadSafe(this::createVirtualThreadExecutor);
+    }
+
+    /**
+     * The {@link ExecutorService} to run the asynchronous action or property edit, as controlled by given
+     * {@link AsyncControl}.
+     */
+    public ExecutorService executorServiceFor(final @NonNull AsyncControl<?> asyncControl) {
+        if(!asyncControl.isDefaultExecutorService()) {
+            return asyncControl.getExecutorService();
+        }
+        return config.getExecutor().isVirtualThreads()
+                ? virtualThreadExecutor.get()
+                : ForkJoinPool.commonPool();
+    }
+
+    /**
+     * Queue depth and in-flight counts of the {@link VirtualThreadExecutorService},
+     * if configured and used at least once.
+     */
+    public Optional<VirtualThreadExecutorService.Metrics> getMetrics() {
+        return virtualThreadExecutor.isMemoized()
+                ? Optional.of(virtualThreadExecutor.get().getMetrics())
+                : Optional.empty();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if(!virtualThreadExecutor.isMemoized()) {
+            return;
+        }
+        val executor = virtualThreadExecutor.get();
+        executor.shutdown();
+        try {
+            if(!executor.awaitTermination(config.getShutdownTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("async actions did not complete in time, abandoning {}", executor.getMetrics());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // -- HELPER
+
+    private VirtualThreadExecutorService createVirtualThreadExecutor() {
+        val executor = new VirtualThreadExecutorService(
+                "causeway-async-", config.getMaxConcurrency(), this::closeAnyInteractionLeftOpen);
+        if(!executor.isVirtualThreads()) {
+            log.info("virtual threads not supported by this JVM, running async actions on platform threads instead");
+        }
+        return executor;
+    }
+
+    /**
+     * Worker threads are reused across tasks, so must not carry over any interaction
+     * (held thread-locally by the {@link InteractionService}) to the next task.
+     */
+    private void closeAnyInteractionLeftOpen() {
+        val interactionService = interactionServiceProvider.get();
+        if(interactionService.isInInteraction()) {
+            log.warn("async task left its interaction open, closing it");
+            interactionService.closeInteractionLayers();
+        }
+    }
+
+}
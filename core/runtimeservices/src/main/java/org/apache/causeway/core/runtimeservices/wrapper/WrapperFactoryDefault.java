@@ -132,6 +132,7 @@
     @Inject private Provider<BookmarkService> bookmarkServiceProvider;
     @Inject private Provider<RepositoryService> repositoryServiceProvider;
     @Inject private InteractionIdGenerator interactionIdGenerator;
+    @Inject private Provider<WrapperFactoryAsyncExecutor> asyncExecutorProvider;
 
     private final List<InteractionListener> listeners = new ArrayList<>();
     private final Map<Class<? extends InteractionEvent>, InteractionEventDispatcher>
@@ -397,7 +398,7 @@ private <R> Object submitAsync(
         asyncControl.setMethod(method);
         asyncControl.setBookmark(Bookmark.forOidDto(oidDto));
 
-        val executorService = asyncControl.getExecutorService();
+        val executorService = asyncExecutorProvider.get().executorServiceFor(asyncControl);
         val asyncTask = getServiceInjector().injectServicesInto(new AsyncTask<R>(
             asyncInteractionContext,
             Propagation.REQUIRES_NEW,
@@ -185,7 +185,7 @@ public Object invoke(final Object proxyObjectUnused, final Method method, final
             throw new UnsupportedOperationException(String.format("Cannot invoke supporting method '%s'", memberId));
         }
 
-        if (intent == Intent.DEFAULTS || intent == Intent.CHOICES_OR_AUTOCOMPLETE) {
+        if (intent == Intent.DEFAULTS || intent == Intent.CHOICES_OR_AUTOCOMPLETE || intent == Intent.QUERY) {
             return method.invoke(getDelegate(), args);
         }
 
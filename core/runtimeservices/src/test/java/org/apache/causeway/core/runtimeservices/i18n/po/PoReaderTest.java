@@ -21,6 +21,7 @@
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -235,4 +236,41 @@ protected List<String> readPo(final Locale locale) {
         assertThat(translated, is(equalTo("Something to translate")));
     }
 
+    @Test
+    public void translationTableIsReadOnlyOnce_andLookupsAreCounted() throws Exception {
+
+        // given
+        final TranslationContext context = TranslationContext.named("someContext");
+        final int[] readCount = {0};
+
+        poReader = new PoReader(mockTranslationServicePo) {
+            @Override
+            protected List<String> readPo(final Locale locale) {
+                readCount[0]++;
+                final List<String> lines = _Lists.newArrayList();
+                lines.add("#:"); // root context
+                lines.add("msgid \"Work of art\"");
+                lines.add("msgstr \"Objet d'art\"");
+                return lines;
+            }
+        };
+        poReader.preload(List.of(Locale.UK));
+
+        // when
+        final String translated = poReader.translate(context, "Work of art");
+        final String translatedAgain = poReader.translate(context, "Work of art");
+        final String notTranslated = poReader.translate(context, "Something else");
+
+        // then - falls back to the translation without a context
+        assertThat(translated, is(equalTo("Objet d'art")));
+        assertThat(translatedAgain, is(equalTo("Objet d'art")));
+        assertThat(notTranslated, is(equalTo("Something else")));
+
+        assertThat(readCount[0], is(1));
+        final TranslationServicePo.Stats stats = poReader.getStats();
+        assertThat(stats.getHitCount(), is(2L));
+        assertThat(stats.getMissCount(), is(1L));
+        assertThat(stats.getLocales(), is(equalTo(Set.of(Locale.UK))));
+    }
+
 }
@@ -0,0 +1,319 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.publish;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.annotation.Propagation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.services.iactn.Execution;
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.applib.services.iactnlayer.InteractionLayerTracker;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.publishing.spi.ExecutionSubscriber;
+import org.apache.causeway.applib.services.user.UserMemento;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.functional.ThrowingRunnable;
+import org.apache.causeway.commons.functional.Try;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.config.CausewayConfiguration.Core.RuntimeServices.ExecutionPublisher.Async.BackPressure;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+class ExecutionSubscriberAsyncDispatcherTest {
+
+    @RequiredArgsConstructor
+    static class RecordingSubscriber implements ExecutionSubscriber {
+        final boolean synchronous;
+        final List<Execution<?, ?>> executions = Collections.synchronizedList(new ArrayList<>());
+        final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        final List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+        final Thread testThread = Thread.currentThread();
+        /**
+         * blocks all but the test thread, until opened
+         */
+        CountDownLatch gate = new CountDownLatch(0);
+
+        @Override public boolean isEnabled() { return true; }
+        @Override public boolean isSynchronous() { return synchronous; }
+
+        @Override
+        public void onExecutions(final Can<Execution<?, ?>> executions) {
+            batchSizes.add(executions.size());
+            ExecutionSubscriber.super.onExecutions(executions);
+        }
+
+        @Override
+        public void onExecution(final Execution<?, ?> execution) {
+            try {
+                if(Thread.currentThread()!=testThread) {
+                    gate.await();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            threads.add(Thread.currentThread());
+            executions.add(execution);
+        }
+    }
+
+    private CausewayConfiguration causewayConfiguration;
+    private CausewayConfiguration.Core.RuntimeServices.ExecutionPublisher.Async asyncConfig;
+    private InteractionLayerTracker iaTracker;
+    private InteractionService interactionService;
+    private TransactionService transactionService;
+    private ExecutionSubscriberAsyncDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        causewayConfiguration = new CausewayConfiguration(null);
+        asyncConfig = causewayConfiguration.getCore().getRuntimeServices().getExecutionPublisher().getAsync();
+        asyncConfig.setEnabled(true);
+        asyncConfig.setFlushInterval(Duration.ofMillis(50));
+
+        iaTracker = Mockito.mock(InteractionLayerTracker.class);
+        Mockito.when(iaTracker.currentInteractionContext()).thenReturn(Optional.empty());
+
+        interactionService = Mockito.mock(InteractionService.class);
+        Mockito.doAnswer(invocation->{
+            invocation.<ThrowingRunnable>getArgument(1).run();
+            return null;
+        }).when(interactionService).run(Mockito.any(), Mockito.any());
+        Mockito.doAnswer(invocation->{
+            invocation.<ThrowingRunnable>getArgument(0).run();
+            return null;
+        }).when(interactionService).runAnonymous(Mockito.any());
+
+        transactionService = Mockito.mock(TransactionService.class);
+        Mockito.when(transactionService.runTransactional(Mockito.any(Propagation.class), Mockito.any()))
+            .thenAnswer(invocation->Try.run(invocation.<ThrowingRunnable>getArgument(1)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if(dispatcher!=null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    void whenDisabledOrSynchronous_shouldNotBeAsync() {
+        dispatcher = newDispatcher();
+        assertTrue(dispatcher.isAsync(new RecordingSubscriber(false)));
+        assertFalse(dispatcher.isAsync(new RecordingSubscriber(true)));
+
+        asyncConfig.setEnabled(false);
+        assertFalse(dispatcher.isAsync(new RecordingSubscriber(false)));
+    }
+
+    @Test
+    void shouldDeliverInOrder_inBatches_offTheCallingThread() {
+        asyncConfig.setBatchSize(4);
+        dispatcher = newDispatcher();
+        val subscriber = new RecordingSubscriber(false);
+        subscriber.gate = new CountDownLatch(1);
+
+        val executions = executions(10);
+        executions.forEach(execution->dispatcher.dispatch(subscriber, execution));
+        subscriber.gate.countDown();
+        dispatcher.shutdown();
+
+        assertEquals(executions, subscriber.executions);
+        assertTrue(subscriber.batchSizes.stream().allMatch(size->size<=4));
+        assertTrue(subscriber.threads.stream().noneMatch(thread->thread==Thread.currentThread()));
+
+        val metrics = dispatcher.getDeliveryMetrics().getSingletonOrFail();
+        assertEquals(10L, metrics.getPublished());
+        assertEquals(10L, metrics.getDelivered());
+        assertEquals(0L, metrics.getDropped());
+        assertEquals(0, metrics.getQueued());
+    }
+
+    @Test
+    void whenFull_andDropNewest_shouldDropAndCount() throws InterruptedException {
+        asyncConfig.setQueueCapacity(2);
+        asyncConfig.setBatchSize(1);
+        asyncConfig.setBackPressure(BackPressure.DROP_NEWEST);
+        dispatcher = newDispatcher();
+        val subscriber = new RecordingSubscriber(false);
+        subscriber.gate = new CountDownLatch(1);
+
+        // first one is taken by the worker (which then blocks), 2 fill up the buffer, 2 get dropped
+        val executions = executions(5);
+        dispatcher.dispatch(subscriber, executions.get(0));
+        awaitQueued(0);
+        executions.subList(1, 5).forEach(execution->dispatcher.dispatch(subscriber, execution));
+        subscriber.gate.countDown();
+        dispatcher.shutdown();
+
+        assertEquals(executions.subList(0, 3), subscriber.executions);
+        val metrics = dispatcher.getDeliveryMetrics().getSingletonOrFail();
+        assertEquals(5L, metrics.getPublished());
+        assertEquals(3L, metrics.getDelivered());
+        assertEquals(2L, metrics.getDropped());
+    }
+
+    @Test
+    void whenFull_andCallerRuns_shouldDeliverOnCallingThread() throws InterruptedException {
+        asyncConfig.setQueueCapacity(1);
+        asyncConfig.setBatchSize(1);
+        asyncConfig.setBackPressure(BackPressure.CALLER_RUNS);
+        dispatcher = newDispatcher();
+        val subscriber = new RecordingSubscriber(false);
+        subscriber.gate = new CountDownLatch(1);
+
+        val executions = executions(3);
+        dispatcher.dispatch(subscriber, executions.get(0));
+        awaitQueued(0);
+        dispatcher.dispatch(subscriber, executions.get(1));
+        dispatcher.dispatch(subscriber, executions.get(2)); // buffer is full
+        subscriber.gate.countDown();
+        dispatcher.shutdown();
+
+        assertEquals(List.of(executions.get(2), executions.get(0), executions.get(1)), subscriber.executions);
+        assertEquals(Thread.currentThread(), subscriber.threads.get(0));
+        val metrics = dispatcher.getDeliveryMetrics().getSingletonOrFail();
+        assertEquals(3L, metrics.getDelivered());
+        assertEquals(1L, metrics.getDeliveredByCaller());
+    }
+
+    @Test
+    void shouldDeliverWithinInteractionOfPublisher_andWithinTransaction() {
+        asyncConfig.setBatchSize(4);
+        dispatcher = newDispatcher();
+        val subscriber = new RecordingSubscriber(false);
+        subscriber.gate = new CountDownLatch(1);
+
+        val alice = InteractionContext.ofUserWithSystemDefaults(UserMemento.ofName("alice"));
+        val bob = InteractionContext.ofUserWithSystemDefaults(UserMemento.ofName("bob"));
+        val executions = executions(3);
+        Mockito.when(iaTracker.currentInteractionContext()).thenReturn(Optional.of(alice));
+        dispatcher.dispatch(subscriber, executions.get(0));
+        dispatcher.dispatch(subscriber, executions.get(1));
+        Mockito.when(iaTracker.currentInteractionContext()).thenReturn(Optional.of(bob));
+        dispatcher.dispatch(subscriber, executions.get(2));
+        subscriber.gate.countDown();
+        dispatcher.shutdown();
+
+        assertEquals(executions, subscriber.executions);
+        // executions of different interaction contexts are never delivered within the same batch
+        assertTrue(subscriber.batchSizes.stream().allMatch(size->size<=2));
+        Mockito.verify(interactionService, Mockito.atLeastOnce()).run(Mockito.eq(alice), Mockito.any());
+        Mockito.verify(interactionService).run(Mockito.eq(bob), Mockito.any());
+        Mockito.verify(interactionService, Mockito.never()).runAnonymous(Mockito.any());
+        Mockito.verify(transactionService, Mockito.times(subscriber.batchSizes.size()))
+            .runTransactional(Mockito.eq(Propagation.REQUIRES_NEW), Mockito.any());
+    }
+
+    @Test
+    void shouldDeliverSnapshots_takenOnThePublishingThread() {
+        dispatcher = newDispatcher();
+        val subscriber = new RecordingSubscriber(false);
+
+        final Execution<?, ?> execution = Mockito.mock(Execution.class);
+        final Execution<?, ?> snapshot = Mockito.mock(Execution.class);
+        val snapshotThreads = Collections.synchronizedList(new ArrayList<Thread>());
+        Mockito.doAnswer(invocation->{
+            snapshotThreads.add(Thread.currentThread());
+            return snapshot;
+        }).when(execution).snapshot();
+
+        dispatcher.dispatch(subscriber, execution);
+        dispatcher.shutdown();
+
+        assertEquals(List.of(snapshot), subscriber.executions);
+        assertEquals(List.of(Thread.currentThread()), snapshotThreads);
+    }
+
+    @Test
+    void whenSubscriberFails_shouldCountAsFailed() {
+        dispatcher = newDispatcher();
+        val subscriber = new RecordingSubscriber(false) {
+            @Override public void onExecution(final Execution<?, ?> execution) {
+                throw new IllegalStateException("subscriber failure");
+            }
+        };
+
+        dispatcher.dispatch(subscriber, executions(1).get(0));
+        dispatcher.shutdown();
+
+        val metrics = dispatcher.getDeliveryMetrics().getSingletonOrFail();
+        assertEquals(0L, metrics.getDelivered());
+        assertEquals(1L, metrics.getFailed());
+    }
+
+    @Test
+    void whenShutdown_shouldDeliverSynchronously() {
+        dispatcher = newDispatcher();
+        dispatcher.shutdown();
+        val subscriber = new RecordingSubscriber(false);
+
+        dispatcher.dispatch(subscriber, executions(1).get(0));
+
+        assertEquals(1, subscriber.executions.size());
+        assertEquals(Thread.currentThread(), subscriber.threads.get(0));
+    }
+
+    // -- HELPER
+
+    private ExecutionSubscriberAsyncDispatcher newDispatcher() {
+        return new ExecutionSubscriberAsyncDispatcher(
+                causewayConfiguration, iaTracker, ()->interactionService, ()->transactionService);
+    }
+
+    /**
+     * executions, that are their own snapshots
+     */
+    private static List<Execution<?, ?>> executions(final int count) {
+        val executions = new ArrayList<Execution<?, ?>>(count);
+        for(int i=0; i<count; ++i) {
+            final Execution<?, ?> execution = Mockito.mock(Execution.class);
+            Mockito.doReturn(execution).when(execution).snapshot();
+            executions.add(execution);
+        }
+        return executions;
+    }
+
+    private void awaitQueued(final int expected) throws InterruptedException {
+        val deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while(dispatcher.getDeliveryMetrics().getSingletonOrFail().getQueued()!=expected
+                && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        // give the worker a moment to enter the subscriber
+        Thread.sleep(20);
+    }
+
+}
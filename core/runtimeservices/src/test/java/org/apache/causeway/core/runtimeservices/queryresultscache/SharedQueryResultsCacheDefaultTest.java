@@ -0,0 +1,174 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.queryresultscache;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.causeway.applib.services.queryresultscache.QueryResultsCache;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.config.CausewayConfiguration;
+
+import lombok.val;
+
+class SharedQueryResultsCacheDefaultTest {
+
+    static class Country {}
+    static class EuCountry extends Country {}
+    static class TaxCode {}
+
+    private CausewayConfiguration.Core.RuntimeServices.QueryResultsCache.Shared config;
+    private AtomicLong nanoTime;
+    private SharedQueryResultsCacheDefault cache;
+    private AtomicInteger callCount;
+
+    @BeforeEach
+    void setUp() {
+        config = new CausewayConfiguration.Core.RuntimeServices.QueryResultsCache.Shared();
+        config.setMaxSize(2);
+        config.setTimeToLive(Duration.ofSeconds(10));
+        nanoTime = new AtomicLong();
+        cache = new SharedQueryResultsCacheDefault(config, nanoTime::get);
+        callCount = new AtomicInteger();
+    }
+
+    @Test
+    void hit_thenExpired() throws Exception {
+        assertEquals("a", lookup("a", Can.empty(), Optional.empty()));
+        assertEquals("a", lookup("a", Can.empty(), Optional.empty()));
+        assertEquals(1, callCount.get());
+
+        nanoTime.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertEquals("a", lookup("a", Can.empty(), Optional.empty()));
+        assertEquals(2, callCount.get());
+
+        // time-to-live overridden by call site
+        assertEquals("b", lookup("b", Can.empty(), Optional.of(Duration.ofSeconds(1))));
+        nanoTime.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertEquals("b", lookup("b", Can.empty(), Optional.of(Duration.ofSeconds(1))));
+        assertEquals(4, callCount.get());
+
+        val stats = cache.getStats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(4, stats.getMissCount());
+        assertEquals(2, stats.getExpirationCount());
+        assertEquals(0.2, stats.getHitRatio(), 1e-9);
+    }
+
+    @Test
+    void leastRecentlyUsed_isEvicted() throws Exception {
+        lookup("a", Can.empty(), Optional.empty());
+        lookup("b", Can.empty(), Optional.empty());
+        lookup("a", Can.empty(), Optional.empty()); // hit, so 'b' becomes least recently used
+        lookup("c", Can.empty(), Optional.empty());
+        assertEquals(3, callCount.get());
+
+        lookup("a", Can.empty(), Optional.empty());
+        assertEquals(3, callCount.get());
+        lookup("b", Can.empty(), Optional.empty());
+        assertEquals(4, callCount.get());
+
+        val stats = cache.getStats();
+        assertEquals(2, stats.getEvictionCount());
+        assertEquals(2, stats.getSize());
+    }
+
+    @Test
+    void invalidatedByChangedEntityType_includingSubtypes() throws Exception {
+        lookup("countries", Can.of(Country.class), Optional.empty());
+        lookup("taxCodes", Can.of(TaxCode.class), Optional.empty());
+
+        cache.invalidate(EuCountry.class);
+
+        lookup("countries", Can.of(Country.class), Optional.empty());
+        lookup("taxCodes", Can.of(TaxCode.class), Optional.empty());
+        assertEquals(3, callCount.get());
+        assertEquals(1, cache.getStats().getInvalidationCount());
+    }
+
+    @Test
+    void invalidatedDuringComputation_ofSameEntityType_isNotCached() throws Exception {
+        lookup("countries", Can.of(Country.class), Optional.empty(), ()->cache.invalidate(EuCountry.class));
+        lookup("countries", Can.of(Country.class), Optional.empty());
+        assertEquals(2, callCount.get());
+    }
+
+    @Test
+    void invalidatedDuringComputation_ofOtherEntityType_isCached() throws Exception {
+        lookup("countries", Can.of(Country.class), Optional.empty(), ()->cache.invalidate(TaxCode.class));
+        lookup("countries", Can.of(Country.class), Optional.empty());
+        assertEquals(1, callCount.get());
+    }
+
+    @Test
+    void invalidated_afterEviction_onlyCountsCachedEntries() throws Exception {
+        lookup("a", Can.of(Country.class), Optional.empty());
+        lookup("b", Can.of(TaxCode.class), Optional.empty());
+        lookup("c", Can.of(Country.class, TaxCode.class), Optional.empty()); // evicts 'a'
+
+        cache.invalidate(Country.class);
+        assertEquals(1, cache.getStats().getInvalidationCount());
+        assertEquals(1, cache.getStats().getSize());
+
+        cache.invalidate(TaxCode.class);
+        assertEquals(2, cache.getStats().getInvalidationCount());
+        assertEquals(0, cache.getStats().getSize());
+    }
+
+    @Test
+    void whenDisabled_alwaysCalls() throws Exception {
+        config.setEnabled(false);
+        lookup("a", Can.empty(), Optional.empty());
+        lookup("a", Can.empty(), Optional.empty());
+        assertEquals(2, callCount.get());
+    }
+
+    // -- HELPER
+
+    private String lookup(
+            final String key,
+            final Can<Class<?>> invalidatedBy,
+            final Optional<Duration> timeToLive) throws Exception {
+        return lookup(key, invalidatedBy, timeToLive, ()->{});
+    }
+
+    private String lookup(
+            final String key,
+            final Can<Class<?>> invalidatedBy,
+            final Optional<Duration> timeToLive,
+            final Runnable duringComputation) throws Exception {
+        return cache.execute(
+                ()->{
+                    callCount.incrementAndGet();
+                    duringComputation.run();
+                    return key;
+                },
+                new QueryResultsCache.Key(SharedQueryResultsCacheDefaultTest.class, "lookup", key),
+                invalidatedBy,
+                timeToLive);
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.wrapper;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import lombok.val;
+
+class VirtualThreadExecutorServiceTest {
+
+    private final AtomicInteger cleanUps = new AtomicInteger();
+    private VirtualThreadExecutorService executor;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if(executor != null) {
+            executor.shutdownNow();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void limits_concurrency_and_queues_the_rest() throws Exception {
+        executor = new VirtualThreadExecutorService("test-", 2, cleanUps::incrementAndGet);
+
+        val gate = new CountDownLatch(1);
+        val started = new CountDownLatch(2);
+        val running = new AtomicInteger();
+        val maxRunning = new AtomicInteger();
+        for (int i = 0; i < 10; i++) {
+            executor.execute(()->{
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                started.countDown();
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+            });
+        }
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        val metrics = executor.getMetrics();
+        assertEquals(2, metrics.getInFlight());
+        assertEquals(8, metrics.getQueued());
+        assertEquals(10, metrics.getSubmitted());
+
+        gate.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(2, maxRunning.get());
+        assertEquals(10, executor.getMetrics().getCompleted());
+        assertEquals(0, executor.getMetrics().getQueued());
+        assertEquals(0, executor.getMetrics().getInFlight());
+        assertEquals(10, cleanUps.get());
+    }
+
+    @Test
+    void counts_failures_of_submitted_tasks() throws Exception {
+        executor = new VirtualThreadExecutorService("test-", 4, cleanUps::incrementAndGet);
+
+        val future = executor.submit(()->{ throw new IllegalStateException("boom"); });
+        executor.submit(()->"ok").get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertTrue(future.isDone());
+        assertEquals(1, executor.getMetrics().getFailed());
+        assertEquals(1, executor.getMetrics().getCompleted());
+    }
+
+    @Test
+    void rejects_tasks_once_shut_down() {
+        executor = new VirtualThreadExecutorService("test-", 1, cleanUps::incrementAndGet);
+        executor.shutdown();
+
+        assertTrue(executor.isTerminated());
+        assertThrows(RejectedExecutionException.class, ()->executor.execute(()->{}));
+    }
+
+}
@@ -136,6 +136,10 @@ public static class Nq {
         public static final String FIND_MOST_RECENT_COMPLETED           = LOGICAL_TYPE_NAME + ".findMostRecentCompleted";
         public static final String FIND_BY_REPLAY_STATE                 = LOGICAL_TYPE_NAME + ".findNotYetReplayed";
         public static final String FIND_BACKGROUND_AND_NOT_YET_STARTED  = LOGICAL_TYPE_NAME + ".findBackgroundAndNotYetStarted";
+        public static final String FIND_BACKGROUND_AND_STARTED_AND_NOT_YET_COMPLETED = LOGICAL_TYPE_NAME + ".findBackgroundAndStartedAndNotYetCompleted";
+        public static final String FIND_BACKGROUND_AND_NOT_YET_STARTED_SINCE = LOGICAL_TYPE_NAME + ".findBackgroundAndNotYetStartedSince";
+        public static final String FIND_BACKGROUND_AND_NOT_YET_STARTED_OR_ABANDONED_SINCE = LOGICAL_TYPE_NAME + ".findBackgroundAndNotYetStartedOrAbandonedSince";
+        public static final String FIND_BACKGROUND_AND_STARTED_AND_NOT_YET_COMPLETED_BY_TARGET = LOGICAL_TYPE_NAME + ".findBackgroundAndStartedAndNotYetCompletedByTarget";
         public static final String FIND_RECENT_BACKGROUND_BY_TARGET     = LOGICAL_TYPE_NAME + ".findRecentBackgroundByTarget";
     }
 
@@ -453,6 +457,40 @@ class DomainEvent extends PropertyDomainEvent<java.sql.Timestamp> {}
 
 
 
+    /**
+     * The number of times this background command has been claimed for execution, if at all.
+     *
+     * <p>
+     *     More than once, only if claimed again after having been abandoned (for example because the node that
+     *     claimed it has crashed).
+     * </p>
+     *
+     * @see CommandLogEntryRepository#claimBackgroundCommands(int, java.time.Duration, int)
+     */
+    @Property(
+            domainEvent = ClaimCount.DomainEvent.class,
+            editing = Editing.DISABLED,
+            optionality = Optionality.OPTIONAL
+    )
+    @PropertyLayout(
+            hidden = Where.ALL_TABLES
+    )
+    @Parameter(
+            optionality = Optionality.OPTIONAL
+    )
+    @java.lang.annotation.Target({ ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER, ElementType.ANNOTATION_TYPE })
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface ClaimCount {
+        class DomainEvent extends PropertyDomainEvent<Integer> {}
+        boolean NULLABLE = true;
+        String ALLOWS_NULL = "true";
+    }
+    @ClaimCount
+    public abstract Integer getClaimCount();
+    public abstract void setClaimCount(Integer claimCount);
+
+
+
     @Property(
             domainEvent = Duration.DomainEvent.class,
             editing = Editing.DISABLED
@@ -19,12 +19,17 @@
 package org.apache.causeway.extensions.commandlog.applib.dom;
 
 import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -38,6 +43,7 @@
 import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.query.QueryRange;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.clock.ClockService;
 import org.apache.causeway.applib.services.command.Command;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.repository.RepositoryService;
@@ -50,12 +56,14 @@
 
 import lombok.Getter;
 import lombok.val;
+import lombok.extern.log4j.Log4j2;
 
 /**
  * Provides supporting functionality for querying {@link CommandLogEntry command log entry} entities.
  *
  * @since 2.0 {@index}
  */
+@Log4j2
 public abstract class CommandLogEntryRepository<C extends CommandLogEntry> {
 
     public static class NotFoundException extends RecoverableException {
@@ -70,6 +78,7 @@ public NotFoundException(final UUID interactionId) {
 
     @Inject Provider<RepositoryService> repositoryServiceProvider;
     @Inject FactoryService factoryService;
+    @Inject ClockService clockService;
     @Inject CausewaySystemEnvironment causewaySystemEnvironment;
 
     private final Class<C> commandLogEntryClass;
@@ -281,6 +290,235 @@ public List<C> findBackgroundAndNotYetStarted() {
                 Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_BACKGROUND_AND_NOT_YET_STARTED));
     }
 
+    /**
+     * Returns any background commands that have been started (or claimed), but not yet completed.
+     */
+    public List<C> findBackgroundAndStartedAndNotYetCompleted() {
+        return repositoryService().allMatches(
+                Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_BACKGROUND_AND_STARTED_AND_NOT_YET_COMPLETED));
+    }
+
+    /**
+     * As per {@link #claimBackgroundCommands(int, Duration)}, without claiming any abandoned commands again.
+     */
+    public List<C> claimBackgroundAndNotYetStarted(final int batchSize) {
+        return claimBackgroundCommands(batchSize, null);
+    }
+
+    /**
+     * Claims up to the given number of {@link #findBackgroundAndNotYetStarted() background commands not yet started},
+     * by marking them as started, such that these are not claimed again, neither by this nor by any other node.
+     *
+     * <p>
+     * If a lease is given, background commands started (or their claim {@link #renewClaim(UUID, Timestamp) renewed})
+     * longer ago than that, yet still not completed, are considered abandoned (for example because the node that
+     * claimed them has crashed) and are claimed again.
+     * </p>
+     *
+     * <p>
+     * Commands are considered in the order they were submitted. To preserve that order per target, commands are
+     * skipped, if their target has any other background command still in progress, or if an earlier command of that
+     * target could not be claimed (because claimed by another node in the meantime).  Candidates are read in pages
+     * (keyset paged by their timestamp), until either enough commands have been claimed or no candidates are left,
+     * such that commands of busy targets do not hold back those of any other target.
+     * </p>
+     *
+     * <p>
+     * Where supported by the datastore, candidates are selected using
+     * {@link #selectAndLockCandidates(int, Timestamp, Timestamp) SELECT ... FOR UPDATE SKIP LOCKED}, otherwise
+     * these are {@link #tryClaim(CommandLogEntry, Timestamp, Timestamp) claimed optimistically}.
+     * </p>
+     *
+     * <p>
+     * Intended to be called within its own transaction, such that claims become visible to other nodes as soon as
+     * possible.
+     * </p>
+     *
+     * @see #claimBackgroundCommands(int, Duration, int)
+     */
+    public List<C> claimBackgroundCommands(final int batchSize, final @Nullable Duration lease) {
+        return claimBackgroundCommands(batchSize, lease, Integer.MAX_VALUE);
+    }
+
+    /**
+     * As per {@link #claimBackgroundCommands(int, Duration)}, however abandoned commands already
+     * {@link CommandLogEntry#getClaimCount() claimed} the given maximum number of times are not claimed again.
+     * Instead these are marked as completed, with an exception stating so, such that a command that keeps
+     * crashing the node running it is not retried over and over again.
+     */
+    public List<C> claimBackgroundCommands(final int batchSize, final @Nullable Duration lease, final int maxClaims) {
+
+        val claimedAt = clockService.getClock().nowAsJavaSqlTimestamp();
+        val leaseExpiredBefore = lease != null
+                && !lease.isZero()
+                && !lease.isNegative()
+                    ? Timestamp.from(claimedAt.toInstant().minus(lease))
+                    : null;
+
+        // as per findSince(...), DN generates incorrect SQL for SQL Server if count set to 1
+        final int limit = Math.max(batchSize, 2);
+
+        val skipByTarget = new HashMap<Bookmark, Boolean>();
+        val considered = new HashSet<UUID>();
+        val claimed = new ArrayList<C>();
+        var since = new Timestamp(0L);
+
+        while(claimed.size() < batchSize) {
+            val candidates = findCandidates(limit, since, leaseExpiredBefore);
+            var anyNotYetConsidered = false;
+            for (val candidate : candidates) {
+                if(claimed.size() >= batchSize) {
+                    break;
+                }
+                // pages overlap by the last timestamp seen, also our own locks are not skipped
+                if(!considered.add(candidate.getInteractionId())) {
+                    continue;
+                }
+                anyNotYetConsidered = true;
+                if(candidate.getTimestamp() != null) {
+                    since = candidate.getTimestamp();
+                }
+                val target = candidate.getTarget();
+                if(target != null
+                        && skipByTarget.computeIfAbsent(target, __->isInProgress(target, leaseExpiredBefore))) {
+                    continue;
+                }
+                val previouslyStartedAt = candidate.getStartedAt();
+                if(tryClaim(candidate, previouslyStartedAt, claimedAt)) {
+                    // (atomic updates are not reflected by the candidate) such that callers may renew the claim
+                    candidate.setStartedAt(claimedAt);
+                    // commands started other than by claiming them count as claimed once
+                    final int previousClaims = candidate.getClaimCount() != null
+                            ? candidate.getClaimCount()
+                            : previouslyStartedAt != null ? 1 : 0;
+                    if(previouslyStartedAt != null
+                            && previousClaims >= maxClaims) {
+                        log.error("giving up on abandoned background command {}, started at {}, claimed {} time(s)",
+                                candidate.getInteractionId(), previouslyStartedAt, previousClaims);
+                        candidate.setClaimCount(previousClaims);
+                        candidate.setCompletedAt(claimedAt);
+                        candidate.setException(String.format(
+                                "abandoned, not claimed again after having been claimed %d time(s) "
+                                + "without completing", previousClaims));
+                        continue;
+                    }
+                    if(previouslyStartedAt != null) {
+                        log.warn("claiming abandoned background command {} again, started at {}",
+                                candidate.getInteractionId(), previouslyStartedAt);
+                    }
+                    candidate.setClaimCount(previousClaims + 1);
+                    claimed.add(candidate);
+                } else if(target != null) {
+                    skipByTarget.put(target, true);
+                }
+            }
+            // no more candidates (or more than a page of them submitted at the very same time)
+            if(candidates.size() < limit
+                    || !anyNotYetConsidered) {
+                break;
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * Renews the claim of the given background command, as previously {@link #claimBackgroundCommands(int, Duration, int) claimed}
+     * (or renewed) at the given time, such that its lease is measured from now on.
+     *
+     * <p>
+     * Intended to be called within its own transaction, when the claimed command is about to be executed, and
+     * periodically while it is waiting to be executed or executing, such that it is not considered abandoned (and
+     * claimed again by another node) while still in progress.
+     * </p>
+     *
+     * @param claimedAt - the {@link CommandLogEntry#getStartedAt() start} of the command as claimed, or as last renewed
+     * @return the time of renewal, to renew the claim with next time; or empty if no longer claimed by the caller,
+     *     because completed or claimed again (once its lease had expired) in the meantime
+     */
+    public Optional<Timestamp> renewClaim(final UUID interactionId, final Timestamp claimedAt) {
+        val renewedAt = clockService.getClock().nowAsJavaSqlTimestamp();
+        return findByInteractionId(interactionId)
+                .filter(commandLogEntry->tryClaim(commandLogEntry, claimedAt, renewedAt))
+                .map(__->renewedAt);
+    }
+
+    private List<C> findCandidates(
+            final int limit,
+            final Timestamp since,
+            final @Nullable Timestamp leaseExpiredBefore) {
+        val candidates = selectAndLockCandidates(limit, since, leaseExpiredBefore)
+            .orElseGet(()->repositoryService().allMatches(leaseExpiredBefore != null
+                    ? Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_BACKGROUND_AND_NOT_YET_STARTED_OR_ABANDONED_SINCE)
+                            .withParameter("since", since)
+                            .withParameter("startedBefore", leaseExpiredBefore)
+                            .withLimit(limit)
+                    : Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_BACKGROUND_AND_NOT_YET_STARTED_SINCE)
+                            .withParameter("since", since)
+                            .withLimit(limit)));
+        val sorted = new ArrayList<C>(candidates);
+        sorted.sort(Comparator.comparing(CommandLogEntry::getTimestamp,
+                Comparator.nullsFirst(Comparator.<Timestamp>naturalOrder())));
+        return sorted;
+    }
+
+    /**
+     * Whether given target has any background command in progress, that is started but not yet completed (and,
+     * if a lease expiry is given, started after it, as otherwise it is considered abandoned).
+     */
+    private boolean isInProgress(final Bookmark target, final @Nullable Timestamp leaseExpiredBefore) {
+        return repositoryService().allMatches(
+                Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_BACKGROUND_AND_STARTED_AND_NOT_YET_COMPLETED_BY_TARGET)
+                        .withParameter("target", target))
+                .stream()
+                .anyMatch(inProgress->leaseExpiredBefore == null
+                        || !inProgress.getStartedAt().before(leaseExpiredBefore));
+    }
+
+    /**
+     * Optionally selects and locks (for the current transaction) up to the given number of
+     * {@link #findBackgroundAndNotYetStarted() background commands not yet started}
+     * (and, if a lease expiry is given, those not yet completed but started before it),
+     * submitted no earlier than given timestamp, skipping any commands locked by concurrent claimers.
+     *
+     * <p>
+     * This default implementation does not support locking, and hence returns empty, such that candidates are
+     * selected without locking instead.
+     * </p>
+     *
+     * @see SkipLockedDialect
+     */
+    protected Optional<List<C>> selectAndLockCandidates(
+            final int limit,
+            final Timestamp since,
+            final @Nullable Timestamp leaseExpiredBefore) {
+        return Optional.empty();
+    }
+
+    /**
+     * Marks the given command as started, unless its start was changed in the meantime (optimistically using
+     * {@link CommandLogEntry#getStartedAt() startedAt} as version).
+     *
+     * <p>
+     * This default implementation is not safe against concurrent claims from other nodes.  Implementations
+     * should override with an atomic conditional update instead.
+     * </p>
+     *
+     * @param previouslyStartedAt - <code>null</code> for commands not yet started, otherwise the start of an abandoned
+     *     command to be claimed again
+     * @return whether claimed by this call
+     */
+    protected boolean tryClaim(
+            final C commandLogEntry,
+            final @Nullable Timestamp previouslyStartedAt,
+            final Timestamp startedAt) {
+        if(!Objects.equals(commandLogEntry.getStartedAt(), previouslyStartedAt)
+                || commandLogEntry.getCompletedAt() != null) {
+            return false;
+        }
+        commandLogEntry.setStartedAt(startedAt);
+        return true;
+    }
+
     public List<C> findRecentBackgroundByTarget(final Bookmark target) {
         return repositoryService().allMatches(
                 Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_RECENT_BACKGROUND_BY_TARGET)
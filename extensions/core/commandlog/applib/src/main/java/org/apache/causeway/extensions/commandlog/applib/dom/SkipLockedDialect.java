@@ -0,0 +1,309 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.commandlog.applib.dom;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.internal.collections._Maps;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * SQL dialects that allow to select and lock the background commands to be claimed, while skipping any rows
+ * already locked by concurrent claimers (<code>SELECT ... FOR UPDATE SKIP LOCKED</code> or its equivalent).
+ * <p>
+ * Concurrent claimers on multiple nodes hence see disjoint candidates, rather than contending for the same ones.
+ * For datastores not listed here, candidates are selected without locking and claimed optimistically instead.
+ *
+ * @see CommandLogEntryRepository#claimBackgroundCommands(int, java.time.Duration)
+ * @since 2.0 {@index}
+ */
+public enum SkipLockedDialect {
+
+    /**
+     * PostgreSQL 9.5+
+     */
+    POSTGRESQL {
+        @Override
+        String selectAndLock(final CommandLogTable table, final int limit, final String where) {
+            return limitForUpdateSkipLocked(table, limit, where);
+        }
+    },
+    /**
+     * MySQL 8.0+ and MariaDB 10.6+
+     */
+    MYSQL {
+        @Override
+        String selectAndLock(final CommandLogTable table, final int limit, final String where) {
+            return limitForUpdateSkipLocked(table, limit, where);
+        }
+    },
+    /**
+     * Microsoft SQL Server, using the <code>UPDLOCK</code> and <code>READPAST</code> table hints.
+     */
+    SQLSERVER {
+        @Override
+        String selectAndLock(final CommandLogTable table, final int limit, final String where) {
+            return "SELECT TOP " + limit + " " + table.column(INTERACTION_ID) + " FROM " + table.getQualifiedName()
+                    + " WITH (UPDLOCK, ROWLOCK, READPAST)"
+                    + " WHERE " + where
+                    + " ORDER BY " + table.column(TIMESTAMP);
+        }
+    };
+
+    private static final String INTERACTION_ID = CommandLogEntry.InteractionId.NAME;
+    private static final String EXECUTE_IN = "executeIn";
+    private static final String STARTED_AT = "startedAt";
+    private static final String COMPLETED_AT = "completedAt";
+    private static final String TIMESTAMP = "timestamp";
+
+    abstract String selectAndLock(CommandLogTable table, int limit, String where);
+
+    private static String limitForUpdateSkipLocked(final CommandLogTable table, final int limit, final String where) {
+        return "SELECT " + table.column(INTERACTION_ID) + " FROM " + table.getQualifiedName()
+                + " WHERE " + where
+                + " ORDER BY " + table.column(TIMESTAMP)
+                + " LIMIT " + limit
+                + " FOR UPDATE SKIP LOCKED";
+    }
+
+    /**
+     * The dialect of the datastore given connection connects to, if it supports skipping locked rows.
+     */
+    public static Optional<SkipLockedDialect> detect(final @NonNull Connection connection) throws SQLException {
+        final DatabaseMetaData metaData = connection.getMetaData();
+        val productName = metaData.getDatabaseProductName();
+        val productVersion = metaData.getDatabaseProductVersion();
+        val major = metaData.getDatabaseMajorVersion();
+        val minor = metaData.getDatabaseMinorVersion();
+        if(productName == null) {
+            return Optional.empty();
+        }
+        if(productName.contains("PostgreSQL")) {
+            return major > 9 || (major == 9 && minor >= 5)
+                    ? Optional.of(POSTGRESQL)
+                    : Optional.empty();
+        }
+        if(productName.contains("MariaDB")
+                || (productVersion != null && productVersion.contains("MariaDB"))) {
+            return major > 10 || (major == 10 && minor >= 6)
+                    ? Optional.of(MYSQL)
+                    : Optional.empty();
+        }
+        if(productName.contains("MySQL")) {
+            return major >= 8
+                    ? Optional.of(MYSQL)
+                    : Optional.empty();
+        }
+        if(productName.contains("Microsoft SQL Server")) {
+            return Optional.of(SQLSERVER);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * The dialect of the datastore given connection connects to (if it supports skipping locked rows), together with
+     * the command log table, as actually named within that datastore.
+     *
+     * @param schema - the schema of the command log table, as mapped
+     * @param table - the name of the command log table, as mapped
+     * @see #detect(Connection)
+     * @see CommandLogTable
+     */
+    public static Optional<CommandLogTable> detect(
+            final @NonNull Connection connection,
+            final @NonNull String schema,
+            final @NonNull String table) throws SQLException {
+        val dialect = detect(connection);
+        return dialect.isPresent()
+                ? Optional.of(CommandLogTable.resolve(connection, dialect.get(), schema, table))
+                : Optional.empty();
+    }
+
+    /**
+     * The command log table and its columns, by their names as stored by the datastore (which depending on the
+     * datastore and the ORM's naming strategy may differ in case from the names mapped), quoted as required by the
+     * datastore, such that these can be used within native SQL.
+     */
+    @Log4j2
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class CommandLogTable {
+
+        @Getter private final @NonNull SkipLockedDialect dialect;
+        @Getter private final @NonNull String qualifiedName;
+        private final @NonNull Map<String, String> columnsByLowerCaseName;
+        private final @NonNull String quote;
+
+        /**
+         * Resolves the command log table from the datastore's metadata, matching its schema, table and column names
+         * case-insensitively.
+         * <p>
+         * If not found, falls back to the names as mapped (quoted).
+         *
+         * @param schema - the schema of the command log table, as mapped
+         * @param table - the name of the command log table, as mapped
+         */
+        static CommandLogTable resolve(
+                final @NonNull Connection connection,
+                final @NonNull SkipLockedDialect dialect,
+                final @NonNull String schema,
+                final @NonNull String table) throws SQLException {
+
+            final DatabaseMetaData metaData = connection.getMetaData();
+            val quoteString = metaData.getIdentifierQuoteString();
+            val quote = quoteString == null || quoteString.isBlank() ? "" : quoteString.trim();
+
+            for(val schemaName : caseVariants(metaData, schema)) {
+                for(val tableName : caseVariants(metaData, table)) {
+                    // some datastores (MySQL) represent schemas as catalogs
+                    val resolved = resolve(metaData, null, schemaName, tableName, dialect, quote)
+                            .or(()->resolve(metaData, schemaName, null, tableName, dialect, quote));
+                    if(resolved.isPresent()) {
+                        return resolved.get();
+                    }
+                }
+            }
+            log.warn("could not find table {}.{} within the datastore's metadata, using names as mapped",
+                    schema, table);
+            val columnsByLowerCaseName = _Maps.<String, String>newHashMap();
+            for(val column : new String[] {INTERACTION_ID, EXECUTE_IN, STARTED_AT, COMPLETED_AT, TIMESTAMP}) {
+                columnsByLowerCaseName.put(column.toLowerCase(Locale.ROOT), quote(column, quote));
+            }
+            return new CommandLogTable(dialect, quote(schema, quote) + "." + quote(table, quote),
+                    columnsByLowerCaseName, quote);
+        }
+
+        private static Optional<CommandLogTable> resolve(
+                final DatabaseMetaData metaData,
+                final @Nullable String catalog,
+                final @Nullable String schema,
+                final String table,
+                final SkipLockedDialect dialect,
+                final String quote) {
+            try(val columns = metaData.getColumns(catalog, schema, table, null)) {
+                String qualifiedName = null;
+                val columnsByLowerCaseName = _Maps.<String, String>newHashMap();
+                while(columns.next()) {
+                    if(qualifiedName == null) {
+                        val actualSchema = catalog != null
+                                ? columns.getString("TABLE_CAT")
+                                : columns.getString("TABLE_SCHEM");
+                        qualifiedName = (actualSchema != null ? quote(actualSchema, quote) + "." : "")
+                                + quote(columns.getString("TABLE_NAME"), quote);
+                    }
+                    val columnName = columns.getString("COLUMN_NAME");
+                    columnsByLowerCaseName.put(columnName.toLowerCase(Locale.ROOT), quote(columnName, quote));
+                }
+                return qualifiedName != null
+                        ? Optional.of(new CommandLogTable(dialect, qualifiedName, columnsByLowerCaseName, quote))
+                        : Optional.empty();
+            } catch (SQLException e) {
+                log.debug("failed to read columns of {}.{}", schema != null ? schema : catalog, table, e);
+                return Optional.empty();
+            }
+        }
+
+        /**
+         * The name as given, followed by the case that the datastore stores unquoted identifiers in.
+         */
+        private static List<String> caseVariants(final DatabaseMetaData metaData, final String name) throws SQLException {
+            val variants = new LinkedHashSet<String>();
+            variants.add(name);
+            if(metaData.storesUpperCaseIdentifiers()) {
+                variants.add(name.toUpperCase(Locale.ROOT));
+            }
+            if(metaData.storesLowerCaseIdentifiers()) {
+                variants.add(name.toLowerCase(Locale.ROOT));
+            }
+            return new ArrayList<>(variants);
+        }
+
+        private static String quote(final String identifier, final String quote) {
+            return quote.isEmpty()
+                    ? identifier
+                    : quote + identifier.replace(quote, quote + quote) + quote;
+        }
+
+        /**
+         * The given column as actually named (and quoted).
+         */
+        String column(final String mappedName) {
+            val column = columnsByLowerCaseName.get(mappedName.toLowerCase(Locale.ROOT));
+            return column != null
+                    ? column
+                    : quote(mappedName, quote);
+        }
+
+        /**
+         * Selects and locks (within the current transaction of given connection) the interaction ids of up to the
+         * given number of background commands not yet started, or (if a lease expiry is given) not yet completed but
+         * started before the lease expiry, submitted no earlier than given timestamp, in the order they were
+         * submitted.
+         * <p>
+         * Rows locked by other transactions are skipped.
+         */
+        public List<UUID> selectAndLock(
+                final @NonNull Connection connection,
+                final int limit,
+                final @NonNull Timestamp since,
+                final @Nullable Timestamp leaseExpiredBefore) throws SQLException {
+
+            val where = column(EXECUTE_IN) + " = '" + ExecuteIn.BACKGROUND.name() + "'"
+                    + " AND " + column(COMPLETED_AT) + " IS NULL"
+                    + (leaseExpiredBefore != null
+                        ? " AND (" + column(STARTED_AT) + " IS NULL OR " + column(STARTED_AT) + " < ?)"
+                        : " AND " + column(STARTED_AT) + " IS NULL")
+                    + " AND " + column(TIMESTAMP) + " >= ?";
+
+            val interactionIds = new ArrayList<UUID>(limit);
+            try(val statement = connection.prepareStatement(dialect.selectAndLock(this, limit, where))) {
+                int parameterIndex = 1;
+                if(leaseExpiredBefore != null) {
+                    statement.setTimestamp(parameterIndex++, leaseExpiredBefore);
+                }
+                statement.setTimestamp(parameterIndex, since);
+                try(val resultSet = statement.executeQuery()) {
+                    while(resultSet.next()) {
+                        interactionIds.add(UUID.fromString(resultSet.getString(1)));
+                    }
+                }
+            }
+            return interactionIds;
+        }
+
+    }
+
+}
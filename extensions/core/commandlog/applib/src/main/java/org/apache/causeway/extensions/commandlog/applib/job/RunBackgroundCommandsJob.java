@@ -18,7 +18,18 @@
  */
 package org.apache.causeway.extensions.commandlog.applib.job;
 
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
@@ -37,9 +48,12 @@
 import org.apache.causeway.applib.services.xactn.TransactionService;
 import org.apache.causeway.applib.util.schema.CommandDtoUtils;
 import org.apache.causeway.commons.functional.ThrowingRunnable;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntryRepository;
+import org.apache.causeway.schema.cmd.v2.CommandDto;
 
+import lombok.Getter;
 import lombok.val;
 import lombok.extern.log4j.Log4j2;
 
@@ -48,6 +62,19 @@
  * the {@link org.apache.causeway.extensions.commandlog.applib.dom.BackgroundService} but not yet started; and then
  * executes them.
  *
+ * <p>
+ * By default commands are executed one after the other.  If configured with a
+ * {@link CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands#getParallelism() parallelism} greater
+ * than one (or if {@link CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands#isClaim() claiming}
+ * is enabled), commands are instead claimed in batches and executed by a bounded pool of workers, with commands of the
+ * same target executed serially in the order they were submitted.  Because claims are exclusive, this mode also
+ * allows multiple nodes to run this job concurrently.  The claims are renewed when each command is about to be
+ * executed, and periodically while queued or executing, such that only commands whose
+ * {@link CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands#getClaimLease() claim lease} has expired
+ * without being renewed (for example because the node that claimed them has crashed) are claimed again, up to a
+ * {@link CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands#getMaxClaims() maximum number of times}.
+ * </p>
+ *
  * @since 2.0 {@index}
  */
 @Component
@@ -60,12 +87,18 @@ public class RunBackgroundCommandsJob implements Job {
     @Inject TransactionService transactionService;
     @Inject CommandLogEntryRepository<? extends CommandLogEntry> commandLogEntryRepository;
     @Inject CommandExecutorService commandExecutorService;
+    @Inject CausewayConfiguration causewayConfiguration;
 
     @Override
     public void execute(final JobExecutionContext quartzContext) {
         val user = UserMemento.ofNameAndRoleNames("scheduler_user", "admin_role");
         val interactionContext = InteractionContext.builder().user(user).build();
-        interactionService.run(interactionContext, new ExecuteNotYetStartedCommands());
+        val config = causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands();
+        interactionService.run(interactionContext, config.isClaiming()
+                ? new ExecuteClaimedCommandsInParallel(
+                        interactionContext, config.getParallelism(), config.getBatchSize(), config.getClaimLease(),
+                        config.getMaxClaims())
+                : new ExecuteNotYetStartedCommands());
     }
 
     private class ExecuteNotYetStartedCommands implements ThrowingRunnable {
@@ -104,4 +137,197 @@ public void run() {
         }
     }
 
+    private class ExecuteClaimedCommandsInParallel implements ThrowingRunnable {
+
+        private final InteractionContext interactionContext;
+        private final int parallelism;
+        private final int batchSize;
+        private final Duration claimLease;
+        private final int maxClaims;
+
+        /**
+         * The claims of the batch currently executed, renewed periodically while queued or executing.
+         */
+        private volatile List<Claim> claims = List.of();
+
+        ExecuteClaimedCommandsInParallel(
+                final InteractionContext interactionContext,
+                final int parallelism,
+                final int batchSize,
+                final Duration claimLease,
+                final int maxClaims) {
+            this.interactionContext = interactionContext;
+            this.parallelism = parallelism;
+            this.batchSize = batchSize;
+            this.claimLease = claimLease;
+            this.maxClaims = maxClaims;
+        }
+
+        @Override
+        public void run() {
+            ExecutorService workers = null;
+            ScheduledExecutorService renewals = null;
+            try {
+                while(true) {
+                    // claims are committed in their own transaction, so become visible to other nodes
+                    val claimsByTarget = transactionService.callTransactional(
+                                Propagation.REQUIRES_NEW,
+                                () -> groupByTarget(commandLogEntryRepository.claimBackgroundCommands(batchSize, claimLease, maxClaims))
+                            )
+                            .ifFailureFail()    // we give up if unable to claim
+                            .getValue()
+                            .orElseGet(LinkedHashMap::new);
+
+                    if(claimsByTarget.isEmpty()) {
+                        return;
+                    }
+                    if(workers == null) {
+                        workers = Executors.newFixedThreadPool(parallelism);
+                        if(isLeased()) {
+                            // such that claims waiting for (or taking longer than) their lease are not considered abandoned
+                            val renewalPeriod = Math.max(claimLease.toMillis() / 3, 1L);
+                            renewals = Executors.newSingleThreadScheduledExecutor();
+                            renewals.scheduleWithFixedDelay(this::renewClaims, renewalPeriod, renewalPeriod, TimeUnit.MILLISECONDS);
+                        }
+                    }
+                    claims = claimsByTarget.values().stream()
+                            .flatMap(List::stream)
+                            .collect(Collectors.toList());
+
+                    // commands of the same target are executed serially, otherwise in parallel;
+                    // we wait for the whole batch to complete before claiming the next
+                    val futures = new ArrayList<CompletableFuture<Void>>();
+                    for (val claimsOfTarget : claimsByTarget.values()) {
+                        futures.add(CompletableFuture.runAsync(()->claimsOfTarget.forEach(this::execute), workers));
+                    }
+                    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+                    claims = List.of();
+                }
+            } finally {
+                if(renewals != null) {
+                    renewals.shutdownNow();
+                }
+                if(workers != null) {
+                    workers.shutdown();
+                }
+            }
+        }
+
+        private LinkedHashMap<Object, List<Claim>> groupByTarget(final List<? extends CommandLogEntry> claimed) {
+            val claimsByTarget = new LinkedHashMap<Object, List<Claim>>();
+            for (val commandLogEntry : claimed) {
+                // commands without a target are not related to any other
+                final Object key = commandLogEntry.getTarget() != null
+                        ? commandLogEntry.getTarget()
+                        : commandLogEntry.getInteractionId();
+                claimsByTarget.computeIfAbsent(key, __->new ArrayList<>()).add(new Claim(commandLogEntry));
+            }
+            return claimsByTarget;
+        }
+
+        private void execute(final Claim claim) {
+            // renewed once more when about to execute, such that we do not execute a command claimed again by
+            // another node in the meantime
+            if(!claim.start()) {
+                log.warn("not executing background command {}, as no longer claimed", claim.getInteractionId());
+                return;
+            }
+            try {
+                execute(claim.getCommandDto());
+            } finally {
+                claim.release();
+            }
+        }
+
+        private void execute(final CommandDto commandDto) {
+            // each command within its own interaction (such that its completion is published when it is closed)
+            // and its own transaction.  Failure of one should not impact the next.
+            interactionService.run(interactionContext, ()->
+                transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+                    val commandLogEntryIfAny = commandLogEntryRepository.findByInteractionId(UUID.fromString(commandDto.getInteractionId()));
+                    commandLogEntryIfAny.ifPresent(commandLogEntry ->
+                            commandExecutorService.executeCommand(
+                                    CommandExecutorService.InteractionContextPolicy.NO_SWITCH, commandDto));
+                }).ifFailure(throwable -> log.error("Failed to execute command: " +
+                        CommandDtoUtils.dtoMapper().toString(commandDto), throwable)));
+        }
+
+        private void renewClaims() {
+            // those queued first, as the row of an executing command might be locked by its own transaction
+            val claims = this.claims;
+            claims.stream().filter(claim->!claim.isStarted()).forEach(Claim::renew);
+            claims.stream().filter(Claim::isStarted).forEach(Claim::renew);
+        }
+
+        private boolean isLeased() {
+            return claimLease != null
+                    && !claimLease.isZero()
+                    && !claimLease.isNegative();
+        }
+
+        /**
+         * A claimed background command, along with the time its claim was last renewed at.
+         */
+        private class Claim {
+
+            @Getter private final CommandDto commandDto;
+            @Getter private final UUID interactionId;
+            private Timestamp renewedAt;
+            private boolean released;
+            @Getter private volatile boolean started;
+
+            Claim(final CommandLogEntry commandLogEntry) {
+                // we use the CommandDto as it is serializable across transactions
+                this.commandDto = commandLogEntry.getCommandDto();
+                this.interactionId = commandLogEntry.getInteractionId();
+                this.renewedAt = commandLogEntry.getStartedAt();
+            }
+
+            /**
+             * Whether still claimed by this job, renewing the claim's lease if so.
+             */
+            synchronized boolean renew() {
+                if(released) {
+                    return false;
+                }
+                if(!isLeased()) {
+                    // never claimed again by anyone else
+                    return true;
+                }
+                val renewedAtIfAny = interactionService.callAndCatch(interactionContext, ()->
+                        transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
+                                commandLogEntryRepository.renewClaim(interactionId, renewedAt))
+                        .ifFailureFail()
+                        .getValue()
+                        .orElseGet(Optional::empty))
+                        .ifFailure(throwable -> log.warn("Failed to renew claim of background command {}", interactionId, throwable))
+                        .getValue();
+                if(renewedAtIfAny.isEmpty()) {
+                    // unable to renew, so keep the previous renewal, hoping to succeed next time
+                    return true;
+                }
+                val renewed = renewedAtIfAny.get();
+                if(renewed.isEmpty()) {
+                    // completed, or claimed again by another node in the meantime
+                    released = true;
+                    return false;
+                }
+                renewedAt = renewed.get();
+                return true;
+            }
+
+            /**
+             * Whether still claimed by this job (renewing the claim's lease if so), such that it may be executed.
+             */
+            synchronized boolean start() {
+                started = renew();
+                return started;
+            }
+
+            synchronized void release() {
+                released = true;
+            }
+        }
+    }
+
 }
@@ -18,12 +18,17 @@
  */
 package org.apache.causeway.extensions.commandlog.applib.integtest;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
 import org.apache.causeway.applib.services.iactnlayer.InteractionService;
 import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -40,6 +45,7 @@
 import org.apache.causeway.applib.services.wrapper.WrapperFactory;
 import org.apache.causeway.applib.services.wrapper.control.AsyncControl;
 import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
 import org.apache.causeway.extensions.commandlog.applib.dom.BackgroundService;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry;
@@ -78,6 +84,30 @@ static void reset_environment() {
         new CausewaySystemEnvironment().setPrototyping(prototypingOrig);
     }
 
+    private CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands runBackgroundCommandsOrig;
+
+    @BeforeEach
+    void save_configuration() {
+        val config = causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands();
+        runBackgroundCommandsOrig = new CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands();
+        runBackgroundCommandsOrig.setParallelism(config.getParallelism());
+        runBackgroundCommandsOrig.setBatchSize(config.getBatchSize());
+        runBackgroundCommandsOrig.setClaim(config.isClaim());
+        runBackgroundCommandsOrig.setClaimLease(config.getClaimLease());
+        runBackgroundCommandsOrig.setMaxClaims(config.getMaxClaims());
+    }
+
+    @AfterEach
+    void restore_configuration() {
+        // the configuration is shared with any other tests using the same (cached) application context
+        val config = causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands();
+        config.setParallelism(runBackgroundCommandsOrig.getParallelism());
+        config.setBatchSize(runBackgroundCommandsOrig.getBatchSize());
+        config.setClaim(runBackgroundCommandsOrig.isClaim());
+        config.setClaimLease(runBackgroundCommandsOrig.getClaimLease());
+        config.setMaxClaims(runBackgroundCommandsOrig.getMaxClaims());
+    }
+
     @BeforeEach
     void setup_counter() {
 
@@ -220,6 +250,234 @@ void using_background_service() {
 
     }
 
+    @Test
+    void using_background_service_in_parallel() {
+
+        // given
+        removeAllCommandLogEntriesAndCounters();
+
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            val counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+            backgroundService.execute(counter).bumpUsingDeclaredAction();
+            backgroundService.execute(counter).bumpUsingDeclaredAction();
+            backgroundService.execute(counter).bumpUsingDeclaredAction();
+        }).ifFailureFail();
+
+        // when
+        causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands().setParallelism(4);
+        runBackgroundCommandsJob.execute(mockQuartzJobExecutionContext);
+        interactionService.nextInteraction();
+
+        // then bumped (serially, all having the same target)
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            val counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+            assertThat(counter.getNum()).isEqualTo(3L);
+        }).ifFailureFail();
+
+        // and all marked as started and completed
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            assertThat(commandLogEntryRepository.findAll())
+                    .hasSize(3)
+                    .allSatisfy(x -> assertThat(x.getStartedAt()).isNotNull())
+                    .allSatisfy(x -> assertThat(x.getCompletedAt()).isNotNull());
+        }).ifFailureFail();
+    }
+
+    @Test
+    void claims_are_exclusive_and_respect_targets_in_progress() {
+
+        // given
+        removeAllCommandLogEntriesAndCounters();
+
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            val counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+            backgroundService.execute(counter).bumpUsingDeclaredAction();
+            backgroundService.execute(counter).bumpUsingDeclaredAction();
+        }).ifFailureFail();
+
+        // when
+        val claimed = transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
+                commandLogEntryRepository.claimBackgroundAndNotYetStarted(10).size())
+                .ifFailureFail().getValue().orElseThrow();
+
+        // then
+        assertThat(claimed).isEqualTo(2);
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            assertThat(commandLogEntryRepository.findBackgroundAndNotYetStarted()).isEmpty();
+            assertThat(commandLogEntryRepository.findBackgroundAndStartedAndNotYetCompleted()).hasSize(2);
+        }).ifFailureFail();
+
+        // and when another command for the same target is submitted
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            val counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+            backgroundService.execute(counter).bumpUsingDeclaredAction();
+        }).ifFailureFail();
+
+        // then it is not claimed, while commands of that target are still in progress
+        val claimedAgain = transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
+                commandLogEntryRepository.claimBackgroundAndNotYetStarted(10).size())
+                .ifFailureFail().getValue().orElseThrow();
+        assertThat(claimedAgain).isZero();
+    }
+
+    @Test
+    void commands_of_busy_targets_do_not_hold_back_those_of_other_targets() {
+
+        // given a command in progress
+        removeAllCommandLogEntriesAndCounters();
+
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            val counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+            backgroundService.execute(counter).bumpUsingDeclaredAction();
+        }).ifFailureFail();
+
+        val claimed = transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
+                commandLogEntryRepository.claimBackgroundAndNotYetStarted(2).size())
+                .ifFailureFail().getValue().orElseThrow();
+        assertThat(claimed).isEqualTo(1);
+
+        // and more commands of that same target than claimed at once
+        for (int i = 0; i < 5; i++) {
+            transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+                val counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+                backgroundService.execute(counter).bumpUsingDeclaredAction();
+            }).ifFailureFail();
+        }
+
+        // and only then a command of another target
+        val otherBookmark = transactionService.callTransactional(Propagation.REQUIRES_NEW, () -> {
+            counterRepository.persist(newCounter("bill"));
+            val otherCounter = counterRepository.findByName("bill");
+            backgroundService.execute(otherCounter).bumpUsingDeclaredAction();
+            return bookmarkService.bookmarkForElseFail(otherCounter);
+        }).ifFailureFail().getValue().orElseThrow();
+
+        // when
+        val claimedTargets = transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
+                commandLogEntryRepository.claimBackgroundAndNotYetStarted(2).stream()
+                        .map(CommandLogEntry::getTarget)
+                        .collect(Collectors.toList()))
+                .ifFailureFail().getValue().orElseThrow();
+
+        // then the command of the other target is claimed nevertheless
+        assertThat(claimedTargets).containsExactly(otherBookmark);
+    }
+
+    @Test
+    void abandoned_claims_are_claimed_again_once_their_lease_has_expired() throws InterruptedException {
+
+        // given
+        removeAllCommandLogEntriesAndCounters();
+
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            val counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+            backgroundService.execute(counter).bumpUsingDeclaredAction();
+        }).ifFailureFail();
+
+        val claimed = transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
+                commandLogEntryRepository.claimBackgroundCommands(10, Duration.ofHours(1)).size())
+                .ifFailureFail().getValue().orElseThrow();
+        assertThat(claimed).isEqualTo(1);
+
+        // when the lease has not yet expired, then not claimed again
+        val claimedWithinLease = transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
+                commandLogEntryRepository.claimBackgroundCommands(10, Duration.ofHours(1)).size())
+                .ifFailureFail().getValue().orElseThrow();
+        assertThat(claimedWithinLease).isZero();
+
+        // when the lease has expired, then claimed again
+        Thread.sleep(50);
+        val claimedAfterLease = transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
+                commandLogEntryRepository.claimBackgroundCommands(10, Duration.ofMillis(10)).size())
+                .ifFailureFail().getValue().orElseThrow();
+        assertThat(claimedAfterLease).isEqualTo(1);
+    }
+
+    @Test
+    void abandoned_claims_are_given_up_once_claimed_the_maximum_number_of_times() throws InterruptedException {
+
+        // given
+        removeAllCommandLogEntriesAndCounters();
+
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            val counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+            backgroundService.execute(counter).bumpUsingDeclaredAction();
+        }).ifFailureFail();
+
+        val claimed = transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
+                commandLogEntryRepository.claimBackgroundCommands(10, Duration.ofMillis(10), 2).size())
+                .ifFailureFail().getValue().orElseThrow();
+        assertThat(claimed).isEqualTo(1);
+
+        // when the lease has expired, then claimed a second time
+        Thread.sleep(50);
+        val claimedAgain = transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
+                commandLogEntryRepository.claimBackgroundCommands(10, Duration.ofMillis(10), 2).size())
+                .ifFailureFail().getValue().orElseThrow();
+        assertThat(claimedAgain).isEqualTo(1);
+
+        // when the lease has expired once more, then not claimed a third time
+        Thread.sleep(50);
+        val claimedThirdTime = transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
+                commandLogEntryRepository.claimBackgroundCommands(10, Duration.ofMillis(10), 2).size())
+                .ifFailureFail().getValue().orElseThrow();
+        assertThat(claimedThirdTime).isZero();
+
+        // but marked as completed, with an exception
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            assertThat(commandLogEntryRepository.findAll())
+                    .hasSize(1)
+                    .allSatisfy(x -> assertThat(x.getClaimCount()).isEqualTo(2))
+                    .allSatisfy(x -> assertThat(x.getCompletedAt()).isNotNull())
+                    .allSatisfy(x -> assertThat(x.getException()).contains("abandoned"));
+        }).ifFailureFail();
+    }
+
+    @Test
+    void claims_queued_or_executing_past_their_lease_are_renewed_rather_than_claimed_again() throws Exception {
+
+        // given a command taking longer than the lease, and a command of another target submitted after it
+        removeAllCommandLogEntriesAndCounters();
+
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            val counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+            backgroundService.execute(counter).bumpSlowly(1_000L);
+            counterRepository.persist(newCounter("bill"));
+            val otherCounter = counterRepository.findByName("bill");
+            backgroundService.execute(otherCounter).bumpUsingDeclaredAction();
+        }).ifFailureFail();
+
+        val config = causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands();
+        config.setClaim(true);
+        config.setParallelism(1);
+        config.setClaimLease(Duration.ofMillis(300));
+
+        // when run with a single worker, such that the other command is queued behind the slow one
+        val job = CompletableFuture.runAsync(()->runBackgroundCommandsJob.execute(mockQuartzJobExecutionContext));
+
+        // then, once past the lease, neither the executing nor the queued command is claimed again
+        Thread.sleep(700);
+        val claimedMeanwhile = transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
+                commandLogEntryRepository.claimBackgroundCommands(10, Duration.ofMillis(300)).size())
+                .ifFailureFail().getValue().orElseThrow();
+        assertThat(claimedMeanwhile).isZero();
+
+        job.get(10, TimeUnit.SECONDS);
+        interactionService.nextInteraction();
+
+        // and both are executed exactly once
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            assertThat(counterRepository.find())
+                    .hasSize(2)
+                    .allSatisfy(x -> assertThat(x.getNum()).isEqualTo(1L));
+            assertThat(commandLogEntryRepository.findAll())
+                    .hasSize(2)
+                    .allSatisfy(x -> assertThat(x.getClaimCount()).isEqualTo(1))
+                    .allSatisfy(x -> assertThat(x.getCompletedAt()).isNotNull())
+                    .allSatisfy(x -> assertThat(x.getException()).isNull());
+        }).ifFailureFail();
+    }
+
     private void removeAllCommandLogEntriesAndCounters() {
         transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
             commandLogEntryRepository.removeAll();
@@ -236,5 +494,6 @@ private void removeAllCommandLogEntriesAndCounters() {
     @Inject RunBackgroundCommandsJob runBackgroundCommandsJob;
     @Inject BookmarkService bookmarkService;
     @Inject CounterRepository counterRepository;
+    @Inject CausewayConfiguration causewayConfiguration;
 
 }
@@ -29,6 +29,8 @@
 import org.apache.causeway.applib.annotation.Property;
 import org.apache.causeway.applib.annotation.Publishing;
 
+import lombok.SneakyThrows;
+
 @Named("commandlog.test.Counter")
 @DomainObject(nature = Nature.ENTITY)
 public abstract class Counter implements Comparable<Counter> {
@@ -55,6 +57,13 @@ public Counter bumpUsingDeclaredAction() {
         return doBump();
     }
 
+    @Action(commandPublishing = Publishing.ENABLED)
+    @SneakyThrows
+    public Counter bumpSlowly(final long millis) {
+        Thread.sleep(millis);
+        return doBump();
+    }
+
     @Action(commandPublishing = Publishing.DISABLED)
     public Counter bumpUsingDeclaredActionWithCommandPublishingDisabled() {
         return doBump();
@@ -22,6 +22,7 @@
 
 import javax.inject.Named;
 import javax.jdo.annotations.Column;
+import javax.jdo.annotations.Convert;
 import javax.jdo.annotations.IdentityType;
 import javax.jdo.annotations.Index;
 import javax.jdo.annotations.Indices;
@@ -39,6 +40,7 @@
 import org.apache.causeway.applib.jaxb.PersistentEntityAdapter;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry.Nq;
+import org.apache.causeway.persistence.jdo.datanucleus.typeconverters.schema.v2.CausewayConfiguredDtoConverter;
 import org.apache.causeway.schema.cmd.v2.CommandDto;
 
 import lombok.Getter;
@@ -180,6 +182,40 @@
                   + " WHERE executeIn == 'BACKGROUND' "
                   + "    && startedAt == null "
                   + " ORDER BY timestamp ASC "),
+    @Query(
+            name  = Nq.FIND_BACKGROUND_AND_STARTED_AND_NOT_YET_COMPLETED,
+            value = "SELECT "
+                  + "  FROM " + CommandLogEntry.FQCN + " "
+                  + " WHERE executeIn == 'BACKGROUND' "
+                  + "    && startedAt != null "
+                  + "    && completedAt == null "
+                  + " ORDER BY timestamp ASC "),
+    @Query(
+            name  = Nq.FIND_BACKGROUND_AND_NOT_YET_STARTED_SINCE,
+            value = "SELECT "
+                  + "  FROM " + CommandLogEntry.FQCN + " "
+                  + " WHERE executeIn == 'BACKGROUND' "
+                  + "    && startedAt == null "
+                  + "    && timestamp >= :since "
+                  + " ORDER BY timestamp ASC "),
+    @Query(
+            name  = Nq.FIND_BACKGROUND_AND_NOT_YET_STARTED_OR_ABANDONED_SINCE,
+            value = "SELECT "
+                  + "  FROM " + CommandLogEntry.FQCN + " "
+                  + " WHERE executeIn == 'BACKGROUND' "
+                  + "    && completedAt == null "
+                  + "    && (startedAt == null || startedAt < :startedBefore) "
+                  + "    && timestamp >= :since "
+                  + " ORDER BY timestamp ASC "),
+    @Query(
+            name  = Nq.FIND_BACKGROUND_AND_STARTED_AND_NOT_YET_COMPLETED_BY_TARGET,
+            value = "SELECT "
+                  + "  FROM " + CommandLogEntry.FQCN + " "
+                  + " WHERE executeIn == 'BACKGROUND' "
+                  + "    && target    == :target "
+                  + "    && startedAt != null "
+                  + "    && completedAt == null "
+                  + " ORDER BY timestamp ASC "),
     @Query(
             name  = Nq.FIND_RECENT_BACKGROUND_BY_TARGET,
             value = "SELECT "
@@ -285,6 +321,7 @@ public CommandLogEntry(
 
 
     @Persistent
+    @Convert(CommandDtoConverter.class)
     @Column(allowsNull = CommandDtoAnnot.ALLOWS_NULL, jdbcType = "CLOB")
     @CommandDtoAnnot
     @Getter @Setter
@@ -303,6 +340,12 @@ public CommandLogEntry(
     private java.sql.Timestamp completedAt;
 
 
+    @Column(allowsNull = ClaimCount.ALLOWS_NULL)
+    @ClaimCount
+    @Getter @Setter
+    private Integer claimCount;
+
+
     @Persistent
     @Column(allowsNull = Result.ALLOWS_NULL, length = Result.MAX_LENGTH)
     @Result
@@ -328,4 +371,14 @@ public CommandLogEntry(
     @Getter @Setter
     private String replayStateFailureReason;
 
+    /**
+     * Encodes the {@link #getCommandDto() commandDto} as configured for this extension,
+     * while reading any encoding.
+     */
+    public static class CommandDtoConverter extends CausewayConfiguredDtoConverter<CommandDto> {
+        public CommandDtoConverter() {
+            super(CommandDto.class, config->config.getExtensions().getCommandLog().getDtoEncoding());
+        }
+    }
+
 }
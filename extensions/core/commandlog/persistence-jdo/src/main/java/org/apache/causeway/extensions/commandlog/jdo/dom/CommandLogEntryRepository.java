@@ -18,13 +18,30 @@
  */
 package org.apache.causeway.extensions.commandlog.jdo.dom;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.extensions.commandlog.applib.dom.SkipLockedDialect;
 import org.apache.causeway.extensions.commandlog.jdo.CausewayModuleExtCommandLogPersistenceJdo;
+import org.apache.causeway.persistence.jdo.applib.services.JdoSupportService;
+
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
 
 /**
  * Provides supporting functionality for querying and persisting
@@ -34,15 +51,97 @@
 @Named(CommandLogEntryRepository.LOGICAL_TYPE_NAME)
 @javax.annotation.Priority(PriorityPrecedence.MIDPOINT)
 @Qualifier("Jdo")
+@Log4j2
 public class CommandLogEntryRepository
 extends org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntryRepository<CommandLogEntry> {
 
     public static final String LOGICAL_TYPE_NAME = CausewayModuleExtCommandLogPersistenceJdo.NAMESPACE + ".CommandLogEntryRepository";
 
+    @Inject JdoSupportService jdoSupportService;
+
+    private volatile Optional<SkipLockedDialect.CommandLogTable> skipLockedTable; // lazily detected
+    private volatile boolean warnedNoConnection;
+
     public CommandLogEntryRepository() {
         super(CommandLogEntry.class);
     }
 
+    /**
+     * Claims by re-reading the command with a pessimistic lock ({@code SELECT ... FOR UPDATE}),
+     * such that any concurrent claimer blocks until this transaction completes, then finds it changed.
+     */
+    @Override
+    protected boolean tryClaim(
+            final CommandLogEntry commandLogEntry,
+            final @Nullable Timestamp previouslyStartedAt,
+            final Timestamp startedAt) {
+        val query = jdoSupportService.getPersistenceManager().newQuery(CommandLogEntry.class,
+                "interactionId == :interactionId && completedAt == null && "
+                + (previouslyStartedAt != null
+                        ? "startedAt == :previouslyStartedAt"
+                        : "startedAt == null"));
+        query.setSerializeRead(true);
+        query.setUnique(true);
+        try {
+            val parameters = new HashMap<String, Object>();
+            parameters.put("interactionId", commandLogEntry.getInteractionId());
+            if(previouslyStartedAt != null) {
+                parameters.put("previouslyStartedAt", previouslyStartedAt);
+            }
+            val locked = (CommandLogEntry) query.executeWithMap(parameters);
+            if(locked == null) {
+                return false; // claimed by someone else in the meantime
+            }
+            locked.setStartedAt(startedAt);
+            return true;
+        } finally {
+            query.closeAll();
+        }
+    }
+
+    /**
+     * Selects and locks using {@link SkipLockedDialect native SQL}, if supported by the datastore.
+     */
+    @Override
+    protected Optional<List<CommandLogEntry>> selectAndLockCandidates(
+            final int limit,
+            final Timestamp since,
+            final @Nullable Timestamp leaseExpiredBefore) {
+        final List<UUID> interactionIds;
+        // the datastore connection must be closed before the persistence manager is used again
+        val dataStoreConnection = jdoSupportService.getPersistenceManager().getDataStoreConnection();
+        try {
+            if(!(dataStoreConnection.getNativeConnection() instanceof Connection)) {
+                warnNoConnectionOnce();
+                return Optional.empty();
+            }
+            val connection = (Connection) dataStoreConnection.getNativeConnection();
+            if(skipLockedTable == null) {
+                skipLockedTable = SkipLockedDialect.detect(connection, CommandLogEntry.SCHEMA, CommandLogEntry.TABLE);
+            }
+            if(skipLockedTable.isEmpty()) {
+                return Optional.empty();
+            }
+            interactionIds = skipLockedTable.get().selectAndLock(connection, limit, since, leaseExpiredBefore);
+        } catch (SQLException e) {
+            throw _Exceptions.unrecoverable(e, "failed to select background commands to claim");
+        } finally {
+            dataStoreConnection.close();
+        }
+        return Optional.of(interactionIds.stream()
+                .map(this::findByInteractionId)
+                .flatMap(Optional::stream)
+                .collect(Collectors.toList()));
+    }
+
+    private void warnNoConnectionOnce() {
+        if(!warnedNoConnection) {
+            warnedNoConnection = true;
+            log.warn("no JDBC connection available to select background commands to claim using SKIP LOCKED; "
+                    + "falling back to selecting candidates without locking, claiming these optimistically");
+        }
+    }
+
     /**
      * The DN annotation processor (from artifact {@literal org.datanucleus:datanucleus-jdo-query})
      * should  generate Q classes under 'target/generated-sources/annotations'.
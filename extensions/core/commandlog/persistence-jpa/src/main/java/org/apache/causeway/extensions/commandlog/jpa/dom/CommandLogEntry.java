@@ -24,6 +24,7 @@
 import javax.persistence.Basic;
 import javax.persistence.Column;
 import javax.persistence.Convert;
+import javax.persistence.Converter;
 import javax.persistence.EmbeddedId;
 import javax.persistence.Entity;
 import javax.persistence.EntityListeners;
@@ -48,7 +49,7 @@
 import org.apache.causeway.persistence.jpa.applib.integration.CausewayEntityListener;
 import org.apache.causeway.persistence.jpa.integration.typeconverters.applib.CausewayBookmarkConverter;
 import org.apache.causeway.persistence.jpa.integration.typeconverters.java.util.JavaUtilUuidConverter;
-import org.apache.causeway.persistence.jpa.integration.typeconverters.schema.v2.CausewayCommandDtoConverter;
+import org.apache.causeway.persistence.jpa.integration.typeconverters.schema.v2.CausewayConfiguredDtoConverter;
 import org.apache.causeway.schema.cmd.v2.CommandDto;
 
 import lombok.Getter;
@@ -187,6 +188,40 @@
                   + " WHERE cl.executeIn = org.apache.causeway.extensions.commandlog.applib.dom.ExecuteIn.BACKGROUND "
                   + "   AND cl.startedAt is null "
                   + " ORDER BY cl.timestamp ASC"),
+    @NamedQuery(
+            name  = Nq.FIND_BACKGROUND_AND_STARTED_AND_NOT_YET_COMPLETED,
+            query = "SELECT cl "
+                  + "  FROM CommandLogEntry cl "
+                  + " WHERE cl.executeIn = org.apache.causeway.extensions.commandlog.applib.dom.ExecuteIn.BACKGROUND "
+                  + "   AND cl.startedAt is not null "
+                  + "   AND cl.completedAt is null "
+                  + " ORDER BY cl.timestamp ASC"),
+    @NamedQuery(
+            name  = Nq.FIND_BACKGROUND_AND_NOT_YET_STARTED_SINCE,
+            query = "SELECT cl "
+                  + "  FROM CommandLogEntry cl "
+                  + " WHERE cl.executeIn = org.apache.causeway.extensions.commandlog.applib.dom.ExecuteIn.BACKGROUND "
+                  + "   AND cl.startedAt is null "
+                  + "   AND cl.timestamp >= :since "
+                  + " ORDER BY cl.timestamp ASC"),
+    @NamedQuery(
+            name  = Nq.FIND_BACKGROUND_AND_NOT_YET_STARTED_OR_ABANDONED_SINCE,
+            query = "SELECT cl "
+                  + "  FROM CommandLogEntry cl "
+                  + " WHERE cl.executeIn = org.apache.causeway.extensions.commandlog.applib.dom.ExecuteIn.BACKGROUND "
+                  + "   AND cl.completedAt is null "
+                  + "   AND (cl.startedAt is null OR cl.startedAt < :startedBefore) "
+                  + "   AND cl.timestamp >= :since "
+                  + " ORDER BY cl.timestamp ASC"),
+    @NamedQuery(
+            name  = Nq.FIND_BACKGROUND_AND_STARTED_AND_NOT_YET_COMPLETED_BY_TARGET,
+            query = "SELECT cl "
+                  + "  FROM CommandLogEntry cl "
+                  + " WHERE cl.executeIn = org.apache.causeway.extensions.commandlog.applib.dom.ExecuteIn.BACKGROUND "
+                  + "   AND cl.target    = :target "
+                  + "   AND cl.startedAt is not null "
+                  + "   AND cl.completedAt is null "
+                  + " ORDER BY cl.timestamp ASC"),
         @NamedQuery(
             name  = Nq.FIND_RECENT_BACKGROUND_BY_TARGET,
             query = "SELECT cl "
@@ -295,7 +330,7 @@ public void setInteractionId(final UUID interactionId) {
     private String logicalMemberIdentifier;
 
 
-    @Convert(converter = CausewayCommandDtoConverter.class)
+    @Convert(converter = CommandDtoConverter.class)
     @Lob @Basic(fetch = FetchType.LAZY)
     @Column(nullable = CommandDtoAnnot.NULLABLE, columnDefinition = "CLOB")
     @CommandDtoAnnot
@@ -315,6 +350,12 @@ public void setInteractionId(final UUID interactionId) {
     private java.sql.Timestamp completedAt;
 
 
+    @Column(nullable = ClaimCount.NULLABLE)
+    @ClaimCount
+    @Getter @Setter
+    private Integer claimCount;
+
+
     @Convert(converter = CausewayBookmarkConverter.class)
     @Column(nullable = Result.NULLABLE, length = Result.MAX_LENGTH)
     @Result
@@ -341,4 +382,15 @@ public void setInteractionId(final UUID interactionId) {
     @Getter @Setter
     private String replayStateFailureReason;
 
+    /**
+     * Encodes the {@link #getCommandDto() commandDto} as configured for this extension,
+     * while reading any encoding.
+     */
+    @Converter
+    public static class CommandDtoConverter extends CausewayConfiguredDtoConverter<CommandDto> {
+        public CommandDtoConverter() {
+            super(CommandDto.class, config->config.getExtensions().getCommandLog().getDtoEncoding());
+        }
+    }
+
 }
@@ -18,13 +18,28 @@
  */
 package org.apache.causeway.extensions.commandlog.jpa.dom;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.extensions.commandlog.applib.dom.SkipLockedDialect;
 import org.apache.causeway.extensions.commandlog.jpa.CausewayModuleExtCommandLogPersistenceJpa;
+import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
+
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
 
 /**
  * Provides supporting functionality for querying and persisting
@@ -34,13 +49,83 @@
 @Named(CommandLogEntryRepository.LOGICAL_TYPE_NAME)
 @javax.annotation.Priority(PriorityPrecedence.MIDPOINT)
 @Qualifier("Jpa")
+@Log4j2
 public class CommandLogEntryRepository
 extends org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntryRepository<CommandLogEntry> {
 
     public static final String LOGICAL_TYPE_NAME = CausewayModuleExtCommandLogPersistenceJpa.NAMESPACE + ".CommandLogEntryRepository";
 
+    @Inject JpaSupportService jpaSupportService;
+
+    private volatile Optional<SkipLockedDialect.CommandLogTable> skipLockedTable; // lazily detected
+    private volatile boolean warnedNoConnection;
+
     public CommandLogEntryRepository() {
         super(CommandLogEntry.class);
     }
 
+    /**
+     * Claims using a conditional bulk update, which succeeds for exactly one of any concurrent claimers.
+     */
+    @Override
+    protected boolean tryClaim(
+            final CommandLogEntry commandLogEntry,
+            final @Nullable Timestamp previouslyStartedAt,
+            final Timestamp startedAt) {
+        val query = jpaSupportService.getEntityManagerElseFail(CommandLogEntry.class)
+                .createQuery("UPDATE CommandLogEntry cl "
+                        + "   SET cl.startedAt = :startedAt "
+                        + " WHERE cl.pk.interactionId = :interactionId "
+                        + "   AND cl.completedAt is null "
+                        + (previouslyStartedAt != null
+                            ? "   AND cl.startedAt = :previouslyStartedAt"
+                            : "   AND cl.startedAt is null"))
+                .setParameter("startedAt", startedAt)
+                .setParameter("interactionId", commandLogEntry.getInteractionId());
+        if(previouslyStartedAt != null) {
+            query.setParameter("previouslyStartedAt", previouslyStartedAt);
+        }
+        return query.executeUpdate() == 1;
+    }
+
+    /**
+     * Selects and locks using {@link SkipLockedDialect native SQL}, if supported by the datastore.
+     */
+    @Override
+    protected Optional<List<CommandLogEntry>> selectAndLockCandidates(
+            final int limit,
+            final Timestamp since,
+            final @Nullable Timestamp leaseExpiredBefore) {
+        val entityManager = jpaSupportService.getEntityManagerElseFail(CommandLogEntry.class);
+        val connection = entityManager.unwrap(Connection.class);
+        if(connection == null) {
+            // eg. if the JPA provider does not expose the JDBC connection (outside of a transaction)
+            warnNoConnectionOnce();
+            return Optional.empty();
+        }
+        try {
+            if(skipLockedTable == null) {
+                skipLockedTable = SkipLockedDialect.detect(connection, CommandLogEntry.SCHEMA, CommandLogEntry.TABLE);
+            }
+            if(skipLockedTable.isEmpty()) {
+                return Optional.empty();
+            }
+            val interactionIds = skipLockedTable.get().selectAndLock(connection, limit, since, leaseExpiredBefore);
+            return Optional.of(interactionIds.stream()
+                    .map(this::findByInteractionId)
+                    .flatMap(Optional::stream)
+                    .collect(Collectors.toList()));
+        } catch (SQLException e) {
+            throw _Exceptions.unrecoverable(e, "failed to select background commands to claim");
+        }
+    }
+
+    private void warnNoConnectionOnce() {
+        if(!warnedNoConnection) {
+            warnedNoConnection = true;
+            log.warn("no JDBC connection available to select background commands to claim using SKIP LOCKED; "
+                    + "falling back to selecting candidates without locking, claiming these optimistically");
+        }
+    }
+
 }
@@ -19,9 +19,12 @@
 package org.apache.causeway.extensions.excel.applib;
 
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.apache.causeway.applib.exceptions.RecoverableException;
+import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.value.Blob;
 import org.apache.causeway.extensions.excel.applib.service.ExcelServiceDefault;
 
@@ -63,6 +66,38 @@ <T> Blob toExcel(WorksheetContent worksheetContent, String fileName, InputStream
     Blob toExcel(List<WorksheetContent> worksheetContents, String fileName, InputStream in)
             throws ExcelServiceDefault.Exception;
 
+    /**
+     * Writes a single-sheet spreadsheet of the domain objects directly to given output stream,
+     * without holding neither the whole workbook nor all of its rows in memory.
+     *
+     * <p>
+     *     The domain objects are pulled one at a time from given {@link Iterable}, while only a bounded window
+     *     of rows (as per <code>causeway.extensions.excel.row-window-size</code>) is kept in memory;
+     *     rows that have been written are flushed to a temporary file.  This makes it suitable for large
+     *     collections, if the {@link Iterable} itself loads its elements lazily.
+     * </p>
+     *
+     * @param sheetName - must be 31 chars or less
+     */
+    <T> void toExcel(Iterable<T> domainObjects, Class<T> cls, String sheetName, OutputStream out)
+            throws ExcelService.Exception;
+
+    /**
+     * As {@link #toExcel(Iterable, Class, String, OutputStream)}, but with the domain objects being the results
+     * of given {@link Query}, read from a database cursor (see
+     * {@link org.apache.causeway.applib.services.repository.RepositoryService#streamMatches(Query,
+     * org.apache.causeway.applib.services.repository.StreamOptions) RepositoryService#streamMatches}),
+     * detaching every so many domain objects once written (as per <code>causeway.extensions.excel.page-size</code>).
+     *
+     * <p>
+     *     Must be called within a transaction.
+     * </p>
+     *
+     * @param sheetName - must be 31 chars or less
+     */
+    <T> void toExcel(Query<T> query, Class<T> cls, String sheetName, OutputStream out)
+            throws ExcelService.Exception;
+
     <T> Blob toExcelPivot(List<T> domainObjects, Class<T> cls, String fileName) throws ExcelService.Exception;
 
     <T> Blob toExcelPivot(List<T> domainObjects, Class<T> cls, String sheetName, String fileName)
@@ -94,6 +129,18 @@ <T> List<T> fromExcel(Blob excelBlob, Class<T> cls, String sheetName, Mode mode)
     List<List<?>> fromExcel(Blob excelBlob, WorksheetSpec.Matcher matcher, WorksheetSpec.Sequencer sequencer)
             throws ExcelServiceDefault.Exception;
 
+    /**
+     * Streaming variant of {@link #fromExcel(Blob, WorksheetSpec)}, that reads the sheet row by row
+     * (using the SAX event API) and hands over the object of each line to given consumer,
+     * rather than loading the whole workbook and collecting all the objects into a list.
+     *
+     * <p>
+     *     Unlike the other variants, formula cells are not evaluated; their most recently cached result is used.
+     * </p>
+     */
+    <T> void fromExcel(InputStream in, WorksheetSpec worksheetSpec, Consumer<T> consumer)
+            throws ExcelService.Exception;
+
     class Exception extends RecoverableException {
 
         private static final long serialVersionUID = 1L;
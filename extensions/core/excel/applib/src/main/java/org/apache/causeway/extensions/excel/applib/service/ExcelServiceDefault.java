@@ -21,7 +21,9 @@
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.function.Consumer;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.Priority;
@@ -35,6 +37,7 @@
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.services.inject.ServiceInjector;
 import org.apache.causeway.applib.value.Blob;
 import org.apache.causeway.commons.internal.collections._Lists;
@@ -112,6 +115,24 @@ public Blob toExcel(
         return helper.toExcel(worksheetContents, fileName, in);
     }
 
+    @Override
+    public <T> void toExcel(
+            final Iterable<T> domainObjects,
+            final Class<T> cls,
+            final String sheetName,
+            final OutputStream out) throws ExcelServiceDefault.Exception {
+        helper.toExcel(domainObjects, cls, sheetName, out);
+    }
+
+    @Override
+    public <T> void toExcel(
+            final Query<T> query,
+            final Class<T> cls,
+            final String sheetName,
+            final OutputStream out) throws ExcelServiceDefault.Exception {
+        helper.toExcel(query, cls, sheetName, out);
+    }
+
     @Override
     public <T> Blob toExcelPivot(
             final List<T> domainObjects,
@@ -212,5 +233,12 @@ public List<List<?>> fromExcel(
         return fromExcel(excelBlob, worksheetSpecs);
     }
 
+    @Override
+    public <T> void fromExcel(
+            final InputStream in,
+            final WorksheetSpec worksheetSpec,
+            final Consumer<T> consumer) throws ExcelServiceDefault.Exception {
+        helper.fromExcel(in, worksheetSpec, consumer);
+    }
 
 }
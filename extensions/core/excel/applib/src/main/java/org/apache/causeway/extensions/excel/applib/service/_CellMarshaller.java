@@ -297,11 +297,40 @@ private static void setCellValueForDate(final Cell cell, final Date date, final
         cell.setCellStyle(dateCellStyle);
     }
 
-    String getStringCellValue(final Cell cell) {
+    // -- READING
+
+    /**
+     * The content of a cell, as required for reading,
+     * such that cells can be read either from a {@link Cell} or streamed from the sheet's XML.
+     * <p>
+     * Methods behave as their {@link Cell} counterparts.
+     */
+    interface CellContent {
+
+        CellType getCellType();
+        boolean getBooleanCellValue();
+        String getStringCellValue();
+        double getNumericCellValue();
+        java.util.Date getDateCellValue();
+        Comment getCellComment();
+
+        static CellContent of(final Cell cell) {
+            return new CellContent() {
+                @Override public CellType getCellType() { return cell.getCellType(); }
+                @Override public boolean getBooleanCellValue() { return cell.getBooleanCellValue(); }
+                @Override public String getStringCellValue() { return cell.getStringCellValue(); }
+                @Override public double getNumericCellValue() { return cell.getNumericCellValue(); }
+                @Override public java.util.Date getDateCellValue() { return cell.getDateCellValue(); }
+                @Override public Comment getCellComment() { return cell.getCellComment(); }
+            };
+        }
+    }
+
+    String getStringCellValue(final CellContent cell) {
         return getCellValue(cell, String.class);
     }
 
-    Object getCellValue(final Cell cell, final OneToOneAssociation otoa) {
+    Object getCellValue(final CellContent cell, final OneToOneAssociation otoa) {
 
         final CellType cellType = cell.getCellType();
 
@@ -326,7 +355,7 @@ Object getCellValue(final Cell cell, final OneToOneAssociation otoa) {
     }
 
     @SuppressWarnings("unchecked")
-    private <T> T getCellValue(final Cell cell, final Class<T> requiredType) {
+    private <T> T getCellValue(final CellContent cell, final Class<T> requiredType) {
         final CellType cellType = cell.getCellType();
 
         if(requiredType == boolean.class || requiredType == Boolean.class) {
@@ -483,7 +512,7 @@ private <T> T getCellValue(final Cell cell, final Class<T> requiredType) {
     }
 
 
-    private Object getCellComment(final Cell cell, final Class<?> requiredType) {
+    private Object getCellComment(final CellContent cell, final Class<?> requiredType) {
         final Comment comment = cell.getCellComment();
         if(comment == null) {
             return null;
@@ -22,18 +22,23 @@
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.CellType;
@@ -42,8 +47,10 @@
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.VerticalAlignment;
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.lang.Nullable;
+import org.xml.sax.SAXException;
 
 import org.apache.causeway.applib.annotation.Where;
 import org.apache.causeway.applib.services.bookmark.BookmarkService;
@@ -73,6 +80,7 @@
 import org.apache.causeway.extensions.excel.applib.annotation.PivotDecoration;
 import org.apache.causeway.extensions.excel.applib.annotation.PivotRow;
 import org.apache.causeway.extensions.excel.applib.annotation.PivotValue;
+import org.apache.causeway.extensions.excel.applib.service._CellMarshaller.CellContent;
 import org.apache.causeway.extensions.excel.applib.util.PivotUtils;
 import org.apache.causeway.extensions.excel.applib.util.SheetPivoter;
 
@@ -120,7 +128,7 @@ public Row newRow() {
 
     // //////////////////////////////////////
 
-    File appendSheet(final List<WorksheetContent> worksheetContents, final XSSFWorkbook workbook) throws IOException {
+    File appendSheet(final List<WorksheetContent> worksheetContents, final Workbook workbook) throws IOException {
         final Set<String> worksheetNames = worksheetContents.stream()
                 .map(x -> x.getSpec().getSheetName())
                 .collect(Collectors.toSet());
@@ -148,16 +156,37 @@ File appendSheet(final List<WorksheetContent> worksheetContents, final XSSFWorkb
         return tempFile;
     }
 
+    /**
+     * Writes a single-sheet spreadsheet of given domain objects to given output stream,
+     * pulling the domain objects one at a time and keeping no more than given number of rows in memory.
+     */
+    void writeSheet(
+            final Iterable<?> domainObjects,
+            final WorksheetSpec.RowFactory<?> factory,
+            final String sheetName,
+            final int rowWindowSize,
+            final OutputStream out) throws IOException {
+        if(sheetName.length() > 30) {
+            throw new IllegalArgumentException(
+                    String.format("Sheet name cannot exceed 30 characters (invalid name: '%s')",
+                            sheetName));
+        }
+        val workbook = new SXSSFWorkbook(rowWindowSize);
+        try {
+            appendSheet(workbook, domainObjects, factory, sheetName);
+            workbook.write(out);
+        } finally {
+            workbook.dispose(); // deletes temporary files
+            workbook.close();
+        }
+    }
+
     private Sheet appendSheet(
-            final XSSFWorkbook workbook,
-            final List<?> domainObjects,
+            final Workbook workbook,
+            final Iterable<?> domainObjects,
             final WorksheetSpec.RowFactory<?> factory,
             final String sheetName) throws IOException {
 
-        final List<ManagedObject> adapters = domainObjects.stream()
-                .map(objectManager::adapt)
-                .collect(Collectors.toList());
-
         final List<OneToOneAssociation> propertyList = _Lists.newArrayList();
 
         specificationLoader.specForType(factory.getCls())
@@ -188,7 +217,8 @@ private Sheet appendSheet(
         final _CellMarshaller cellMarshaller = newCellMarshaller(workbook);
 
         // detail rows
-        for (final ManagedObject objectAdapter : adapters) {
+        for (final Object domainObject : domainObjects) {
+            final ManagedObject objectAdapter = objectManager.adapt(domainObject);
             final Row detailRow = rowFactory.newRow();
             i = 0;
             for (val property : propertyList) {
@@ -389,36 +419,84 @@ <T> List<T> fromBytes(
         }
     }
 
+    /**
+     * Streaming variant of {@link #fromBytes(byte[], WorksheetSpec)},
+     * reading the sheet using the SAX event API and handing over each row's object to given consumer,
+     * rather than collecting them.
+     */
+    <T> void fromStream(
+            final InputStream in,
+            final WorksheetSpec worksheetSpec,
+            final Consumer<T> consumer) throws IOException, OpenXML4JException, SAXException {
+
+        final SheetReader<T> sheetReader = new SheetReader<>(
+                worksheetSpec, new _CellMarshaller(bookmarkService, null, null), consumer);
+        _StreamingSheetReader.read(
+                in,
+                determineCandidateSheetNames(worksheetSpec.getSheetName(), sheetReader.cls),
+                sheetReader::onRow);
+    }
+
     private <T> List<T> fromWorkbook(
             final Workbook workbook,
             final WorksheetSpec worksheetSpec) {
 
-        final WorksheetSpec.RowFactory<Object> factory = worksheetSpec.getFactory();
-        this.serviceInjector.injectServicesInto(factory);
-
-        final Class<T> cls = _Casts.uncheckedCast(factory.getCls());
-        final String sheetName = worksheetSpec.getSheetName();
-        final Mode mode = worksheetSpec.getMode();
-
         final List<T> importedItems = _Lists.newArrayList();
+        final SheetReader<T> sheetReader = new SheetReader<>(
+                worksheetSpec, this.newCellMarshaller(workbook), importedItems::add);
 
-        final _CellMarshaller cellMarshaller = this.newCellMarshaller(workbook);
+        final Sheet sheet = lookupSheet(sheetReader.cls, worksheetSpec.getSheetName(), workbook);
 
-        final Sheet sheet = lookupSheet(cls, sheetName, workbook);
-
-        boolean header = true;
-        final Map<Integer, Property> propertyByColumn = _Maps.newHashMap();
-
-        final ObjectSpecification objectSpec = specificationLoader.specForType(cls).orElse(null);
-
-        T previousRow = null;
         for (final Row row : sheet) {
+            final Map<Integer, CellContent> cellsByColumn = new LinkedHashMap<>();
+            for (final Cell cell : row) {
+                cellsByColumn.put(cell.getColumnIndex(), CellContent.of(cell));
+            }
+            sheetReader.onRow(row.getRowNum(), cellsByColumn);
+        }
+        return importedItems;
+    }
+
+    /**
+     * Converts the rows of a sheet (the first being the header) into domain objects,
+     * regardless of whether the sheet is read from a {@link Workbook} or streamed.
+     */
+    private class SheetReader<T> {
+
+        private final WorksheetSpec.RowFactory<Object> factory;
+        private final Class<T> cls;
+        private final String sheetName;
+        private final Mode mode;
+        private final _CellMarshaller cellMarshaller;
+        private final Consumer<T> consumer;
+        private final ObjectSpecification objectSpec;
+
+        private boolean header = true;
+        private final Map<Integer, Property> propertyByColumn = _Maps.newHashMap();
+        private T previousRow = null;
+
+        SheetReader(
+                final WorksheetSpec worksheetSpec,
+                final _CellMarshaller cellMarshaller,
+                final Consumer<T> consumer) {
+            this.factory = worksheetSpec.getFactory();
+            serviceInjector.injectServicesInto(factory);
+            this.cls = _Casts.uncheckedCast(factory.getCls());
+            this.sheetName = worksheetSpec.getSheetName();
+            this.mode = worksheetSpec.getMode();
+            this.cellMarshaller = cellMarshaller;
+            this.consumer = consumer;
+            this.objectSpec = specificationLoader.specForType(cls).orElse(null);
+        }
+
+        void onRow(final int rowNum, final Map<Integer, CellContent> cellsByColumn) {
             if (header) {
-                for (final Cell cell : row) {
+                for (final Map.Entry<Integer, CellContent> entry : cellsByColumn.entrySet()) {
+                    final CellContent cell = entry.getValue();
 
                     try{
                         if (cell.getCellType() != CellType.BLANK) {
-                            final int columnIndex = cell.getColumnIndex();
+                            final int columnIndex = entry.getKey();
                             final String propertyName = cellMarshaller.getStringCellValue(cell);
                             final OneToOneAssociation property = getAssociation(objectSpec, propertyName);
                             if (property != null) {
@@ -432,7 +510,7 @@ private <T> List<T> fromWorkbook(
                         case RELAXED:
                             // ignore
                         default:
-                            throw new ExcelServiceDefault.Exception(String.format("Error processing Excel row nr. %d. Message: %s", row.getRowNum(), e.getMessage()), e);
+                            throw new ExcelServiceDefault.Exception(String.format("Error processing Excel row nr. %d. Message: %s", rowNum, e.getMessage()), e);
                         }
                     }
 
@@ -445,11 +523,12 @@ private <T> List<T> fromWorkbook(
                 // Excel can have physical rows with cells empty that it seem do not existent for the user.
                 ManagedObject templateAdapter = null;
                 T imported = null;
-                for (final Cell cell : row) {
+                for (final Map.Entry<Integer, CellContent> entry : cellsByColumn.entrySet()) {
+                    final CellContent cell = entry.getValue();
 
                     try {
 
-                        final int columnIndex = cell.getColumnIndex();
+                        final int columnIndex = entry.getKey();
                         final Property property = propertyByColumn.get(columnIndex);
                         if (property != null) {
                             final OneToOneAssociation otoa = property.getOneToOneAssociation();
@@ -461,13 +540,13 @@ private <T> List<T> fromWorkbook(
                                     // set excel metadata if applicable
                                     if (ExcelMetaDataEnabled.class.isAssignableFrom(cls)){
                                         ExcelMetaDataEnabled importedEnhanced = (ExcelMetaDataEnabled) imported;
-                                        importedEnhanced.setExcelRowNumber(row.getRowNum());
+                                        importedEnhanced.setExcelRowNumber(rowNum);
                                         importedEnhanced.setExcelSheetName(sheetName);
                                         imported = _Casts.uncheckedCast(importedEnhanced);
                                     }
-                                    templateAdapter = this.objectManager.adapt(imported);
+                                    templateAdapter = objectManager.adapt(imported);
                                 }
-                                final ManagedObject valueAdapter = this.objectManager.adapt(value);
+                                final ManagedObject valueAdapter = objectManager.adapt(value);
                                 otoa.set(templateAdapter, valueAdapter, InteractionInitiatedBy.USER);
                             }
                         } else {
@@ -480,7 +559,7 @@ private <T> List<T> fromWorkbook(
                             // ignore
                             break;
                         default:
-                            throw new ExcelServiceDefault.Exception(String.format("Error processing Excel row nr. %d. Message: %s", row.getRowNum(), e.getMessage()), e);
+                            throw new ExcelServiceDefault.Exception(String.format("Error processing Excel row nr. %d. Message: %s", rowNum, e.getMessage()), e);
 
                         }
                     }
@@ -499,7 +578,7 @@ private <T> List<T> fromWorkbook(
 //                }
 
                 if (imported != null) {
-                    importedItems.add(imported);
+                    consumer.accept(imported);
 
                     if(imported instanceof RowHandler) {
                         val rowHandler = (RowHandler<?>) imported;
@@ -512,11 +591,7 @@ private <T> List<T> fromWorkbook(
                 }
 
             }
-
-
-
         }
-        return importedItems;
     }
 
     protected <T> Sheet lookupSheet(final Class<T> cls, final String sheetName, final Workbook workbook) {
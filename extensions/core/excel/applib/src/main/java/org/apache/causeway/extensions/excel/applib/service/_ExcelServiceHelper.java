@@ -21,16 +21,26 @@
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.xml.sax.SAXException;
 
+import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.services.bookmark.BookmarkService;
 import org.apache.causeway.applib.services.inject.ServiceInjector;
+import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.applib.services.repository.StreamOptions;
 import org.apache.causeway.applib.value.Blob;
 import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
 import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
 import org.apache.causeway.extensions.excel.applib.WorksheetContent;
@@ -104,11 +114,14 @@ <T> Blob toExcel(final WorksheetContent worksheetContent, final String fileName,
      * As {@link #toExcel(WorksheetContent, String)}, but with multiple sheets.
      */
     Blob toExcel(final List<WorksheetContent> worksheetContents, final String fileName) {
+        final SXSSFWorkbook workbook = new SXSSFWorkbook(excelConfig().getRowWindowSize());
         try {
-            final File file = newExcelConverter().appendSheet(worksheetContents, new XSSFWorkbook());
+            final File file = newExcelConverter().appendSheet(worksheetContents, workbook);
             return excelFileBlobConverter.toBlob(fileName, file);
         } catch (final IOException ex) {
             throw new ExcelServiceDefault.Exception(ex);
+        } finally {
+            workbook.dispose();
         }
     }
 
@@ -124,6 +137,46 @@ Blob toExcel(final List<WorksheetContent> worksheetContents, final String fileNa
         }
     }
 
+    /**
+     * Writes a single-sheet spreadsheet of the domain objects to given output stream,
+     * keeping only a bounded window of rows in memory.
+     *
+     * @param sheetName - must be 31 chars or less
+     */
+    <T> void toExcel(
+            final Iterable<T> domainObjects,
+            final Class<T> cls,
+            final String sheetName,
+            final OutputStream out) {
+        try {
+            newExcelConverter().writeSheet(
+                    domainObjects,
+                    new WorksheetSpec(cls, sheetName).getFactory(),
+                    sheetName,
+                    excelConfig().getRowWindowSize(),
+                    out);
+        } catch (final IOException ex) {
+            throw new ExcelServiceDefault.Exception(ex);
+        }
+    }
+
+    /**
+     * As {@link #toExcel(Iterable, Class, String, OutputStream)}, but with the domain objects read
+     * from a database cursor, detaching each page of domain objects once written.
+     *
+     * @param sheetName - must be 31 chars or less
+     */
+    <T> void toExcel(
+            final Query<T> query,
+            final Class<T> cls,
+            final String sheetName,
+            final OutputStream out) {
+        final StreamOptions streamOptions = StreamOptions.detachEvery(excelConfig().getPageSize());
+        try(final Stream<T> domainObjects = repositoryService.streamMatches(query, streamOptions)) {
+            toExcel((Iterable<T>) domainObjects::iterator, cls, sheetName, out);
+        }
+    }
+
     /**
      * Creates a Blob holding a single-sheet spreadsheet with a pivot of the domain objects. The sheet name is derived from the
      * class name.
@@ -220,8 +273,27 @@ List<List<?>> fromExcel(
         }
     }
 
+    /**
+     * Streaming variant of {@link #fromExcel(Blob, WorksheetSpec)}, handing over each line's object
+     * to given consumer.
+     */
+    <T> void fromExcel(
+            final InputStream in,
+            final WorksheetSpec worksheetSpec,
+            final Consumer<T> consumer) throws ExcelServiceDefault.Exception {
+        try {
+            newExcelConverter().fromStream(in, worksheetSpec, consumer);
+        } catch (final IOException | OpenXML4JException | SAXException e) {
+            throw new ExcelServiceDefault.Exception(e);
+        }
+    }
+
     // -- HELPER
 
+    private CausewayConfiguration.Extensions.Excel excelConfig() {
+        return causewayConfiguration.getExtensions().getExcel();
+    }
+
     @SneakyThrows
     private _ExcelConverter newExcelConverter() {
         return new _ExcelConverter(specificationLoader, objectManager, bookmarkService, serviceInjector);
@@ -241,4 +313,10 @@ private _ExcelConverter newExcelConverter() {
     @javax.inject.Inject
     ObjectManager objectManager;
 
+    @javax.inject.Inject
+    RepositoryService repositoryService;
+
+    @javax.inject.Inject
+    CausewayConfiguration causewayConfiguration;
+
 }
@@ -0,0 +1,329 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.excel.applib.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Comment;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellAddress;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.Comments;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.springframework.lang.Nullable;
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import org.apache.causeway.extensions.excel.applib.service._CellMarshaller.CellContent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * Reads the rows of a single sheet of an <code>.xlsx</code> file using the SAX event API,
+ * such that (unlike with {@link org.apache.poi.xssf.usermodel.XSSFWorkbook}) the sheet is never held in memory.
+ */
+final class _StreamingSheetReader {
+
+    @FunctionalInterface
+    interface RowCallback {
+        /**
+         * @param rowNum - zero based
+         * @param cellsByColumn - non-empty cells of the row, by (zero based) column index
+         */
+        void onRow(int rowNum, Map<Integer, CellContent> cellsByColumn);
+    }
+
+    private _StreamingSheetReader() {}
+
+    /**
+     * Reads the first sheet (of the spreadsheet read from given input) named any of given names (in order),
+     * passing each of its rows to given callback.
+     *
+     * @throws IllegalArgumentException if there is no such sheet
+     */
+    static void read(
+            final InputStream in,
+            final List<String> sheetNames,
+            final RowCallback rowCallback) throws IOException, OpenXML4JException, SAXException {
+
+        try(val pkg = OPCPackage.open(in)) {
+            val reader = new XSSFReader(pkg);
+            reader.setUseReadOnlySharedStringsTable(true);
+
+            val sheetName = lookupSheetName(reader, sheetNames);
+            val date1904 = isDate1904(reader);
+            val sharedStrings = reader.getSharedStringsTable();
+
+            val sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            while(sheets.hasNext()) {
+                try(val sheetData = sheets.next()) {
+                    if(sheets.getSheetName().equals(sheetName)) {
+                        parse(sheetData, new SheetHandler(
+                                sharedStrings, sheets.getSheetComments(), date1904, rowCallback));
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    // -- HELPER
+
+    private static String lookupSheetName(
+            final XSSFReader reader,
+            final List<String> sheetNames) throws IOException, OpenXML4JException {
+        final List<String> actualSheetNames = new ArrayList<>();
+        val sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+        while(sheets.hasNext()) {
+            sheets.next().close();
+            actualSheetNames.add(sheets.getSheetName());
+        }
+        // as per Workbook#getSheet(String), sheet names are matched ignoring case
+        for (val sheetName : sheetNames) {
+            for (val actualSheetName : actualSheetNames) {
+                if(actualSheetName.equalsIgnoreCase(sheetName)) {
+                    return actualSheetName;
+                }
+            }
+        }
+        throw new IllegalArgumentException(String.format("Could not locate sheet named any of: '%s'", sheetNames));
+    }
+
+    private static boolean isDate1904(final XSSFReader reader) throws IOException, OpenXML4JException, SAXException {
+        val date1904 = new boolean[1];
+        try(val workbookData = reader.getWorkbookData()) {
+            parse(workbookData, new DefaultHandler() {
+                @Override
+                public void startElement(final String uri, final String localName, final String qName, final Attributes attributes) {
+                    if("workbookPr".equals(localName)) {
+                        val value = attributes.getValue("date1904");
+                        date1904[0] = "1".equals(value) || "true".equals(value);
+                    }
+                }
+            });
+        }
+        return date1904[0];
+    }
+
+    private static void parse(final InputStream xml, final ContentHandler handler) throws IOException, SAXException {
+        try {
+            val xmlReader = XMLHelper.newXMLReader();
+            xmlReader.setContentHandler(handler);
+            xmlReader.parse(new InputSource(xml));
+        } catch (ParserConfigurationException e) {
+            throw new SAXException(e);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class SheetHandler extends DefaultHandler {
+
+        private final SharedStrings sharedStrings;
+        private final @Nullable Comments comments;
+        private final boolean date1904;
+        private final RowCallback rowCallback;
+
+        /**
+         * The <code>r</code> attribute of rows and cells is optional,
+         * hence (if missing) their position follows from the preceding ones.
+         */
+        private int rowNum = -1;
+        private int nextColumnIndex;
+        private Map<Integer, CellContent> cellsByColumn;
+
+        private int columnIndex;
+        private String cellType;
+        private StringBuilder cellText; // non-null while within <v> or inline <t>
+        private String cellValue;
+
+        @Override
+        public void startElement(final String uri, final String localName, final String qName, final Attributes attributes) {
+            switch (localName) {
+            case "row":
+                val rowRef = attributes.getValue("r");
+                rowNum = rowRef != null
+                        ? Integer.parseInt(rowRef) - 1
+                        : rowNum + 1;
+                nextColumnIndex = 0;
+                cellsByColumn = new TreeMap<>();
+                break;
+            case "c":
+                val cellRef = attributes.getValue("r");
+                columnIndex = cellRef != null
+                        ? new CellReference(cellRef).getCol()
+                        : nextColumnIndex;
+                nextColumnIndex = columnIndex + 1;
+                cellType = attributes.getValue("t");
+                cellValue = null;
+                break;
+            case "v":
+            case "t":
+                cellText = new StringBuilder();
+                break;
+            default:
+            }
+        }
+
+        @Override
+        public void characters(final char[] ch, final int start, final int length) {
+            if(cellText != null) {
+                cellText.append(ch, start, length);
+            }
+        }
+
+        @Override
+        public void endElement(final String uri, final String localName, final String qName) {
+            switch (localName) {
+            case "v":
+            case "t":
+                // inline strings may consist of multiple runs
+                cellValue = cellValue != null && "t".equals(localName)
+                        ? cellValue + cellText
+                        : cellText.toString();
+                cellText = null;
+                break;
+            case "c":
+                val address = new CellAddress(rowNum, columnIndex);
+                cellsByColumn.put(
+                        columnIndex,
+                        new StreamedCell(
+                                cellTypeFor(cellType, cellValue),
+                                "s".equals(cellType)
+                                    ? sharedStrings.getItemAt(Integer.parseInt(cellValue)).getString()
+                                    : cellValue,
+                                date1904,
+                                comments != null
+                                    ? comments.findCellComment(address)
+                                    : null));
+                break;
+            case "row":
+                rowCallback.onRow(rowNum, cellsByColumn);
+                cellsByColumn = null;
+                break;
+            default:
+            }
+        }
+
+        private static CellType cellTypeFor(final @Nullable String type, final @Nullable String value) {
+            if(value == null) {
+                return CellType.BLANK;
+            }
+            if(type == null) {
+                return CellType.NUMERIC;
+            }
+            switch (type) {
+            case "s":
+            case "str":
+            case "inlineStr":
+                return CellType.STRING;
+            case "b":
+                return CellType.BOOLEAN;
+            case "e":
+                return CellType.ERROR;
+            default:
+                return CellType.NUMERIC;
+            }
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class StreamedCell implements CellContent {
+
+        private final CellType cellType;
+        private final @Nullable String value;
+        private final boolean date1904;
+        private final @Nullable Comment cellComment;
+
+        @Override
+        public CellType getCellType() {
+            return cellType;
+        }
+
+        @Override
+        public boolean getBooleanCellValue() {
+            if(cellType == CellType.BOOLEAN) {
+                return "1".equals(value);
+            }
+            requireBlank(CellType.BOOLEAN);
+            return false;
+        }
+
+        @Override
+        public String getStringCellValue() {
+            if(cellType == CellType.STRING) {
+                return value;
+            }
+            requireBlank(CellType.STRING);
+            return "";
+        }
+
+        @Override
+        public double getNumericCellValue() {
+            if(cellType == CellType.NUMERIC) {
+                return Double.parseDouble(value);
+            }
+            requireBlank(CellType.NUMERIC);
+            return 0.0;
+        }
+
+        @Override
+        public Date getDateCellValue() {
+            if(cellType == CellType.NUMERIC) {
+                return DateUtil.getJavaDate(Double.parseDouble(value), date1904);
+            }
+            requireBlank(CellType.NUMERIC);
+            return null;
+        }
+
+        @Override
+        public Comment getCellComment() {
+            return cellComment;
+        }
+
+        /**
+         * As {@link org.apache.poi.ss.usermodel.Cell}, treats blank cells as empty (of any type),
+         * otherwise fails if the cell is not of the required type.
+         */
+        private void requireBlank(final CellType requiredType) {
+            if(cellType == CellType.BLANK) {
+                return;
+            }
+            throw new IllegalStateException(
+                    String.format("Cannot get a %s value from a %s cell", requiredType, cellType));
+        }
+    }
+
+}
@@ -0,0 +1,172 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.excel.applib.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import org.apache.causeway.extensions.excel.applib.service._CellMarshaller.CellContent;
+
+class StreamingSheetReaderTest {
+
+    @Test
+    void readsRowsOfNamedSheet() throws Exception {
+
+        // given
+        final byte[] bytes = workbookWithRows(2_000);
+        final Map<Integer, Map<Integer, CellContent>> rows = new LinkedHashMap<>();
+
+        // when
+        _StreamingSheetReader.read(
+                new ByteArrayInputStream(bytes),
+                Arrays.asList("Unknown", "items"),
+                rows::put);
+
+        // then
+        Assertions.assertThat(rows).hasSize(2_001);
+
+        final Map<Integer, CellContent> header = rows.get(0);
+        Assertions.assertThat(header.get(0).getStringCellValue()).isEqualTo("name");
+        Assertions.assertThat(header.get(2).getStringCellValue()).isEqualTo("done");
+
+        final Map<Integer, CellContent> detail = rows.get(1_000);
+        Assertions.assertThat(detail.get(0).getCellType()).isEqualTo(CellType.STRING);
+        Assertions.assertThat(detail.get(0).getStringCellValue()).isEqualTo("item-1000");
+        Assertions.assertThat(detail.get(1).getCellType()).isEqualTo(CellType.NUMERIC);
+        Assertions.assertThat(detail.get(1).getNumericCellValue()).isEqualTo(1000.5);
+        Assertions.assertThat(detail.get(2).getCellType()).isEqualTo(CellType.BOOLEAN);
+        Assertions.assertThat(detail.get(2).getBooleanCellValue()).isTrue();
+        // as with Row#cellIterator(), cells that exist (as opposed to undefined ones) are reported, even if blank
+        Assertions.assertThat(detail.get(3).getCellType()).isEqualTo(CellType.BLANK);
+        Assertions.assertThat(detail).doesNotContainKey(4);
+    }
+
+    @Test
+    void readsRowsAndCellsWithoutReferences() throws Exception {
+
+        // given - the optional 'r' attributes omitted, except for the 4th row
+        final byte[] bytes = withoutReferences(workbookWithRows(3), "4");
+        final Map<Integer, Map<Integer, CellContent>> rows = new LinkedHashMap<>();
+
+        // when
+        _StreamingSheetReader.read(
+                new ByteArrayInputStream(bytes),
+                Collections.singletonList("Items"),
+                rows::put);
+
+        // then
+        Assertions.assertThat(rows).containsOnlyKeys(0, 1, 2, 3);
+        Assertions.assertThat(rows.get(0).get(2).getStringCellValue()).isEqualTo("done");
+
+        final Map<Integer, CellContent> detail = rows.get(2);
+        Assertions.assertThat(detail).containsOnlyKeys(0, 1, 2, 3);
+        Assertions.assertThat(detail.get(0).getStringCellValue()).isEqualTo("item-2");
+        Assertions.assertThat(detail.get(1).getNumericCellValue()).isEqualTo(2.5);
+        Assertions.assertThat(detail.get(2).getBooleanCellValue()).isTrue();
+        Assertions.assertThat(detail.get(3).getCellType()).isEqualTo(CellType.BLANK);
+
+        Assertions.assertThat(rows.get(3).get(0).getStringCellValue()).isEqualTo("item-3");
+    }
+
+    @Test
+    void failsIfNoSheetMatches() throws Exception {
+
+        // given
+        final byte[] bytes = workbookWithRows(1);
+
+        // then
+        Assertions.assertThatThrownBy(()->
+                _StreamingSheetReader.read(
+                        new ByteArrayInputStream(bytes),
+                        Collections.singletonList("Unknown"),
+                        (rowNum, cellsByColumn)->{}))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // -- HELPER
+
+    /**
+     * Strips the (optional) 'r' attributes of all rows (except those given) and of all their cells.
+     */
+    private static byte[] withoutReferences(final byte[] xlsx, final String... rowRefsToKeep) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try(final ZipInputStream zipIn = new ZipInputStream(new ByteArrayInputStream(xlsx));
+            final ZipOutputStream zipOut = new ZipOutputStream(out)) {
+            ZipEntry entry;
+            while((entry = zipIn.getNextEntry()) != null) {
+                byte[] content = zipIn.readAllBytes();
+                if(entry.getName().startsWith("xl/worksheets/")) {
+                    String xml = new String(content, StandardCharsets.UTF_8);
+                    xml = xml.replaceAll("<c r=\"[A-Z]+\\d+\"", "<c");
+                    for(final String rowRef : rowRefsToKeep) {
+                        xml = xml.replace("<row r=\"" + rowRef + "\"", "<row keep=\"" + rowRef + "\"");
+                    }
+                    xml = xml.replaceAll("<row r=\"\\d+\"", "<row")
+                            .replace("<row keep=", "<row r=");
+                    content = xml.getBytes(StandardCharsets.UTF_8);
+                }
+                zipOut.putNextEntry(new ZipEntry(entry.getName()));
+                zipOut.write(content);
+                zipOut.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] workbookWithRows(final int numberOfRows) throws IOException {
+        final SXSSFWorkbook workbook = new SXSSFWorkbook(10);
+        try {
+            final SXSSFSheet sheet = workbook.createSheet("Items");
+            final Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("name");
+            header.createCell(1).setCellValue("amount");
+            header.createCell(2).setCellValue("done");
+            for (int i = 1; i <= numberOfRows; i++) {
+                final Row row = sheet.createRow(i);
+                row.createCell(0).setCellValue("item-" + i);
+                row.createCell(1).setCellValue(i + 0.5);
+                row.createCell(2).setCellValue(i % 2 == 0);
+                row.createCell(3);
+            }
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            workbook.write(out);
+            return out.toByteArray();
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+}
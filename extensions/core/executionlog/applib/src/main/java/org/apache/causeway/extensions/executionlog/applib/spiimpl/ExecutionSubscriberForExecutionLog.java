@@ -57,6 +57,14 @@ public boolean isEnabled() {
         return causewayConfiguration.getExtensions().getExecutionLog().getPersist().isEnabled();
     }
 
+    /**
+     * Always synchronous, as the entry is persisted within the same transaction as the execution.
+     */
+    @Override
+    public boolean isSynchronous() {
+        return true;
+    }
+
     @Override
     public void onExecution(Execution<?, ?> execution) {
         if (!isEnabled()) {
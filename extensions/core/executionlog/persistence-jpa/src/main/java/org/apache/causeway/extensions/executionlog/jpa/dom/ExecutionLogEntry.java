@@ -24,6 +24,7 @@
 import javax.persistence.Basic;
 import javax.persistence.Column;
 import javax.persistence.Convert;
+import javax.persistence.Converter;
 import javax.persistence.EmbeddedId;
 import javax.persistence.Entity;
 import javax.persistence.EntityListeners;
@@ -47,7 +48,7 @@
 import org.apache.causeway.extensions.executionlog.applib.dom.ExecutionLogEntryType;
 import org.apache.causeway.persistence.jpa.applib.integration.CausewayEntityListener;
 import org.apache.causeway.persistence.jpa.integration.typeconverters.applib.CausewayBookmarkConverter;
-import org.apache.causeway.persistence.jpa.integration.typeconverters.schema.v2.CausewayInteractionDtoConverter;
+import org.apache.causeway.persistence.jpa.integration.typeconverters.schema.v2.CausewayConfiguredDtoConverter;
 import org.apache.causeway.schema.ixn.v2.InteractionDto;
 
 import lombok.Getter;
@@ -219,7 +220,7 @@ public void setLogicalMemberIdentifier(final String logicalMemberIdentifier) {
         this.logicalMemberIdentifier = Util.abbreviated(logicalMemberIdentifier, LogicalMemberIdentifier.MAX_LENGTH);
     }
 
-    @Convert(converter = CausewayInteractionDtoConverter.class)
+    @Convert(converter = InteractionDtoConverter.class)
     @Lob @Basic(fetch = FetchType.LAZY)
     @Column(nullable = InteractionDtoAnnot.NULLABLE, columnDefinition = "CLOB")
     @InteractionDtoAnnot
@@ -238,6 +239,15 @@ public void setLogicalMemberIdentifier(final String logicalMemberIdentifier) {
     @Getter @Setter
     private java.sql.Timestamp completedAt;
 
-
+    /**
+     * Encodes the {@link #getInteractionDto() interactionDto} as configured for this extension,
+     * while reading any encoding.
+     */
+    @Converter
+    public static class InteractionDtoConverter extends CausewayConfiguredDtoConverter<InteractionDto> {
+        public InteractionDtoConverter() {
+            super(InteractionDto.class, config->config.getExtensions().getExecutionLog().getDtoEncoding());
+        }
+    }
 
 }
@@ -22,6 +22,7 @@
 
 import javax.inject.Named;
 import javax.jdo.annotations.Column;
+import javax.jdo.annotations.Convert;
 import javax.jdo.annotations.IdentityType;
 import javax.jdo.annotations.Index;
 import javax.jdo.annotations.Indices;
@@ -39,6 +40,7 @@
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry.Nq;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryType;
+import org.apache.causeway.persistence.jdo.datanucleus.typeconverters.schema.v2.CausewayConfiguredDtoConverter;
 import org.apache.causeway.schema.ixn.v2.InteractionDto;
 
 import lombok.Getter;
@@ -128,6 +130,7 @@ public void setLogicalMemberIdentifier(final String logicalMemberIdentifier) {
 
 
     @Persistent
+    @Convert(InteractionDtoConverter.class)
     @Column(allowsNull = InteractionDtoAnnot.ALLOWS_NULL, jdbcType = "CLOB", sqlType = "LONGVARCHAR")
     @InteractionDtoAnnot
     @Getter @Setter
@@ -147,6 +150,14 @@ public void setLogicalMemberIdentifier(final String logicalMemberIdentifier) {
     @Getter @Setter
     private java.sql.Timestamp completedAt;
 
-
+    /**
+     * Encodes the {@link #getInteractionDto() interactionDto} as configured for this extension,
+     * while reading any encoding.
+     */
+    public static class InteractionDtoConverter extends CausewayConfiguredDtoConverter<InteractionDto> {
+        public InteractionDtoConverter() {
+            super(InteractionDto.class, config->config.getExtensions().getExecutionOutbox().getDtoEncoding());
+        }
+    }
 
 }
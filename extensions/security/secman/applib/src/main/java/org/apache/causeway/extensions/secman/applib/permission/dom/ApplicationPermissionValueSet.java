@@ -18,9 +18,14 @@
  */
 package org.apache.causeway.extensions.secman.applib.permission.dom;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.causeway.applib.annotation.Programmatic;
 import org.apache.causeway.applib.services.appfeat.ApplicationFeatureId;
@@ -99,6 +104,18 @@ public static abstract class ActionDomainEvent extends CausewayModuleExtSecmanAp
      */
     private PermissionsEvaluationService permissionsEvaluationService;
 
+    /**
+     * Memoized {@link Evaluation}s per {@link ApplicationPermissionMode mode} and feature,
+     * shared by all evaluations of this permission set (which typically is cached per user).
+     *
+     * <p>
+     *     Relies on the {@link PermissionsEvaluationService} to be side-effect free,
+     *     that is, to evaluate the same arguments always to an equivalent result.
+     * </p>
+     */
+    private transient Map<ApplicationPermissionMode, Map<ApplicationFeatureId, Evaluation>> evaluationsByMode
+        = newEvaluationTable();
+
 
     // -- constructor
 
@@ -140,11 +157,32 @@ public boolean grants(final ApplicationFeatureId featureId, final ApplicationPer
         return evaluate(featureId, mode).isGranted();
     }
 
+    /**
+     * Evaluates given feature and mode, memoizing the result.
+     *
+     * <p>
+     *     Once memoized, the evaluation is a single hash lookup, not involving any allocation.
+     *     Otherwise the {@link PermissionsEvaluationService} is consulted for each of the feature's
+     *     {@link ApplicationFeatureId#getPathIds() path ids} (starting with the feature itself),
+     *     until it has come to a decision.
+     * </p>
+     */
     @Programmatic
     public Evaluation evaluate(
             final ApplicationFeatureId featureId,
             final ApplicationPermissionMode mode) {
 
+        val evaluations = evaluationsByMode.get(mode);
+        val evaluation = evaluations.get(featureId);
+        return evaluation != null
+                ? evaluation
+                : evaluations.computeIfAbsent(featureId, __->doEvaluate(featureId, mode));
+    }
+
+    private Evaluation doEvaluate(
+            final ApplicationFeatureId featureId,
+            final ApplicationPermissionMode mode) {
+
         for (val pathId : featureId.getPathIds()) {
             val permissionValues = permissionsByFeature.get(pathId);
             val evaluation = permissionsEvaluationService.evaluate(featureId, mode, permissionValues);
@@ -155,6 +193,20 @@ public Evaluation evaluate(
         return new Evaluation(null, false);
     }
 
+    private static Map<ApplicationPermissionMode, Map<ApplicationFeatureId, Evaluation>> newEvaluationTable() {
+        val evaluationsByMode = new EnumMap<ApplicationPermissionMode, Map<ApplicationFeatureId, Evaluation>>(
+                ApplicationPermissionMode.class);
+        for (val mode : ApplicationPermissionMode.values()) {
+            evaluationsByMode.put(mode, new ConcurrentHashMap<>());
+        }
+        return Collections.unmodifiableMap(evaluationsByMode);
+    }
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        this.evaluationsByMode = newEvaluationTable();
+    }
+
 
     // -- equals, hashCode, toString
     @Override
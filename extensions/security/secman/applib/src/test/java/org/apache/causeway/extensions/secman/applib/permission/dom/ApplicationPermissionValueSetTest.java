@@ -0,0 +1,103 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.secman.applib.permission.dom;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.services.appfeat.ApplicationFeatureId;
+import org.apache.causeway.commons.internal.base._NullSafe;
+import org.apache.causeway.extensions.secman.applib.permission.spi.PermissionsEvaluationService;
+
+import lombok.val;
+
+class ApplicationPermissionValueSetTest {
+
+    static class AllowBeatsVeto implements PermissionsEvaluationService {
+        private static final long serialVersionUID = 1L;
+
+        final AtomicInteger invocationCount = new AtomicInteger();
+
+        @Override
+        public ApplicationPermissionValueSet.Evaluation evaluate(
+                final ApplicationFeatureId targetMemberId,
+                final ApplicationPermissionMode mode,
+                final Collection<ApplicationPermissionValue> permissionValues) {
+            invocationCount.incrementAndGet();
+            if(_NullSafe.isEmpty(permissionValues)) {
+                return null;
+            }
+            for (val permissionValue : permissionValues) {
+                if(permissionValue.implies(targetMemberId, mode)) {
+                    return new ApplicationPermissionValueSet.Evaluation(permissionValue, true);
+                } else if(permissionValue.refutes(targetMemberId, mode)) {
+                    return new ApplicationPermissionValueSet.Evaluation(permissionValue, false);
+                }
+            }
+            return null;
+        }
+    }
+
+    private final ApplicationFeatureId namespace = ApplicationFeatureId.newNamespace("com.foo");
+    private final ApplicationFeatureId type = ApplicationFeatureId.newType("com.foo.Bar");
+    private final ApplicationFeatureId member = ApplicationFeatureId.newMember("com.foo.Bar", "bip");
+    private final ApplicationFeatureId otherMember = ApplicationFeatureId.newMember("com.foo.Bar", "bop");
+
+    private final AllowBeatsVeto evaluationService = new AllowBeatsVeto();
+    private final ApplicationPermissionValueSet permissionSet = new ApplicationPermissionValueSet(
+            List.of(
+                    new ApplicationPermissionValue(namespace, ApplicationPermissionRule.ALLOW, ApplicationPermissionMode.CHANGING),
+                    new ApplicationPermissionValue(type, ApplicationPermissionRule.VETO, ApplicationPermissionMode.CHANGING),
+                    new ApplicationPermissionValue(member, ApplicationPermissionRule.ALLOW, ApplicationPermissionMode.CHANGING)),
+            evaluationService);
+
+    @Test
+    void shouldEvaluateMostSpecificFeatureFirst() {
+        assertTrue(permissionSet.grants(member, ApplicationPermissionMode.CHANGING));
+        assertFalse(permissionSet.grants(otherMember, ApplicationPermissionMode.CHANGING));
+        // veto changing does not refute viewing
+        assertTrue(permissionSet.grants(otherMember, ApplicationPermissionMode.VIEWING));
+        assertTrue(permissionSet.grants(ApplicationFeatureId.newType("com.foo.Baz"), ApplicationPermissionMode.CHANGING));
+        assertFalse(permissionSet.grants(ApplicationFeatureId.newType("com.Baz"), ApplicationPermissionMode.VIEWING));
+    }
+
+    @Test
+    void shouldMemoizeEvaluationsPerFeatureAndMode() {
+        val evaluation = permissionSet.evaluate(otherMember, ApplicationPermissionMode.CHANGING);
+        val invocationCount = evaluationService.invocationCount.get();
+
+        // equal, but not identical feature id
+        assertSame(evaluation, permissionSet.evaluate(
+                ApplicationFeatureId.newMember("com.foo.Bar", "bop"), ApplicationPermissionMode.CHANGING));
+        assertEquals(invocationCount, evaluationService.invocationCount.get());
+
+        // other mode is evaluated separately
+        permissionSet.evaluate(otherMember, ApplicationPermissionMode.VIEWING);
+        assertTrue(evaluationService.invocationCount.get() > invocationCount);
+    }
+
+}
@@ -23,6 +23,7 @@
 
 import org.apache.causeway.extensions.secman.applib.CausewayModuleExtSecmanApplib;
 import org.apache.causeway.extensions.secman.integration.authorizor.AuthorizorSecman;
+import org.apache.causeway.extensions.secman.integration.authorizor.SharedPermissionCache;
 import org.apache.causeway.extensions.secman.integration.facets.TenantedAuthorizationPostProcessor;
 import org.apache.causeway.extensions.secman.integration.permissions.PermissionsEvaluationServiceForSecman;
 import org.apache.causeway.extensions.secman.integration.spiimpl.ImpersonateMenuAdvisorForSecman;
@@ -40,6 +41,7 @@
 
         // @Component or @Service
         AuthorizorSecman.class,
+        SharedPermissionCache.class,
         TenantedAuthorizationPostProcessor.Register.class,
         TableColumnVisibilityServiceForSecman.class,
         ImpersonateMenuAdvisorForSecman.class, //not activated by default yet
@@ -37,6 +37,7 @@
 import org.apache.causeway.applib.services.appfeat.ApplicationFeatureId;
 import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
 import org.apache.causeway.commons.internal.collections._Maps;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.security.authorization.Authorizor;
 import org.apache.causeway.extensions.secman.applib.CausewayModuleExtSecmanApplib;
 import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionMode;
@@ -58,6 +59,8 @@ public class AuthorizorSecman implements Authorizor {
 
     @Inject ApplicationUserRepository applicationUserRepository;
     @Inject Provider<PermissionCache> cache;
+    @Inject SharedPermissionCache sharedCache;
+    @Inject CausewayConfiguration causewayConfiguration;
 
     @Override
     public boolean isVisible(final InteractionContext authentication, final Identifier identifier) {
@@ -76,12 +79,17 @@ private boolean grants(
             final Identifier identifier,
             final ApplicationPermissionMode permissionMode) {
 
-        val userName = authentication.getUser().getName();
+        val user = authentication.getUser();
+        val userName = user.getName();
         val permissionSetIfAny = cache.get()
                 .computeIfAbsent(userName, ()->
-                applicationUserRepository
-                .findByUsername(userName)
-                .map(ApplicationUser::getPermissionSet));
+                    // permissions of an impersonated user depend on the impersonating roles, hence are not shared
+                    isSharedCacheEnabled()
+                        && !user.isImpersonating()
+                    ? sharedCache.computeIfAbsent(userName, ()->applicationUserRepository.findByUsername(userName))
+                    : applicationUserRepository
+                        .findByUsername(userName)
+                        .map(ApplicationUser::getPermissionSet));
 
         return permissionSetIfAny
         .map(permissionSet->permissionSet.grants(
@@ -90,6 +98,13 @@ private boolean grants(
         .orElse(false);
     }
 
+    private boolean isSharedCacheEnabled() {
+        return causewayConfiguration.getExtensions().getSecman().getPermissionCache().isEnabled();
+    }
+
+    /**
+     * Interaction scoped first tier, backed by the application scoped {@link SharedPermissionCache}.
+     */
     @Component
     @Named(CausewayModuleExtSecmanApplib.NAMESPACE + ".AuthorizorSecman.PermissionCache")
     @InteractionScope
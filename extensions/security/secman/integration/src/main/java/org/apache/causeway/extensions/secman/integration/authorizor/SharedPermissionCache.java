@@ -0,0 +1,265 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.secman.integration.authorizor;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import org.apache.causeway.commons.internal.collections._Maps;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.transaction.changetracking.events.PreRemoveEvent;
+import org.apache.causeway.core.transaction.changetracking.events.PreStoreEvent;
+import org.apache.causeway.core.transaction.events.TransactionAfterCompletionEvent;
+import org.apache.causeway.extensions.secman.applib.CausewayModuleExtSecmanApplib;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermission;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet;
+import org.apache.causeway.extensions.secman.applib.role.dom.ApplicationRole;
+import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUser;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Application scoped cache of the permissions of users, keyed by user name,
+ * bounded in size (least recently used entries are evicted first) and in time to live.
+ * <p>
+ * Entries are evicted, as soon as any {@link ApplicationUser}, {@link ApplicationRole} or
+ * {@link ApplicationPermission} affecting them is persisted, updated or removed,
+ * as well as once more after the corresponding transaction has completed,
+ * such that permissions looked up concurrently with that transaction are not retained.
+ *
+ * @see CausewayConfiguration.Extensions.Secman.PermissionCache
+ * @since 2.0
+ */
+@Component
+@Named(CausewayModuleExtSecmanApplib.NAMESPACE + ".SharedPermissionCache")
+@Log4j2
+public class SharedPermissionCache {
+
+    @RequiredArgsConstructor
+    private static final class CachedPermissions {
+        final Optional<ApplicationPermissionValueSet> permissionSet;
+        final Set<String> roleNames;
+        final long expiresAtNanos;
+    }
+
+    private final int maxSize;
+    private final long timeToLiveNanos;
+    private final LongSupplier nanoTime;
+
+    private final Map<String, CachedPermissions> entriesByUsername;
+
+    /**
+     * Incremented on every eviction,
+     * such that lookups that raced with an eviction are not stored.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Evictions done within the current thread's transaction,
+     * to be repeated once that transaction has completed.
+     */
+    private final ThreadLocal<Map<String, Runnable>> pendingEvictions =
+            ThreadLocal.withInitial(_Maps::newLinkedHashMap);
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    @Inject
+    public SharedPermissionCache(final CausewayConfiguration causewayConfiguration) {
+        this(causewayConfiguration.getExtensions().getSecman().getPermissionCache().getMaxSize(),
+             causewayConfiguration.getExtensions().getSecman().getPermissionCache().getTimeToLive(),
+             System::nanoTime);
+    }
+
+    SharedPermissionCache(
+            final int maxSize,
+            final @NonNull Duration timeToLive,
+            final @NonNull LongSupplier nanoTime) {
+        this.maxSize = maxSize;
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.nanoTime = nanoTime;
+        this.entriesByUsername = new LinkedHashMap<String, CachedPermissions>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, CachedPermissions> eldest) {
+                return size() > SharedPermissionCache.this.maxSize;
+            }
+        };
+    }
+
+    // -- LOOKUP
+
+    /**
+     * Returns the cached permissions of given user, otherwise looks up the user
+     * (outside of any lock) and caches its permissions.
+     */
+    public Optional<ApplicationPermissionValueSet> computeIfAbsent(
+            final @NonNull String userName,
+            final @NonNull Supplier<Optional<? extends ApplicationUser>> userLookup) {
+
+        synchronized(entriesByUsername) {
+            val entry = entriesByUsername.get(userName);
+            if(entry!=null) {
+                if(entry.expiresAtNanos - nanoTime.getAsLong() > 0) {
+                    hitCount.increment();
+                    return entry.permissionSet;
+                }
+                entriesByUsername.remove(userName);
+            }
+        }
+        missCount.increment();
+
+        val generationBeforeLookup = generation.get();
+        val user = userLookup.get();
+        val permissionSet = user.map(ApplicationUser::getPermissionSet);
+        val roleNames = user
+                .map(ApplicationUser::getRoles)
+                .map(roles->roles.stream()
+                        .map(ApplicationRole::getName)
+                        .collect(Collectors.<String>toSet()))
+                .orElseGet(Set::of);
+
+        synchronized(entriesByUsername) {
+            if(generation.get() == generationBeforeLookup) {
+                entriesByUsername.put(userName,
+                        new CachedPermissions(permissionSet, roleNames, nanoTime.getAsLong() + timeToLiveNanos));
+            }
+        }
+        return permissionSet;
+    }
+
+    // -- EVICTION
+
+    public void evictUser(final @NonNull String userName) {
+        evict(entry->userName.equals(entry.getKey()));
+    }
+
+    public void evictRole(final @NonNull String roleName) {
+        evict(entry->entry.getValue().roleNames.contains(roleName));
+    }
+
+    public void evictAll() {
+        evict(entry->true);
+    }
+
+    // -- METRICS
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    public int size() {
+        synchronized(entriesByUsername) {
+            return entriesByUsername.size();
+        }
+    }
+
+    // -- CHANGE TRACKING
+
+    @EventListener(PreStoreEvent.class)
+    public void onPreStore(final PreStoreEvent event) {
+        onChanging(event.getPersistableObject());
+    }
+
+    @EventListener(PreRemoveEvent.class)
+    public void onPreRemove(final PreRemoveEvent event) {
+        onChanging(event.getPersistableObject());
+    }
+
+    @EventListener(TransactionAfterCompletionEvent.class)
+    public void onTransactionCompleted(final TransactionAfterCompletionEvent event) {
+        val evictions = pendingEvictions.get();
+        if(evictions.isEmpty()) {
+            return;
+        }
+        evictions.values().forEach(Runnable::run);
+        evictions.clear();
+    }
+
+    void onChanging(final Object entityPojo) {
+        if(entityPojo instanceof ApplicationUser) {
+            val userName = ((ApplicationUser) entityPojo).getUsername();
+            if(userName!=null) {
+                evictNowAndAfterCompletion("user:" + userName, ()->evictUser(userName));
+                return;
+            }
+        } else if(entityPojo instanceof ApplicationPermission) {
+            val role = ((ApplicationPermission) entityPojo).getRole();
+            val roleName = role!=null
+                    ? role.getName()
+                    : null;
+            if(roleName!=null) {
+                evictNowAndAfterCompletion("role:" + roleName, ()->evictRole(roleName));
+                return;
+            }
+        } else if(!(entityPojo instanceof ApplicationRole)) {
+            return; // not affecting permissions
+        }
+        // changes to a role might add users to that role, which we cannot tell from the cached entries
+        evictNowAndAfterCompletion("*", this::evictAll);
+    }
+
+    // -- HELPER
+
+    private void evictNowAndAfterCompletion(final String key, final Runnable eviction) {
+        eviction.run();
+        pendingEvictions.get().putIfAbsent(key, eviction);
+    }
+
+    private void evict(final Predicate<Map.Entry<String, CachedPermissions>> filter) {
+        synchronized(entriesByUsername) {
+            generation.incrementAndGet();
+            val sizeBefore = entriesByUsername.size();
+            entriesByUsername.entrySet().removeIf(filter);
+            val evicted = sizeBefore - entriesByUsername.size();
+            if(evicted>0) {
+                evictionCount.add(evicted);
+                log.debug("evicted {} cached permission set(s)", evicted);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.secman.integration.authorizor;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.support.SimpleThreadScope;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUserRepository;
+import org.apache.causeway.extensions.secman.integration.CausewayModuleExtSecmanIntegration;
+
+import lombok.val;
+
+/**
+ * Wires the beans of the {@code authorizor} package exactly as imported by
+ * {@link CausewayModuleExtSecmanIntegration}, with the beans provided by other modules mocked,
+ * to verify that the module satisfies all of {@link AuthorizorSecman}'s injection points.
+ */
+class AuthorizorSecmanWiringTest {
+
+    private AnnotationConfigApplicationContext context;
+
+    @BeforeEach
+    void setUp() {
+        context = new AnnotationConfigApplicationContext();
+        context.getBeanFactory().registerScope("interaction", new SimpleThreadScope());
+
+        // provided by other modules
+        context.registerBean(CausewayConfiguration.class, ()->new CausewayConfiguration(null));
+        context.registerBean(ApplicationUserRepository.class, ()->Mockito.mock(ApplicationUserRepository.class));
+
+        // as imported by the module
+        Stream.of(CausewayModuleExtSecmanIntegration.class.getAnnotation(Import.class).value())
+            .filter(type->type.getPackage().equals(AuthorizorSecman.class.getPackage()))
+            .forEach(context::register);
+
+        context.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void shouldWireSharedPermissionCache() {
+        val authorizor = context.getBean(AuthorizorSecman.class);
+        assertNotNull(authorizor.sharedCache);
+        assertSame(context.getBean(SharedPermissionCache.class), authorizor.sharedCache);
+        assertNotNull(authorizor.cache.get());
+    }
+
+}
@@ -0,0 +1,191 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.secman.integration.authorizor;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.apache.causeway.core.transaction.changetracking.events.PreRemoveEvent;
+import org.apache.causeway.core.transaction.changetracking.events.PreStoreEvent;
+import org.apache.causeway.core.transaction.events.TransactionAfterCompletionEvent;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermission;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet;
+import org.apache.causeway.extensions.secman.applib.role.dom.ApplicationRole;
+import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUser;
+
+import lombok.val;
+
+class SharedPermissionCacheTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private SharedPermissionCache cache;
+
+    private ApplicationRole roleA;
+    private ApplicationRole roleB;
+    private ApplicationUser sven;
+    private ApplicationUser dick;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SharedPermissionCache(2, Duration.ofSeconds(10), nanoTime::get);
+        roleA = role("a");
+        roleB = role("b");
+        sven = user("sven", roleA);
+        dick = user("dick", roleB);
+    }
+
+    @Test
+    void shouldHitOnSubsequentLookups() {
+        val permissionSet = lookup(sven).orElseThrow();
+        assertSame(permissionSet, lookup(sven).orElseThrow());
+
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void shouldCacheAbsenceOfUser() {
+        assertFalse(cache.computeIfAbsent("nobody", Optional::empty).isPresent());
+        assertFalse(cache.computeIfAbsent("nobody", Optional::empty).isPresent());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void shouldExpireAfterTimeToLive() {
+        lookup(sven);
+        nanoTime.addAndGet(Duration.ofSeconds(11).toNanos());
+        lookup(sven);
+
+        assertEquals(2, cache.getMissCount());
+        assertEquals(0, cache.getHitCount());
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsed_whenFull() {
+        val joe = user("joe", roleA);
+        lookup(sven);
+        lookup(dick);
+        lookup(sven);
+        lookup(joe); // evicts dick
+
+        assertEquals(2, cache.size());
+        lookup(dick);
+        assertEquals(4, cache.getMissCount());
+    }
+
+    @Test
+    void whenUserChanged_shouldEvictThatUserOnly() {
+        lookup(sven);
+        lookup(dick);
+
+        cache.onPreStore(PreStoreEvent.of(sven));
+
+        assertEquals(1, cache.size());
+        lookup(dick);
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void whenPermissionChanged_shouldEvictUsersOfThatRoleOnly() {
+        lookup(sven);
+        lookup(dick);
+
+        val permission = Mockito.mock(ApplicationPermission.class);
+        Mockito.when(permission.getRole()).thenReturn(roleA);
+        cache.onPreRemove(PreRemoveEvent.of(permission));
+
+        assertEquals(1, cache.size());
+        lookup(dick);
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void whenRoleChanged_shouldEvictAll() {
+        lookup(sven);
+        lookup(dick);
+
+        cache.onPreStore(PreStoreEvent.of(roleB));
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void whenOtherEntityChanged_shouldNotEvict() {
+        lookup(sven);
+        cache.onPreStore(PreStoreEvent.of(new Object()));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void shouldEvictAgain_afterTransactionCompleted() {
+        cache.onPreStore(PreStoreEvent.of(sven));
+
+        // looked up concurrently, before the change got committed
+        lookup(sven);
+        assertEquals(1, cache.size());
+
+        cache.onTransactionCompleted(TransactionAfterCompletionEvent.COMMITTED);
+        assertEquals(0, cache.size());
+
+        // pending evictions are not repeated for subsequent transactions
+        lookup(sven);
+        cache.onTransactionCompleted(TransactionAfterCompletionEvent.COMMITTED);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void whenEvictedWhileLookingUp_shouldNotCacheStaleResult() {
+        cache.computeIfAbsent("sven", ()->{
+            cache.evictUser("sven");
+            return Optional.of(sven);
+        });
+        assertEquals(0, cache.size());
+    }
+
+    // -- HELPER
+
+    private Optional<ApplicationPermissionValueSet> lookup(final ApplicationUser user) {
+        return cache.computeIfAbsent(user.getUsername(), ()->Optional.of(user));
+    }
+
+    private static ApplicationRole role(final String name) {
+        val role = Mockito.mock(ApplicationRole.class);
+        Mockito.when(role.getName()).thenReturn(name);
+        return role;
+    }
+
+    private static ApplicationUser user(final String name, final ApplicationRole role) {
+        val user = Mockito.mock(ApplicationUser.class);
+        Mockito.when(user.getUsername()).thenReturn(name);
+        Mockito.when(user.getRoles()).thenReturn(Set.of(role));
+        Mockito.when(user.getPermissionSet()).thenReturn(Mockito.mock(ApplicationPermissionValueSet.class));
+        return user;
+    }
+
+}
@@ -18,12 +18,9 @@
  */
 package org.apache.causeway.extensions.viewer.wicket.exceldownload.ui.components;
 
-import java.io.File;
-
 import org.apache.wicket.Component;
-import org.apache.wicket.markup.html.link.DownloadLink;
+import org.apache.wicket.markup.html.link.Link;
 import org.apache.wicket.model.IModel;
-import org.apache.wicket.model.LoadableDetachableModel;
 import org.apache.wicket.model.Model;
 
 import org.apache.causeway.viewer.commons.model.components.UiComponentType;
@@ -33,7 +30,7 @@
 import org.apache.causeway.viewer.wicket.ui.ComponentFactoryAbstract;
 
 /**
- * {@link ComponentFactory} for {@link DownloadLink}.
+ * {@link ComponentFactory} for the {@link Link} downloading a collection as spreadsheet.
  *
  * @since 2.0 {@index}
  */
@@ -47,7 +44,7 @@
     private static final String NAME = "excel";
 
     public CollectionContentsAsExcelFactory() {
-        super(UiComponentType.COLLECTION_CONTENTS_EXPORT, NAME, DownloadLink.class);
+        super(UiComponentType.COLLECTION_CONTENTS_EXPORT, NAME, ExcelFileDownloadLink.class);
     }
 
     @Override
@@ -76,10 +73,10 @@ public IModel<String> getCssClass() {
 
     // -- HELPER
 
-    private DownloadLink createDownloadLink(final String id, final EntityCollectionModel model) {
-        final LoadableDetachableModel<File> fileModel = ExcelFileModel.of(model);
+    private Link<Void> createDownloadLink(final String id, final EntityCollectionModel model) {
+        final ExcelFileModel excelFileModel = ExcelFileModel.of(model);
         final String xlsxFileName = xlsxFileNameFor(model);
-        final DownloadLink link = new ExcelFileDownloadLink(id, fileModel, xlsxFileName);
+        final Link<Void> link = new ExcelFileDownloadLink(id, excelFileModel, xlsxFileName);
         return link;
     }
 
@@ -18,10 +18,8 @@
  */
 package org.apache.causeway.extensions.viewer.wicket.exceldownload.ui.components;
 
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.LocalDate;
@@ -35,16 +33,23 @@
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
-import org.apache.wicket.model.LoadableDetachableModel;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.wicket.util.io.IClusterable;
 
+import org.apache.causeway.applib.services.repository.StreamOptions;
 import org.apache.causeway.core.metamodel.interactions.managed.nonscalar.DataTableModel;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.viewer.wicket.model.models.EntityCollectionModel;
 
 import lombok.val;
 
-class ExcelFileModel extends LoadableDetachableModel<File> {
+/**
+ * Writes the (filtered) data rows of a collection as spreadsheet,
+ * streaming the underlying elements (from a database cursor, if backed by a query)
+ * and keeping only a bounded window of rows in memory,
+ * such that the spreadsheet can be streamed to the response as it is being written.
+ */
+class ExcelFileModel implements IClusterable {
 
     private static final long serialVersionUID = 1L;
 
@@ -67,7 +72,7 @@ static class RowFactory {
         }
 
         public Row newRow() {
-            return sheet.createRow((short) rowNum++);
+            return sheet.createRow(rowNum++);
         }
     }
 
@@ -75,59 +80,55 @@ private DataTableModel table() {
         return model.getDataTableModel();
     }
 
-    @Override
-    protected File load() {
-
+    /**
+     * Writes the spreadsheet to given output stream, which is not closed.
+     */
+    public void writeTo(final OutputStream out) throws IOException {
+        val excelConfig = model.getConfiguration().getExtensions().getExcel();
+        val wb = new SXSSFWorkbook(excelConfig.getRowWindowSize());
         try {
-            return createFile();
-
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-    }
-
-    private File createFile() throws IOException, FileNotFoundException {
-        try(final Workbook wb = new XSSFWorkbook()) {
             String sheetName = table().getTitle().getValue();
             if(sheetName==null||sheetName.length()==0) sheetName = "Collection";
-            val tempFile = File.createTempFile(ExcelFileModel.class.getCanonicalName(), sheetName + ".xlsx");
 
-            try(val fos = new FileOutputStream(tempFile)) {
-                val sheet = wb.createSheet(sheetName);
+            val sheet = wb.createSheet(sheetName);
 
-                final ExcelFileModel.RowFactory rowFactory = new RowFactory(sheet);
-                Row row = rowFactory.newRow();
+            final ExcelFileModel.RowFactory rowFactory = new RowFactory(sheet);
+            Row row = rowFactory.newRow();
 
-                val dataColumns = table().getDataColumns().getValue();
+            val dataColumns = table().getDataColumns().getValue();
 
-                // header row
-                int i=0;
-                for(val column : dataColumns) {
-                    final Cell cell = row.createCell((short) i++);
-                    cell.setCellValue(column.getColumnFriendlyName().getValue());
-                }
-
-                final CellStyle dateCellStyle = createDateFormatCellStyle(wb);
+            // header row
+            int i=0;
+            for(val column : dataColumns) {
+                final Cell cell = row.createCell((short) i++);
+                cell.setCellValue(column.getColumnFriendlyName().getValue());
+            }
 
-                val dataRows = table().getDataRowsFiltered().getValue();
+            final CellStyle dateCellStyle = createDateFormatCellStyle(wb);
 
-                // detail rows
-                for (val dataRow : dataRows) {
+            // detail rows, streamed from the underlying elements (no data rows are created)
+            val streamOptions = StreamOptions.detachEvery(excelConfig.getPageSize());
+            try(val elements = table().streamDataElementsFiltered(streamOptions)) {
+                val iterator = elements.iterator();
+                while(iterator.hasNext()) {
+                    val element = iterator.next();
                     row = rowFactory.newRow();
                     i=0;
                     for(val column : dataColumns) {
                         final Cell cell = row.createCell((short) i++);
-                        setCellValue(dataRow.getCellElement(column), cell, dateCellStyle);
+                        setCellValue(column.getPropertyMetaModel().get(element), cell, dateCellStyle);
                     }
                 }
+            }
 
-                // freeze panes
-                sheet.createFreezePane(0, 1);
+            // freeze panes
+            sheet.createFreezePane(0, 1);
 
-                wb.write(fos);
+            wb.write(out);
 
-            }
-            return tempFile;
+        } finally {
+            wb.dispose(); // deletes temporary files
+            wb.close();
         }
     }
 
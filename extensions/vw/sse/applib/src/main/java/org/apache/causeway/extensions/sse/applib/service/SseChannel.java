@@ -35,13 +35,45 @@ public interface SseChannel {
     UUID getId();
     Class<?> getSourceType();
 
+    /**
+     * Registers given listener, to be notified of any fired events, for as long as it returns {@code true}.
+     * <p>
+     * Listeners are called on the thread that fires the event, hence should not block.
+     */
     void listenWhile(Predicate<SseSource> listener);
 
     void fire(SseSource source);
 
     void close();
 
+    /**
+     * Blocks the calling thread until this channel closes.
+     * @see #onClose(Runnable)
+     */
     void awaitClose() throws InterruptedException;
 
+    /**
+     * Registers given callback, to be run once this channel closes,
+     * or immediately, if already closed.
+     * <p>
+     * Unlike {@link #awaitClose()}, does not block the calling thread.
+     *
+     * @implNote the default implementation waits for {@link #awaitClose()} on a dedicated daemon thread,
+     *      hence should be overridden by implementations that can notify on close without one
+     */
+    default void onClose(final Runnable callback) {
+        final Thread waiter = new Thread(()->{
+            try {
+                awaitClose();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            callback.run();
+        }, "SseChannel-onClose-" + getId());
+        waiter.setDaemon(true);
+        waiter.start();
+    }
+
 
 }
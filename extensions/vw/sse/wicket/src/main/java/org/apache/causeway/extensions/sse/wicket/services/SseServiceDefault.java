@@ -26,8 +26,10 @@
 
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
+import javax.annotation.PreDestroy;
 import javax.annotation.Priority;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -36,6 +38,7 @@
 import org.apache.causeway.applib.services.iactnlayer.InteractionService;
 import org.apache.causeway.applib.services.xactn.TransactionService;
 import org.apache.causeway.commons.internal.collections._Lists;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.extensions.sse.applib.annotations.SseSource;
 import org.apache.causeway.extensions.sse.applib.service.SseChannel;
 import org.apache.causeway.extensions.sse.applib.service.SseService;
@@ -45,6 +48,9 @@
 
 /**
  * Server-sent events.
+ * <p>
+ * Tasks are run on a dedicated executor, as configured by {@link CausewayConfiguration.Extensions.Sse.Executor},
+ * such that long running tasks neither compete with nor exhaust the common fork-join pool.
  *
  * @see <a href="https://www.w3schools.com/html/html5_serversentevents.asp">www.w3schools.com</a>
  *
@@ -63,6 +69,17 @@ public class SseServiceDefault implements SseService {
     @Inject private InteractionService interactionService;
 
     private final EventStreamPool eventStreamPool = new EventStreamPool();
+    private final ExecutorService executor;
+
+    @Inject
+    public SseServiceDefault(final CausewayConfiguration causewayConfiguration) {
+        this.executor = createExecutor(causewayConfiguration.getExtensions().getSse().getExecutor());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
 
     @Override
     public Optional<SseChannel> lookupByType(Class<?> sourceType) {
@@ -75,8 +92,6 @@ public void submit(SseSource task, ExecutionBehavior executionBehavior) {
         Objects.requireNonNull(task);
         Objects.requireNonNull(executionBehavior);
 
-        val executor = ForkJoinPool.commonPool();
-
         switch(executionBehavior) {
         case SIMPLE:
             CompletableFuture.runAsync(()->run(task), executor);
@@ -98,6 +113,31 @@ public void submit(SseSource task, ExecutionBehavior executionBehavior) {
 
     // -- HELPER
 
+    private static ExecutorService createExecutor(final CausewayConfiguration.Extensions.Sse.Executor config) {
+        if(config.isVirtualThreads()) {
+            // available with Java 21+, looked up reflectively, as we compile against an older release
+            try {
+                return (ExecutorService) Executors.class
+                        .getMethod("newVirtualThreadPerTaskExecutor")
+                        .invoke(null);
+            } catch (Exception e) {
+                log.warn("virtual threads not supported by this JVM, falling back to platform threads");
+            }
+        }
+        val threadCounter = new AtomicInteger();
+        val threadPool = new ThreadPoolExecutor(
+                config.getMaxThreads(), config.getMaxThreads(),
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable->{
+                    val thread = new Thread(runnable, "causeway-sse-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        threadPool.allowCoreThreadTimeOut(true);
+        return threadPool;
+    }
+
     private void run(SseSource task) {
 
         val sourceType = task.getClass();
@@ -195,6 +235,7 @@ private static class EventStreamDefault implements SseChannel {
 
         private final CountDownLatch latch = new CountDownLatch(1);
         private final Queue<Predicate<SseSource>> listeners = new ConcurrentLinkedQueue<>();
+        private final Queue<Runnable> closeCallbacks = new ConcurrentLinkedQueue<>();
 
         @Override
         public void fire(SseSource source) {
@@ -245,6 +286,30 @@ public void close() {
                 listeners.clear();
                 latch.countDown();
             }
+            // run outside the synchronized block, as callbacks are foreign code
+            Runnable callback;
+            while((callback = closeCallbacks.poll())!=null) {
+                runCloseCallback(callback);
+            }
+        }
+
+        @Override
+        public void onClose(Runnable callback) {
+            synchronized ($LOCK) {
+                if(isActive()) {
+                    closeCallbacks.add(callback);
+                    return;
+                }
+            }
+            runCloseCallback(callback);
+        }
+
+        private void runCloseCallback(Runnable callback) {
+            try {
+                callback.run();
+            } catch (Exception e) {
+                log.warn("close callback failed on stream {}", id, e);
+            }
         }
 
         private boolean isActive() {
@@ -21,7 +21,6 @@
 import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ForkJoinPool;
 
 import javax.servlet.AsyncContext;
 import javax.servlet.ServletException;
@@ -31,10 +30,9 @@
 
 import org.springframework.beans.factory.annotation.Autowired;
 
-import org.apache.causeway.applib.value.Markup;
 import org.apache.causeway.commons.internal.base._Strings;
 import org.apache.causeway.commons.internal.context._Context;
-import org.apache.causeway.extensions.sse.applib.service.SseChannel;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.extensions.sse.applib.service.SseService;
 
 import lombok.val;
@@ -42,6 +40,9 @@
 
 /**
  * Server-sent events.
+ * <p>
+ * Subscribers are registered as (non-blocking) listeners with the requested channel,
+ * hence do not occupy a servlet (or any other) thread while waiting for events.
  *
  * @see <a href="https://www.w3schools.com/html/html5_serversentevents.asp">www.w3schools.com</a>
  *
@@ -54,11 +55,13 @@ public class ServerSentEventsServlet extends HttpServlet {
     private static final long serialVersionUID = 1L;
 
     @Autowired private SseService sseService;
+    @Autowired private CausewayConfiguration causewayConfiguration;
 
     @Override
     public void init() throws ServletException {
         super.init();
         Objects.requireNonNull(sseService, "sseService");
+        Objects.requireNonNull(causewayConfiguration, "causewayConfiguration");
     }
 
     @Override
@@ -85,15 +88,20 @@ protected void doGet(final HttpServletRequest request, final HttpServletResponse
             return;
         }
 
-        asyncContext(request)
-        .ifPresent(asyncContext->{
-
-            // javac explicitly requires curly-braces here (to tell it we want a Runnable)
-            ForkJoinPool.commonPool().submit(()->{
-                fork(asyncContext, eventStream);
-            });
+        val asyncContext = asyncContext(request).orElse(null);
+        if(asyncContext==null) {
+            return;
+        }
 
-        });
+        try {
+            _SseSubscriber.subscribe(
+                    asyncContext,
+                    eventStream,
+                    causewayConfiguration.getExtensions().getSse().getSubscriber());
+        } catch (IOException | IllegalStateException e) {
+            log.warn("failed to subscribe to event stream {}", eventStream.getId(), e);
+            asyncContext.complete();
+        }
 
     }
 
@@ -118,56 +126,6 @@ private boolean flushBuffer(final HttpServletResponse response) {
         return false;
     }
 
-    private void fork(final AsyncContext asyncContext, final SseChannel eventStream) {
-
-        val response = asyncContext.getResponse();
-        val marshaller = new Markup.JaxbToStringAdapter();
-
-        eventStream.listenWhile(source->{
-
-            if(ForkJoinPool.commonPool().isShutdown()) {
-                return false; // stop listening
-            }
-
-            try {
-
-                val writer = response.getWriter(); // don't close the writer, its likely to be reused
-                if(writer==null) {
-                    return false; // stop listening
-                }
-
-                val payload = marshaller.marshal(Markup.valueOf(source.getPayload()));
-
-                writer
-                .append("data: ")
-                .append(payload)
-                .append("\n\n")
-                .flush();
-
-                return true; // continue listening
-
-            } catch (Exception e) {
-                log.warn("failed to run the fork task", e);
-                return false; // stop listening
-            }
-
-        });
-
-        // now we wait until the eventStream closes
-        try {
-            eventStream.awaitClose();
-        } catch (InterruptedException e) {
-            log.warn("Interrupted!", e);
-            // Restore interrupted state...
-            Thread.currentThread().interrupt();
-        }
-
-        // Completes the asynchronous operation that was started on the request
-        // that was used to initialize this AsyncContext.
-        asyncContext.complete();
-
-    }
-
     private Optional<Class<?>> parseEventStreamType(final HttpServletRequest request) {
         val eventStreamId = request.getParameter("eventStream");
         if(_Strings.isNullOrEmpty(eventStreamId)) {
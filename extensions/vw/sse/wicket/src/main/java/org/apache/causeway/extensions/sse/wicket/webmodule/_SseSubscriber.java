@@ -0,0 +1,226 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.sse.wicket.webmodule;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+
+import org.apache.causeway.applib.value.Markup;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.config.CausewayConfiguration.Extensions.Sse.Subscriber.OverflowPolicy;
+import org.apache.causeway.extensions.sse.applib.annotations.SseSource;
+import org.apache.causeway.extensions.sse.applib.service.SseChannel;
+
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * A single client (browser connection) listening on an {@link SseChannel}, without occupying a thread.
+ * <p>
+ * Fired events are buffered (bounded, as per {@link CausewayConfiguration.Extensions.Sse.Subscriber}),
+ * then written using non-blocking servlet IO: by the firing thread if the client is ready to receive,
+ * otherwise by the container once it signals {@link WriteListener#onWritePossible()}.
+ * Hence a slow client neither holds up the firing thread nor any of the other subscribers.
+ *
+ * @since 2.0
+ */
+@Log4j2
+final class _SseSubscriber implements WriteListener, AsyncListener {
+
+    private final AsyncContext asyncContext;
+    private final ServletOutputStream out;
+    private final int bufferSize;
+    private final OverflowPolicy overflowPolicy;
+    private final Markup.JaxbToStringAdapter marshaller = new Markup.JaxbToStringAdapter();
+
+    // guarded by this
+    private final Deque<byte[]> buffer = new ArrayDeque<>();
+    private boolean channelClosed;
+    private boolean completed;
+
+    private _SseSubscriber(
+            final AsyncContext asyncContext,
+            final ServletOutputStream out,
+            final CausewayConfiguration.Extensions.Sse.Subscriber config) {
+        this.asyncContext = asyncContext;
+        this.out = out;
+        this.bufferSize = config.getBufferSize();
+        this.overflowPolicy = config.getOverflowPolicy();
+    }
+
+    /**
+     * Subscribes given (async) request to given channel, then returns immediately.
+     */
+    static void subscribe(
+            final AsyncContext asyncContext,
+            final SseChannel eventStream,
+            final CausewayConfiguration.Extensions.Sse.Subscriber config) throws IOException {
+
+        val subscriber = new _SseSubscriber(asyncContext, asyncContext.getResponse().getOutputStream(), config);
+        asyncContext.addListener(subscriber);
+        subscriber.out.setWriteListener(subscriber); // switches to non-blocking IO
+
+        eventStream.listenWhile(subscriber::onEvent);
+        eventStream.onClose(subscriber::onChannelClosed);
+    }
+
+    // -- EVENTS
+
+    /**
+     * Called on the firing thread.
+     * @return whether to continue listening
+     */
+    private boolean onEvent(final SseSource source) {
+        final byte[] frame;
+        try {
+            val payload = marshaller.marshal(Markup.valueOf(source.getPayload()));
+            frame = ("data: " + payload + "\n\n").getBytes(StandardCharsets.UTF_8);
+        } catch (Exception e) {
+            log.warn("failed to marshal payload of {}", source.getClass().getName(), e);
+            return isOpen();
+        }
+        synchronized (this) {
+            if(completed) {
+                return false; // stop listening
+            }
+            enqueue(frame);
+        }
+        drain();
+        return isOpen();
+    }
+
+    private void onChannelClosed() {
+        synchronized (this) {
+            channelClosed = true;
+        }
+        drain(); // completes, once all buffered events have been written
+    }
+
+    @Override
+    public void onWritePossible() {
+        drain();
+    }
+
+    @Override
+    public void onError(final Throwable t) {
+        log.debug("failed to write to client, unsubscribing", t);
+        complete();
+    }
+
+    @Override
+    public void onComplete(final AsyncEvent event) {
+        markCompleted();
+    }
+
+    @Override
+    public void onTimeout(final AsyncEvent event) {
+        complete();
+    }
+
+    @Override
+    public void onError(final AsyncEvent event) {
+        complete();
+    }
+
+    @Override
+    public void onStartAsync(final AsyncEvent event) {
+        // not applicable
+    }
+
+    // -- HELPER
+
+    // guarded by this
+    private void enqueue(final byte[] frame) {
+        if(buffer.size() < bufferSize) {
+            buffer.addLast(frame);
+            return;
+        }
+        switch (overflowPolicy) {
+        case DROP_OLDEST:
+            buffer.pollFirst();
+            buffer.addLast(frame);
+            return;
+        case DROP_NEWEST:
+            return;
+        case COALESCE:
+            buffer.clear();
+            buffer.addLast(frame);
+            return;
+        }
+    }
+
+    /**
+     * Writes buffered events for as long as the client is ready to receive (without blocking).
+     * Otherwise the container calls {@link #onWritePossible()} once it is.
+     */
+    private synchronized void drain() {
+        if(completed) {
+            return;
+        }
+        try {
+            while(out.isReady()) {
+                val frame = buffer.pollFirst();
+                if(frame == null) {
+                    out.flush();
+                    if(channelClosed && out.isReady()) {
+                        complete();
+                    }
+                    return;
+                }
+                out.write(frame);
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("failed to write to client, unsubscribing", e);
+            complete();
+        }
+    }
+
+    private synchronized boolean isOpen() {
+        return !completed;
+    }
+
+    private synchronized boolean markCompleted() {
+        if(completed) {
+            return false;
+        }
+        completed = true;
+        buffer.clear();
+        return true;
+    }
+
+    private void complete() {
+        if(!markCompleted()) {
+            return;
+        }
+        try {
+            asyncContext.complete();
+        } catch (IllegalStateException e) {
+            // already completed by the container
+        }
+    }
+
+}
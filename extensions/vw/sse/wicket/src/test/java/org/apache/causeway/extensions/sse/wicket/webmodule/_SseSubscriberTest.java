@@ -0,0 +1,271 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.sse.wicket.webmodule;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.ServletResponse;
+import javax.servlet.WriteListener;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.config.CausewayConfiguration.Extensions.Sse.Subscriber.OverflowPolicy;
+import org.apache.causeway.extensions.sse.applib.annotations.SseSource;
+import org.apache.causeway.extensions.sse.applib.service.SseChannel;
+
+import lombok.SneakyThrows;
+import lombok.val;
+
+class _SseSubscriberTest {
+
+    private CausewayConfiguration.Extensions.Sse.Subscriber config;
+    private FakeOutputStream out;
+    private AsyncContext asyncContext;
+    private FakeChannel channel;
+
+    @BeforeEach
+    @SneakyThrows
+    void setUp() {
+        config = new CausewayConfiguration.Extensions.Sse.Subscriber();
+        config.setBufferSize(2);
+        out = new FakeOutputStream();
+        val response = Mockito.mock(ServletResponse.class);
+        when(response.getOutputStream()).thenReturn(out);
+        asyncContext = Mockito.mock(AsyncContext.class);
+        when(asyncContext.getResponse()).thenReturn(response);
+        channel = new FakeChannel();
+    }
+
+    @Test
+    void whenClientReady_shouldWriteOnFiringThread() {
+        subscribe();
+
+        assertTrue(channel.fire("a"));
+        assertTrue(channel.fire("b"));
+
+        assertEquals(List.of("a", "b"), out.payloads());
+    }
+
+    @Test
+    void whenClientNotReady_shouldBufferUntilWritePossible() {
+        subscribe();
+        out.ready = false;
+
+        assertTrue(channel.fire("a"));
+        assertTrue(channel.fire("b"));
+        assertEquals(List.of(), out.payloads());
+
+        out.ready = true;
+        out.writeListener.onWritePossible();
+
+        assertEquals(List.of("a", "b"), out.payloads());
+    }
+
+    static Stream<Arguments> overflowPolicies() {
+        return Stream.of(
+                Arguments.of(OverflowPolicy.DROP_OLDEST, List.of("b", "c")),
+                Arguments.of(OverflowPolicy.DROP_NEWEST, List.of("a", "b")),
+                Arguments.of(OverflowPolicy.COALESCE, List.of("c")));
+    }
+
+    @ParameterizedTest
+    @MethodSource("overflowPolicies")
+    void whenBufferFull_shouldApplyOverflowPolicy(final OverflowPolicy overflowPolicy, final List<String> expected) {
+        config.setOverflowPolicy(overflowPolicy);
+        subscribe();
+        out.ready = false;
+
+        channel.fire("a");
+        channel.fire("b");
+        channel.fire("c");
+
+        out.ready = true;
+        out.writeListener.onWritePossible();
+
+        assertEquals(expected, out.payloads());
+    }
+
+    @Test
+    void whenChannelClosed_shouldCompleteOnceBufferIsWritten() {
+        subscribe();
+        out.ready = false;
+        channel.fire("a");
+
+        channel.close();
+        verify(asyncContext, never()).complete();
+
+        out.ready = true;
+        out.writeListener.onWritePossible();
+
+        assertEquals(List.of("a"), out.payloads());
+        verify(asyncContext, times(1)).complete();
+
+        // subsequent events are not written
+        assertFalse(channel.fire("b"));
+        assertEquals(List.of("a"), out.payloads());
+    }
+
+    @Test
+    void whenChannelClosedAndNothingBuffered_shouldCompleteImmediately() {
+        subscribe();
+
+        channel.close();
+
+        verify(asyncContext, times(1)).complete();
+    }
+
+    @Test
+    void whenWriteFails_shouldCompleteAndStopListening() {
+        subscribe();
+        out.failing = true;
+
+        assertFalse(channel.fire("a"));
+
+        verify(asyncContext, times(1)).complete();
+    }
+
+    // -- HELPER
+
+    @SneakyThrows
+    private void subscribe() {
+        _SseSubscriber.subscribe(asyncContext, channel, config);
+        assertNotNull(out.writeListener);
+    }
+
+    static class FakeOutputStream extends ServletOutputStream {
+
+        boolean ready = true;
+        boolean failing = false;
+        WriteListener writeListener;
+        private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void setWriteListener(final WriteListener writeListener) {
+            this.writeListener = writeListener;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            if(failing) {
+                throw new IOException("connection reset");
+            }
+            written.write(b);
+        }
+
+        /**
+         * The (decoded) payloads of the frames written so far.
+         */
+        List<String> payloads() {
+            val frames = new String(written.toByteArray(), StandardCharsets.UTF_8);
+            return Stream.of(frames.split("\n\n"))
+                    .filter(frame->!frame.isEmpty())
+                    .map(frame->frame.substring("data: ".length()))
+                    .map(payload->new String(Base64.getDecoder().decode(payload), StandardCharsets.UTF_8))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    static class FakeChannel implements SseChannel {
+
+        private final UUID id = UUID.randomUUID();
+        private Predicate<SseSource> listener;
+        private Runnable closeCallback;
+
+        @Override
+        public UUID getId() {
+            return id;
+        }
+
+        @Override
+        public Class<?> getSourceType() {
+            return SseSource.class;
+        }
+
+        @Override
+        public void listenWhile(final Predicate<SseSource> listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public void fire(final SseSource source) {
+            listener.test(source);
+        }
+
+        /**
+         * @return whether the subscriber continues listening
+         */
+        boolean fire(final String payload) {
+            return listener.test(new SseSource() {
+                @Override
+                public void run(final SseChannel channel) {
+                }
+                @Override
+                public String getPayload() {
+                    return payload;
+                }
+            });
+        }
+
+        @Override
+        public void close() {
+            closeCallback.run();
+        }
+
+        @Override
+        public void awaitClose() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void onClose(final Runnable callback) {
+            this.closeCallback = callback;
+        }
+    }
+
+}
@@ -0,0 +1,239 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.graphql.viewer.test.source;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+import javax.persistence.EntityManagerFactory;
+
+import org.dataloader.DataLoaderRegistry;
+import org.eclipse.persistence.jpa.JpaEntityManagerFactory;
+import org.eclipse.persistence.sessions.SessionEvent;
+import org.eclipse.persistence.sessions.SessionEventAdapter;
+import org.eclipse.persistence.sessions.SessionEventManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.viewer.graphql.viewer.source.GraphQlSourceForCauseway;
+import org.apache.causeway.viewer.graphql.viewer.test.source.gqltestdomain.TestEntityRepository;
+
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQLContext;
+import graphql.execution.AbortExecutionException;
+import lombok.val;
+
+/**
+ * Checks that associations of sibling objects are resolved in a single batch
+ * (with a number of database round-trips independent of the number of siblings),
+ * and that the (opt-in) query depth and complexity limits reject queries before execution.
+ */
+@ActiveProfiles("test")
+public class AssociationBatchingAndQueryLimits_IntegTest extends TestDomainModuleIntegTestAbstract {
+
+    private static final String FIND_ALL_E1_WITH_E2 = "{\n"
+            + "  gqltestdomain_GQLTestDomainMenu {\n"
+            + "    findAllE1 {\n"
+            + "      name\n"
+            + "      e2 {\n"
+            + "        name\n"
+            + "      }\n"
+            + "    }\n"
+            + "  }\n"
+            + "}";
+
+    @Inject TransactionService transactionService;
+    @Inject CausewayConfiguration causewayConfiguration;
+    @Inject GraphQlSourceForCauseway graphQlSourceForCauseway;
+    @Inject BatchLoaderRegistry batchLoaderRegistry;
+    @Inject TestEntityRepository testEntityRepository;
+    @Inject EntityManagerFactory entityManagerFactory;
+
+    private final AtomicInteger roundTrips = new AtomicInteger();
+    private final SessionEventAdapter roundTripCounter = new SessionEventAdapter() {
+        @Override public void preExecuteCall(final SessionEvent event) {
+            roundTrips.incrementAndGet();
+        }
+    };
+
+    @BeforeEach
+    void beforeEach() {
+        createE1s("a", "b", "c");
+        sessionEventManager().addListener(roundTripCounter);
+    }
+
+    @AfterEach
+    void afterEach() {
+        sessionEventManager().removeListener(roundTripCounter);
+        causewayConfiguration.getViewer().getGraphql().setMaxQueryDepth(null);
+        causewayConfiguration.getViewer().getGraphql().setMaxQueryComplexity(null);
+        transactionService.runTransactional(Propagation.REQUIRED, () -> {
+            testEntityRepository.removeAll();
+        });
+    }
+
+    @Test
+    void associationsOfSiblings_areResolvedInSingleBatch() {
+
+        // when
+        val dataLoaderRegistry = new DataLoaderRegistry();
+        val result = execute(FIND_ALL_E1_WITH_E2, dataLoaderRegistry);
+
+        // then
+        assertTrue(result.getErrors().isEmpty(), ()->result.getErrors().toString());
+        assertEquals(
+                Set.of("e2-of-a", "e2-of-b", "e2-of-c"),
+                e2NamesOf(result));
+
+        val statistics = dataLoaderRegistry.getDataLoader("gqltestdomain_E1__e2").getStatistics();
+        assertEquals(3, statistics.getLoadCount());
+        assertEquals(1, statistics.getBatchInvokeCount());
+    }
+
+    @Test
+    void associationsOfSiblings_areResolvedWithFixedNumberOfRoundTrips() {
+
+        // when
+        val resultForThree = execute(FIND_ALL_E1_WITH_E2, new DataLoaderRegistry());
+        val roundTripsForThree = roundTrips.getAndSet(0);
+
+        createE1s("d", "e", "f");
+        roundTrips.set(0);
+
+        val resultForSix = execute(FIND_ALL_E1_WITH_E2, new DataLoaderRegistry());
+        val roundTripsForSix = roundTrips.get();
+
+        // then
+        assertTrue(resultForThree.getErrors().isEmpty(), ()->resultForThree.getErrors().toString());
+        assertTrue(resultForSix.getErrors().isEmpty(), ()->resultForSix.getErrors().toString());
+        assertEquals(
+                Set.of("e2-of-a", "e2-of-b", "e2-of-c", "e2-of-d", "e2-of-e", "e2-of-f"),
+                e2NamesOf(resultForSix));
+
+        // owners (1), reference ids of all owners (1), referenced entities (1)
+        assertTrue(roundTripsForThree <= 3, ()->"round-trips: " + roundTripsForThree);
+        assertEquals(roundTripsForThree, roundTripsForSix);
+    }
+
+    @Test
+    void withoutDataLoaders_associationsAreResolvedOneAtATime() {
+
+        // when
+        val result = graphQlSourceForCauseway.graphQl().execute(FIND_ALL_E1_WITH_E2);
+
+        // then
+        assertTrue(result.getErrors().isEmpty(), ()->result.getErrors().toString());
+        assertEquals(
+                Set.of("e2-of-a", "e2-of-b", "e2-of-c"),
+                e2NamesOf(result));
+    }
+
+    @Test
+    void limits_areNotEnforcedByDefault() {
+        assertNull(causewayConfiguration.getViewer().getGraphql().getMaxQueryDepth());
+        assertNull(causewayConfiguration.getViewer().getGraphql().getMaxQueryComplexity());
+
+        val result = execute(FIND_ALL_E1_WITH_E2, new DataLoaderRegistry());
+
+        assertTrue(result.getErrors().isEmpty(), ()->result.getErrors().toString());
+    }
+
+    @Test
+    void whenTooDeep_isRejectedBeforeExecution() {
+
+        // given
+        causewayConfiguration.getViewer().getGraphql().setMaxQueryDepth(2);
+
+        // when
+        val result = execute(FIND_ALL_E1_WITH_E2, new DataLoaderRegistry());
+
+        // then
+        assertRejected(result);
+    }
+
+    @Test
+    void whenTooComplex_isRejectedBeforeExecution() {
+
+        // given
+        causewayConfiguration.getViewer().getGraphql().setMaxQueryComplexity(2);
+
+        // when
+        val result = execute(FIND_ALL_E1_WITH_E2, new DataLoaderRegistry());
+
+        // then
+        assertRejected(result);
+    }
+
+    // -- HELPER
+
+    private void createE1s(final String... names) {
+        transactionService.runTransactional(Propagation.REQUIRED, () -> {
+            for(val name : names) {
+                testEntityRepository.createE1(name, testEntityRepository.createE2("e2-of-" + name, null));
+            }
+        });
+    }
+
+    private SessionEventManager sessionEventManager() {
+        return entityManagerFactory.unwrap(JpaEntityManagerFactory.class)
+                .getServerSession()
+                .getEventManager();
+    }
+
+    private ExecutionResult execute(final String query, final DataLoaderRegistry dataLoaderRegistry) {
+        // building the schema registers the batch loaders
+        val graphQl = graphQlSourceForCauseway.graphQl();
+        batchLoaderRegistry.registerDataLoaders(dataLoaderRegistry, GraphQLContext.newContext().build());
+        return graphQl.execute(ExecutionInput.newExecutionInput()
+                .query(query)
+                .dataLoaderRegistry(dataLoaderRegistry)
+                .build());
+    }
+
+    private static Set<String> e2NamesOf(final ExecutionResult result) {
+        final Map<String, Map<String, List<Map<String, Map<String, String>>>>> data = _Casts.uncheckedCast(result.getData());
+        return data.get("gqltestdomain_GQLTestDomainMenu").get("findAllE1").stream()
+                .map(e1->e1.get("e2").get("name"))
+                .collect(Collectors.toSet());
+    }
+
+    private static void assertRejected(final ExecutionResult result) {
+        assertNull(result.getData());
+        assertEquals(1, result.getErrors().size());
+        assertTrue(result.getErrors().get(0) instanceof AbortExecutionException,
+                ()->result.getErrors().toString());
+    }
+
+}
@@ -0,0 +1,200 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.graphql.viewer.source;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+
+import org.dataloader.DataLoader;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.stereotype.Component;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.bookmark.BookmarkService;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.object.ManagedObjects;
+import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectAssociation;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+
+import graphql.schema.DataFetcher;
+import graphql.schema.GraphQLObjectType;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import reactor.core.publisher.Mono;
+
+/**
+ * Creates the {@link DataFetcher}s for properties and collections, such that fetches of the same association
+ * for sibling objects (for example, the customer of each of a list of orders) are coalesced by a {@link DataLoader}
+ * into a single batch; resolved within a single interaction, with the referenced entities loaded in bulk per logical type.
+ */
+@Component
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+public class AssociationDataFetcherFactory {
+
+    private final BatchLoaderRegistry batchLoaderRegistry;
+    private final BookmarkService bookmarkService;
+    private final InteractionService interactionService;
+    private final ObjectManager objectManager;
+    private final SpecificationLoader specificationLoader;
+    private final CausewayConfiguration causewayConfiguration;
+
+    /**
+     * The schema is built more than once, but each batch loader must be registered only once.
+     */
+    private final Set<String> registeredDataLoaderNames = ConcurrentHashMap.newKeySet();
+
+    public DataFetcher<Object> dataFetcherFor(
+            final GraphQLObjectType owningType,
+            final ObjectAssociation association) {
+
+        if(!config().isBatchAssociations()) {
+            return environment -> resolve(environment.getSource(), association);
+        }
+
+        val dataLoaderName = _Utils.dataLoaderName(owningType.getName(), association.getId());
+        registerBatchLoaderIfRequired(dataLoaderName, association);
+
+        return environment -> {
+            final Object domainObjectInstance = environment.getSource();
+            final DataLoader<Bookmark, Object> dataLoader = environment.getDataLoader(dataLoaderName);
+            final Optional<Bookmark> bookmark = dataLoader != null
+                    ? bookmarkService.bookmarkFor(domainObjectInstance)
+                    : Optional.empty();
+            // objects without a bookmark (or if not executed with data loaders) are resolved one at a time
+            // the owner is passed on as key context, so is not fetched again
+            return bookmark.isPresent()
+                    ? dataLoader.load(bookmark.get(), domainObjectInstance)
+                    : resolve(domainObjectInstance, association);
+        };
+    }
+
+    // -- HELPER
+
+    private CausewayConfiguration.Viewer.Graphql config() {
+        return causewayConfiguration.getViewer().getGraphql();
+    }
+
+    private void registerBatchLoaderIfRequired(
+            final String dataLoaderName,
+            final ObjectAssociation association) {
+        if(!registeredDataLoaderNames.add(dataLoaderName)) {
+            return;
+        }
+        batchLoaderRegistry.<Bookmark, Object>forName(dataLoaderName)
+            .withOptions(options->options.setMaxBatchSize(config().getMaxBatchSize()))
+            .registerMappedBatchLoader((ownerBookmarks, batchLoaderEnvironment)->
+                    Mono.fromCallable(()->resolveAll(ownerBookmarks, batchLoaderEnvironment.getKeyContexts(), association)));
+    }
+
+    /**
+     * Resolves given association for all given owners within a single interaction.
+     * <p>
+     * For references to entities, the bookmarks of the referenced entities are read for all owners at once
+     * (where supported by the owners' {@link org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet}),
+     * then the referenced entities are loaded in bulk per logical type.
+     * Otherwise the association is read one owner at a time.
+     * Associated objects that cannot be found or resolved are not contained in the resulting map.
+     */
+    private Map<Bookmark, Object> resolveAll(
+            final Set<Bookmark> ownerBookmarks,
+            final Map<Object, Object> ownerByBookmark,
+            final ObjectAssociation association) {
+        return interactionService.callAnonymous(()->{
+            val resultByBookmark = new HashMap<Bookmark, Object>();
+            val unresolvedBookmarks = new LinkedHashSet<Bookmark>(ownerBookmarks);
+
+            if(association.isOneToOneAssociation()
+                    && association.getElementType().isEntity()) {
+                fetchReferenceBookmarks(ownerBookmarks, association)
+                    .ifPresent(targetBookmarkByOwnerBookmark->{
+                        // the referenced entities of the same logical type are fetched with a single round-trip
+                        val targetBookmarks = Can.ofCollection(new LinkedHashSet<>(targetBookmarkByOwnerBookmark.values()));
+                        val targetByBookmark = new HashMap<Bookmark, Object>();
+                        targetBookmarks.zip(objectManager.loadObjects(targetBookmarks), (targetBookmark, target)->{
+                            if(!ManagedObjects.isNullOrUnspecifiedOrEmpty(target)) {
+                                targetByBookmark.put(targetBookmark, target.getPojo());
+                            }
+                        });
+                        targetBookmarkByOwnerBookmark.forEach((ownerBookmark, targetBookmark)->{
+                            val target = targetByBookmark.get(targetBookmark);
+                            if(target != null) {
+                                resultByBookmark.put(ownerBookmark, target);
+                            }
+                        });
+                        unresolvedBookmarks.clear();
+                    });
+            }
+
+            for (val ownerBookmark : unresolvedBookmarks) {
+                val owner = ownerByBookmark.get(ownerBookmark);
+                val associated = owner != null
+                        ? resolve(owner, association)
+                        : null;
+                if(associated != null) {
+                    resultByBookmark.put(ownerBookmark, associated);
+                }
+            }
+            return resultByBookmark;
+        });
+    }
+
+    /**
+     * Empty, unless all owners are of the same entity type, supporting to read the references in bulk.
+     */
+    private Optional<Map<Bookmark, Bookmark>> fetchReferenceBookmarks(
+            final Set<Bookmark> ownerBookmarks,
+            final ObjectAssociation association) {
+        val logicalTypeNames = ownerBookmarks.stream()
+                .map(Bookmark::getLogicalTypeName)
+                .collect(Collectors.toSet());
+        if(logicalTypeNames.size() != 1) {
+            return Optional.empty();
+        }
+        return specificationLoader.specForLogicalTypeName(logicalTypeNames.iterator().next())
+                .flatMap(ObjectSpecification::entityFacet)
+                .flatMap(entityFacet->entityFacet.fetchReferenceBookmarks(Can.ofCollection(ownerBookmarks), association.getId()));
+    }
+
+    private Object resolve(
+            final Object domainObjectInstance,
+            final ObjectAssociation association) {
+
+        Class<?> domainObjectInstanceClass = domainObjectInstance.getClass();
+        val specification = specificationLoader.loadSpecification(domainObjectInstanceClass);
+
+        ManagedObject owner = ManagedObject.adaptSingular(specification, domainObjectInstance);
+
+        ManagedObject managedObject = association.get(owner);
+
+        return managedObject!=null ? managedObject.getPojo() : null;
+    }
+
+}
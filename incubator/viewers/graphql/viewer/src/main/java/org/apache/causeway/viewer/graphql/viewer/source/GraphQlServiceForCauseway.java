@@ -46,6 +46,9 @@ public class GraphQlServiceForCauseway implements ExecutionGraphQlService {
     @Override
     public Mono<ExecutionGraphQlResponse> execute(final ExecutionGraphQlRequest request) {
         if(delegate == null) {
+            // building the schema registers the association batch loaders,
+            // which must happen before the data loaders of the first request are created
+            graphQlSource.schema();
             delegate = new DefaultExecutionGraphQlService(graphQlSource);
             delegate.addDataLoaderRegistrar(batchLoaderRegistry);
         }
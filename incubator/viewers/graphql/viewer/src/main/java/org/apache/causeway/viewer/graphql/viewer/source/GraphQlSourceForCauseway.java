@@ -22,7 +22,10 @@
 import static graphql.schema.GraphQLFieldDefinition.newFieldDefinition;
 import static graphql.schema.GraphQLObjectType.newObject;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import javax.annotation.PostConstruct;
@@ -39,6 +42,10 @@
 
 import graphql.GraphQL;
 import graphql.Scalars;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import graphql.execution.instrumentation.ChainedInstrumentation;
+import graphql.execution.instrumentation.Instrumentation;
 import graphql.schema.DataFetcher;
 import graphql.schema.GraphQLCodeRegistry;
 import graphql.schema.GraphQLObjectType;
@@ -71,10 +78,27 @@ public void init() {
     public GraphQL graphQl() {
         return GraphQL.newGraphQL(schema())
 //                .instrumentation(new TracingInstrumentation())
+                .instrumentation(queryLimitsInstrumentation())
                 .queryExecutionStrategy(executionStrategy)
                 .build();
     }
 
+    /**
+     * Rejects queries exceeding the configured depth or complexity, before execution.
+     * (Data loader dispatching is added to the chain by {@link GraphQL} itself.)
+     */
+    private Instrumentation queryLimitsInstrumentation() {
+        val config = causewayConfiguration.getViewer().getGraphql();
+        final List<Instrumentation> instrumentations = new ArrayList<>();
+        Optional.ofNullable(config.getMaxQueryDepth())
+            .map(MaxQueryDepthInstrumentation::new)
+            .ifPresent(instrumentations::add);
+        Optional.ofNullable(config.getMaxQueryComplexity())
+            .map(MaxQueryComplexityInstrumentation::new)
+            .ifPresent(instrumentations::add);
+        return new ChainedInstrumentation(instrumentations);
+    }
+
     @Override
     public GraphQLSchema schema() {
 
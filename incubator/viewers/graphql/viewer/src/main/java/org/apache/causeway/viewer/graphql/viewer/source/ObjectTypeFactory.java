@@ -35,12 +35,10 @@
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.bookmark.BookmarkService;
 import org.apache.causeway.applib.services.metamodel.BeanSort;
-import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.spec.ActionScope;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.core.metamodel.spec.feature.MixedIn;
 import org.apache.causeway.core.metamodel.spec.feature.ObjectAssociation;
-import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
 
 import static org.apache.causeway.viewer.graphql.viewer.source._Utils.metaTypeName;
 import static org.apache.causeway.viewer.graphql.viewer.source._Utils.mutatorsTypeName;
@@ -69,7 +67,7 @@
 public class ObjectTypeFactory {
 
     private final BookmarkService bookmarkService;
-    private final SpecificationLoader specificationLoader;
+    private final AssociationDataFetcherFactory associationDataFetcherFactory;
 
     private static GraphQLFieldDefinition idField = newFieldDefinition()
             .name("id").type(nonNull(Scalars.GraphQLString)).build();
@@ -402,21 +400,7 @@ private void createAndRegisterDataFetcherForObjectAssociation(
                 codeRegistryBuilder
                 .dataFetcher(
                     FieldCoordinates.coordinates(graphQLObjectType, otom.getId()),
-                    (DataFetcher<Object>) environment -> {
-
-                        Object domainObjectInstance = environment.getSource();
-
-                        Class<?> domainObjectInstanceClass = domainObjectInstance.getClass();
-                        ObjectSpecification specification = specificationLoader.loadSpecification(domainObjectInstanceClass);
-
-                        ManagedObject owner = ManagedObject.adaptSingular(specification, domainObjectInstance);
-
-                        ManagedObject managedObject = otom.get(owner);
-
-                        return managedObject!=null ? managedObject.getPojo() : null;
-
-                    });
-
+                    associationDataFetcherFactory.dataFetcherFor(graphQLObjectType, otom));
 
                 break;
 
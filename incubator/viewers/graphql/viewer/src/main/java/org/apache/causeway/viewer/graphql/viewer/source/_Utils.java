@@ -31,6 +31,10 @@ static String mutatorsTypeName(final String logicalTypeNameSanitized){
         return logicalTypeNameSanitized + "__DomainObject_mutators";
     }
 
+    static String dataLoaderName(final String objectTypeName, final String associationId){
+        return objectTypeName + "__" + associationId;
+    }
+
     static String logicalTypeNameSanitized(final String logicalTypeName) {
         return logicalTypeName.replace('.', '_');
     }
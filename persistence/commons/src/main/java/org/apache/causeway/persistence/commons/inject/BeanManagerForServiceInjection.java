@@ -16,7 +16,7 @@
  *  specific language governing permissions and limitations
  *  under the License.
  */
-package org.apache.causeway.persistence.jpa.eclipselink.inject;
+package org.apache.causeway.persistence.commons.inject;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
@@ -57,17 +57,17 @@
 
 /**
  * Incomplete implementation of a {@link BeanManager}, solely for the purpose of enabling
- * injection point resolving on javax.persistence.EntityListeners.
+ * injection point resolving on JPA <code>EntityListeners</code> and on JPA or JDO <code>AttributeConverters</code>.
  * <p>
- * Classes listed with the {@link javax.persistence.EntityListeners} annotation are not managed
- * by Spring, hence injection point resolving for these is not supported out of the box. However,
- * EclipseLink allows to configure a {@link BeanManager}, that is used for injection point
- * resolving. This implementation is limited to support only no-arg constructors.
+ * These classes are instantiated by the persistence provider rather than by Spring, hence injection point
+ * resolving for these is not supported out of the box. However, both EclipseLink and DataNucleus allow to
+ * configure a {@link BeanManager}, that is used for injection point resolving.
+ * This implementation is limited to support only no-arg constructors.
  *
  * @since 2.0
  */
 @RequiredArgsConstructor
-public class BeanManagerForEntityListeners implements BeanManager {
+public class BeanManagerForServiceInjection implements BeanManager {
 
     private final Provider<ServiceInjector> serviceInjectorProvider;
 
@@ -86,6 +86,11 @@ public <T> InjectionTarget<T> createInjectionTarget(AnnotatedType<T> type) {
         return _Util.createInjectionTarget(type, serviceInjectorProvider);
     }
 
+    @Override
+    public <T> InjectionTargetFactory<T> getInjectionTargetFactory(AnnotatedType<T> annotatedType) {
+        return bean->_Util.createInjectionTarget(annotatedType, serviceInjectorProvider);
+    }
+
     // -- IGNORED
 
     @Override
@@ -243,12 +248,6 @@ public ExpressionFactory wrapExpressionFactory(ExpressionFactory expressionFacto
         return null;
     }
 
-    @Override
-    public <T> InjectionTargetFactory<T> getInjectionTargetFactory(AnnotatedType<T> annotatedType) {
-        _Exceptions.throwNotImplemented();
-        return null;
-    }
-
     @Override
     public <X> ProducerFactory<X> getProducerFactory(AnnotatedField<? super X> field, Bean<X> declaringBean) {
         _Exceptions.throwNotImplemented();
@@ -16,7 +16,7 @@
  *  specific language governing permissions and limitations
  *  under the License.
  */
-package org.apache.causeway.persistence.jpa.eclipselink.inject;
+package org.apache.causeway.persistence.commons.inject;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
@@ -19,12 +19,14 @@
  */
 package org.apache.causeway.persistence.jpa.integration.changetracking;
 
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
 
 import javax.annotation.Priority;
 import javax.inject.Inject;
@@ -55,6 +57,7 @@
 import org.apache.causeway.commons.internal.collections._Maps;
 import org.apache.causeway.commons.internal.collections._Sets;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.metamodel.facets.object.publish.entitychange.EntityChangePublishingFacet;
 import org.apache.causeway.core.metamodel.facets.properties.property.entitychangepublishing.EntityPropertyChangePublishingPolicyFacet;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
@@ -89,6 +92,13 @@
  * data held in this service is private to each user's interaction.
  * </p>
  *
+ * <p>
+ * For transactions that modify a large number of entities, a compact representation of the enlisted property changes
+ * can be enabled (see {@link CausewayConfiguration.Persistence.EntityChangeTracker.Compact}), which holds only the
+ * pre-values, in column arrays (spilling to disk beyond a threshold), and computes the post-values while streaming
+ * the changes to the subscribers.
+ * </p>
+ *
  * @since 2.0 {@index}
  */
 @Service
@@ -109,6 +119,7 @@
     private final EntityPropertyChangePublisher entityPropertyChangePublisher;
     private final EntityChangesPublisher entityChangesPublisher;
     private final Provider<InteractionProvider> interactionProviderProvider;
+    private final CausewayConfiguration causewayConfiguration;
 
     /**
      * Contains a record for every objectId/propertyId that was changed.
@@ -126,6 +137,12 @@
     @Getter(AccessLevel.PACKAGE)
     private final Map<Bookmark, EntityChangeKind> changeKindByEnlistedAdapter = _Maps.newLinkedHashMap();
 
+    /**
+     * Used instead of {@link #enlistedPropertyChangeRecordsById}, if compact change tracking is enabled.
+     * Lazily created.
+     */
+    private _CompactPropertyChangeRecords compactPropertyChangeRecords;
+
     private final LongAdder numberEntitiesLoaded = new LongAdder();
     private final LongAdder entityChangeEventCount = new LongAdder();
     private final AtomicBoolean persistentChangesEncountered = new AtomicBoolean();
@@ -135,6 +152,7 @@
     public void destroy() throws Exception {
         enlistedPropertyChangeRecordsById.clear();
         entityPropertyChangeRecordsForPublishing.clear();
+        clearCompactPropertyChangeRecords();
         changeKindByEnlistedAdapter.clear();
 
         numberEntitiesLoaded.reset();
@@ -148,6 +166,21 @@ Set<PropertyChangeRecord> snapshotPropertyChangeRecords() {
         return entityPropertyChangeRecordsForPublishing.get();
     }
 
+    /**
+     * Number of property changes to be published.
+     * <p>
+     * Has the same side-effect as {@link #snapshotPropertyChangeRecords()}.
+     */
+    int countPropertyChangesForPublishing() {
+        if(!isCompact()) {
+            return snapshotPropertyChangeRecords().size();
+        }
+        val compactRecords = compactPropertyChangeRecords();
+        compactRecords.lock();
+        // reuses the count of any previously (fully) consumed stream
+        return Math.toIntExact(compactRecords.countPropertyChanges());
+    }
+
     /**
      * For any enlisted Object Properties collects those, that are meant for publishing,
      * then clears enlisted objects.
@@ -179,7 +212,9 @@ private boolean isEntityExcludedForChangePublishing(final ManagedObject entity)
             return true; // ignore entities that are not enabled for entity change publishing
         }
 
-        if(entityPropertyChangeRecordsForPublishing.isMemoized()) {
+        if(entityPropertyChangeRecordsForPublishing.isMemoized()
+                || (compactPropertyChangeRecords!=null
+                        && compactPropertyChangeRecords.isLocked())) {
             throw _Exceptions.illegalState("Cannot enlist additional changes for auditing, "
                     + "since changedObjectPropertiesRef was already prepared (memoized) for auditing.");
         }
@@ -260,6 +295,7 @@ private void postPublishing() {
 
         enlistedPropertyChangeRecordsById.clear();
         entityPropertyChangeRecordsForPublishing.clear();
+        clearCompactPropertyChangeRecords();
 
         changeKindByEnlistedAdapter.clear();
         entityChangeEventCount.reset();
@@ -285,9 +321,24 @@ public Can<EntityPropertyChange> getPropertyChanges(
             final java.sql.Timestamp timestamp,
             final String userName,
             final TransactionId txId) {
-        return snapshotPropertyChangeRecords().stream()
-                .map(propertyChangeRecord -> propertyChangeRecord.toEntityPropertyChange(timestamp, userName, txId))
-                .collect(Can.toCan());
+        try(val propertyChanges = streamPropertyChanges(timestamp, userName, txId)) {
+            return propertyChanges.collect(Can.toCan());
+        }
+    }
+
+    @Override
+    public Stream<EntityPropertyChange> streamPropertyChanges(
+            final java.sql.Timestamp timestamp,
+            final String userName,
+            final TransactionId txId) {
+        if(!isCompact()) {
+            return snapshotPropertyChangeRecords().stream()
+                    .map(propertyChangeRecord -> propertyChangeRecord.toEntityPropertyChange(timestamp, userName, txId));
+        }
+        val compactRecords = compactPropertyChangeRecords();
+        // locks the result for this transaction, such that cannot enlist on top of it
+        compactRecords.lock();
+        return compactRecords.streamPropertyChanges(timestamp, userName, txId);
     }
 
     // -- DEPENDENCIES
@@ -344,7 +395,29 @@ private boolean enlistForChangeKindPublishing(
 
     // side-effect free, used by XRay
     long countPotentialPropertyChangeRecords() {
-        return enlistedPropertyChangeRecordsById.size();
+        return isCompact()
+                ? compactPropertyChangeRecords().countPotentialPropertyChanges()
+                : enlistedPropertyChangeRecordsById.size();
+    }
+
+    private boolean isCompact() {
+        return causewayConfiguration.getPersistence().getEntityChangeTracker().getCompact().isEnabled();
+    }
+
+    private _CompactPropertyChangeRecords compactPropertyChangeRecords() {
+        if(compactPropertyChangeRecords==null) {
+            val compactConfig = causewayConfiguration.getPersistence().getEntityChangeTracker().getCompact();
+            compactPropertyChangeRecords = new _CompactPropertyChangeRecords(
+                    compactConfig.getSpillThreshold(),
+                    compactConfig.getSpillDirectory().map(Path::of).orElse(null));
+        }
+        return compactPropertyChangeRecords;
+    }
+
+    private void clearCompactPropertyChangeRecords() {
+        if(compactPropertyChangeRecords!=null) {
+            compactPropertyChangeRecords.close();
+        }
     }
 
     // -- ENTITY CHANGE TRACKING
@@ -361,6 +434,13 @@ public void enlistCreated(final ManagedObject entity) {
         log.debug("enlist entity's property changes for publishing {}", entity);
         enlistForChangeKindPublishing(entity, EntityChangeKind.CREATE);
 
+        if(isCompact()) {
+            compactPropertyChangeRecords().enlistAll(entity,
+                    property->!EntityPropertyChangePublishingPolicyFacet.isExcludedFromPublishing(property),
+                    _CompactPropertyChangeRecords.PreValueKind.NEW);
+            return;
+        }
+
         entity.getSpecification().streamProperties(MixedIn.EXCLUDED)
                 .filter(property->!EntityPropertyChangePublishingPolicyFacet.isExcludedFromPublishing(property))
                 .map(property -> PropertyChangeRecordId.of(entity, property))
@@ -383,6 +463,24 @@ public void enlistUpdating(
         // additional properties may now have been changed, and the changeKind for publishing might also be modified
         enlistForChangeKindPublishing(entity, EntityChangeKind.UPDATE);
 
+        if(isCompact()) {
+            val compactRecords = compactPropertyChangeRecords();
+            if(ormPropertyChangeRecords != null) {
+                // provided by ORM
+                ormPropertyChangeRecords
+                        .stream()
+                        .filter(pcr -> !EntityPropertyChangePublishingPolicyFacet.isExcludedFromPublishing(pcr.getProperty()))
+                        .forEach(pcr -> compactRecords.enlist(entity, pcr.getProperty(),
+                                pcr.getPreAndPostValue().getPre(), pcr.getPreAndPostValue().getPreString()));
+            } else {
+                // home-grown approach
+                compactRecords.enlistAll(entity,
+                        property->!EntityPropertyChangePublishingPolicyFacet.isExcludedFromPublishing(property),
+                        _CompactPropertyChangeRecords.PreValueKind.CURRENT);
+            }
+            return;
+        }
+
         if(ormPropertyChangeRecords != null) {
             // provided by ORM
             ormPropertyChangeRecords
@@ -419,6 +517,13 @@ public void enlistDeleting(final ManagedObject entity) {
 
             log.debug("enlist entity's property changes for publishing {}", entity);
 
+            if(isCompact()) {
+                compactPropertyChangeRecords().enlistAll(entity,
+                        property->!EntityPropertyChangePublishingPolicyFacet.isExcludedFromPublishing(property),
+                        _CompactPropertyChangeRecords.PreValueKind.CURRENT);
+                return;
+            }
+
             entity.getSpecification()
                     .streamProperties(MixedIn.EXCLUDED)
                     .filter(property -> EntityChangePublishingFacet.isPublishingEnabled(entity.getSpecification()))
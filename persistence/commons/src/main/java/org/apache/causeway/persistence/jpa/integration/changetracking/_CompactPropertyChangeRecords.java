@@ -0,0 +1,599 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.jpa.integration.changetracking;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.causeway.applib.services.xactn.TransactionId;
+import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.object.ManagedObjects;
+import org.apache.causeway.core.metamodel.object.MmEntityUtil;
+import org.apache.causeway.core.metamodel.object.MmUnwrapUtil;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PreAndPostValue;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyValuePlaceholder;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.spec.feature.MixedIn;
+import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Compact, allocation-light store of the pre-values of the properties enlisted for change publishing.
+ * <p>
+ * Holds a single row per entity (rather than a record per property), with property ids interned
+ * per {@link ObjectSpecification} into column indexes. Pre-values are appended to flat column arrays,
+ * and once more than a threshold number of these are held in memory, they get spilled to a temporary file.
+ * Post-values are not stored at all, instead computed while {@link #streamPropertyChanges streaming}.
+ * <p>
+ * Pre- and post-values are compared the same way as {@link PreAndPostValue#shouldPublish()} does,
+ * that is by {@link Objects#equals(Object, Object)}. Hence only those pre-values are spilled, that survive
+ * the round-trip: {@code null}, the {@link PropertyValuePlaceholder#NEW} placeholder and (serializable)
+ * value types. Any others (eg. references to other entities) are kept in memory.
+ * <p>
+ * Not thread-safe, as is not its owning (interaction scoped) {@link EntityChangeTrackerDefault}.
+ *
+ * @since 2.0
+ */
+@RequiredArgsConstructor
+@Log4j2
+final class _CompactPropertyChangeRecords implements AutoCloseable {
+
+    private static final byte KIND_NULL = 0;
+    private static final byte KIND_NEW = 1;
+    private static final byte KIND_VALUE = 2;
+
+    private final int spillThreshold;
+    private final @Nullable Path spillDirectory;
+
+    private final Map<ObjectSpecification, SpecTable> tablesBySpec = new HashMap<>();
+    private final Map<Bookmark, Row> rowsByBookmark = new HashMap<>();
+    private final List<Row> rows = new ArrayList<>();
+
+    // in-memory cells, column oriented
+    private int cellCount = 0;
+    private Row[] cellRows = new Row[16];
+    private int[] cellColumns = new int[16];
+    private Object[] cellPreValues = new Object[16];
+    private String[] cellPreStrings = new String[16];
+
+    // spilled cells
+    private @Nullable Path spillFile;
+    private @Nullable DataOutputStream spillOut;
+    private long spilledCellCount = 0;
+    private int nextSpillAt = -1; // lazily initialized
+
+    private boolean locked;
+    private @Nullable Long propertyChangeCount; // memoized, once locked
+
+    // -- ENLISTING
+
+    /**
+     * Enlists the pre-value of given entity's property, unless previously enlisted.
+     */
+    void enlist(
+            final @NonNull ManagedObject entity,
+            final @NonNull OneToOneAssociation property,
+            final @NonNull PreValueKind preValueKind) {
+        val row = rowFor(entity);
+        val column = row.table.columnOf(property);
+        if(column<0
+                || row.enlistedColumns.get(column)) {
+            return; // only if not previously seen
+        }
+        val preValue = preValueKind == PreValueKind.NEW
+                ? PropertyValuePlaceholder.NEW
+                : valueOf(entity, property);
+        append(row, column, preValue, asString(preValue));
+    }
+
+    /**
+     * Enlists the pre-value (as provided by the ORM) of given entity's property, unless previously enlisted.
+     */
+    void enlist(
+            final @NonNull ManagedObject entity,
+            final @NonNull OneToOneAssociation property,
+            final @Nullable Object preValue,
+            final @Nullable String preString) {
+        val row = rowFor(entity);
+        val column = row.table.columnOf(property);
+        if(column<0
+                || row.enlistedColumns.get(column)) {
+            return; // only if not previously seen
+        }
+        append(row, column, preValue, preString);
+    }
+
+    /**
+     * Enlists the pre-values of all the properties of given entity that pass given filter,
+     * and that were not previously enlisted.
+     */
+    void enlistAll(
+            final @NonNull ManagedObject entity,
+            final @NonNull Predicate<OneToOneAssociation> filter,
+            final @NonNull PreValueKind preValueKind) {
+        val row = rowFor(entity);
+        val properties = row.table.properties;
+        for(int column = 0; column < properties.length; ++column) {
+            val property = properties[column];
+            if(row.enlistedColumns.get(column)
+                    || !filter.test(property)) {
+                continue;
+            }
+            val preValue = preValueKind == PreValueKind.NEW
+                    ? PropertyValuePlaceholder.NEW
+                    : valueOf(entity, property);
+            append(row, column, preValue, asString(preValue));
+        }
+    }
+
+    static enum PreValueKind {
+        NEW,
+        CURRENT
+    }
+
+    // -- LOCKING
+
+    /**
+     * Once locked, any further enlisting is a programming error (as checked by the caller).
+     */
+    void lock() {
+        locked = true;
+    }
+
+    boolean isLocked() {
+        return locked;
+    }
+
+    // -- STREAMING
+
+    /**
+     * Number of pre-values enlisted, regardless of whether their post-values differ.
+     */
+    long countPotentialPropertyChanges() {
+        return spilledCellCount + cellCount;
+    }
+
+    /**
+     * Number of changes that qualify for publishing, as would be {@link #streamPropertyChanges streamed}.
+     * <p>
+     * Once {@link #lock() locked}, this is memoized: if a stream was previously consumed in full,
+     * its count is reused, rather than computing all the post-values once more.
+     */
+    long countPropertyChanges() {
+        if(propertyChangeCount!=null) {
+            return propertyChangeCount;
+        }
+        try(val propertyChanges = streamPropertyChanges(new Timestamp(0L), "", TransactionId.empty())) {
+            return propertyChanges.count();
+        }
+    }
+
+    /**
+     * Streams the changes, spilled ones first (in order of enlistment), computing the post-values on the fly.
+     * <p>
+     * Only those changes that qualify for publishing are included: created and deleted entities always,
+     * updated entities only if pre- and post-value differ.
+     */
+    Stream<EntityPropertyChange> streamPropertyChanges(
+            final @NonNull Timestamp timestamp,
+            final @NonNull String userName,
+            final @NonNull TransactionId txId) {
+
+        val factory = new ChangeFactory(timestamp, userName, txId);
+        val spilled = openSpilled();
+        val iterator = new ChangeIterator(factory, spilled);
+
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(()->{
+                    if(spilled!=null) {
+                        try {
+                            spilled.close();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }
+                });
+    }
+
+    @Override
+    public void close() {
+        tablesBySpec.clear();
+        rowsByBookmark.clear();
+        rows.clear();
+        Arrays.fill(cellRows, 0, cellCount, null);
+        Arrays.fill(cellPreValues, 0, cellCount, null);
+        Arrays.fill(cellPreStrings, 0, cellCount, null);
+        cellCount = 0;
+        spilledCellCount = 0;
+        nextSpillAt = -1;
+        locked = false;
+        propertyChangeCount = null;
+        closeSpillOut();
+        if(spillFile!=null) {
+            try {
+                Files.deleteIfExists(spillFile);
+            } catch (IOException e) {
+                log.warn("failed to delete spill file {}", spillFile, e);
+            }
+            spillFile = null;
+        }
+    }
+
+    // -- HELPER
+
+    /**
+     * Interned properties of an {@link ObjectSpecification}, each property being assigned a column index.
+     */
+    private static final class SpecTable {
+
+        private final OneToOneAssociation[] properties;
+        private final Map<String, Integer> columnsByPropertyId;
+
+        SpecTable(final ObjectSpecification spec) {
+            this.properties = spec.streamProperties(MixedIn.EXCLUDED)
+                    .toArray(OneToOneAssociation[]::new);
+            this.columnsByPropertyId = new HashMap<>(properties.length * 2);
+            for(int column = 0; column < properties.length; ++column) {
+                columnsByPropertyId.put(properties[column].getId(), column);
+            }
+        }
+
+        int columnOf(final OneToOneAssociation property) {
+            val column = columnsByPropertyId.get(property.getId());
+            return column!=null
+                    ? column
+                    : -1;
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class Row {
+        private final int index;
+        private final SpecTable table;
+        private final ManagedObject entity;
+        private final Bookmark bookmark;
+        private final BitSet enlistedColumns = new BitSet();
+        private Boolean deleted; // lazily computed, when streaming
+    }
+
+    private Row rowFor(final ManagedObject entity) {
+        val bookmark = ManagedObjects.bookmarkElseFail(entity);
+        return rowsByBookmark.computeIfAbsent(bookmark, __->{
+            val table = tablesBySpec.computeIfAbsent(entity.getSpecification(), SpecTable::new);
+            val row = new Row(rows.size(), table, entity, bookmark);
+            rows.add(row);
+            return row;
+        });
+    }
+
+    private void append(final Row row, final int column, final Object preValue, final String preString) {
+        row.enlistedColumns.set(column);
+        if(cellCount == cellRows.length) {
+            val newLength = cellRows.length * 2;
+            cellRows = Arrays.copyOf(cellRows, newLength);
+            cellColumns = Arrays.copyOf(cellColumns, newLength);
+            cellPreValues = Arrays.copyOf(cellPreValues, newLength);
+            cellPreStrings = Arrays.copyOf(cellPreStrings, newLength);
+        }
+        cellRows[cellCount] = row;
+        cellColumns[cellCount] = column;
+        cellPreValues[cellCount] = preValue;
+        cellPreStrings[cellCount] = preString;
+        ++cellCount;
+        if(nextSpillAt<0) {
+            nextSpillAt = spillThreshold;
+        }
+        if(cellCount >= nextSpillAt) {
+            spill();
+            // those cells not spilled don't count towards the next spill
+            nextSpillAt = cellCount + spillThreshold;
+        }
+    }
+
+    /**
+     * Appends all in-memory cells, whose pre-values survive the round-trip, to the spill file,
+     * then releases them. Any others are kept in memory (in order).
+     */
+    private void spill() {
+        try {
+            if(spillOut==null) {
+                spillFile = spillDirectory!=null
+                        ? Files.createTempFile(spillDirectory, "causeway-changes-", ".bin")
+                        : Files.createTempFile("causeway-changes-", ".bin");
+                spillOut = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(spillFile)));
+            }
+            int kept = 0;
+            for(int i = 0; i < cellCount; ++i) {
+                val row = cellRows[i];
+                val column = cellColumns[i];
+                val preValue = cellPreValues[i];
+                final byte[] serialized;
+                if(preValue == null) {
+                    serialized = null;
+                } else if(preValue == PropertyValuePlaceholder.NEW) {
+                    serialized = null;
+                } else {
+                    serialized = serializeIfValue(row.table.properties[column], preValue);
+                    if(serialized == null) {
+                        // keep in memory
+                        cellRows[kept] = row;
+                        cellColumns[kept] = column;
+                        cellPreValues[kept] = preValue;
+                        cellPreStrings[kept] = cellPreStrings[i];
+                        ++kept;
+                        continue;
+                    }
+                }
+                spillOut.writeInt(row.index);
+                spillOut.writeInt(column);
+                if(preValue == null) {
+                    spillOut.writeByte(KIND_NULL);
+                } else if(preValue == PropertyValuePlaceholder.NEW) {
+                    spillOut.writeByte(KIND_NEW);
+                } else {
+                    spillOut.writeByte(KIND_VALUE);
+                    spillOut.writeInt(serialized.length);
+                    spillOut.write(serialized);
+                    writeString(spillOut, cellPreStrings[i]);
+                }
+                ++spilledCellCount;
+            }
+            Arrays.fill(cellRows, kept, cellCount, null);
+            Arrays.fill(cellPreValues, kept, cellCount, null);
+            Arrays.fill(cellPreStrings, kept, cellCount, null);
+            cellCount = kept;
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to spill entity property changes", e);
+        }
+    }
+
+    /**
+     * @return the serialized pre-value, or {@code null} if it is not a serializable value type
+     *      (and so must be kept in memory)
+     */
+    private static @Nullable byte[] serializeIfValue(final OneToOneAssociation property, final Object preValue) {
+        if(!(preValue instanceof Serializable)
+                || !property.getElementType().isValue()) {
+            return null;
+        }
+        val bytes = new ByteArrayOutputStream();
+        try(val out = new ObjectOutputStream(bytes)) {
+            out.writeObject(preValue);
+        } catch (IOException e) {
+            // eg. NotSerializableException of a nested object
+            return null;
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialize(final byte[] serialized) throws IOException {
+        try(val in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return in.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("failed to read spilled entity property change", e);
+        }
+    }
+
+    private @Nullable DataInputStream openSpilled() {
+        if(spillFile==null) {
+            return null;
+        }
+        try {
+            spillOut.flush();
+            return new DataInputStream(new BufferedInputStream(Files.newInputStream(spillFile)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to read spilled entity property changes", e);
+        }
+    }
+
+    /**
+     * Iterates over the changes that qualify for publishing, spilled ones first (in order of enlistment);
+     * memoizes their count once exhausted.
+     */
+    @RequiredArgsConstructor
+    private final class ChangeIterator implements Iterator<EntityPropertyChange> {
+
+        private final ChangeFactory factory;
+        private final @Nullable DataInputStream spilled;
+
+        private long spilledRemaining = spilledCellCount;
+        private int inMemoryIndex = 0;
+        private long count = 0;
+        private @Nullable EntityPropertyChange next;
+
+        @Override
+        public boolean hasNext() {
+            while(next==null) {
+                if(spilledRemaining > 0) {
+                    --spilledRemaining;
+                    next = readSpilled();
+                } else if(inMemoryIndex < cellCount) {
+                    val i = inMemoryIndex++;
+                    next = factory.changeIfAny(cellRows[i], cellColumns[i], cellPreValues[i], cellPreStrings[i]);
+                } else {
+                    if(locked) {
+                        propertyChangeCount = count;
+                    }
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public EntityPropertyChange next() {
+            if(!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            val change = next;
+            next = null;
+            ++count;
+            return change;
+        }
+
+        private @Nullable EntityPropertyChange readSpilled() {
+            try {
+                val row = rows.get(spilled.readInt());
+                val column = spilled.readInt();
+                val kind = spilled.readByte();
+                switch(kind) {
+                case KIND_NULL:
+                    return factory.changeIfAny(row, column, null, null);
+                case KIND_NEW:
+                    return factory.changeIfAny(row, column,
+                            PropertyValuePlaceholder.NEW, asString(PropertyValuePlaceholder.NEW));
+                default: {
+                    val serialized = new byte[spilled.readInt()];
+                    spilled.readFully(serialized);
+                    val preString = readString(spilled);
+                    return factory.changeIfAny(row, column, deserialize(serialized), preString);
+                }
+                }
+            } catch (EOFException e) {
+                throw new IllegalStateException("spilled entity property changes are truncated", e);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class ChangeFactory {
+
+        private final Timestamp timestamp;
+        private final String userName;
+        private final TransactionId txId;
+
+        /**
+         * @return the change, or {@code null} if there is none to publish
+         */
+        @Nullable EntityPropertyChange changeIfAny(
+                final Row row,
+                final int column,
+                final @Nullable Object preValue,
+                final @Nullable String preString) {
+
+            if(row.deleted == null) {
+                // assuming this check correctly detects deleted entities
+                row.deleted = MmEntityUtil.isDeleted(row.entity);
+            }
+            val property = row.table.properties[column];
+            val isNew = preValue == PropertyValuePlaceholder.NEW;
+            val postValue = row.deleted
+                    ? PropertyValuePlaceholder.DELETED
+                    : valueOf(row.entity, property);
+            val postString = asString(postValue);
+
+            // same rules as PreAndPostValue.shouldPublish()
+            if(isNew && row.deleted) {
+                // don't audit objects that were created and then immediately deleted within the same xactn
+                return null;
+            }
+            if(!isNew
+                    && !row.deleted
+                    && Objects.equals(preValue, postValue)) {
+                // for updated objects - audit only if the property value has changed
+                return null;
+            }
+
+            val propertyId = property.getId();
+            return EntityPropertyChange.of(
+                    txId.getInteractionId(), txId.getSequence(),
+                    row.bookmark, row.bookmark.getLogicalTypeName() + "#" + propertyId, propertyId,
+                    preString, postString,
+                    userName, timestamp);
+        }
+    }
+
+    private static Object valueOf(final ManagedObject entity, final OneToOneAssociation property) {
+        val referencedAdapter = property.get(entity, InteractionInitiatedBy.FRAMEWORK);
+        return MmUnwrapUtil.single(referencedAdapter);
+    }
+
+    private static String asString(final Object object) {
+        return object != null
+                ? object.toString()
+                : null;
+    }
+
+    private static void writeString(final DataOutputStream out, final @Nullable String string) throws IOException {
+        // not using writeUTF, as limited to 64k
+        val bytes = Optional.ofNullable(string).orElse("").getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(final DataInputStream in) throws IOException {
+        val bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void closeSpillOut() {
+        if(spillOut==null) {
+            return;
+        }
+        try {
+            spillOut.close();
+        } catch (IOException e) {
+            // ignore
+        }
+        spillOut = null;
+    }
+
+}
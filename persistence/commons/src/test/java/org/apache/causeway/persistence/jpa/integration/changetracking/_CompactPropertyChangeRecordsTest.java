@@ -0,0 +1,303 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.jpa.integration.changetracking;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.causeway.applib.services.repository.EntityState;
+import org.apache.causeway.applib.services.xactn.TransactionId;
+import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecordId;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.spec.feature.MixedIn;
+import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
+
+import lombok.EqualsAndHashCode;
+import lombok.val;
+
+/**
+ * Checks that the compact records publish the same changes as the (default) {@link PropertyChangeRecord}s do,
+ * whether or not pre-values are spilled.
+ */
+class _CompactPropertyChangeRecordsTest {
+
+    static final Timestamp TIMESTAMP = new Timestamp(1_000L);
+    static final String USER = "sven";
+
+    /**
+     * A value type, that is equal by amount, but whose {@link #toString()} differs per instance.
+     */
+    @EqualsAndHashCode(of = "amount")
+    static final class Money implements Serializable {
+        private static final long serialVersionUID = 1L;
+        final BigDecimal amount;
+        Money(final String amount) {
+            this.amount = new BigDecimal(amount);
+        }
+        @Override
+        public String toString() {
+            return amount + " @" + System.identityHashCode(this);
+        }
+    }
+
+    /**
+     * Neither serializable nor a value type, so never spilled.
+     */
+    static final class Address {
+        @Override
+        public String toString() {
+            return "Address";
+        }
+    }
+
+    @TempDir Path spillDirectory;
+
+    ObjectSpecification valueSpec;
+    ObjectSpecification referenceSpec;
+    ObjectSpecification customerSpec;
+    OneToOneAssociation nameProperty;
+    OneToOneAssociation balanceProperty;
+    OneToOneAssociation addressProperty;
+
+    Map<ManagedObject, Map<String, Object>> currentValues;
+    _CompactPropertyChangeRecords records;
+
+    @BeforeEach
+    void setUp() {
+        valueSpec = Mockito.mock(ObjectSpecification.class);
+        when(valueSpec.isValue()).thenReturn(true);
+        referenceSpec = Mockito.mock(ObjectSpecification.class);
+        when(referenceSpec.isValue()).thenReturn(false);
+
+        nameProperty = property("name", valueSpec);
+        balanceProperty = property("balance", valueSpec);
+        addressProperty = property("address", referenceSpec);
+
+        customerSpec = Mockito.mock(ObjectSpecification.class);
+        when(customerSpec.streamProperties(MixedIn.EXCLUDED))
+            .thenAnswer(__->Stream.of(nameProperty, balanceProperty, addressProperty));
+
+        currentValues = new HashMap<>();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if(records!=null) {
+            records.close();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, Integer.MAX_VALUE})
+    void updated_shouldPublishSameChangesAsDefaultTracker(final int spillThreshold) {
+        records = new _CompactPropertyChangeRecords(spillThreshold, spillDirectory);
+
+        val address = new Address();
+        val unchanged = customer("1", "Alice", new Money("10.00"), address);
+        val renamed = customer("2", "Bob", new Money("20.00"), address);
+        val relocated = customer("3", null, new Money("30.00"), address);
+
+        val defaultRecords = List.of(unchanged, renamed, relocated).stream()
+                .flatMap(this::enlistCurrent)
+                .collect(Collectors.toList());
+
+        // equal, but not same value and toString
+        set(unchanged, "balance", new Money("10.00"));
+        set(renamed, "name", "Robert");
+        set(relocated, "name", "Carol");
+        set(relocated, "address", new Address());
+
+        val expected = defaultRecords.stream()
+                .map(PropertyChangeRecord::withPostValueSetToCurrent)
+                .filter(pcr->pcr.getPreAndPostValue().shouldPublish())
+                .map(pcr->pcr.toEntityPropertyChange(TIMESTAMP, USER, TransactionId.empty()))
+                .collect(Collectors.toSet());
+
+        assertEquals(3, expected.size());
+        assertEquals(expected, streamAll());
+        assertEquals(3L, records.countPropertyChanges());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, Integer.MAX_VALUE})
+    void createdAndDeleted_shouldPublishSameChangesAsDefaultTracker(final int spillThreshold) {
+        records = new _CompactPropertyChangeRecords(spillThreshold, spillDirectory);
+
+        val created = customer("1", "Alice", new Money("10.00"), null);
+        val deleted = customer("2", "Bob", new Money("20.00"), new Address());
+        val createdThenDeleted = customer("3", "Carol", null, null);
+
+        records.enlistAll(created, __->true, _CompactPropertyChangeRecords.PreValueKind.NEW);
+        records.enlistAll(createdThenDeleted, __->true, _CompactPropertyChangeRecords.PreValueKind.NEW);
+        val expectedForDeleted = enlistCurrent(deleted)
+                .map(PropertyChangeRecord::withPostValueSetToDeleted)
+                .map(pcr->pcr.toEntityPropertyChange(TIMESTAMP, USER, TransactionId.empty()))
+                .collect(Collectors.toSet());
+        val expectedForCreated = Stream.of(nameProperty, balanceProperty, addressProperty)
+                .map(property->PropertyChangeRecord.ofNew(PropertyChangeRecordId.of(created, property))
+                        .withPostValueSetToCurrent())
+                .map(pcr->pcr.toEntityPropertyChange(TIMESTAMP, USER, TransactionId.empty()))
+                .collect(Collectors.toSet());
+
+        when(deleted.getEntityState()).thenReturn(EntityState.PERSISTABLE_REMOVED);
+        when(createdThenDeleted.getEntityState()).thenReturn(EntityState.PERSISTABLE_REMOVED);
+
+        val changes = streamAll();
+
+        assertEquals(6, changes.size());
+        assertTrue(changes.containsAll(expectedForCreated));
+        assertTrue(changes.containsAll(expectedForDeleted));
+        assertEquals(6L, records.countPropertyChanges());
+    }
+
+    @Test
+    void whenNotYetLocked_shouldNotMemoizeCount() {
+        records = new _CompactPropertyChangeRecords(1, spillDirectory);
+
+        val customer = customer("1", "Alice", new Money("10.00"), null);
+        records.enlistAll(customer, __->true, _CompactPropertyChangeRecords.PreValueKind.CURRENT);
+
+        assertEquals(0L, records.countPropertyChanges());
+        set(customer, "name", "Alicia");
+        assertEquals(1L, records.countPropertyChanges());
+    }
+
+    @Test
+    void whenLockedAndFullyStreamed_shouldReuseCountRatherThanStreamingAgain() {
+        records = new _CompactPropertyChangeRecords(1, spillDirectory);
+
+        val customer = customer("1", "Alice", new Money("10.00"), null);
+        records.enlistAll(customer, __->true, _CompactPropertyChangeRecords.PreValueKind.CURRENT);
+        set(customer, "name", "Alicia");
+        records.lock();
+
+        assertEquals(1, streamAll().size());
+        Mockito.clearInvocations(nameProperty, balanceProperty, addressProperty);
+
+        assertEquals(1L, records.countPropertyChanges());
+        Mockito.verifyNoInteractions(nameProperty, balanceProperty, addressProperty);
+    }
+
+    @Test
+    void whenLockedAndPartiallyStreamed_shouldCountAll() {
+        records = new _CompactPropertyChangeRecords(2, spillDirectory);
+
+        val customer = customer("1", "Alice", new Money("10.00"), null);
+        records.enlistAll(customer, __->true, _CompactPropertyChangeRecords.PreValueKind.CURRENT);
+        set(customer, "name", "Alicia");
+        set(customer, "balance", new Money("11.00"));
+        records.lock();
+
+        try(val changes = records.streamPropertyChanges(TIMESTAMP, USER, TransactionId.empty())) {
+            assertTrue(changes.findFirst().isPresent());
+        }
+
+        assertEquals(2L, records.countPropertyChanges());
+    }
+
+    // -- HELPER
+
+    private OneToOneAssociation property(final String id, final ObjectSpecification elementType) {
+        val property = Mockito.mock(OneToOneAssociation.class);
+        when(property.getId()).thenReturn(id);
+        when(property.getElementType()).thenReturn(elementType);
+        when(property.get(any(ManagedObject.class), eq(InteractionInitiatedBy.FRAMEWORK)))
+            .thenAnswer(invocation->{
+                final ManagedObject owner = invocation.getArgument(0);
+                val value = currentValues.get(owner).get(id);
+                return value!=null
+                        ? pojo(value)
+                        : ManagedObject.unspecified();
+            });
+        return property;
+    }
+
+    private ManagedObject customer(
+            final String id, final String name, final Money balance, final Address address) {
+        val customer = Mockito.mock(ManagedObject.class);
+        when(customer.getBookmark()).thenReturn(Optional.of(Bookmark.forLogicalTypeNameAndIdentifier("demo.Customer", id)));
+        when(customer.getSpecification()).thenReturn(customerSpec);
+        when(customer.getEntityState()).thenReturn(EntityState.PERSISTABLE_ATTACHED);
+        val values = new HashMap<String, Object>();
+        values.put("name", name);
+        values.put("balance", balance);
+        values.put("address", address);
+        currentValues.put(customer, values);
+        return customer;
+    }
+
+    private static ManagedObject pojo(final Object pojo) {
+        val adapter = Mockito.mock(ManagedObject.class);
+        when(adapter.getPojo()).thenReturn(pojo);
+        return adapter;
+    }
+
+    private void set(final ManagedObject entity, final String propertyId, final Object value) {
+        currentValues.get(entity).put(propertyId, value);
+    }
+
+    /**
+     * Enlists the current values with both, the compact records and (returned) the default records.
+     */
+    private Stream<PropertyChangeRecord> enlistCurrent(final ManagedObject entity) {
+        records.enlistAll(entity, __->true, _CompactPropertyChangeRecords.PreValueKind.CURRENT);
+        return Stream.of(nameProperty, balanceProperty, addressProperty)
+                .map(property->PropertyChangeRecord.ofCurrent(PropertyChangeRecordId.of(entity, property)));
+    }
+
+    private Set<EntityPropertyChange> streamAll() {
+        try(val changes = records.streamPropertyChanges(TIMESTAMP, USER, TransactionId.empty())) {
+            val list = changes.collect(Collectors.toList());
+            val set = Set.copyOf(list);
+            assertEquals(list.size(), set.size(), ()->"duplicate changes: " + list);
+            assertTrue(list.stream().allMatch(Objects::nonNull));
+            return set;
+        }
+    }
+
+}
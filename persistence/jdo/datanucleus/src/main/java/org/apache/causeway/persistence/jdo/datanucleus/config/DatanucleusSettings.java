@@ -23,7 +23,9 @@
 import java.util.Map;
 
 import javax.annotation.Priority;
+import javax.inject.Inject;
 import javax.inject.Named;
+import javax.inject.Provider;
 
 import org.datanucleus.PropertyNames;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -31,6 +33,8 @@
 import org.springframework.context.annotation.Configuration;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.inject.ServiceInjector;
+import org.apache.causeway.persistence.commons.inject.BeanManagerForServiceInjection;
 import org.apache.causeway.persistence.jdo.datanucleus.entities.DnObjectProviderForCauseway;
 
 import lombok.Getter;
@@ -62,6 +66,8 @@
 @Log4j2
 public class DatanucleusSettings {
 
+    @Inject private Provider<ServiceInjector> serviceInjectorProvider;
+
     /** mapped by {@code datanucleus.*} */
     @Getter @Setter
     private Map<String, String> datanucleus = Collections.emptyMap();
@@ -126,6 +132,12 @@ private void addFallbacks(final Map<String, Object> props) {
         props.computeIfAbsent(PropertyNames.PROPERTY_STATE_MANAGER_CLASS_NAME,
                 key->DnObjectProviderForCauseway.class.getName());
 
+        // enables injection into AttributeConverters (eg. the DTO converters of the command log)
+        if(serviceInjectorProvider!=null) {
+            props.computeIfAbsent("datanucleus.cdi.bean.manager",
+                    key->new BeanManagerForServiceInjection(serviceInjectorProvider));
+        }
+
         // we debated whether to default 'create' mode, ie eagerly create the database tables ... however while this is
         // fine for integration testing, it doesn't make much sense for production usage.  So instead we'll just make
         // sure it is well documented, and in the sample apps.
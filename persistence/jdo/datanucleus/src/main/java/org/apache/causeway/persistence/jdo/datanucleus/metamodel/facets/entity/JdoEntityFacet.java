@@ -18,16 +18,26 @@
  */
 package org.apache.causeway.persistence.jdo.datanucleus.metamodel.facets.entity;
 
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.inject.Inject;
 import javax.jdo.FetchGroup;
+import javax.jdo.JDOHelper;
+import javax.jdo.JDOObjectNotFoundException;
 import javax.jdo.PersistenceManager;
+import javax.jdo.annotations.NotPersistent;
 
 import org.datanucleus.api.jdo.JDOPersistenceManagerFactory;
 import org.datanucleus.enhancement.Persistable;
@@ -35,22 +45,29 @@
 
 import org.apache.causeway.applib.exceptions.unrecoverable.ObjectNotFoundException;
 import org.apache.causeway.applib.query.AllInstancesQuery;
+import org.apache.causeway.applib.query.CriteriaProperty;
+import org.apache.causeway.applib.query.CriteriaQuery;
+import org.apache.causeway.applib.query.Criterion;
 import org.apache.causeway.applib.query.NamedQuery;
 import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.exceprecog.Category;
 import org.apache.causeway.applib.services.exceprecog.ExceptionRecognizerService;
 import org.apache.causeway.applib.services.repository.EntityState;
+import org.apache.causeway.applib.services.repository.StreamOptions;
 import org.apache.causeway.applib.services.xactn.TransactionService;
 import org.apache.causeway.applib.services.xactn.TransactionalProcessor;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.assertions._Assert;
+import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.commons.internal.base._Lazy;
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.commons.internal.collections._Maps;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.core.config.beans.PersistenceStack;
 import org.apache.causeway.core.metamodel.facetapi.FacetAbstract;
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityCursorStreams;
 import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
@@ -186,6 +203,55 @@ public Optional<Object> fetchByBookmark(final @NonNull Bookmark bookmark) {
         return Optional.ofNullable(entityPojo);
     }
 
+    /**
+     * Fetches all entities by means of {@link PersistenceManager#getObjectsById(java.util.Collection, boolean)},
+     * which DataNucleus resolves with a single (bulk) locate request per entity type.
+     * If any of the entities cannot be found, falls back to fetching one bookmark at a time,
+     * leaving out those not found.
+     */
+    @Override
+    public Map<Bookmark, Object> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+
+        log.debug("fetchEntities; bookmarks={}", bookmarks);
+
+        val persistenceManager = getPersistenceManager();
+        val objectIdByBookmark = new LinkedHashMap<Bookmark, Object>();
+        bookmarks.forEach(bookmark->
+            objectIdByBookmark.put(bookmark, persistenceManager.newObjectIdInstance(entityClass,
+                    primaryKeyTypeForDecoding().destring(bookmark.getIdentifier()))));
+
+        val fetchPlan = persistenceManager.getFetchPlan();
+        fetchPlan.addGroup(FetchGroup.DEFAULT);
+
+        val entityPojoByBookmark = _Maps.<Bookmark, Object>newHashMap();
+        try {
+
+            val entityPojoIterator = persistenceManager.getObjectsById(objectIdByBookmark.values(), true).iterator();
+            objectIdByBookmark.keySet().forEach(bookmark->{
+                val entityPojo = entityPojoIterator.next();
+                if(entityPojo!=null) {
+                    entityPojoByBookmark.put(bookmark, entityPojo);
+                }
+            });
+            return entityPojoByBookmark;
+
+        } catch (final JDOObjectNotFoundException e) {
+
+            // unlike fetchByBookmark(Bookmark), not found is not an error here
+            objectIdByBookmark.forEach((bookmark, objectId)->{
+                try {
+                    val entityPojo = persistenceManager.getObjectById(objectId, true);
+                    if(entityPojo!=null) {
+                        entityPojoByBookmark.put(bookmark, entityPojo);
+                    }
+                } catch (final JDOObjectNotFoundException notFound) {
+                    log.debug("entity not found; bookmark={}", bookmark);
+                }
+            });
+            return entityPojoByBookmark;
+        }
+    }
+
     private Map<Class<?>, Class<?>> primaryKeyClassByEntityClass = new ConcurrentHashMap<>();
 
     private Class<?> primaryKeyTypeFor(final Class<?> entityClass) {
@@ -287,6 +353,21 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
             }
 
             return resultList;
+
+        } else if(query instanceof CriteriaQuery) {
+
+            val criteriaQuery = (CriteriaQuery<?>) query;
+
+            _Assert.assertTrue(canTranslate(criteriaQuery, List.of()), ()->"criteria query not supported");
+
+            val jdoQuery = newCriteriaQuery(getPersistenceManager(), criteriaQuery);
+            jdoQuery.extension(RDBMSPropertyNames.PROPERTY_RDBMS_QUERY_MULTIVALUED_FETCH, "none");
+
+            if(!range.isUnconstrained()) {
+                jdoQuery.range(range.getStart(), range.getEnd());
+            }
+
+            return fetchWithinTransaction(jdoQuery::executeList);
         }
 
         throw _Exceptions.unsupportedOperation("query type %s (%s) not supported by this persistence implementation",
@@ -294,6 +375,424 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
                 query.getDescription());
     }
 
+    /**
+     * Backed by a <i>DataNucleus</i> lazily loaded query result,
+     * such that results are fetched from the database as the {@link Stream} is consumed.
+     * <p>
+     * JDO has no notion of detaching managed instances in place, hence
+     * {@link StreamOptions.BatchPolicy#DETACH} evicts the instances of each batch from the
+     * persistence manager's L1 cache instead.
+     */
+    @Override
+    public Stream<ManagedObject> streamByQuery(final @NonNull Query<?> query, final @NonNull StreamOptions options) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("about to stream Query: {}", query.getDescription());
+        }
+
+        val persistenceManager = getPersistenceManager();
+        val jdoQuery = newCursorQuery(persistenceManager, query);
+
+        jdoQuery.extension(RDBMSPropertyNames.PROPERTY_RDBMS_QUERY_MULTIVALUED_FETCH, "none");
+        jdoQuery.extension("datanucleus.query.resultCacheType", "none");
+        jdoQuery.extension("datanucleus.query.loadResultsAtCommit", "false");
+        if(options.getFetchSize()>0) {
+            jdoQuery.getFetchPlan().setFetchSize(options.getFetchSize());
+        }
+
+        val range = query.getRange();
+        if(!range.isUnconstrained()) {
+            jdoQuery.setRange(range.getStart(), range.getEnd());
+        }
+
+        final Iterator<Object> cursor = _Casts.uncheckedCast(jdoQuery.executeList().iterator());
+
+        return EntityCursorStreams.stream(
+                cursor,
+                jdoQuery::closeAll,
+                options,
+                batch->{
+                    switch(options.getBatchPolicy()) {
+                    case FLUSH_AND_CLEAR:
+                        persistenceManager.flush();
+                        persistenceManager.evictAll();
+                        return;
+                    case DETACH:
+                        persistenceManager.evictAll(batch);
+                        return;
+                    case NONE:
+                    default:
+                        return;
+                    }
+                })
+                .map(fetchedObject->adapt(objectLifecyclePublisher, fetchedObject));
+    }
+
+    private javax.jdo.Query<?> newCursorQuery(final PersistenceManager persistenceManager, final Query<?> query) {
+
+        if(query instanceof AllInstancesQuery) {
+            return persistenceManager.newQuery(query.getResultType());
+
+        } else if(query instanceof NamedQuery) {
+
+            val applibNamedQuery = (NamedQuery<?>) query;
+
+            // inject services into query params; not sure if required (might be redundant)
+            val injector = getServiceInjector();
+            applibNamedQuery
+                .getParametersByName()
+                .values()
+                .forEach(injector::injectServicesInto);
+
+            val namedParams = _Maps.<String, Object>newHashMap();
+            applibNamedQuery
+                .getParametersByName()
+                .forEach(namedParams::put);
+
+            return persistenceManager.newNamedQuery(applibNamedQuery.getResultType(), applibNamedQuery.getName())
+                    .setNamedParameters(namedParams);
+
+        } else if(query instanceof CriteriaQuery) {
+
+            val criteriaQuery = (CriteriaQuery<?>) query;
+            _Assert.assertTrue(canTranslate(criteriaQuery, List.of()), ()->"criteria query not supported");
+            return newCriteriaQuery(persistenceManager, criteriaQuery);
+        }
+
+        throw _Exceptions.unsupportedOperation("query type %s (%s) not supported by this persistence implementation",
+                query.getClass(),
+                query.getDescription());
+    }
+
+    // -- CRITERIA QUERIES
+
+    /**
+     * Supported, given all referenced (and projected) properties are persistent fields of the entity type.
+     */
+    @Override
+    public boolean canTranslate(final @NonNull CriteriaQuery<?> query, final @NonNull List<String> projectedPropertyNames) {
+        if(!entityClass.isAssignableFrom(query.getResultType())) {
+            return false;
+        }
+        return Stream.concat(
+                    query.streamProperties().map(CriteriaProperty::getName),
+                    projectedPropertyNames.stream())
+                .allMatch(propertyName->persistentField(propertyName).isPresent());
+    }
+
+    @Override
+    public List<Object> projectByQuery(final @NonNull CriteriaQuery<?> query, final @NonNull List<String> propertyNames) {
+
+        _Assert.assertTrue(canTranslate(query, propertyNames), ()->"criteria query not supported");
+        _Assert.assertTrue(!propertyNames.isEmpty(), ()->"no properties to project");
+
+        val range = query.getRange();
+
+        val jdoQuery = newCriteriaQuery(getPersistenceManager(), query);
+        jdoQuery.setResult(String.join(", ", propertyNames));
+
+        if(!range.isUnconstrained()) {
+            jdoQuery.range(range.getStart(), range.getEnd());
+        }
+
+        return getTransactionalProcessor().callWithinCurrentTransactionElseCreateNew(
+                ()->jdoQuery.executeResultList())
+                .ifFailureFail()
+                .getValue()
+                .orElseThrow();
+    }
+
+    private javax.jdo.Query<?> newCriteriaQuery(final PersistenceManager persistenceManager, final CriteriaQuery<?> query) {
+        val jdoQuery = persistenceManager.newQuery(query.getResultType());
+        query.getCriterion()
+            .ifPresent(criterion->{
+                val translator = new CriterionTranslator();
+                jdoQuery.setFilter(criterion.accept(translator));
+                jdoQuery.setNamedParameters(translator.getParameters());
+            });
+        if(!query.getOrderings().isEmpty()) {
+            jdoQuery.setOrdering(query.getOrderings().stream()
+                    .map(ordering->ordering.getProperty().getName()
+                            + (ordering.isAscending()
+                                    ? " ascending"
+                                    : " descending"))
+                    .collect(Collectors.joining(", ")));
+        }
+        return jdoQuery;
+    }
+
+    /**
+     * Translates a {@link Criterion} into a JDOQL filter, collecting its (named) parameters.
+     */
+    private static final class CriterionTranslator implements Criterion.Visitor<String> {
+
+        @Getter private final Map<String, Object> parameters = _Maps.newHashMap();
+
+        @Override
+        public String visit(final Criterion.Comparison<?> comparison) {
+            return comparison.getProperty().getName()
+                    + " " + operator(comparison.getOperator()) + " "
+                    + parameter(comparison.getValue());
+        }
+
+        @Override
+        public String visit(final Criterion.In<?> in) {
+            return in.getValues().isEmpty()
+                    ? "false"
+                    : parameter(in.getValues()) + ".contains(" + in.getProperty().getName() + ")";
+        }
+
+        @Override
+        public String visit(final Criterion.Like<?> like) {
+            return like.isIgnoreCase()
+                    ? like.getProperty().getName() + ".toLowerCase().matches(" + parameter(like.toRegex().toLowerCase()) + ")"
+                    : like.getProperty().getName() + ".matches(" + parameter(like.toRegex()) + ")";
+        }
+
+        @Override
+        public String visit(final Criterion.IsNull<?> isNull) {
+            return isNull.getProperty().getName()
+                    + (isNull.isNegated()
+                            ? " != null"
+                            : " == null");
+        }
+
+        @Override
+        public String visit(final Criterion.Junction<?> junction) {
+            val isAnd = junction.getKind() == Criterion.Junction.Kind.AND;
+            if(junction.getCriteria().isEmpty()) {
+                return isAnd ? "true" : "false";
+            }
+            return junction.getCriteria().stream()
+                    .map(criterion->criterion.accept(this))
+                    .collect(Collectors.joining(isAnd ? " && " : " || ", "(", ")"));
+        }
+
+        @Override
+        public String visit(final Criterion.Not<?> not) {
+            return "!(" + not.getCriterion().accept(this) + ")";
+        }
+
+        private String parameter(final Object value) {
+            val name = "p" + parameters.size();
+            parameters.put(name, value);
+            return ":" + name;
+        }
+
+        private static String operator(final Criterion.Operator operator) {
+            switch (operator) {
+            case EQ: return "==";
+            case NE: return "!=";
+            case LT: return "<";
+            case LE: return "<=";
+            case GT: return ">";
+            case GE: return ">=";
+            default:
+                throw _Exceptions.unmatchedCase(operator);
+            }
+        }
+
+    }
+
+    // -- QUERY PUSHDOWN
+
+    /**
+     * Supported for {@link AllInstancesQuery}, translatable {@link CriteriaQuery}s
+     * (see {@link #canTranslate(CriteriaQuery, List)}) and {@link NamedQuery}s,
+     * given all search and sort properties are persistent fields of the entity type.
+     * <p>
+     * As the filter of a {@link NamedQuery} cannot be amended, these are not supported
+     * while searching.
+     */
+    @Override
+    public boolean canPushdown(final @NonNull Query<?> query, final @NonNull QueryPushdown pushdown) {
+        if(!entityClass.isAssignableFrom(query.getResultType())) {
+            return false;
+        }
+        if(query instanceof CriteriaQuery) {
+            if(!canTranslate((CriteriaQuery<?>) query, List.of())) {
+                return false;
+            }
+        } else if(query instanceof NamedQuery) {
+            if(pushdown.getSearchArgument().isPresent()) {
+                return false;
+            }
+        } else if(!(query instanceof AllInstancesQuery)) {
+            return false;
+        }
+        return pushdown.getSortProperty()
+                    .map(sortProperty->persistentField(sortProperty).isPresent())
+                    .orElse(true)
+                && (pushdown.getSearchArgument().isEmpty()
+                    || pushdown.getSearchProperties().stream()
+                        .allMatch(searchProperty->persistentField(searchProperty)
+                                .filter(field->String.class.equals(field.getType()))
+                                .isPresent()));
+    }
+
+    /**
+     * Orders by the sort property (if any), then by the criteria query's orderings (if any),
+     * and finally by primary key, such that pages are stable.
+     * Unless sorted by a property, a {@link NamedQuery} keeps its own ordering.
+     */
+    @Override
+    public Can<ManagedObject> fetchByQuery(final @NonNull Query<?> query, final @NonNull QueryPushdown pushdown) {
+
+        _Assert.assertTrue(canPushdown(query, pushdown), ()->"query pushdown not supported");
+
+        if (log.isDebugEnabled()) {
+            log.debug("about to execute Query: {} with pushdown {}", query.getDescription(), pushdown);
+        }
+
+        val range = query.getRange();
+
+        val jdoQuery = newPushdownQuery(query, pushdown);
+        jdoQuery.extension(RDBMSPropertyNames.PROPERTY_RDBMS_QUERY_MULTIVALUED_FETCH, "none");
+        pushdownOrdering(query, pushdown)
+            .ifPresent(jdoQuery::setOrdering);
+
+        if(!range.isUnconstrained()) {
+            jdoQuery.range(range.getStart(), range.getEnd());
+        }
+
+        return fetchWithinTransaction(jdoQuery::executeList);
+    }
+
+    @Override
+    public long countByQuery(final @NonNull Query<?> query, final @NonNull QueryPushdown pushdown) {
+
+        _Assert.assertTrue(canPushdown(query, pushdown), ()->"query pushdown not supported");
+
+        val jdoQuery = newPushdownQuery(query, pushdown);
+        jdoQuery.setOrdering(null);
+        jdoQuery.setResult("count(this)");
+
+        return getTransactionalProcessor().callWithinCurrentTransactionElseCreateNew(
+                ()->jdoQuery.executeResultUnique(Long.class))
+                .ifFailureFail()
+                .getValue()
+                .orElse(0L);
+    }
+
+    /**
+     * The criteria query's criterion (if any) and the search filter (if any), combined.
+     * A {@link NamedQuery} is used as is, as it does not support searching.
+     * <p>
+     * The search filter requires any of the search properties to contain the search argument, ignoring case.
+     * Without any search properties, there is no filter (rather than one that is never satisfied),
+     * same as when filtering in memory.
+     */
+    private javax.jdo.Query<?> newPushdownQuery(final Query<?> query, final QueryPushdown pushdown) {
+        val persistenceManager = getPersistenceManager();
+        if(query instanceof NamedQuery) {
+            return newCursorQuery(persistenceManager, query);
+        }
+        val jdoQuery = persistenceManager.newQuery(query.getResultType());
+        val filters = new ArrayList<String>();
+        val parameters = _Maps.<String, Object>newHashMap();
+        if(query instanceof CriteriaQuery) {
+            ((CriteriaQuery<?>) query).getCriterion()
+                .ifPresent(criterion->{
+                    val translator = new CriterionTranslator();
+                    filters.add("(" + criterion.accept(translator) + ")");
+                    parameters.putAll(translator.getParameters());
+                });
+        }
+        pushdown.getSearchArgument()
+            .filter(__->!pushdown.getSearchProperties().isEmpty())
+            .ifPresent(searchArg->{
+                filters.add(pushdown.getSearchProperties().stream()
+                        .map(searchProperty->String.format(
+                                "(%1$s != null && %1$s.toLowerCase().indexOf(:searchArg) >= 0)", searchProperty))
+                        .collect(Collectors.joining(" || ", "(", ")")));
+                parameters.put("searchArg", searchArg.toLowerCase());
+            });
+        if(!filters.isEmpty()) {
+            jdoQuery.setFilter(String.join(" && ", filters));
+            jdoQuery.setNamedParameters(parameters);
+        }
+        return jdoQuery;
+    }
+
+    private Optional<String> pushdownOrdering(final Query<?> query, final QueryPushdown pushdown) {
+        if(query instanceof NamedQuery
+                && pushdown.getSortProperty().isEmpty()) {
+            return Optional.empty();
+        }
+        val orderings = new ArrayList<String>();
+        pushdown.getSortProperty()
+            .map(sortProperty->ordering(sortProperty, pushdown.isAscending()))
+            .ifPresent(orderings::add);
+        if(query instanceof CriteriaQuery) {
+            ((CriteriaQuery<?>) query).getOrderings().stream()
+                .map(ordering->ordering(ordering.getProperty().getName(), ordering.isAscending()))
+                .forEach(orderings::add);
+        }
+        identityOrderings.get()
+            .forEach(orderings::add);
+        return Optional.of(String.join(", ", orderings));
+    }
+
+    private static String ordering(final String propertyName, final boolean ascending) {
+        return propertyName
+                + (ascending
+                        ? " ascending"
+                        : " descending");
+    }
+
+    // lazily looks up the primary key members (needs a PersistenceManager)
+    private final _Lazy<List<String>> identityOrderings = _Lazy.threadSafe(this::lookupIdentityOrderings);
+
+    /**
+     * Ascending by primary key member(s) when using application identity,
+     * otherwise by datastore identity.
+     */
+    private List<String> lookupIdentityOrderings() {
+        val pmf = (JDOPersistenceManagerFactory) getPersistenceManager().getPersistenceManagerFactory();
+        val typeMetadata = pmf.getMetadata(entityClass.getName());
+        if(typeMetadata==null) {
+            return List.of();
+        }
+        switch (typeMetadata.getIdentityType()) {
+        case APPLICATION:
+            val orderings = new ArrayList<String>();
+            for(Class<?> cls = entityClass; cls!=null && cls!=Object.class; cls = cls.getSuperclass()) {
+                val clsMetadata = pmf.getMetadata(cls.getName());
+                if(clsMetadata==null) {
+                    continue;
+                }
+                Stream.of(clsMetadata.getMembers())
+                    .filter(member->Boolean.TRUE.equals(member.getPrimaryKey()))
+                    .map(member->ordering(member.getName(), true))
+                    .forEach(orderings::add);
+            }
+            return orderings;
+        case DATASTORE:
+            return List.of(ordering("JDOHelper.getObjectId(this)", true));
+        default:
+            return List.of();
+        }
+    }
+
+    private final Map<String, Optional<Field>> persistentFieldsByName = new ConcurrentHashMap<>();
+    private Optional<Field> persistentField(final String fieldName) {
+        return persistentFieldsByName.computeIfAbsent(fieldName, __->{
+            for(Class<?> cls = entityClass; cls!=null && cls!=Object.class; cls = cls.getSuperclass()) {
+                try {
+                    val field = cls.getDeclaredField(fieldName);
+                    return Modifier.isStatic(field.getModifiers())
+                            || Modifier.isTransient(field.getModifiers())
+                            || field.isAnnotationPresent(NotPersistent.class)
+                            ? Optional.empty()
+                            : Optional.of(field);
+                } catch (NoSuchFieldException e) {
+                    // continue with super class
+                }
+            }
+            return Optional.empty();
+        });
+    }
+
     @Override
     public void persist(final Object pojo) {
 
@@ -355,6 +854,13 @@ public EntityState getEntityState(final Object pojo) {
         return DnEntityStateProvider.entityState(pojo);
     }
 
+    @Override
+    public Optional<Object> versionFor(final Object pojo) {
+        return pojo instanceof Persistable
+                ? Optional.ofNullable(JDOHelper.getVersion(pojo))
+                : Optional.empty();
+    }
+
     @Override
     public <T> T detach(final T pojo) {
         return getPersistenceManager().detachCopy(pojo);
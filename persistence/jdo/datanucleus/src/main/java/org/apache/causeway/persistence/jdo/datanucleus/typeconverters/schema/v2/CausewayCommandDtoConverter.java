@@ -21,6 +21,7 @@
 import org.datanucleus.store.types.converters.TypeConverter;
 
 import org.apache.causeway.applib.util.schema.CommandDtoUtils;
+import org.apache.causeway.applib.util.schema.DtoCodecs;
 import org.apache.causeway.schema.cmd.v2.CommandDto;
 
 /**
@@ -37,7 +38,7 @@ public String toDatastoreType(final CommandDto memberValue) {
 
     @Override
     public CommandDto toMemberType(final String datastoreValue) {
-        return CommandDtoUtils.dtoMapper().read(datastoreValue);
+        return DtoCodecs.decode(CommandDto.class, datastoreValue);
     }
 
 }
@@ -0,0 +1,82 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.jdo.datanucleus.typeconverters.schema.v2;
+
+import java.util.function.Function;
+
+import javax.inject.Inject;
+import javax.jdo.AttributeConverter;
+
+import org.apache.causeway.applib.util.schema.DtoCodec;
+import org.apache.causeway.applib.util.schema.DtoCodecs;
+import org.apache.causeway.applib.util.schema.DtoEncoding;
+import org.apache.causeway.commons.internal.base._Lazy;
+import org.apache.causeway.core.config.CausewayConfiguration;
+
+import lombok.NonNull;
+import lombok.val;
+
+/**
+ * Converts DTOs (such as <code>CommandDto</code> or <code>InteractionDto</code>) using the {@link DtoEncoding}
+ * looked up from the injected {@link CausewayConfiguration} (typically that of the extension persisting them),
+ * while reading any encoding.
+ * <p>
+ * Subclasses are referenced per field, using <code>@Convert</code>.
+ * DataNucleus injects into converters, using the bean manager Causeway configures with <code>datanucleus.cdi.bean.manager</code>; if nothing was injected, {@link DtoEncoding#XML} is written.
+ *
+ * @since 2.0 {@index}
+ */
+public abstract class CausewayConfiguredDtoConverter<T>
+implements AttributeConverter<T, String> {
+
+    @Inject private CausewayConfiguration causewayConfiguration;
+
+    private final Class<T> dtoClass;
+    private final Function<CausewayConfiguration, DtoEncoding> encodingLookup;
+
+    protected CausewayConfiguredDtoConverter(
+            final @NonNull Class<T> dtoClass,
+            final @NonNull Function<CausewayConfiguration, DtoEncoding> encodingLookup) {
+        this.dtoClass = dtoClass;
+        this.encodingLookup = encodingLookup;
+    }
+
+    @Override
+    public String convertToDatastore(final T memberValue) {
+        return codec.get().encode(memberValue);
+    }
+
+    @Override
+    public T convertToAttribute(final String datastoreValue) {
+        return codec.get().decode(datastoreValue);
+    }
+
+    // -- HELPER
+
+    // memoized on first use, as field injection happens after construction
+    private final _Lazy<DtoCodec<T>> codec = _Lazy.threadSafe(this::createCodec);
+
+    private DtoCodec<T> createCodec() {
+        val encoding = causewayConfiguration != null
+                ? encodingLookup.apply(causewayConfiguration)
+                : DtoEncoding.XML;
+        return DtoCodecs.codecFor(dtoClass, encoding);
+    }
+
+}
@@ -20,6 +20,7 @@
 
 import org.datanucleus.store.types.converters.TypeConverter;
 
+import org.apache.causeway.applib.util.schema.DtoCodecs;
 import org.apache.causeway.applib.util.schema.InteractionDtoUtils;
 import org.apache.causeway.schema.ixn.v2.InteractionDto;
 
@@ -37,7 +38,7 @@ public String toDatastoreType(final InteractionDto memberValue) {
 
     @Override
     public InteractionDto toMemberType(final String datastoreValue) {
-        return InteractionDtoUtils.dtoMapper().read(datastoreValue);
+        return DtoCodecs.decode(InteractionDto.class, datastoreValue);
     }
 
 }
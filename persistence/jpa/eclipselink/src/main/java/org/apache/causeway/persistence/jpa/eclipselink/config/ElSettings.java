@@ -35,7 +35,7 @@
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.services.inject.ServiceInjector;
 import org.apache.causeway.commons.internal.base._Lazy;
-import org.apache.causeway.persistence.jpa.eclipselink.inject.BeanManagerForEntityListeners;
+import org.apache.causeway.persistence.commons.inject.BeanManagerForServiceInjection;
 
 import lombok.Getter;
 import lombok.Setter;
@@ -74,7 +74,7 @@ protected Map<String, Object> createMap() {
         jpaProps.put(PersistenceUnitProperties.WEAVING, "false");
         //jpaProps.put(PersistenceUnitProperties.LOGGING_LEVEL, SessionLog.FINER_LABEL); //debug logging
         jpaProps.put(PersistenceUnitProperties.DDL_GENERATION, PersistenceUnitProperties.CREATE_OR_EXTEND);
-        jpaProps.put(PersistenceUnitProperties.CDI_BEANMANAGER, new BeanManagerForEntityListeners(serviceInjectorProvider));
+        jpaProps.put(PersistenceUnitProperties.CDI_BEANMANAGER, new BeanManagerForServiceInjection(serviceInjectorProvider));
 
         // potentially overrides defaults from above
         getEclipselink().forEach((k, v)->jpaProps.put("eclipselink." + k, v));
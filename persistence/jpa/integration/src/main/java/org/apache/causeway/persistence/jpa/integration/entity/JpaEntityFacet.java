@@ -18,24 +18,50 @@
  */
 package org.apache.causeway.persistence.jpa.integration.entity;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.inject.Inject;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceException;
 import javax.persistence.PersistenceUnitUtil;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import javax.persistence.metamodel.Attribute;
 import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.IdentifiableType;
+import javax.persistence.metamodel.SingularAttribute;
 
+import org.eclipse.persistence.config.HintValues;
+import org.eclipse.persistence.config.QueryHints;
 import org.eclipse.persistence.exceptions.DescriptorException;
+import org.eclipse.persistence.queries.CursoredStream;
 import org.springframework.data.jpa.repository.JpaContext;
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.applib.query.AllInstancesQuery;
+import org.apache.causeway.applib.query.CriteriaProperty;
+import org.apache.causeway.applib.query.CriteriaQuery;
+import org.apache.causeway.applib.query.Criterion;
 import org.apache.causeway.applib.query.NamedQuery;
 import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.repository.EntityState;
+import org.apache.causeway.applib.services.repository.StreamOptions;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.assertions._Assert;
 import org.apache.causeway.commons.internal.base._Casts;
@@ -44,11 +70,13 @@
 import org.apache.causeway.core.config.beans.PersistenceStack;
 import org.apache.causeway.core.metamodel.facetapi.FacetAbstract;
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityCursorStreams;
 import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.services.idstringifier.IdStringifierLookupService;
 
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 import lombok.val;
 import lombok.extern.log4j.Log4j2;
 
@@ -57,6 +85,12 @@
         extends FacetAbstract
         implements EntityFacet {
 
+    /**
+     * Upper bound for the number of elements of an SQL {@code IN} clause (some dialects limit to 1000).
+     */
+    private static final int MAX_IN_CLAUSE_SIZE = 1000;
+    private static final char LIKE_ESCAPE_CHAR = '\\';
+
     // self managed injections via constructor
     @Inject private JpaContext jpaContext;
     @Inject private IdStringifierLookupService idStringifierLookupService;
@@ -116,12 +150,180 @@ public Optional<Object> fetchByBookmark(final @NonNull Bookmark bookmark) {
         return Optional.ofNullable(entityPojo);
     }
 
+    /**
+     * Fetches entities having a simple primary key with one {@code IN} query per chunk of bookmarks,
+     * otherwise falls back to fetching one bookmark at a time.
+     */
+    @Override
+    public Map<Bookmark, Object> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+
+        val entityType = getJpaEntityType();
+        if(bookmarks.size()<2
+                || !entityType.hasSingleIdAttribute()) {
+            return EntityFacet.super.fetchByBookmarks(bookmarks);
+        }
+
+        log.debug("fetchEntities; bookmarks={}", bookmarks);
+
+        val idAttributeName = entityType.getId(entityType.getIdType().getJavaType()).getName();
+        val entityManager = getEntityManager();
+        val persistenceUnitUtil = getPersistenceUnitUtil(entityManager);
+
+        val bookmarkByPrimaryKey = new HashMap<Object, Bookmark>();
+        bookmarks.forEach(bookmark->
+            bookmarkByPrimaryKey.put(primaryKeyType.destring(bookmark.getIdentifier()), bookmark));
+
+        val entityPojoByBookmark = new HashMap<Bookmark, Object>();
+
+        Can.ofCollection(bookmarkByPrimaryKey.keySet())
+        .partitionInnerBound(MAX_IN_CLAUSE_SIZE)
+        .forEach(primaryKeys->{
+            val cb = entityManager.getCriteriaBuilder();
+            val cr = cb.createQuery(entityClass);
+            val root = cr.from(entityClass);
+            cr.select(_Casts.uncheckedCast(root))
+                .where(root.get(idAttributeName).in(primaryKeys.toList()));
+
+            entityManager.createQuery(cr)
+            .getResultList()
+            .forEach(entityPojo->{
+                val bookmark = bookmarkByPrimaryKey.get(persistenceUnitUtil.getIdentifier(entityPojo));
+                if(bookmark!=null) {
+                    entityPojoByBookmark.put(bookmark, entityPojo);
+                }
+            });
+        });
+
+        return entityPojoByBookmark;
+    }
+
+    /**
+     * Selects just the primary keys of owners and referenced entities, with one (inner) join query
+     * per chunk of owner bookmarks. Supported for single-valued references to entities, where both
+     * have a simple primary key.
+     */
+    @Override
+    public Optional<Map<Bookmark, Bookmark>> fetchReferenceBookmarks(
+            final @NonNull Can<Bookmark> ownerBookmarks,
+            final @NonNull String propertyName) {
+
+        val entityType = getJpaEntityType();
+        val isSingleValuedReference = entityType.getAttributes().stream()
+                .anyMatch(attribute->attribute.getName().equals(propertyName)
+                        && attribute.isAssociation()
+                        && !attribute.isCollection());
+        val targetFacet = getEntitySpecification().getProperty(propertyName)
+                .flatMap(property->property.getElementType().entityFacet())
+                .filter(JpaEntityFacet.class::isInstance)
+                .map(JpaEntityFacet.class::cast)
+                .orElse(null);
+        if(!isSingleValuedReference
+                || targetFacet==null
+                || !entityType.hasSingleIdAttribute()
+                || !targetFacet.getJpaEntityType().hasSingleIdAttribute()) {
+            return Optional.empty();
+        }
+
+        log.debug("fetchReferenceBookmarks; property={}, bookmarks={}", propertyName, ownerBookmarks);
+
+        val targetType = targetFacet.getJpaEntityType();
+        val idAttributeName = entityType.getId(entityType.getIdType().getJavaType()).getName();
+        val targetIdAttributeName = targetType.getId(targetType.getIdType().getJavaType()).getName();
+        val targetLogicalType = targetFacet.getEntitySpecification().getLogicalType();
+        val entityManager = getEntityManager();
+
+        val bookmarkByPrimaryKey = new HashMap<Object, Bookmark>();
+        ownerBookmarks.forEach(bookmark->
+            bookmarkByPrimaryKey.put(primaryKeyType.destring(bookmark.getIdentifier()), bookmark));
+
+        val targetBookmarkByOwnerBookmark = new HashMap<Bookmark, Bookmark>();
+
+        Can.ofCollection(bookmarkByPrimaryKey.keySet())
+        .partitionInnerBound(MAX_IN_CLAUSE_SIZE)
+        .forEach(primaryKeys->{
+            val cb = entityManager.getCriteriaBuilder();
+            val cr = cb.createQuery(Object[].class);
+            val root = cr.from(entityClass);
+            val reference = root.join(propertyName);
+            cr.multiselect(root.get(idAttributeName), reference.get(targetIdAttributeName))
+                .where(root.get(idAttributeName).in(primaryKeys.toList()));
+
+            entityManager.createQuery(cr)
+            .getResultList()
+            .forEach(row->{
+                val ownerBookmark = bookmarkByPrimaryKey.get(row[0]);
+                if(ownerBookmark!=null
+                        && row[1]!=null) {
+                    targetBookmarkByOwnerBookmark.put(ownerBookmark, Bookmark.forLogicalTypeAndIdentifier(
+                            targetLogicalType,
+                            targetFacet.primaryKeyType.enstringWithCast(row[1])));
+                }
+            });
+        });
+
+        return Optional.of(targetBookmarkByOwnerBookmark);
+    }
+
     private Class<?> getPrimaryKeyType() {
         return getJpaEntityType().getIdType().getJavaType();
     }
 
     @Override
     public Can<ManagedObject> fetchByQuery(final Query<?> query) {
+        val typedQuery = createTypedQuery(getEntityManager(), query);
+        val entitySpec = getEntitySpecification();
+        return Can.ofStream(
+                typedQuery.getResultStream()
+                        .map(entity -> ManagedObject.adaptSingular(entitySpec, entity)));
+    }
+
+    /**
+     * Backed by an <i>EclipseLink</i> {@link CursoredStream}, such that results are fetched
+     * from the database one page at a time.
+     * <p>
+     * Unless {@link StreamOptions#isBatching() batching}, entities already consumed are still
+     * referenced by the persistence context, hence for large result sets one should pick
+     * a {@link StreamOptions.BatchPolicy} other than {@code NONE}.
+     */
+    @Override
+    public Stream<ManagedObject> streamByQuery(final @NonNull Query<?> query, final @NonNull StreamOptions options) {
+        val entityManager = getEntityManager();
+        val typedQuery = createTypedQuery(entityManager, query);
+
+        typedQuery.setHint(QueryHints.CURSOR, HintValues.TRUE);
+        if(options.getFetchSize()>0) {
+            typedQuery.setHint(QueryHints.JDBC_FETCH_SIZE, options.getFetchSize());
+            typedQuery.setHint(QueryHints.CURSOR_PAGE_SIZE, options.getFetchSize());
+        }
+
+        val cursor = (CursoredStream) typedQuery.getSingleResult();
+        final Iterator<Object> cursorIterator = _Casts.uncheckedCast(cursor);
+
+        val entitySpec = getEntitySpecification();
+        return EntityCursorStreams.stream(
+                cursorIterator,
+                cursor::close,
+                options,
+                batch->{
+                    switch(options.getBatchPolicy()) {
+                    case FLUSH_AND_CLEAR:
+                        entityManager.flush();
+                        entityManager.clear();
+                        cursor.clear();
+                        return;
+                    case DETACH:
+                        batch.forEach(entityManager::detach);
+                        cursor.clear();
+                        return;
+                    case NONE:
+                    default:
+                        return;
+                    }
+                })
+                .map(entity -> ManagedObject.adaptSingular(entitySpec, entity));
+    }
+
+    private TypedQuery<?> createTypedQuery(final EntityManager entityManager, final Query<?> query) {
 
         val range = query.getRange();
 
@@ -135,8 +337,6 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
                 throw _Exceptions.unexpectedCodeReach();
             }
 
-            val entityManager = getEntityManager();
-
             val cb = entityManager.getCriteriaBuilder();
             val cr = cb.createQuery(entityClass);
 
@@ -151,19 +351,13 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
             if (range.hasLimit()) {
                 typedQuery.setMaxResults(range.getLimitAsInt());
             }
-
-            val entitySpec = getEntitySpecification();
-            return Can.ofStream(
-                    typedQuery.getResultStream()
-                            .map(entity -> ManagedObject.adaptSingular(entitySpec, entity)));
+            return typedQuery;
 
         } else if (query instanceof NamedQuery) {
 
             val applibNamedQuery = (NamedQuery<?>) query;
             val queryResultType = applibNamedQuery.getResultType();
 
-            val entityManager = getEntityManager();
-
             val namedQuery = entityManager
                     .createNamedQuery(applibNamedQuery.getName(), queryResultType);
 
@@ -179,17 +373,358 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
                     .forEach((paramName, paramValue) ->
                             namedQuery.setParameter(paramName, paramValue));
 
-            val entitySpec = getEntitySpecification();
-            return Can.ofStream(
-                    namedQuery.getResultStream()
-                            .map(entity -> ManagedObject.adaptSingular(entitySpec, entity)));
+            return namedQuery;
+
+        } else if (query instanceof CriteriaQuery) {
+
+            val criteriaQuery = (CriteriaQuery<?>) query;
+
+            _Assert.assertTrue(canTranslate(criteriaQuery, List.of()), ()->"criteria query not supported");
+
+            val cb = entityManager.getCriteriaBuilder();
+            val cr = cb.createQuery(entityClass);
+            val root = cr.from(entityClass);
+
+            cr.select(_Casts.uncheckedCast(root));
+            applyCriteria(cb, cr, root, criteriaQuery);
+
+            val typedQuery = entityManager
+                    .createQuery(cr);
 
+            if (range.hasOffset()) {
+                typedQuery.setFirstResult(range.getStartAsInt());
+            }
+            if (range.hasLimit()) {
+                typedQuery.setMaxResults(range.getLimitAsInt());
+            }
+            return typedQuery;
         }
 
         throw _Exceptions.unsupportedOperation(
                 "Support for Query of type %s not implemented.", query.getClass());
     }
 
+    // -- CRITERIA QUERIES
+
+    /**
+     * Supported, given all referenced (and projected) properties
+     * are (singular) attributes of the JPA entity type.
+     */
+    @Override
+    public boolean canTranslate(final @NonNull CriteriaQuery<?> query, final @NonNull List<String> projectedPropertyNames) {
+        if(!entityClass.isAssignableFrom(query.getResultType())
+                || jpaEntityTypeRef.get().isEmpty()) {
+            return false;
+        }
+        val entityType = getJpaEntityType();
+        return Stream.concat(
+                    query.streamProperties().map(CriteriaProperty::getName),
+                    projectedPropertyNames.stream())
+                .allMatch(propertyName->singularAttribute(entityType, propertyName).isPresent());
+    }
+
+    @Override
+    public List<Object> projectByQuery(final @NonNull CriteriaQuery<?> query, final @NonNull List<String> propertyNames) {
+
+        _Assert.assertTrue(canTranslate(query, propertyNames), ()->"criteria query not supported");
+        _Assert.assertTrue(!propertyNames.isEmpty(), ()->"no properties to project");
+
+        val range = query.getRange();
+        val entityManager = getEntityManager();
+
+        val cb = entityManager.getCriteriaBuilder();
+        val cr = cb.createQuery();
+        final Root<?> root = cr.from(entityClass);
+
+        if(propertyNames.size() == 1) {
+            cr.select(root.get(propertyNames.get(0)));
+        } else {
+            cr.multiselect(propertyNames.stream()
+                    .<Selection<?>>map(root::get)
+                    .collect(Collectors.toList()));
+        }
+        applyCriteria(cb, cr, root, query);
+
+        val typedQuery = entityManager
+                .createQuery(cr);
+
+        if (range.hasOffset()) {
+            typedQuery.setFirstResult(range.getStartAsInt());
+        }
+        if (range.hasLimit()) {
+            typedQuery.setMaxResults(range.getLimitAsInt());
+        }
+        return typedQuery.getResultList();
+    }
+
+    private static void applyCriteria(
+            final CriteriaBuilder cb,
+            final javax.persistence.criteria.CriteriaQuery<?> cr,
+            final Root<?> root,
+            final CriteriaQuery<?> query) {
+        query.getCriterion()
+            .map(criterion->criterion.accept(new CriterionTranslator(cb, root)))
+            .ifPresent(cr::where);
+        if(!query.getOrderings().isEmpty()) {
+            cr.orderBy(query.getOrderings().stream()
+                    .map(ordering->{
+                        val path = root.get(ordering.getProperty().getName());
+                        return ordering.isAscending()
+                                ? cb.asc(path)
+                                : cb.desc(path);
+                    })
+                    .collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * Translates a {@link Criterion} into a JPA Criteria {@link Predicate}.
+     */
+    @RequiredArgsConstructor
+    private static final class CriterionTranslator implements Criterion.Visitor<Predicate> {
+
+        private final CriteriaBuilder cb;
+        private final Root<?> root;
+
+        @Override
+        public Predicate visit(final Criterion.Comparison<?> comparison) {
+            final Path<Comparable<Object>> path = root.get(comparison.getProperty().getName());
+            final Comparable<Object> value = _Casts.uncheckedCast(comparison.getValue());
+            switch (comparison.getOperator()) {
+            case EQ:
+                return cb.equal(path, value);
+            case NE:
+                return cb.notEqual(path, value);
+            case LT:
+                return cb.lessThan(path, value);
+            case LE:
+                return cb.lessThanOrEqualTo(path, value);
+            case GT:
+                return cb.greaterThan(path, value);
+            case GE:
+                return cb.greaterThanOrEqualTo(path, value);
+            default:
+                throw _Exceptions.unmatchedCase(comparison.getOperator());
+            }
+        }
+
+        @Override
+        public Predicate visit(final Criterion.In<?> in) {
+            return in.getValues().isEmpty()
+                    ? cb.disjunction()
+                    : root.get(in.getProperty().getName()).in(in.getValues());
+        }
+
+        @Override
+        public Predicate visit(final Criterion.Like<?> like) {
+            final Path<String> path = root.get(like.getProperty().getName());
+            return like.isIgnoreCase()
+                    ? cb.like(cb.lower(path), like.getPattern().toLowerCase())
+                    : cb.like(path, like.getPattern());
+        }
+
+        @Override
+        public Predicate visit(final Criterion.IsNull<?> isNull) {
+            val path = root.get(isNull.getProperty().getName());
+            return isNull.isNegated()
+                    ? cb.isNotNull(path)
+                    : cb.isNull(path);
+        }
+
+        @Override
+        public Predicate visit(final Criterion.Junction<?> junction) {
+            val predicates = junction.getCriteria().stream()
+                    .map(criterion->criterion.accept(this))
+                    .toArray(Predicate[]::new);
+            return junction.getKind() == Criterion.Junction.Kind.AND
+                    ? cb.and(predicates)
+                    : cb.or(predicates);
+        }
+
+        @Override
+        public Predicate visit(final Criterion.Not<?> not) {
+            return cb.not(not.getCriterion().accept(this));
+        }
+
+    }
+
+    // -- QUERY PUSHDOWN
+
+    /**
+     * Supported for {@link AllInstancesQuery} and translatable {@link CriteriaQuery}s
+     * (see {@link #canTranslate(CriteriaQuery, List)}), given all search and sort properties
+     * are (singular) attributes of the JPA entity type.
+     * <p>
+     * Not supported for {@link NamedQuery}s, as JPA provides no means to amend a named query
+     * by a filter, an ordering or a count projection.
+     */
+    @Override
+    public boolean canPushdown(final @NonNull Query<?> query, final @NonNull QueryPushdown pushdown) {
+        if(!entityClass.isAssignableFrom(query.getResultType())
+                || jpaEntityTypeRef.get().isEmpty()) {
+            return false;
+        }
+        if(query instanceof CriteriaQuery) {
+            if(!canTranslate((CriteriaQuery<?>) query, List.of())) {
+                return false;
+            }
+        } else if(!(query instanceof AllInstancesQuery)) {
+            return false;
+        }
+        val entityType = getJpaEntityType();
+        return pushdown.getSortProperty()
+                    .map(sortProperty->singularAttribute(entityType, sortProperty).isPresent())
+                    .orElse(true)
+                && (pushdown.getSearchArgument().isEmpty()
+                    || pushdown.getSearchProperties().stream()
+                        .allMatch(searchProperty->singularAttribute(entityType, searchProperty)
+                                .filter(attr->String.class.equals(attr.getJavaType()))
+                                .isPresent()));
+    }
+
+    /**
+     * Orders by the sort property (if any), then by the criteria query's orderings (if any),
+     * and finally by primary key, such that pages are stable.
+     */
+    @Override
+    public Can<ManagedObject> fetchByQuery(final @NonNull Query<?> query, final @NonNull QueryPushdown pushdown) {
+
+        _Assert.assertTrue(canPushdown(query, pushdown), ()->"query pushdown not supported");
+
+        val range = query.getRange();
+        val entityManager = getEntityManager();
+
+        val cb = entityManager.getCriteriaBuilder();
+        val cr = cb.createQuery(entityClass);
+        val root = cr.from(entityClass);
+
+        cr.select(_Casts.uncheckedCast(root));
+        pushdownPredicate(cb, root, query, pushdown).ifPresent(cr::where);
+        cr.orderBy(pushdownOrders(cb, root, query, pushdown));
+
+        val typedQuery = entityManager
+                .createQuery(cr);
+
+        if (range.hasOffset()) {
+            typedQuery.setFirstResult(range.getStartAsInt());
+        }
+        if (range.hasLimit()) {
+            typedQuery.setMaxResults(range.getLimitAsInt());
+        }
+
+        val entitySpec = getEntitySpecification();
+        return Can.ofStream(
+                typedQuery.getResultStream()
+                        .map(entity -> ManagedObject.adaptSingular(entitySpec, entity)));
+    }
+
+    @Override
+    public long countByQuery(final @NonNull Query<?> query, final @NonNull QueryPushdown pushdown) {
+
+        _Assert.assertTrue(canPushdown(query, pushdown), ()->"query pushdown not supported");
+
+        val entityManager = getEntityManager();
+
+        val cb = entityManager.getCriteriaBuilder();
+        val cr = cb.createQuery(Long.class);
+        val root = cr.from(entityClass);
+
+        cr.select(cb.count(root));
+        pushdownPredicate(cb, root, query, pushdown).ifPresent(cr::where);
+
+        return entityManager.createQuery(cr).getSingleResult();
+    }
+
+    /**
+     * The criteria query's criterion (if any) and the search predicate (if any), combined.
+     */
+    private static Optional<Predicate> pushdownPredicate(
+            final CriteriaBuilder cb,
+            final Root<?> root,
+            final Query<?> query,
+            final QueryPushdown pushdown) {
+        val criterionPredicate = query instanceof CriteriaQuery
+                ? ((CriteriaQuery<?>) query).getCriterion()
+                        .map(criterion->criterion.accept(new CriterionTranslator(cb, root)))
+                : Optional.<Predicate>empty();
+        val searchPredicate = searchPredicate(cb, root, pushdown);
+        return criterionPredicate.isPresent()
+                && searchPredicate.isPresent()
+                ? Optional.of(cb.and(criterionPredicate.get(), searchPredicate.get()))
+                : criterionPredicate.or(()->searchPredicate);
+    }
+
+    private List<Order> pushdownOrders(
+            final CriteriaBuilder cb,
+            final Root<?> root,
+            final Query<?> query,
+            final QueryPushdown pushdown) {
+        val orders = new ArrayList<Order>();
+        pushdown.getSortProperty()
+            .map(sortProperty->pushdown.isAscending()
+                    ? cb.asc(root.get(sortProperty))
+                    : cb.desc(root.get(sortProperty)))
+            .ifPresent(orders::add);
+        if(query instanceof CriteriaQuery) {
+            ((CriteriaQuery<?>) query).getOrderings().stream()
+                .map(ordering->ordering.isAscending()
+                        ? cb.asc(root.get(ordering.getProperty().getName()))
+                        : cb.desc(root.get(ordering.getProperty().getName())))
+                .forEach(orders::add);
+        }
+        idAttributeNames().stream()
+            .map(idAttributeName->cb.asc(root.get(idAttributeName)))
+            .forEach(orders::add);
+        return orders;
+    }
+
+    /**
+     * Names of the primary key attribute(s), either the single id attribute or those of the id class.
+     */
+    private List<String> idAttributeNames() {
+        val entityType = getJpaEntityType();
+        return entityType.hasSingleIdAttribute()
+                ? List.of(entityType.getId(entityType.getIdType().getJavaType()).getName())
+                : entityType.getIdClassAttributes().stream()
+                    .map(Attribute::getName)
+                    .sorted()
+                    .collect(Collectors.toList());
+    }
+
+    /**
+     * Any of the search properties contains the search argument, ignoring case.
+     * <p>
+     * Without any search properties, there is no predicate (rather than one that is never satisfied),
+     * same as when filtering in memory.
+     */
+    private static Optional<Predicate> searchPredicate(
+            final CriteriaBuilder cb,
+            final Root<?> root,
+            final QueryPushdown pushdown) {
+        return pushdown.getSearchArgument()
+                .filter(__->!pushdown.getSearchProperties().isEmpty())
+                .map(searchArg->"%" + escapeLike(searchArg.toLowerCase()) + "%")
+                .map(pattern->cb.or(pushdown.getSearchProperties().stream()
+                        .map(searchProperty->cb.like(cb.lower(root.<String>get(searchProperty)), pattern, LIKE_ESCAPE_CHAR))
+                        .toArray(Predicate[]::new)));
+    }
+
+    private static String escapeLike(final String literal) {
+        return literal
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+    private static Optional<SingularAttribute<?, ?>> singularAttribute(
+            final EntityType<?> entityType,
+            final String attributeName) {
+        return entityType.getSingularAttributes().stream()
+                .filter(attr->attr.getName().equals(attributeName))
+                .<SingularAttribute<?, ?>>map(attr->attr)
+                .findFirst();
+    }
+
     @Override
     public void persist(final Object pojo) {
         if (pojo == null) {
@@ -293,6 +828,16 @@ public EntityState getEntityState(final Object pojo) {
         }
     }
 
+    @Override
+    public Optional<Object> versionFor(final @Nullable Object pojo) {
+        if (pojo == null
+                || !entityClass.isAssignableFrom(pojo.getClass())) {
+            return Optional.empty();
+        }
+        return versionMemberRef.get()
+                .map(versionMember->readMember(versionMember, pojo));
+    }
+
     @Override
     public boolean isProxyEnhancement(final Method method) {
         return false;
@@ -325,6 +870,39 @@ private Optional<EntityType<?>> queryJpaMetamodel() {
                 .findFirst();
     }
 
+    private final _Lazy<Optional<Member>> versionMemberRef = _Lazy.threadSafe(this::queryVersionMember);
+
+    /**
+     * find the field or getter holding the optimistic locking version, if this entity is versioned
+     */
+    private Optional<Member> queryVersionMember() {
+        return jpaEntityTypeRef.get()
+                .filter(IdentifiableType::hasVersionAttribute)
+                .flatMap(entityType->entityType.getSingularAttributes()
+                        .stream()
+                        .filter(SingularAttribute::isVersion)
+                        .map(Attribute::getJavaMember)
+                        .findFirst());
+    }
+
+    private static Object readMember(final Member member, final Object pojo) {
+        try {
+            if (member instanceof Field) {
+                val field = (Field) member;
+                field.setAccessible(true);
+                return field.get(pojo);
+            }
+            if (member instanceof Method) {
+                val method = (Method) member;
+                method.setAccessible(true);
+                return method.invoke(pojo);
+            }
+            return null;
+        } catch (ReflectiveOperationException e) {
+            throw _Exceptions.unrecoverable(e);
+        }
+    }
+
 
 
     // -- DEPENDENCIES
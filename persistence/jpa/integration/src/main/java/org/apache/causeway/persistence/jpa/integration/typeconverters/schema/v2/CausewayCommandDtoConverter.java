@@ -22,6 +22,7 @@
 import javax.persistence.Converter;
 
 import org.apache.causeway.applib.util.schema.CommandDtoUtils;
+import org.apache.causeway.applib.util.schema.DtoCodecs;
 import org.apache.causeway.schema.cmd.v2.CommandDto;
 
 /**
@@ -38,7 +39,7 @@ public String convertToDatabaseColumn(final CommandDto memberValue) {
 
     @Override
     public CommandDto convertToEntityAttribute(final String datastoreValue) {
-        return CommandDtoUtils.dtoMapper().read(datastoreValue);
+        return DtoCodecs.decode(CommandDto.class, datastoreValue);
     }
 
 }
@@ -21,6 +21,7 @@
 import javax.persistence.AttributeConverter;
 import javax.persistence.Converter;
 
+import org.apache.causeway.applib.util.schema.DtoCodecs;
 import org.apache.causeway.applib.util.schema.InteractionDtoUtils;
 import org.apache.causeway.schema.ixn.v2.InteractionDto;
 
@@ -38,7 +39,7 @@ public String convertToDatabaseColumn(final InteractionDto memberValue) {
 
     @Override
     public InteractionDto convertToEntityAttribute(final String datastoreValue) {
-        return InteractionDtoUtils.dtoMapper().read(datastoreValue);
+        return DtoCodecs.decode(InteractionDto.class, datastoreValue);
     }
 
 }
@@ -0,0 +1,118 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testdomain.persistence.jdo;
+
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.services.bookmark.BookmarkService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.config.presets.CausewayPresets;
+import org.apache.causeway.core.metamodel.object.ManagedObjects;
+import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+import org.apache.causeway.testdomain.conf.Configuration_usingJdo;
+import org.apache.causeway.testdomain.jdo.entities.JdoBook;
+import org.apache.causeway.testing.integtestsupport.applib.CausewayIntegrationTestAbstract;
+
+import lombok.val;
+
+/**
+ * Checks that bulk fetching by bookmarks leaves out entities that cannot be found,
+ * rather than failing the whole batch.
+ */
+@SpringBootTest(
+        classes = {
+                Configuration_usingJdo.class,
+        })
+@TestPropertySource(CausewayPresets.UseLog4j2Test)
+@Transactional
+class JdoBulkLoadTest extends CausewayIntegrationTestAbstract {
+
+    @Inject private SpecificationLoader specLoader;
+    @Inject private BookmarkService bookmarkService;
+    @Inject private ObjectManager objectManager;
+
+    @Test
+    void fetchByBookmarks_withOneMissing_shouldLeaveOutOnlyThatOne() {
+
+        // given the bookmarks of all books, and of one that no longer exists
+        val books = repositoryService.allInstances(JdoBook.class);
+        assertTrue(books.size() > 1);
+
+        val removed = repositoryService.persistAndFlush(
+                JdoBook.of("Removed", "A book to be removed.", 1., "Author", "ISBN-R", "Publisher"));
+        val missingBookmark = bookmarkService.bookmarkForElseFail(removed);
+        repositoryService.removeAndFlush(removed);
+
+        val bookmarks = Can.ofCollection(books.stream()
+                    .map(bookmarkService::bookmarkForElseFail)
+                    .collect(Collectors.toList()))
+                .add(missingBookmark);
+
+        // when
+        val entityPojoByBookmark = specLoader.specForTypeElseFail(JdoBook.class).entityFacetElseFail()
+                .fetchByBookmarks(bookmarks);
+
+        // then
+        assertEquals(books.size(), entityPojoByBookmark.size());
+        assertFalse(entityPojoByBookmark.containsKey(missingBookmark));
+        books.forEach(book->
+            assertSame(book, entityPojoByBookmark.get(bookmarkService.bookmarkForElseFail(book))));
+    }
+
+    @Test
+    void loadObjects_withOneMissing_shouldYieldEmptyForThatOne() {
+
+        // given
+        val books = repositoryService.allInstances(JdoBook.class);
+
+        val removed = repositoryService.persistAndFlush(
+                JdoBook.of("Removed", "A book to be removed.", 1., "Author", "ISBN-R", "Publisher"));
+        val missingBookmark = bookmarkService.bookmarkForElseFail(removed);
+        repositoryService.removeAndFlush(removed);
+
+        val bookmarks = Can.of(missingBookmark)
+                .addAll(Can.ofCollection(books.stream()
+                    .map(bookmarkService::bookmarkForElseFail)
+                    .collect(Collectors.toList())));
+
+        // when
+        val objects = objectManager.loadObjects(bookmarks);
+
+        // then - same cardinality and order, with the missing one empty
+        assertEquals(bookmarks.size(), objects.size());
+        assertTrue(ManagedObjects.isNullOrUnspecifiedOrEmpty(objects.getFirstElseFail()));
+        for (int i = 0; i < books.size(); i++) {
+            assertSame(books.get(i), objects.getElseFail(i + 1).getPojo());
+        }
+    }
+
+}
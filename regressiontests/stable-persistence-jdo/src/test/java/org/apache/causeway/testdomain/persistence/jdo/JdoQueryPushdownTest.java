@@ -0,0 +1,285 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testdomain.persistence.jdo;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.lang.Nullable;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.query.CriteriaProperty;
+import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.config.presets.CausewayPresets;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet.QueryPushdown;
+import org.apache.causeway.core.metamodel.interactions.managed.ManagedCollection;
+import org.apache.causeway.core.metamodel.interactions.managed.nonscalar.DataRow;
+import org.apache.causeway.core.metamodel.interactions.managed.nonscalar.DataTableModel;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+import org.apache.causeway.testdomain.conf.Configuration_usingJdo;
+import org.apache.causeway.testdomain.jdo.entities.JdoBook;
+import org.apache.causeway.testdomain.jdo.entities.JdoInventory;
+import org.apache.causeway.testdomain.jdo.entities.JdoProduct;
+import org.apache.causeway.testing.integtestsupport.applib.CausewayIntegrationTestAbstract;
+
+import lombok.val;
+
+/**
+ * Checks that filtering, sorting and paging pushed down to JDO yields the same as when done in memory.
+ */
+@SpringBootTest(
+        classes = {
+                Configuration_usingJdo.class,
+        })
+@TestPropertySource(CausewayPresets.UseLog4j2Test)
+@Transactional
+class JdoQueryPushdownTest extends CausewayIntegrationTestAbstract {
+
+    static final CriteriaProperty<JdoProduct, Double> PRICE = CriteriaProperty.of(JdoProduct.class, "price", Double.class);
+
+    @Inject private SpecificationLoader specLoader;
+
+    static Stream<Arguments> pushdowns() {
+        return Stream.of(
+                // searchArgument, sortProperty, ascending, skip, limit
+                Arguments.of(null, "name", true, 0, 10),
+                Arguments.of(null, "name", false, 1, 1),
+                Arguments.of(" ", "name", true, 0, 2),
+                Arguments.of("the", "name", true, 0, 10),
+                Arguments.of("THE", "name", false, 1, 10),
+                Arguments.of("dune", null, true, 0, 10),
+                Arguments.of("%", "name", true, 0, 10),
+                Arguments.of("e_", "name", true, 0, 10),
+                Arguments.of("no such product", "name", true, 0, 10));
+    }
+
+    @ParameterizedTest
+    @MethodSource("pushdowns")
+    void entityFacet_shouldFetchAndCountSameAsInMemory(
+            final @Nullable String searchArgument,
+            final @Nullable String sortProperty,
+            final boolean ascending,
+            final int skip,
+            final int limit) {
+
+        val entityFacet = entityFacet();
+        val query = Query.allInstances(JdoProduct.class);
+        val pushdown = QueryPushdown.of(Can.of("name", "description"), searchArgument, sortProperty, ascending);
+
+        assertTrue(entityFacet.canPushdown(query, pushdown));
+
+        val expected = filteredAndSortedInMemory(searchArgument, sortProperty, ascending);
+        val expectedPage = expected.stream()
+                .skip(skip)
+                .limit(limit)
+                .map(JdoProduct::getName)
+                .collect(Collectors.toList());
+        val actualPage = entityFacet.fetchByQuery(query.withRange(skip, limit), pushdown).stream()
+                .map(JdoQueryPushdownTest::nameOf)
+                .collect(Collectors.toList());
+
+        assertEquals(expected.size(), entityFacet.countByQuery(query, pushdown));
+        if(sortProperty!=null) {
+            assertEquals(expectedPage, actualPage);
+        } else {
+            assertEquals(Set.copyOf(expectedPage), Set.copyOf(actualPage));
+        }
+    }
+
+    @Test
+    void entityFacet_withoutSearchProperties_shouldNotFilter() {
+
+        val entityFacet = entityFacet();
+        val query = Query.allInstances(JdoProduct.class);
+        val pushdown = QueryPushdown.of(Can.empty(), "dune", null, true);
+        val allCount = repositoryService.allInstances(JdoProduct.class).size();
+
+        assertTrue(allCount > 1);
+        assertEquals(allCount, entityFacet.countByQuery(query, pushdown));
+        assertEquals(allCount, entityFacet.fetchByQuery(query, pushdown).size());
+    }
+
+    @Test
+    void entityFacet_withCriteriaQuery_shouldCombineCriterionWithSearchAndSort() {
+
+        val entityFacet = entityFacet();
+        val query = Query.criteria(JdoProduct.class)
+                .where(PRICE.gt(0.));
+        val pushdown = QueryPushdown.of(Can.of("name", "description"), "the", "name", true);
+
+        assertTrue(entityFacet.canPushdown(query, pushdown));
+
+        val expected = filteredAndSortedInMemory("the", "name", true).stream()
+                .filter(product->product.getPrice() > 0.)
+                .map(JdoProduct::getName)
+                .collect(Collectors.toList());
+
+        assertEquals(expected.size(), entityFacet.countByQuery(query, pushdown));
+        assertEquals(
+                expected,
+                entityFacet.fetchByQuery(query, pushdown).stream()
+                    .map(JdoQueryPushdownTest::nameOf)
+                    .collect(Collectors.toList()));
+    }
+
+    @Test
+    void entityFacet_withoutSortProperty_shouldPageInStableOrder() {
+
+        val entityFacet = entityFacet();
+        val query = Query.allInstances(JdoProduct.class);
+        val pushdown = QueryPushdown.unfiltered();
+        val all = entityFacet.fetchByQuery(query, pushdown).map(ManagedObject::getPojo).toList();
+
+        assertTrue(all.size() > 2);
+
+        // consecutive pages neither overlap nor miss any entities
+        val paged = new ArrayList<Object>();
+        for(int skip = 0; skip < all.size(); skip += 2) {
+            entityFacet.fetchByQuery(query.withRange(skip, 2), pushdown).stream()
+                .map(ManagedObject::getPojo)
+                .forEach(paged::add);
+        }
+        assertEquals(all, paged);
+    }
+
+    @Test
+    void entityFacet_withNamedQuery_shouldSortAndPage() {
+
+        val entityFacet = specLoader.specForTypeElseFail(JdoBook.class).entityFacetElseFail();
+        val query = Query.named(JdoBook.class, "findAffordableBooks")
+                .withParameter("priceUpperBound", 60.);
+        val pushdown = QueryPushdown.of(Can.of("name", "description"), null, "name", false);
+
+        assertTrue(entityFacet.canPushdown(query, pushdown));
+        // the named query's filter cannot be amended
+        assertFalse(entityFacet.canPushdown(query, QueryPushdown.of(Can.of("name", "description"), "dune", null, true)));
+
+        val expected = repositoryService.allInstances(JdoBook.class).stream()
+                .filter(book->book.getPrice() <= 60.)
+                .map(JdoBook::getName)
+                .sorted(Comparator.reverseOrder())
+                .collect(Collectors.toList());
+
+        assertTrue(expected.size() > 1);
+        assertEquals(expected.size(), entityFacet.countByQuery(query, pushdown));
+        assertEquals(
+                expected.subList(1, expected.size()),
+                entityFacet.fetchByQuery(query.withRange(1, expected.size()), pushdown).stream()
+                    .map(JdoQueryPushdownTest::nameOf)
+                    .collect(Collectors.toList()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("pushdowns")
+    void queryBackedTable_shouldYieldSameRowsAsInMemoryTable(
+            final @Nullable String searchArgument,
+            final @Nullable String sortProperty,
+            final boolean ascending,
+            final int skip,
+            final int limit) {
+
+        val inventory = repositoryService.allInstances(JdoInventory.class).get(0);
+        // the inventory holds all products, so its collection and the query have the same elements
+        assertEquals(
+                repositoryService.allInstances(JdoProduct.class).size(),
+                inventory.getProducts().size());
+
+        val products = ManagedCollection
+                .lookupCollection(ManagedObject.adaptSingular(specLoader, inventory), "products", Where.ANYWHERE)
+                .orElseThrow();
+        val inMemoryTable = DataTableModel.forCollection(products);
+        val queryBackedTable = DataTableModel.forQuery(products, Where.ANYWHERE, Query.allInstances(JdoProduct.class));
+        inMemoryTable.getSearchArgument().setValue(searchArgument);
+        queryBackedTable.getSearchArgument().setValue(searchArgument);
+
+        val sortBy = sortProperty!=null
+                ? specLoader.specForTypeElseFail(JdoProduct.class).getPropertyElseFail(sortProperty)
+                : null;
+
+        assertEquals(inMemoryTable.getElementCount(), queryBackedTable.getElementCount());
+        assertEquals(
+                namesOf(inMemoryTable.getDataRowsPage(skip, limit, sortBy, ascending)),
+                namesOf(queryBackedTable.getDataRowsPage(skip, limit, sortBy, ascending)));
+    }
+
+    // -- HELPER
+
+    private EntityFacet entityFacet() {
+        return specLoader.specForTypeElseFail(JdoProduct.class).entityFacetElseFail();
+    }
+
+    /**
+     * Mimics the in-memory filtering of {@link DataTableModel}, as well as sorting by name.
+     */
+    private List<JdoProduct> filteredAndSortedInMemory(
+            final @Nullable String searchArgument,
+            final @Nullable String sortProperty,
+            final boolean ascending) {
+        val needle = searchArgument!=null
+                && !searchArgument.isBlank()
+                ? searchArgument.trim().toLowerCase(Locale.ROOT)
+                : null;
+        val byName = Comparator.comparing(JdoProduct::getName);
+        return repositoryService.allInstances(JdoProduct.class).stream()
+                .filter(product->needle==null
+                        || Stream.of(product.getName(), product.getDescription())
+                            .filter(Objects::nonNull)
+                            .anyMatch(value->value.toLowerCase(Locale.ROOT).contains(needle)))
+                .sorted(sortProperty==null
+                        ? (a, b)->0
+                        : ascending
+                            ? byName
+                            : byName.reversed())
+                .collect(Collectors.toList());
+    }
+
+    private static String nameOf(final ManagedObject product) {
+        return ((JdoProduct)product.getPojo()).getName();
+    }
+
+    private static List<String> namesOf(final Can<DataRow> dataRows) {
+        return dataRows.stream()
+                .map(DataRow::getRowElement)
+                .map(JdoQueryPushdownTest::nameOf)
+                .collect(Collectors.toList());
+    }
+
+}
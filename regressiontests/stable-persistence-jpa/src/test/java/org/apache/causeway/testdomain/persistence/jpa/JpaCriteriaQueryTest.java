@@ -0,0 +1,185 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testdomain.persistence.jpa;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.query.CriteriaProperty;
+import org.apache.causeway.applib.query.CriteriaQuery;
+import org.apache.causeway.applib.query.Criterion;
+import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.core.config.presets.CausewayPresets;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+import org.apache.causeway.testdomain.conf.Configuration_usingJpa;
+import org.apache.causeway.testdomain.jpa.entities.JpaBook;
+import org.apache.causeway.testdomain.jpa.entities.JpaProduct;
+import org.apache.causeway.testing.integtestsupport.applib.CausewayIntegrationTestAbstract;
+
+import lombok.val;
+
+/**
+ * Checks that {@link Criterion}s translated to JPA select the same entities (in the same order)
+ * as when evaluated in memory, including {@code null} property values.
+ */
+@SpringBootTest(
+        classes = {
+                Configuration_usingJpa.class,
+        })
+@TestPropertySource(CausewayPresets.UseLog4j2Test)
+@Transactional
+class JpaCriteriaQueryTest extends CausewayIntegrationTestAbstract {
+
+    static final CriteriaProperty<JpaProduct, String> NAME = CriteriaProperty.of(JpaProduct.class, "name", String.class);
+    static final CriteriaProperty<JpaProduct, String> DESCRIPTION = CriteriaProperty.of(JpaProduct.class, "description", String.class);
+    static final CriteriaProperty<JpaProduct, Double> PRICE = CriteriaProperty.of(JpaProduct.class, "price", Double.class);
+
+    @Inject private SpecificationLoader specLoader;
+
+    @BeforeEach
+    void setUp() {
+        // in addition to the sample books, one without description, to check null semantics
+        repositoryService.persistAndFlush(JpaBook.of("Undescribed", null, 20., "Author", "ISBN-U", "Publisher"));
+    }
+
+    static Stream<Arguments> criteria() {
+        return Stream.of(
+                Arguments.of("eq", NAME.eq("Undescribed")),
+                Arguments.of("ne", DESCRIPTION.ne("A sample book for testing.")),
+                Arguments.of("lt", PRICE.lt(40.)),
+                Arguments.of("ge", PRICE.ge(40.)),
+                Arguments.of("between", PRICE.between(20., 80.)),
+                Arguments.of("in", NAME.in("Undescribed", "no such product")),
+                Arguments.of("empty in", NAME.in(List.of())),
+                Arguments.of("not empty in", Criterion.not(NAME.in(List.of()))),
+                Arguments.of("like", NAME.like("%Book_2")),
+                Arguments.of("like ignoring case", DESCRIPTION.likeIgnoreCase("%SAMPLE%")),
+                Arguments.of("is null", DESCRIPTION.isNull()),
+                Arguments.of("is not null", DESCRIPTION.isNotNull()),
+                Arguments.of("not on null", Criterion.not(DESCRIPTION.eq("A sample book for testing."))),
+                Arguments.of("not in on null", Criterion.not(DESCRIPTION.in("A sample book for testing."))),
+                Arguments.of("all of", Criterion.allOf(PRICE.gt(0.), DESCRIPTION.like("%"))),
+                Arguments.of("any of", Criterion.anyOf(NAME.eq("Undescribed"), DESCRIPTION.like("no such%"))),
+                Arguments.of("not any of on null", Criterion.not(Criterion.anyOf(PRICE.lt(0.), DESCRIPTION.like("%")))));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("criteria")
+    void translatedCriterion_shouldSelectSameAsInMemory(final String displayName, final Criterion<JpaProduct> criterion) {
+
+        val query = Query.criteria(JpaProduct.class)
+                .where(criterion)
+                .orderBy(NAME.asc());
+
+        assertTrue(specLoader.specForTypeElseFail(JpaProduct.class).entityFacetElseFail()
+                .canTranslate(query, List.of()));
+
+        assertEquals(
+                namesOf(inMemory(query)),
+                namesOf(repositoryService.allMatches(query)));
+        assertEquals(
+                namesOf(inMemory(query)),
+                namesOf(repositoryService.allMatches(JpaProduct.class, criterion)).stream()
+                    .sorted()
+                    .collect(Collectors.toList()));
+    }
+
+    @Test
+    void translatedOrdering_shouldSortSameAsInMemory() {
+
+        val query = Query.criteria(JpaProduct.class)
+                .where(PRICE.gt(0.))
+                .orderBy(PRICE.desc())
+                .orderBy(NAME.asc());
+
+        val expected = inMemory(query);
+
+        assertTrue(expected.size() > 2);
+        assertEquals(namesOf(expected), namesOf(repositoryService.allMatches(query)));
+        assertEquals(
+                namesOf(expected).subList(1, 3),
+                namesOf(repositoryService.allMatches(query.withRange(1, 2))));
+    }
+
+    @Test
+    void translatedProjection_shouldSelectSameAsInMemory() {
+
+        val query = Query.criteria(JpaProduct.class)
+                .where(PRICE.le(80.))
+                .orderBy(NAME.desc());
+
+        val expected = inMemory(query);
+
+        assertEquals(
+                namesOf(expected),
+                repositoryService.projectMatches(query, NAME));
+
+        val expectedRows = expected.stream()
+                .map(product->new Object[] {product.getName(), product.getDescription(), product.getPrice()})
+                .collect(Collectors.toList());
+        val actualRows = repositoryService.projectMatches(query, List.of(NAME, DESCRIPTION, PRICE));
+
+        assertEquals(expectedRows.size(), actualRows.size());
+        for(int i = 0; i < expectedRows.size(); i++) {
+            assertArrayEquals(expectedRows.get(i), actualRows.get(i));
+        }
+    }
+
+    // -- HELPER
+
+    /**
+     * Filters and sorts all instances in memory, as {@link Criterion#test(Object)} and
+     * {@link CriteriaQuery.Ordering#toComparator()} do.
+     */
+    private List<JpaProduct> inMemory(final CriteriaQuery<JpaProduct> query) {
+        return repositoryService.allInstances(JpaProduct.class).stream()
+                .filter(product->query.getCriterion()
+                        .map(criterion->criterion.test(product))
+                        .orElse(true))
+                .sorted(query.getOrderings().stream()
+                        .<Comparator<JpaProduct>>map(ordering->ordering.toComparator()::compare)
+                        .reduce((a, b)->a.thenComparing(b))
+                        .orElse((a, b)->0))
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> namesOf(final List<? extends JpaProduct> products) {
+        return products.stream()
+                .map(JpaProduct::getName)
+                .collect(Collectors.toList());
+    }
+
+}
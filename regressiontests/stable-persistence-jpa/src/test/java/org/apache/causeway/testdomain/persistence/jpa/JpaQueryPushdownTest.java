@@ -0,0 +1,307 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testdomain.persistence.jpa;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.lang.Nullable;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.query.CriteriaProperty;
+import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.services.repository.StreamOptions;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.config.presets.CausewayPresets;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet.QueryPushdown;
+import org.apache.causeway.core.metamodel.interactions.managed.ManagedCollection;
+import org.apache.causeway.core.metamodel.interactions.managed.nonscalar.DataRow;
+import org.apache.causeway.core.metamodel.interactions.managed.nonscalar.DataTableModel;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+import org.apache.causeway.testdomain.conf.Configuration_usingJpa;
+import org.apache.causeway.testdomain.jpa.entities.JpaInventory;
+import org.apache.causeway.testdomain.jpa.entities.JpaProduct;
+import org.apache.causeway.testing.integtestsupport.applib.CausewayIntegrationTestAbstract;
+
+import lombok.val;
+
+/**
+ * Checks that filtering, sorting and paging pushed down to JPA yields the same as when done in memory.
+ */
+@SpringBootTest(
+        classes = {
+                Configuration_usingJpa.class,
+        })
+@TestPropertySource(CausewayPresets.UseLog4j2Test)
+@Transactional
+class JpaQueryPushdownTest extends CausewayIntegrationTestAbstract {
+
+    static final CriteriaProperty<JpaProduct, Double> PRICE = CriteriaProperty.of(JpaProduct.class, "price", Double.class);
+
+    @Inject private SpecificationLoader specLoader;
+
+    static Stream<Arguments> pushdowns() {
+        return Stream.of(
+                // searchArgument, sortProperty, ascending, skip, limit
+                Arguments.of(null, "name", true, 0, 10),
+                Arguments.of(null, "name", false, 1, 1),
+                Arguments.of(" ", "name", true, 0, 2),
+                Arguments.of("the", "name", true, 0, 10),
+                Arguments.of("THE", "name", false, 1, 10),
+                Arguments.of("dune", null, true, 0, 10),
+                Arguments.of("%", "name", true, 0, 10),
+                Arguments.of("e_", "name", true, 0, 10),
+                Arguments.of("no such product", "name", true, 0, 10));
+    }
+
+    @ParameterizedTest
+    @MethodSource("pushdowns")
+    void entityFacet_shouldFetchAndCountSameAsInMemory(
+            final @Nullable String searchArgument,
+            final @Nullable String sortProperty,
+            final boolean ascending,
+            final int skip,
+            final int limit) {
+
+        val entityFacet = entityFacet();
+        val query = Query.allInstances(JpaProduct.class);
+        val pushdown = QueryPushdown.of(Can.of("name", "description"), searchArgument, sortProperty, ascending);
+
+        assertTrue(entityFacet.canPushdown(query, pushdown));
+
+        val expected = filteredAndSortedInMemory(searchArgument, sortProperty, ascending);
+        val expectedPage = expected.stream()
+                .skip(skip)
+                .limit(limit)
+                .map(JpaProduct::getName)
+                .collect(Collectors.toList());
+        val actualPage = entityFacet.fetchByQuery(query.withRange(skip, limit), pushdown).stream()
+                .map(JpaQueryPushdownTest::nameOf)
+                .collect(Collectors.toList());
+
+        assertEquals(expected.size(), entityFacet.countByQuery(query, pushdown));
+        if(sortProperty!=null) {
+            assertEquals(expectedPage, actualPage);
+        } else {
+            assertEquals(Set.copyOf(expectedPage), Set.copyOf(actualPage));
+        }
+    }
+
+    @Test
+    void entityFacet_withoutSearchProperties_shouldNotFilter() {
+
+        val entityFacet = entityFacet();
+        val query = Query.allInstances(JpaProduct.class);
+        val pushdown = QueryPushdown.of(Can.empty(), "dune", null, true);
+        val allCount = repositoryService.allInstances(JpaProduct.class).size();
+
+        assertTrue(allCount > 1);
+        assertEquals(allCount, entityFacet.countByQuery(query, pushdown));
+        assertEquals(allCount, entityFacet.fetchByQuery(query, pushdown).size());
+    }
+
+    @Test
+    void entityFacet_withCriteriaQuery_shouldCombineCriterionWithSearchAndSort() {
+
+        val entityFacet = entityFacet();
+        val query = Query.criteria(JpaProduct.class)
+                .where(PRICE.gt(0.));
+        val pushdown = QueryPushdown.of(Can.of("name", "description"), "the", "name", true);
+
+        assertTrue(entityFacet.canPushdown(query, pushdown));
+
+        val expected = filteredAndSortedInMemory("the", "name", true).stream()
+                .filter(product->product.getPrice() > 0.)
+                .map(JpaProduct::getName)
+                .collect(Collectors.toList());
+
+        assertEquals(expected.size(), entityFacet.countByQuery(query, pushdown));
+        assertEquals(
+                expected,
+                entityFacet.fetchByQuery(query, pushdown).stream()
+                    .map(JpaQueryPushdownTest::nameOf)
+                    .collect(Collectors.toList()));
+    }
+
+    @Test
+    void entityFacet_withoutSortProperty_shouldPageInStableOrder() {
+
+        val entityFacet = entityFacet();
+        val query = Query.allInstances(JpaProduct.class);
+        val pushdown = QueryPushdown.unfiltered();
+        val all = entityFacet.fetchByQuery(query, pushdown).map(ManagedObject::getPojo).toList();
+
+        assertTrue(all.size() > 2);
+
+        // consecutive pages neither overlap nor miss any entities
+        val paged = new ArrayList<Object>();
+        for(int skip = 0; skip < all.size(); skip += 2) {
+            entityFacet.fetchByQuery(query.withRange(skip, 2), pushdown).stream()
+                .map(ManagedObject::getPojo)
+                .forEach(paged::add);
+        }
+        assertEquals(all, paged);
+    }
+
+    @ParameterizedTest
+    @MethodSource("pushdowns")
+    void queryBackedTable_shouldYieldSameRowsAsInMemoryTable(
+            final @Nullable String searchArgument,
+            final @Nullable String sortProperty,
+            final boolean ascending,
+            final int skip,
+            final int limit) {
+
+        val inventory = repositoryService.allInstances(JpaInventory.class).get(0);
+        // the inventory holds all products, so its collection and the query have the same elements
+        assertEquals(
+                repositoryService.allInstances(JpaProduct.class).size(),
+                inventory.getProducts().size());
+
+        val products = ManagedCollection
+                .lookupCollection(ManagedObject.adaptSingular(specLoader, inventory), "products", Where.ANYWHERE)
+                .orElseThrow();
+        val inMemoryTable = DataTableModel.forCollection(products);
+        val queryBackedTable = DataTableModel.forQuery(products, Where.ANYWHERE, Query.allInstances(JpaProduct.class));
+        inMemoryTable.getSearchArgument().setValue(searchArgument);
+        queryBackedTable.getSearchArgument().setValue(searchArgument);
+
+        val sortBy = sortProperty!=null
+                ? specLoader.specForTypeElseFail(JpaProduct.class).getPropertyElseFail(sortProperty)
+                : null;
+
+        assertEquals(inMemoryTable.getElementCount(), queryBackedTable.getElementCount());
+        assertEquals(
+                namesOf(inMemoryTable.getDataRowsPage(skip, limit, sortBy, ascending)),
+                namesOf(queryBackedTable.getDataRowsPage(skip, limit, sortBy, ascending)));
+    }
+
+    @Test
+    void queryBackedTable_shouldRetainOnlyCurrentPageAndSelectedRows() {
+
+        val inventory = repositoryService.allInstances(JpaInventory.class).get(0);
+        val products = ManagedCollection
+                .lookupCollection(ManagedObject.adaptSingular(specLoader, inventory), "products", Where.ANYWHERE)
+                .orElseThrow();
+        val queryBackedTable = DataTableModel.forQuery(products, Where.ANYWHERE, Query.allInstances(JpaProduct.class));
+        val sortBy = specLoader.specForTypeElseFail(JpaProduct.class).getPropertyElseFail("name");
+
+        val firstPage = queryBackedTable.getDataRowsPage(0, 2, sortBy, true);
+        firstPage.getFirstElseFail().getSelectToggle().setValue(true);
+        val secondPage = queryBackedTable.getDataRowsPage(2, 2, sortBy, true);
+
+        assertEquals(2, firstPage.size());
+        assertTrue(secondPage.size() > 0);
+        // selected rows are retained, unselected rows of other pages are released
+        assertTrue(queryBackedTable.lookupDataRow(firstPage.getFirstElseFail().getUuid()).isPresent());
+        assertTrue(queryBackedTable.lookupDataRow(firstPage.getElseFail(1).getUuid()).isEmpty());
+        assertTrue(queryBackedTable.lookupDataRow(secondPage.getFirstElseFail().getUuid()).isPresent());
+        assertEquals(1, queryBackedTable.getDataRowsSelected().getValue().size());
+    }
+
+    @Test
+    void queryBackedTable_shouldStreamSameElementsAsFilteredRows() {
+
+        val inventory = repositoryService.allInstances(JpaInventory.class).get(0);
+        val products = ManagedCollection
+                .lookupCollection(ManagedObject.adaptSingular(specLoader, inventory), "products", Where.ANYWHERE)
+                .orElseThrow();
+        val inMemoryTable = DataTableModel.forCollection(products);
+        val queryBackedTable = DataTableModel.forQuery(products, Where.ANYWHERE, Query.allInstances(JpaProduct.class));
+        inMemoryTable.getSearchArgument().setValue("the");
+        queryBackedTable.getSearchArgument().setValue("the");
+
+        final List<String> streamedNames;
+        try(val elements = queryBackedTable.streamDataElementsFiltered(StreamOptions.detachEvery(2))) {
+            streamedNames = elements
+                    .map(JpaQueryPushdownTest::nameOf)
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+
+        assertEquals(
+                namesOf(inMemoryTable.getDataRowsFiltered().getValue()).stream()
+                    .sorted()
+                    .collect(Collectors.toList()),
+                streamedNames);
+    }
+
+    // -- HELPER
+
+    private EntityFacet entityFacet() {
+        return specLoader.specForTypeElseFail(JpaProduct.class).entityFacetElseFail();
+    }
+
+    /**
+     * Mimics the in-memory filtering of {@link DataTableModel}, as well as sorting by name.
+     */
+    private List<JpaProduct> filteredAndSortedInMemory(
+            final @Nullable String searchArgument,
+            final @Nullable String sortProperty,
+            final boolean ascending) {
+        val needle = searchArgument!=null
+                && !searchArgument.isBlank()
+                ? searchArgument.trim().toLowerCase(Locale.ROOT)
+                : null;
+        val byName = Comparator.comparing(JpaProduct::getName);
+        return repositoryService.allInstances(JpaProduct.class).stream()
+                .filter(product->needle==null
+                        || Stream.of(product.getName(), product.getDescription())
+                            .filter(Objects::nonNull)
+                            .anyMatch(value->value.toLowerCase(Locale.ROOT).contains(needle)))
+                .sorted(sortProperty==null
+                        ? (a, b)->0
+                        : ascending
+                            ? byName
+                            : byName.reversed())
+                .collect(Collectors.toList());
+    }
+
+    private static String nameOf(final ManagedObject product) {
+        return ((JpaProduct)product.getPojo()).getName();
+    }
+
+    private static List<String> namesOf(final Can<DataRow> dataRows) {
+        return dataRows.stream()
+                .map(DataRow::getRowElement)
+                .map(JpaQueryPushdownTest::nameOf)
+                .collect(Collectors.toList());
+    }
+
+}
@@ -33,6 +33,7 @@
 import org.apache.causeway.viewer.restfulobjects.rendering.domainobjects.DomainObjectReprRenderer;
 import org.apache.causeway.viewer.restfulobjects.rendering.domainobjects.ObjectAdapterLinkTo;
 import org.apache.causeway.viewer.restfulobjects.rendering.service.RepresentationService;
+import org.apache.causeway.viewer.restfulobjects.rendering.util.Paging;
 
 /**
  * Provides access to request-specific context (eg HTTP headers),
@@ -74,6 +75,14 @@ public interface IResourceContext extends HasMetaModelContext {
     List<List<String>> getFollowLinks();
     boolean isValidateOnly();
 
+    /**
+     * Optionally the page of list or collection elements to render,
+     * based on whether the client requested paging.
+     */
+    default Optional<Paging> getPaging() {
+        return Optional.empty();
+    }
+
     default Restfulobjects config() {
         return getMetaModelContext().getConfiguration().getViewer().getRestfulobjects();
     }
@@ -25,11 +25,13 @@
 
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import org.apache.causeway.applib.services.clock.ClockService;
 import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
 import org.apache.causeway.viewer.restfulobjects.applib.RestfulResponse;
 import org.apache.causeway.viewer.restfulobjects.applib.util.JsonMapper;
+import org.apache.causeway.viewer.restfulobjects.rendering.util.DeferredJsonArray;
 import org.apache.causeway.viewer.restfulobjects.rendering.util.JsonWriterUtil;
 
 import lombok.val;
@@ -81,11 +83,36 @@ public static Response.ResponseBuilder ofOk(
                 .header("Date", dateFormat.format(now))
                 .type(mediaType)
                 .cacheControl(caching.getCacheControl())
-                .entity(JsonWriterUtil.jsonFor(entityRepresentation, inferPrettyPrinting(renderer)));
+                .entity(isStreaming(renderer, entityRepresentation)
+                        ? streamingEntity(entityRepresentation, inferPrettyPrinting(renderer))
+                        : JsonWriterUtil.jsonFor(entityRepresentation, inferPrettyPrinting(renderer)));
 
         return response;
     }
 
+    /**
+     * Only responses that actually contain a deferred array are streamed, all others are written
+     * up front, such that their content is known (eg. for content based <code>ETag</code>s).
+     */
+    private static boolean isStreaming(
+            final ReprRenderer<?> renderer,
+            final JsonRepresentation entityRepresentation) {
+        return renderer instanceof ReprRendererAbstract
+                && ((ReprRendererAbstract<?>) renderer).getResourceContext().config().isStreamCollections()
+                && DeferredJsonArray.isContainedIn(entityRepresentation);
+    }
+
+    /**
+     * Any {@link DeferredJsonArray}s
+     * contained in given representation are rendered while being written.
+     */
+    private static StreamingOutput streamingEntity(
+            final JsonRepresentation entityRepresentation,
+            final JsonMapper.PrettyPrinting prettyPrinting) {
+        return outputStream->
+            JsonMapper.instance(prettyPrinting).write(entityRepresentation, outputStream);
+    }
+
     private static Date now(final ReprRenderer<?> renderer) {
         if(renderer instanceof ReprRendererAbstract) {
             ((ReprRendererAbstract<?>)renderer).getResourceContext().getMetaModelContext().getServiceRegistry()
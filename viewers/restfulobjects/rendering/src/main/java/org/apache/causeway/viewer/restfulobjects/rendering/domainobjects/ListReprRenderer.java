@@ -23,6 +23,7 @@
 import java.util.stream.Stream;
 
 import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.object.MmEntityUtil;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
 import org.apache.causeway.viewer.restfulobjects.applib.Rel;
@@ -30,6 +31,9 @@
 import org.apache.causeway.viewer.restfulobjects.rendering.IResourceContext;
 import org.apache.causeway.viewer.restfulobjects.rendering.LinkFollowSpecs;
 import org.apache.causeway.viewer.restfulobjects.rendering.ReprRendererAbstract;
+import org.apache.causeway.viewer.restfulobjects.rendering.util.DeferredJsonArray;
+
+import lombok.val;
 
 public class ListReprRenderer
 extends ReprRendererAbstract<Stream<ManagedObject>> {
@@ -60,7 +64,7 @@ public ListReprRenderer with(final Stream<ManagedObject> objectAdapters) {
                         .filter(adapter->!adapter.getSpecification().isHidden())
                         .collect(Collectors.toList())
                         : null;
-                        return this;
+        return this;
     }
 
     public ListReprRenderer withElementRel(final Rel elementRel) {
@@ -100,26 +104,40 @@ private void addValue() {
             return;
         }
 
-        final JsonRepresentation values = JsonRepresentation.newArray();
-
-        objectAdapters
-        .forEach(adapter->{
-            final JsonRepresentation linkToObject = linkTo.with(adapter).builder(elementRel).build();
-            values.arrayAdd(linkToObject);
-
-            final LinkFollowSpecs linkFollower = getLinkFollowSpecs().follow("value");
-            if (linkFollower.matches(linkToObject)) {
-                final DomainObjectReprRenderer renderer =
-                        new DomainObjectReprRenderer(
-                                getResourceContext(),
-                                linkFollower,
-                                JsonRepresentation.newMap());
-                final JsonRepresentation domainObject = renderer.with(adapter).render();
-                linkToObject.mapPutJsonRepresentation("value", domainObject);
-            }
-        });
-
-        representation.mapPutJsonRepresentation("value", values);
+        val paging = resourceContext.getPaging();
+        val pageOfAdapters = paging
+                .map(page->page.page(objectAdapters))
+                .orElse(objectAdapters);
+
+        // only the page being rendered, one round-trip per entity type, rather than per element
+        MmEntityUtil.refetchDetached(pageOfAdapters);
+
+        if(resourceContext.config().isStreamCollections()) {
+            representation.mapPut("value", DeferredJsonArray.of(pageOfAdapters, this::renderElement));
+        } else {
+            final JsonRepresentation values = JsonRepresentation.newArray();
+            pageOfAdapters.forEach(adapter->values.arrayAdd(renderElement(adapter)));
+            representation.mapPutJsonRepresentation("value", values);
+        }
+
+        paging.ifPresent(page->
+            representation.mapPutJsonRepresentation("pagination", page.asJsonRepresentation(objectAdapters.size())));
+    }
+
+    private JsonRepresentation renderElement(final ManagedObject adapter) {
+        final JsonRepresentation linkToObject = linkTo.with(adapter).builder(elementRel).build();
+
+        final LinkFollowSpecs linkFollower = getLinkFollowSpecs().follow("value");
+        if (linkFollower.matches(linkToObject)) {
+            final DomainObjectReprRenderer renderer =
+                    new DomainObjectReprRenderer(
+                            getResourceContext(),
+                            linkFollower,
+                            JsonRepresentation.newMap());
+            final JsonRepresentation domainObject = renderer.with(adapter).render();
+            linkToObject.mapPutJsonRepresentation("value", domainObject);
+        }
+        return linkToObject;
     }
 
 
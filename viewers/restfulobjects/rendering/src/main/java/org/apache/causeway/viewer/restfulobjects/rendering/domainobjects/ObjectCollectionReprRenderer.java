@@ -19,11 +19,15 @@
 package org.apache.causeway.viewer.restfulobjects.rendering.domainobjects;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.apache.causeway.applib.annotation.Where;
 import org.apache.causeway.commons.internal.collections._Lists;
 import org.apache.causeway.core.metamodel.facets.collections.CollectionFacet;
 import org.apache.causeway.core.metamodel.interactions.managed.ManagedCollection;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.object.ManagedObjects;
 import org.apache.causeway.core.metamodel.spec.feature.OneToManyAssociation;
 import org.apache.causeway.core.metamodel.util.Facets;
@@ -34,6 +38,8 @@
 import org.apache.causeway.viewer.restfulobjects.rendering.LinkBuilder;
 import org.apache.causeway.viewer.restfulobjects.rendering.LinkFollowSpecs;
 import org.apache.causeway.viewer.restfulobjects.rendering.domaintypes.CollectionDescriptionReprRenderer;
+import org.apache.causeway.viewer.restfulobjects.rendering.util.DeferredJsonArray;
+import org.apache.causeway.viewer.restfulobjects.rendering.util.Paging;
 
 import lombok.val;
 
@@ -102,10 +108,17 @@ private void addValue(final LinkFollowSpecs linkFollower) {
                         && Facets.defaultViewIsTable(objectMember)
                         && resourceContext.canEagerlyRender(valueAdapter));
 
-        final List<JsonRepresentation> list = _Lists.newArrayList();
-
-        CollectionFacet.streamAdapters(valueAdapter)
-        .forEach(elementAdapter->{
+        // paging applies to the standalone collection resource only, not to collections rendered inline
+        val paging = mode.isStandalone()
+                ? resourceContext.getPaging()
+                : Optional.<Paging>empty();
+        // adapts only the elements on the page
+        final List<ManagedObject> pageOfElementAdapters = paging
+                .map(page->page.page(CollectionFacet.streamAdapters(valueAdapter)))
+                .orElseGet(()->CollectionFacet.streamAdapters(valueAdapter)
+                        .collect(Collectors.toList()));
+
+        final Function<ManagedObject, JsonRepresentation> elementRenderer = elementAdapter->{
             final LinkBuilder valueLinkBuilder = DomainObjectReprRenderer
                     .newLinkToBuilder(resourceContext, Rel.VALUE, elementAdapter);
             if(eagerlyRender) {
@@ -119,10 +132,20 @@ private void addValue(final LinkFollowSpecs linkFollower) {
                 valueLinkBuilder.withValue(domainObjectReprRenderer.render());
             }
 
-            list.add(valueLinkBuilder.build());
-        });
+            return valueLinkBuilder.build();
+        };
+
+        if(resourceContext.config().isStreamCollections()
+                && !mode.isEventSerialization()) {
+            representation.mapPut("value", DeferredJsonArray.of(pageOfElementAdapters, elementRenderer));
+        } else {
+            final List<JsonRepresentation> list = _Lists.newArrayList();
+            pageOfElementAdapters.forEach(elementAdapter->list.add(elementRenderer.apply(elementAdapter)));
+            representation.mapPut("value", list);
+        }
 
-        representation.mapPut("value", list);
+        paging.ifPresent(page->
+            representation.mapPutJsonRepresentation("pagination", page.asJsonRepresentation(CollectionFacet.elementCount(valueAdapter))));
     }
 
 
@@ -0,0 +1,89 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.rendering.util;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.node.POJONode;
+
+import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * A JSON array, whose elements are only rendered while it is being serialized,
+ * one at a time, such that the representation of any element can be garbage collected
+ * once written.
+ * <p>
+ * To be put into a {@link JsonRepresentation} map using {@link JsonRepresentation#mapPut(String, Object)}.
+ */
+@RequiredArgsConstructor(staticName = "of")
+public class DeferredJsonArray<T> implements JsonSerializable {
+
+    private final @NonNull List<T> elements;
+    private final @NonNull Function<T, JsonRepresentation> elementRenderer;
+
+    /**
+     * Whether given representation contains any {@link DeferredJsonArray}, at any depth,
+     * that is, whether it has to be streamed, rather than written up front.
+     */
+    public static boolean isContainedIn(final @NonNull JsonRepresentation representation) {
+        return isContainedIn(representation.asJsonNode());
+    }
+
+    private static boolean isContainedIn(final JsonNode node) {
+        if(node instanceof POJONode) {
+            return ((POJONode) node).getPojo() instanceof DeferredJsonArray;
+        }
+        if(node.isContainerNode()) {
+            for (JsonNode child : node) {
+                if(isContainedIn(child)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void serialize(final JsonGenerator gen, final SerializerProvider serializers) throws IOException {
+        gen.writeStartArray(elements, elements.size());
+        for (T element : elements) {
+            gen.writeTree(elementRenderer.apply(element).asJsonNode());
+        }
+        gen.writeEndArray();
+    }
+
+    @Override
+    public void serializeWithType(
+            final JsonGenerator gen,
+            final SerializerProvider serializers,
+            final TypeSerializer typeSer) throws IOException {
+        serialize(gen, serializers);
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.rendering.util;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.causeway.viewer.restfulobjects.applib.RestfulRequest.RequestParameter;
+
+import lombok.experimental.Accessors;
+
+/**
+ * A single page of the elements of a list or collection value,
+ * as requested by means of the {@link RequestParameter#PAGE x-ro-page}
+ * and {@link RequestParameter#PAGE_SIZE x-ro-page-size} query parameters.
+ */
+@lombok.Value(staticConstructor = "of")
+@Accessors(fluent=true) //XXX record candidate
+public class Paging {
+
+    /**
+     * 1-based
+     */
+    private final int page;
+    private final int pageSize;
+
+    /**
+     * The elements of given list, that are on this page.
+     */
+    public <T> List<T> page(final List<T> elements) {
+        final long offset = (long)(page - 1) * pageSize;
+        if(offset >= elements.size()) {
+            return List.of();
+        }
+        final int fromIndex = (int) offset;
+        return elements.subList(fromIndex, Math.min(elements.size(), fromIndex + pageSize));
+    }
+
+    /**
+     * The elements of given stream, that are on this page,
+     * without collecting any of the elements before or after it.
+     */
+    public <T> List<T> page(final Stream<T> elements) {
+        return elements
+                .skip((long)(page - 1) * pageSize)
+                .limit(pageSize)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * The <code>pagination</code> representation, for given total number of elements.
+     */
+    public JsonRepresentation asJsonRepresentation(final int totalCount) {
+        final int numPages = (totalCount + pageSize - 1) / pageSize;
+        return JsonRepresentation.newMap()
+                .mapPutInt("page", page)
+                .mapPutInt("pageSize", pageSize)
+                .mapPutInt("numPages", numPages)
+                .mapPutInt("totalCount", totalCount);
+    }
+
+}
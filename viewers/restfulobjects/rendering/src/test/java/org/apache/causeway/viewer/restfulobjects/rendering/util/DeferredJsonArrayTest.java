@@ -0,0 +1,82 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.rendering.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.causeway.viewer.restfulobjects.applib.util.JsonMapper;
+
+import lombok.val;
+
+class DeferredJsonArrayTest {
+
+    @Test
+    void whenStreamed_shouldProduceSameJsonAsEagerlyRendered() throws Exception {
+        val elements = List.of("a", "b", "c");
+
+        val eager = JsonRepresentation.newMap();
+        val values = JsonRepresentation.newArray();
+        elements.forEach(element->values.arrayAdd(render(element)));
+        eager.mapPutJsonRepresentation("value", values);
+        eager.mapPutString("memberType", "collection");
+
+        val deferred = JsonRepresentation.newMap();
+        deferred.mapPut("value", DeferredJsonArray.of(elements, DeferredJsonArrayTest::render));
+        deferred.mapPutString("memberType", "collection");
+
+        for(val prettyPrinting : JsonMapper.PrettyPrinting.values()) {
+            val jsonMapper = JsonMapper.instance(prettyPrinting);
+            val out = new ByteArrayOutputStream();
+            jsonMapper.write(deferred, out);
+
+            assertEquals(jsonMapper.write(eager), out.toString(StandardCharsets.UTF_8));
+            assertEquals(jsonMapper.write(eager), jsonMapper.write(deferred));
+        }
+    }
+
+    @Test
+    void isContainedIn_shouldFindDeferredArraysAtAnyDepth() {
+        val eager = JsonRepresentation.newMap();
+        eager.mapPutString("memberType", "collection");
+        eager.mapPutJsonRepresentation("value", JsonRepresentation.newArray());
+        assertFalse(DeferredJsonArray.isContainedIn(eager));
+
+        val nested = JsonRepresentation.newMap();
+        nested.mapPut("value", DeferredJsonArray.of(List.of("a"), DeferredJsonArrayTest::render));
+        val root = JsonRepresentation.newMap();
+        root.mapPutJsonRepresentation("result", nested);
+        assertTrue(DeferredJsonArray.isContainedIn(root));
+    }
+
+    private static JsonRepresentation render(final String element) {
+        return JsonRepresentation.newMap()
+                .mapPutString("rel", "urn:org.restfulobjects:rels/value")
+                .mapPutString("title", element);
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.rendering.util;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import lombok.val;
+
+class PagingTest {
+
+    private final List<Integer> elements = List.of(1, 2, 3, 4, 5, 6, 7);
+
+    @Test
+    void page() {
+        assertEquals(List.of(1, 2, 3), Paging.of(1, 3).page(elements));
+        assertEquals(List.of(4, 5, 6), Paging.of(2, 3).page(elements));
+        assertEquals(List.of(7), Paging.of(3, 3).page(elements));
+        assertEquals(List.of(), Paging.of(4, 3).page(elements));
+        assertEquals(List.of(), Paging.of(Integer.MAX_VALUE, Integer.MAX_VALUE).page(elements));
+    }
+
+    @Test
+    void pageOfStream() {
+        assertEquals(List.of(1, 2, 3), Paging.of(1, 3).page(elements.stream()));
+        assertEquals(List.of(4, 5, 6), Paging.of(2, 3).page(elements.stream()));
+        assertEquals(List.of(7), Paging.of(3, 3).page(elements.stream()));
+        assertEquals(List.of(), Paging.of(4, 3).page(elements.stream()));
+        assertEquals(List.of(), Paging.of(Integer.MAX_VALUE, Integer.MAX_VALUE).page(elements.stream()));
+    }
+
+    @Test
+    void pageOfStream_doesNotConsumeElementsAfterThePage() {
+        val consumed = new AtomicInteger();
+        Paging.of(2, 3).page(elements.stream().peek(element->consumed.incrementAndGet()));
+        assertEquals(6, consumed.get());
+    }
+
+    @Test
+    void pagination() {
+        val pagination = Paging.of(2, 3).asJsonRepresentation(elements.size());
+        assertEquals(2, pagination.getInt("page"));
+        assertEquals(3, pagination.getInt("pageSize"));
+        assertEquals(3, pagination.getInt("numPages"));
+        assertEquals(7, pagination.getInt("totalCount"));
+    }
+
+}
@@ -50,6 +50,7 @@
 import org.apache.causeway.viewer.restfulobjects.rendering.RestfulObjectsApplicationException;
 import org.apache.causeway.viewer.restfulobjects.rendering.domainobjects.ObjectAdapterLinkTo;
 import org.apache.causeway.viewer.restfulobjects.rendering.service.RepresentationService;
+import org.apache.causeway.viewer.restfulobjects.rendering.util.Paging;
 import org.apache.causeway.viewer.restfulobjects.rendering.util.RequestParams;
 import org.apache.causeway.viewer.restfulobjects.viewer.resources.ResourceDescriptor;
 import org.apache.causeway.viewer.restfulobjects.viewer.resources.serialization.SerializationStrategy;
@@ -75,6 +76,7 @@
 
     @Getter private List<List<String>> followLinks;
     @Getter private boolean validateOnly;
+    @Getter(onMethod_={@Override}) private Optional<Paging> paging;
 
     private final Where where;
     private final RepresentationService.Intent intent;
@@ -129,6 +131,28 @@ void init(final RepresentationType representationType) {
 
         this.followLinks = Collections.unmodifiableList(getArg(RequestParameter.FOLLOW_LINKS));
         this.validateOnly = getArg(RequestParameter.VALIDATE_ONLY);
+        this.paging = pagingIfRequested();
+    }
+
+    private Optional<Paging> pagingIfRequested() {
+        final JsonRepresentation queryStringJsonRepr = getQueryStringAsJsonRepr();
+        if(queryStringJsonRepr == null
+                || !queryStringJsonRepr.isMap()
+                || !(queryStringJsonRepr.mapHas(RequestParameter.PAGE.getName())
+                        || queryStringJsonRepr.mapHas(RequestParameter.PAGE_SIZE.getName()))) {
+            return Optional.empty();
+        }
+        final int page = getArg(RequestParameter.PAGE);
+        final int pageSize = getArg(RequestParameter.PAGE_SIZE);
+        final int maxPageSize = config().getMaxPageSize();
+        if(page < 1
+                || pageSize < 1
+                || pageSize > maxPageSize) {
+            throw RestfulObjectsApplicationException.createWithMessage(HttpStatusCode.BAD_REQUEST,
+                    "x-ro-page must be at least 1 and x-ro-page-size between 1 and %d; got %d and %d",
+                    maxPageSize, page, pageSize);
+        }
+        return Optional.of(Paging.of(page, pageSize));
     }
 
     private void ensureDomainModelQueryParamSupported() {
@@ -174,7 +174,7 @@ public Response object(
         val domainResourceHelper = _DomainResourceHelper.ofObjectResource(resourceContext, objectAdapter);
 
         return _EndpointLogging.response(log, "GET /objects/{}/{}", domainType, instanceId,
-                domainResourceHelper.objectRepresentation());
+                withObjectTag(objectAdapter, domainResourceHelper::objectRepresentation));
     }
 
 
@@ -102,7 +102,7 @@ public Response domainTypes() {
         renderer.with(domainTypeSpecifications).includesSelf();
 
         return _EndpointLogging.response(log, "GET /domain-types/",
-                Responses.ofOk(renderer, Caching.ONE_DAY).build());
+                withDeploymentTag(()->Responses.ofOk(renderer, Caching.ONE_DAY).build()));
     }
 
     @Override
@@ -127,7 +127,7 @@ public Response domainType(
         renderer.with(objectSpec).includesSelf();
 
         return _EndpointLogging.response(log, "GET /domain-types/{}", domainType,
-                Responses.ofOk(renderer, Caching.ONE_DAY).build());
+                withDeploymentTag(()->Responses.ofOk(renderer, Caching.ONE_DAY).build()));
     }
 
     @Override
@@ -145,16 +145,15 @@ public Response layout(
 
         val serializationStrategy = resourceContext.getSerializationStrategy();
 
-        val responseBuilder = getSpecificationLoader().specForLogicalTypeName(domainType)
-                .map(Facets::bootstrapGrid)
-                .map(grid ->
-                        Response.status(Response.Status.OK)
-                                .entity(serializationStrategy.entity(grid))
-                                .type(serializationStrategy.type(RepresentationType.LAYOUT)))
-                .orElse(Responses.ofNotFound());
-
         return _EndpointLogging.response(log, "GET({}) /domain-types/{}/layout", serializationStrategy.name(), domainType,
-                responseBuilder.build());
+                withDeploymentTag(()->getSpecificationLoader().specForLogicalTypeName(domainType)
+                        .map(Facets::bootstrapGrid)
+                        .map(grid ->
+                                Response.status(Response.Status.OK)
+                                        .entity(serializationStrategy.entity(grid))
+                                        .type(serializationStrategy.type(RepresentationType.LAYOUT)))
+                        .orElse(Responses.ofNotFound())
+                        .build()));
     }
 
     @Override
@@ -191,7 +190,7 @@ public Response typeProperty(
         renderer.with(new ParentSpecAndProperty(parentSpec, property)).includesSelf();
 
         return _EndpointLogging.response(log, "GET /domain-types/{}/properties/{}", domainType, propertyId,
-                Responses.ofOk(renderer, Caching.ONE_DAY).build());
+                withDeploymentTag(()->Responses.ofOk(renderer, Caching.ONE_DAY).build()));
     }
 
     @Override
@@ -228,7 +227,7 @@ public Response typeCollection(
         renderer.with(new ParentSpecAndCollection(parentSpec, collection)).includesSelf();
 
         return _EndpointLogging.response(log, "GET /domain-types/{}/collections/{}", domainType, collectionId,
-                Responses.ofOk(renderer, Caching.ONE_DAY).build());
+                withDeploymentTag(()->Responses.ofOk(renderer, Caching.ONE_DAY).build()));
     }
 
     @Override
@@ -258,7 +257,7 @@ public Response typeAction(
         renderer.with(new ParentSpecAndAction(parentSpec, action)).includesSelf();
 
         return _EndpointLogging.response(log, "GET /domain-types/{}/actions/{}", domainType, actionId,
-                Responses.ofOk(renderer, Caching.ONE_DAY).build());
+                withDeploymentTag(()->Responses.ofOk(renderer, Caching.ONE_DAY).build()));
     }
 
     @Override
@@ -291,7 +290,7 @@ public Response typeActionParam(
         renderer.with(new ParentSpecAndActionParam(parentSpec, actionParam)).includesSelf();
 
         return _EndpointLogging.response(log, "GET /domain-types/{}/actions/{}/params/{}", domainType, actionId, paramName,
-                Responses.ofOk(renderer, Caching.ONE_DAY).build());
+                withDeploymentTag(()->Responses.ofOk(renderer, Caching.ONE_DAY).build()));
     }
 
     // //////////////////////////////////////////////////////////
@@ -336,7 +335,7 @@ public Response domainTypeIsSubtypeOf(
         renderer.with(domainTypeSpec).withSelf(selfLink).withValue(value);
 
         return _EndpointLogging.response(log, "GET /domain-types/{}/type-actions/isSubtypeOf/invoke", domainType,
-                Responses.ofOk(renderer, Caching.ONE_DAY).build());
+                withDeploymentTag(()->Responses.ofOk(renderer, Caching.ONE_DAY).build()));
     }
 
 
@@ -378,7 +377,7 @@ public Response domainTypeIsSupertypeOf(
         renderer.with(domainTypeSpec).withSelf(selfLink).withValue(value);
 
         return _EndpointLogging.response(log, "GET /domain-types/{}/type-actions/isSupertypeOf/invoke", domainType,
-                Responses.ofOk(renderer, Caching.ONE_DAY).build());
+                withDeploymentTag(()->Responses.ofOk(renderer, Caching.ONE_DAY).build()));
     }
 
     private static String domainTypeFor(
@@ -68,15 +68,17 @@ public Response menuBars() {
         val serializationStrategy = resourceContext.getSerializationStrategy();
         val menuBarsService = metaModelContext.getServiceRegistry().lookupServiceElseFail(MenuBarsService.class);
 
-        final Response.ResponseBuilder builder;
-        final MenuBars menuBars = menuBarsService.menuBars();
-        addLinksForServiceActions(resourceContext, menuBars);
+        return withDeploymentTag(()->{
+            final Response.ResponseBuilder builder;
+            final MenuBars menuBars = menuBarsService.menuBars();
+            addLinksForServiceActions(resourceContext, menuBars);
 
-        builder = Response.status(Response.Status.OK)
-                .entity(serializationStrategy.entity(menuBars))
-                .type(serializationStrategy.type(RepresentationType.MENUBARS));
+            builder = Response.status(Response.Status.OK)
+                    .entity(serializationStrategy.entity(menuBars))
+                    .type(serializationStrategy.type(RepresentationType.MENUBARS));
 
-        return builder.build();
+            return builder.build();
+        });
     }
 
     void addLinksForServiceActions(final ResourceContext resourceContext, final MenuBars menuBars) {
@@ -20,13 +20,18 @@
 
 import java.io.InputStream;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
 import javax.ws.rs.core.UriInfo;
 import javax.ws.rs.ext.Providers;
@@ -35,9 +40,12 @@
 
 import org.apache.causeway.applib.annotation.Where;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.commons.internal.base._Lazy;
 import org.apache.causeway.commons.internal.base._Refs;
 import org.apache.causeway.commons.internal.base._Strings;
 import org.apache.causeway.commons.internal.codec._UrlDecoderUtil;
+import org.apache.causeway.core.config.beans.CausewayBeanMetaData;
+import org.apache.causeway.core.config.beans.CausewayBeanTypeRegistry;
 import org.apache.causeway.core.config.viewer.web.WebAppContextPath;
 import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.causeway.core.metamodel.context.HasMetaModelContext;
@@ -70,6 +78,8 @@
     @Context SecurityContext securityContext;
     @Context Providers providers;
 
+    private final _Lazy<String> deploymentFingerprint = _Lazy.threadSafe(this::computeDeploymentFingerprint);
+
     protected ResourceAbstract() {
     }
 
@@ -156,8 +166,104 @@ protected ManagedObject getObjectAdapterElseThrowNotFound(
                                 bookmark)));
     }
 
+    // -- CONDITIONAL GET
+
+    /**
+     * For representations, that only change on (re-)deployment:
+     * answers <i>Not Modified</i> if the client's <code>If-None-Match</code> header matches,
+     * without invoking given response factory; otherwise tags the response it creates.
+     * <p>
+     * Not applied when prototyping, as layouts may then be reloaded at runtime.
+     */
+    protected Response withDeploymentTag(final @NonNull Supplier<Response> responseFactory) {
+        if(!isEntityTagsEnabled()
+                || getSystemEnvironment().isPrototyping()) {
+            return responseFactory.get();
+        }
+        val tag = _EntityTags.strong(requestKey());
+        return _EntityTags.matches(httpHeaders.getRequestHeader(HttpHeaders.IF_NONE_MATCH), tag)
+                ? _EntityTags.notModified(tag)
+                : _EntityTags.tagged(responseFactory.get(), tag);
+    }
+
+    /**
+     * For representations of given domain object: if configured to use entity versions and the
+     * entity is versioned, answers <i>Not Modified</i> if the client's <code>If-None-Match</code>
+     * header matches, without invoking given response factory; otherwise tags the response it creates
+     * by its version, else by its content.
+     */
+    protected Response withObjectTag(
+            final @NonNull ManagedObject objectAdapter,
+            final @NonNull Supplier<Response> responseFactory) {
+        if(!isEntityTagsEnabled()) {
+            return responseFactory.get();
+        }
+        val requestKey = requestKey();
+        val ifNoneMatch = httpHeaders.getRequestHeader(HttpHeaders.IF_NONE_MATCH);
+        val versionTag = getConfiguration().getViewer().getRestfulobjects().getEtag().isUseEntityVersion()
+                ? versionTag(requestKey, objectAdapter)
+                : Optional.<EntityTag>empty();
+        if(versionTag.isPresent()) {
+            val tag = versionTag.get();
+            return _EntityTags.matches(ifNoneMatch, tag)
+                    ? _EntityTags.notModified(tag)
+                    : _EntityTags.tagged(responseFactory.get(), tag);
+        }
+        val response = responseFactory.get();
+        return _EntityTags.contentTag(requestKey, response)
+                .map(tag->_EntityTags.matches(ifNoneMatch, tag)
+                        ? _EntityTags.notModified(tag)
+                        : _EntityTags.tagged(response, tag))
+                .orElse(response);
+    }
+
     // -- HELPER
 
+    private boolean isEntityTagsEnabled() {
+        return getConfiguration().getViewer().getRestfulobjects().getEtag().isEnabled()
+                && getInteractionService().isInInteraction();
+    }
+
+    /**
+     * Everything a representation depends upon, other than the state of the resource:
+     * the deployment, the request URI, content negotiation and the current user (as permissions apply).
+     */
+    private String requestKey() {
+        val interactionContext = getInteractionService().currentInteractionContextElseFail();
+        val user = interactionContext.getUser();
+        return String.join("\n",
+                deploymentFingerprint.get(),
+                httpServletRequest.getRequestURI(),
+                _Strings.nullToEmpty(httpServletRequest.getQueryString()),
+                _Strings.nullToEmpty(httpHeaders.getHeaderString(HttpHeaders.ACCEPT)),
+                _Strings.nullToEmpty(httpHeaders.getHeaderString(HttpHeaders.ACCEPT_LANGUAGE)),
+                String.valueOf(interactionContext.getLocale()),
+                user.getName(),
+                user.streamRoleNames().sorted().collect(Collectors.joining(",")));
+    }
+
+    /**
+     * Introspects all introspectable types (if not already), so the fingerprint does not depend on
+     * which specifications happen to be loaded when using lazy introspection.
+     */
+    private String computeDeploymentFingerprint() {
+        val specificationLoader = getSpecificationLoader();
+        return _EntityTags.deploymentFingerprint(
+                getConfiguration().getViewer().getCommon().getApplication().getVersion(),
+                getServiceRegistry().lookupServiceElseFail(CausewayBeanTypeRegistry.class)
+                        .streamIntrospectableTypes()
+                        .map(CausewayBeanMetaData::getCorrespondingClass)
+                        .map(specificationLoader::specForType)
+                        .flatMap(Optional::stream));
+    }
+
+    private Optional<EntityTag> versionTag(final String requestKey, final ManagedObject objectAdapter) {
+        return objectAdapter.getSpecification().entityFacet()
+                .flatMap(entityFacet->entityFacet.versionFor(objectAdapter.getPojo()))
+                .flatMap(version->objectAdapter.getBookmark()
+                        .map(bookmark->_EntityTags.weak(requestKey, bookmark.stringify() + "@" + version)));
+    }
+
     private String getUrlDecodedQueryStringIfAny() {
         final String queryStringIfAny = httpServletRequest.getQueryString();
         return _UrlDecoderUtil.urlDecodeNullSafe(queryStringIfAny);
@@ -0,0 +1,175 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.viewer.resources;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Response;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.internal.base._NullSafe;
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.spec.feature.MixedIn;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectMember;
+
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Creates and evaluates <code>ETag</code>s for conditional <code>GET</code> requests.
+ * <p>
+ * Tags are hashes of a request key (that is, of everything the representation depends upon,
+ * other than the resource's state) and of either the resource's version or its rendered content.
+ * The request key includes a {@link #deploymentFingerprint(String, Stream) deployment fingerprint}.
+ */
+@UtilityClass
+class _EntityTags {
+
+    /**
+     * Identifies a deployment by the application's version and a hash of its metamodel
+     * (the logical type names of given specifications and the identifiers of their members).
+     * <p>
+     * Unlike a random nonce, this is the same for every node of a cluster and survives restarts,
+     * so clients keep their cached representations unless the deployment actually changed.
+     * Changes to layout files alone are not detected, the application's version should be bumped for these.
+     */
+    String deploymentFingerprint(
+            final @Nullable String applicationVersion,
+            final @NonNull Stream<ObjectSpecification> specifications) {
+        final Stream<String> metamodel = specifications
+                .sorted(Comparator.comparing(ObjectSpecification::getLogicalTypeName))
+                .flatMap(spec->Stream.concat(
+                        Stream.of(spec.getLogicalTypeName()),
+                        Stream.<ObjectMember>concat(
+                                spec.streamAnyActions(MixedIn.INCLUDED),
+                                spec.streamAssociations(MixedIn.INCLUDED))
+                        .map(member->member.getFeatureIdentifier().getLogicalIdentityString("#"))
+                        .sorted()));
+        return hash(Stream.concat(Stream.of(_Strings.nullToEmpty(applicationVersion)), metamodel)
+                .toArray(String[]::new));
+    }
+
+    /**
+     * For representations, that only change on (re-)deployment.
+     */
+    EntityTag strong(final @NonNull String requestKey) {
+        return new EntityTag(strongValue(requestKey), false);
+    }
+
+    /**
+     * For representations of a resource, that is versioned, or whose rendered content is known.
+     */
+    EntityTag weak(final @NonNull String requestKey, final @NonNull String versionOrContent) {
+        return new EntityTag(weakValue(requestKey, versionOrContent), true);
+    }
+
+    /**
+     * Optionally a weak tag derived from given response's content,
+     * based on whether it is a successful response with a textual entity.
+     */
+    Optional<EntityTag> contentTag(final @NonNull String requestKey, final @NonNull Response response) {
+        return response.getStatus() == Response.Status.OK.getStatusCode()
+                && response.getEntity() instanceof String
+                ? Optional.of(weak(requestKey, (String) response.getEntity()))
+                : Optional.empty();
+    }
+
+    /**
+     * Whether any of given <code>If-None-Match</code> header values matches given tag,
+     * using weak comparison (as mandated for <code>If-None-Match</code> by RFC 7232).
+     */
+    boolean matches(final @Nullable List<String> ifNoneMatchHeaders, final @NonNull EntityTag tag) {
+        return matches(ifNoneMatchHeaders, tag.getValue());
+    }
+
+    /**
+     * Given response amended by given tag, if successful, otherwise given response as is.
+     */
+    Response tagged(final @NonNull Response response, final @NonNull EntityTag tag) {
+        return response.getStatus() == Response.Status.OK.getStatusCode()
+                ? Response.fromResponse(response).tag(tag).build()
+                : response;
+    }
+
+    Response notModified(final @NonNull EntityTag tag) {
+        return Response.notModified(tag).build();
+    }
+
+    // -- HELPER
+
+    // package private, for testing
+    String strongValue(final String requestKey) {
+        return hash(requestKey);
+    }
+
+    // package private, for testing
+    String weakValue(final String requestKey, final String versionOrContent) {
+        return hash(requestKey, versionOrContent);
+    }
+
+    // package private, for testing
+    boolean matches(final @Nullable List<String> ifNoneMatchHeaders, final String tagValue) {
+        return _NullSafe.stream(ifNoneMatchHeaders)
+                .flatMap(header->_Strings.splitThenStreamTrimmed(header, ","))
+                .anyMatch(candidate->candidate.equals("*")
+                        || tagValue.equals(opaqueTag(candidate)));
+    }
+
+    private String opaqueTag(final String candidate) {
+        final String strong = candidate.startsWith("W/")
+                ? candidate.substring(2)
+                : candidate;
+        return strong.length() > 1
+                && strong.startsWith("\"")
+                && strong.endsWith("\"")
+                ? strong.substring(1, strong.length() - 1)
+                : strong;
+    }
+
+    private String hash(final String... parts) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : parts) {
+                digest.update(part.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            final byte[] bytes = digest.digest();
+            final StringBuilder sb = new StringBuilder(32);
+            // 128 bits are plenty to tell representations apart
+            for (int i = 0; i < 16; ++i) {
+                sb.append(Character.forDigit((bytes[i] >> 4) & 0xF, 16))
+                  .append(Character.forDigit(bytes[i] & 0xF, 16));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw _Exceptions.unrecoverable(e);
+        }
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.viewer.resources;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+
+import lombok.val;
+
+class EntityTags_Test {
+
+    @Test
+    void tagsAreStable_andDependOnRequestKeyAndVersion() {
+        assertEquals(_EntityTags.strongValue("GET /domain-types"), _EntityTags.strongValue("GET /domain-types"));
+        assertNotEquals(_EntityTags.strongValue("GET /domain-types"), _EntityTags.strongValue("GET /menuBars"));
+
+        assertEquals(_EntityTags.weakValue("GET /objects/a/1", "1"), _EntityTags.weakValue("GET /objects/a/1", "1"));
+        assertNotEquals(_EntityTags.weakValue("GET /objects/a/1", "1"), _EntityTags.weakValue("GET /objects/a/1", "2"));
+        assertNotEquals(_EntityTags.strongValue("GET /objects/a/1"), _EntityTags.weakValue("GET /objects/a/1", ""));
+    }
+
+    @Test
+    void deploymentFingerprint_isStable_andDependsOnVersionAndMetamodel() {
+        assertEquals(
+                _EntityTags.deploymentFingerprint("1.0", Stream.of(spec("a.A"), spec("b.B"))),
+                _EntityTags.deploymentFingerprint("1.0", Stream.of(spec("b.B"), spec("a.A"))));
+        assertNotEquals(
+                _EntityTags.deploymentFingerprint("1.0", Stream.of(spec("a.A"))),
+                _EntityTags.deploymentFingerprint("1.1", Stream.of(spec("a.A"))));
+        assertNotEquals(
+                _EntityTags.deploymentFingerprint("1.0", Stream.of(spec("a.A"))),
+                _EntityTags.deploymentFingerprint("1.0", Stream.of(spec("a.A"), spec("b.B"))));
+        assertEquals(
+                _EntityTags.deploymentFingerprint(null, Stream.empty()),
+                _EntityTags.deploymentFingerprint("", Stream.empty()));
+    }
+
+    @Test
+    void matches_usingWeakComparison() {
+        val value = _EntityTags.strongValue("GET /domain-types");
+
+        assertTrue(_EntityTags.matches(List.of("\"" + value + "\""), value));
+        assertTrue(_EntityTags.matches(List.of("W/\"" + value + "\""), value));
+        assertTrue(_EntityTags.matches(List.of("\"other\", W/\"" + value + "\""), value));
+        assertTrue(_EntityTags.matches(List.of("\"other\"", "\"" + value + "\""), value));
+        assertTrue(_EntityTags.matches(List.of("*"), value));
+
+        assertFalse(_EntityTags.matches(List.of("\"other\""), value));
+        assertFalse(_EntityTags.matches(List.of(), value));
+        assertFalse(_EntityTags.matches(null, value));
+    }
+
+    private static ObjectSpecification spec(final String logicalTypeName) {
+        val spec = Mockito.mock(ObjectSpecification.class);
+        Mockito.when(spec.getLogicalTypeName()).thenReturn(logicalTypeName);
+        return spec;
+    }
+
+}
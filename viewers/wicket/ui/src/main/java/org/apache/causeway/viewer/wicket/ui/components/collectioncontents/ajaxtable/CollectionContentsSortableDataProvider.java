@@ -26,10 +26,8 @@
 import org.apache.wicket.extensions.markup.html.repeater.util.SortableDataProvider;
 import org.apache.wicket.model.IModel;
 
-import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.core.metamodel.interactions.managed.nonscalar.DataRow;
 import org.apache.causeway.core.metamodel.interactions.managed.nonscalar.DataTableModel;
-import org.apache.causeway.core.metamodel.object.ManagedObjects;
 import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
 import org.apache.causeway.viewer.wicket.model.models.EntityCollectionModelAbstract;
 import org.apache.causeway.viewer.wicket.model.models.interaction.coll.DataRowWkt;
@@ -66,24 +64,25 @@ public long size() {
         return getDataTableModel().getElementCount();
     }
 
+    /**
+     * Sorting, filtering and paging is pushed down to the persistence layer if supported,
+     * otherwise done in memory.
+     * @see DataTableModel#getDataRowsPage(long, long, OneToOneAssociation, boolean)
+     */
     @Override
     public Iterator<DataRow> iterator(final long skip, final long limit) {
-        val visibleRows = getDataTableModel().getDataRowsFiltered().getValue();
-        return sorted(visibleRows).iterator(Math.toIntExact(skip), Math.toIntExact(limit));
+        val sort = getSort();
+        return getDataTableModel()
+                .getDataRowsPage(
+                        skip,
+                        limit,
+                        lookupPropertyFor(sort).orElse(null),
+                        sort==null || sort.isAscending())
+                .iterator();
     }
 
     // -- HELPER
 
-    private Can<DataRow> sorted(final Can<DataRow> dataRows) {
-        val sort = getSort();
-        val sortProperty = lookupPropertyFor(sort).orElse(null);
-        if(sortProperty != null) {
-            val objComparator = ManagedObjects.orderingBy(sortProperty, sort.isAscending());
-            return dataRows.sorted((a, b)->objComparator.compare(a.getRowElement(), b.getRowElement()));
-        }
-        return dataRows;
-    }
-
     private Optional<OneToOneAssociation> lookupPropertyFor(final SortParam<String> sort) {
         return Optional.ofNullable(sort)
         .map(SortParam::getProperty)